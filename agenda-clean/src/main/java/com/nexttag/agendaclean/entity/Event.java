@@ -1,11 +1,13 @@
 package com.nexttag.agendaclean.entity;
 
+import com.nexttag.agendaclean.entity.id.IdGenerators;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 public record Event(UUID id, String title, String description, LocalDateTime date) {
     public Event(String title, String description, LocalDateTime date) {
-        this(UUID.randomUUID(), title, description, date);
+        this(IdGenerators.next(), title, description, date);
     }
 
     public Event withId(UUID id) {
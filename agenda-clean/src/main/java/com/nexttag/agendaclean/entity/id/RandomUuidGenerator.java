@@ -0,0 +1,14 @@
+package com.nexttag.agendaclean.entity.id;
+
+import java.util.UUID;
+
+/**
+ * UUID versão 4 ({@link UUID#randomUUID()}): totalmente aleatório, gerado a partir do {@code SecureRandom} compartilhado.
+ */
+public final class RandomUuidGenerator implements IdGenerator {
+
+    @Override
+    public UUID next() {
+        return UUID.randomUUID();
+    }
+}
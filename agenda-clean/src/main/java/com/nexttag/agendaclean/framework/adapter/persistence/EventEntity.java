@@ -2,13 +2,14 @@ package com.nexttag.agendaclean.framework.adapter.persistence;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = @Index(name = "idx_events_date", columnList = "date"))
 public class EventEntity {
     @Id
     private UUID id;
@@ -1,10 +1,21 @@
 package com.nexttag.agendaclean.framework.adapter.persistence;
 
+import com.nexttag.agendaclean.entity.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface EventJpaRepository extends JpaRepository<EventEntity, UUID> {
+
+    // Expressão construtora: cada linha vira um Event imutável direto do ResultSet,
+    // sem EventEntity gerenciada nem snapshot para dirty-checking no contexto de persistência
+    @Query("select new com.nexttag.agendaclean.entity.Event(e.id, e.title, e.description, e.date) "
+            + "from EventEntity e where e.date >= :from and e.date < :to order by e.date, e.id")
+    List<Event> findByDateRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.nexttag.agendaclean.entity.Event;
 import com.nexttag.agendaclean.interfaceadapter.gateway.EventRepositoryGateway;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +38,11 @@ public class EventRepositoryImpl implements EventRepositoryGateway {
                 .map(this::toDomain);
     }
 
+    @Override
+    public List<Event> findByDateRange(LocalDateTime from, LocalDateTime to) {
+        return jpaRepository.findByDateRange(from, to);
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
@@ -3,10 +3,12 @@ package com.nexttag.agendaclean.framework.adapter.web;
 import com.nexttag.agendaclean.framework.adapter.web.dto.EventDto;
 import com.nexttag.agendaclean.usecase.EventUseCase;
 import com.nexttag.agendaclean.entity.Event;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,6 +36,14 @@ public class EventController {
         return ResponseEntity.ok(dtos);
     }
 
+    @GetMapping("/range")
+    public ResponseEntity<List<EventDto>> listByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<EventDto> dtos = useCase.listByDateRange(from, to).stream().map(this::toDto).collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EventDto> update(@PathVariable UUID id, @RequestBody EventDto dto) {
         Event event = new Event(dto.title(), dto.description(), dto.date());
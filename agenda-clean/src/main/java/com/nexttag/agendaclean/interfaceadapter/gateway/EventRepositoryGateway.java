@@ -2,6 +2,7 @@ package com.nexttag.agendaclean.interfaceadapter.gateway;
 
 import com.nexttag.agendaclean.entity.Event;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,5 +11,6 @@ public interface EventRepositoryGateway {
     Event save(Event event);
     List<Event> findAll();
     Optional<Event> findById(UUID id);
+    List<Event> findByDateRange(LocalDateTime from, LocalDateTime to);
     void deleteById(UUID id);
 }
\ No newline at end of file
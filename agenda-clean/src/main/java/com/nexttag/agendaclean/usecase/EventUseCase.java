@@ -2,12 +2,14 @@ package com.nexttag.agendaclean.usecase;
 
 import com.nexttag.agendaclean.entity.Event;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface EventUseCase {
     Event create(Event event);
     List<Event> listAll();
+    List<Event> listByDateRange(LocalDateTime from, LocalDateTime to);
     Event update(UUID id, Event event);
     void delete(UUID id);
 }
\ No newline at end of file
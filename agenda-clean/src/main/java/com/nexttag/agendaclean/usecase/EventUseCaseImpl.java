@@ -4,6 +4,7 @@ import com.nexttag.agendaclean.entity.Event;
 import com.nexttag.agendaclean.interfaceadapter.gateway.EventRepositoryGateway;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,6 +26,14 @@ public class EventUseCaseImpl implements EventUseCase {
         return gateway.findAll();
     }
 
+    @Override
+    public List<Event> listByDateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Invalid date range: from must be before to");
+        }
+        return gateway.findByDateRange(from, to);
+    }
+
     @Override
     public Event update(UUID id, Event event) {
         return gateway.findById(id)
@@ -0,0 +1,10 @@
+create table events (
+    id          uuid not null,
+    title       varchar(255),
+    description varchar(255),
+    date        timestamp(6),
+    primary key (id)
+);
+
+create index idx_events_date on events (date);
+create index idx_events_date_id on events (date, id);
@@ -1,4 +1,49 @@
 package com.nexttag.agendaclean;
 
+import com.nexttag.agendaclean.entity.Event;
+import com.nexttag.agendaclean.interfaceadapter.gateway.EventRepositoryGateway;
+import com.nexttag.agendaclean.usecase.EventUseCaseImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
 public class EventUseCaseImplTest {
+
+    @Mock
+    private EventRepositoryGateway gateway;
+
+    private EventUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        useCase = new EventUseCaseImpl(gateway);
+    }
+
+    @Test
+    void listByDateRange() {
+        LocalDateTime from = LocalDateTime.of(2025, 8, 1, 0, 0);
+        LocalDateTime to = from.plusDays(7);
+        Event event = new Event("Title", "Desc", from.plusDays(1));
+        when(gateway.findByDateRange(from, to)).thenReturn(List.of(event));
+
+        assertEquals(List.of(event), useCase.listByDateRange(from, to));
+    }
+
+    @Test
+    void listByDateRangeRejectsInvertedRange() {
+        LocalDateTime from = LocalDateTime.of(2025, 8, 1, 0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.listByDateRange(from, from.minusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> useCase.listByDateRange(from, null));
+        verify(gateway, never()).findByDateRange(any(), any());
+    }
 }
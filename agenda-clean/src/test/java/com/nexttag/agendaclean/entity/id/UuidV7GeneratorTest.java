@@ -0,0 +1,46 @@
+package com.nexttag.agendaclean.entity.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    private final UuidV7Generator generator = new UuidV7Generator();
+
+    @Test
+    void setsVersionVariantAndTimestamp() {
+        long millis = 1_735_689_600_000L;
+        UUID id = generator.next(millis);
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(millis, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void isStrictlyIncreasingWithinTheSameMillisecond() {
+        long millis = 1_735_689_600_000L;
+        UUID previous = generator.next(millis);
+        Set<UUID> seen = new HashSet<>();
+        // Mais ids que o contador de 12 bits comporta: força o avanço do timestamp lógico
+        for (int i = 0; i < 10_000; i++) {
+            UUID current = generator.next(millis);
+            assertTrue(current.compareTo(previous) > 0, "ids must be monotonic");
+            assertTrue(seen.add(current));
+            previous = current;
+        }
+    }
+
+    @Test
+    void staysMonotonicWhenTheClockGoesBackwards() {
+        UUID first = generator.next(1_735_689_600_500L);
+        UUID second = generator.next(1_735_689_600_000L);
+
+        assertTrue(second.compareTo(first) > 0);
+    }
+}
@@ -0,0 +1,62 @@
+package com.nexttag.agendaclean.framework.adapter.persistence;
+
+import com.nexttag.agendaclean.entity.Event;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class EventJpaRepositoryTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 8, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(7);
+
+    @Autowired
+    private EventJpaRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findByDateRangeReturnsHalfOpenRangeOrderedByDateAndId() {
+        UUID first = new UUID(1, 1);
+        UUID second = new UUID(2, 2);
+        persist(UUID.randomUUID(), "Before", FROM.minusNanos(1000));
+        persist(UUID.randomUUID(), "Later", FROM.plusDays(3));
+        persist(second, "Tie B", FROM.plusDays(1));
+        persist(first, "Tie A", FROM.plusDays(1));
+        persist(UUID.randomUUID(), "Start", FROM);
+        persist(UUID.randomUUID(), "End", TO);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Event> events = repository.findByDateRange(FROM, TO);
+
+        assertEquals(List.of("Start", "Tie A", "Tie B", "Later"), events.stream().map(Event::title).toList());
+        assertEquals(new Event(first, "Tie A", "Desc", FROM.plusDays(1)), events.get(1));
+    }
+
+    @Test
+    void findByDateRangeDoesNotLoadManagedEntities() {
+        persist(UUID.randomUUID(), "Event", FROM.plusHours(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1, repository.findByDateRange(FROM, TO).size());
+
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        assertEquals(0, session.getStatistics().getEntityCount());
+    }
+
+    private void persist(UUID id, String title, LocalDateTime date) {
+        entityManager.persist(new EventEntity(id, title, "Desc", date));
+    }
+}
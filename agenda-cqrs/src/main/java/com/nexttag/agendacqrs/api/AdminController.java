@@ -0,0 +1,45 @@
+package com.nexttag.agendacqrs.api;
+
+import com.nexttag.agendacqrs.api.dto.ProjectionRebuildDto;
+import com.nexttag.agendacqrs.infrastructure.event.QueryProjectionRebuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controlador REST das operações administrativas.
+ * <p>
+ * Fica fora de {@code /commands} e {@code /queries}: não age sobre a agenda de um tenant, e sim sobre a
+ * infraestrutura compartilhada (hoje, o modelo de leitura).
+ * </p>
+ */
+@RestController
+@RequestMapping("/admin")
+public class AdminController {
+
+    private final QueryProjectionRebuilder rebuilder;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param rebuilder reconstrução do modelo de leitura
+     */
+    public AdminController(QueryProjectionRebuilder rebuilder) {
+        this.rebuilder = rebuilder;
+    }
+
+    /**
+     * Reconstrói o modelo de leitura dos tenants em memória a partir de {@code command_events}, sem parar
+     * a aplicação; as consultas continuam respondendo pelo modelo atual até a troca.
+     *
+     * @return ResponseEntity com status 200 (OK) e o resumo da reconstrução, ou 409 (CONFLICT) se outra
+     * reconstrução estiver em andamento
+     */
+    @PostMapping("/projections/query/rebuild")
+    public ResponseEntity<ProjectionRebuildDto> rebuildQueryProjection() {
+        QueryProjectionRebuilder.Report report = rebuilder.rebuild();
+        return ResponseEntity.ok(new ProjectionRebuildDto(report.tenants(), report.chunks(), report.events(),
+                report.replayed(), report.elapsed().toMillis()));
+    }
+}
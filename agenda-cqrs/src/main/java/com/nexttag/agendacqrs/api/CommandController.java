@@ -6,6 +6,8 @@ import com.nexttag.agendacqrs.command.handler.CreateEventHandler;
 import com.nexttag.agendacqrs.command.handler.DeleteEventHandler;
 import com.nexttag.agendacqrs.command.handler.UpdateEventHandler;
 import com.nexttag.agendacqrs.command.model.EventCommand;
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.domain.tenant.Tenants;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -35,6 +37,11 @@ import java.util.UUID;
  * Todos os endpoints estão mapeados sob o prefixo {@code /commands/events}, seguindo
  * a convenção de separação clara entre comandos e consultas na API REST.
  * </p>
+ *
+ * <p>
+ * Cada requisição age sobre a agenda do tenant informado no header {@value Tenants#HEADER};
+ * um evento de outro tenant é tratado como inexistente.
+ * </p>
  */
 @RestController
 @RequestMapping("/commands/events")
@@ -75,17 +82,20 @@ public class CommandController {
      * o processamento para o handler apropriado. Retorna o ID do evento criado.
      * </p>
      *
+     * @param tenant valor do header {@value Tenants#HEADER}; ausente usa a agenda {@value Tenants#DEFAULT}
      * @param dto dados do evento a ser criado
      * @return ResponseEntity com status 201 (CREATED) e o UUID do evento criado
      * @throws IllegalArgumentException se o DTO contiver dados inválidos
      */
     @PostMapping
-    public ResponseEntity<UUID> create(@RequestBody EventDto dto) {
+    public ResponseEntity<UUID> create(@RequestHeader(name = Tenants.HEADER, required = false) String tenant,
+                                       @RequestBody EventDto dto) {
         // Converte DTO para comando de domínio
-        EventCommand command = new EventCommand(dto.title(), dto.description(), dto.date());
+        EventCommand command = new EventCommand(dto.title(), dto.description(), dto.date(), dto.end(),
+                RecurrenceRule.parse(dto.recurrence()));
 
         // Delega processamento para o handler
-        UUID id = createHandler.handle(command);
+        UUID id = createHandler.handle(Tenants.resolve(tenant), command);
 
         // Retorna resposta com status CREATED e ID do evento
         return ResponseEntity.status(HttpStatus.CREATED).body(id);
@@ -98,18 +108,21 @@ public class CommandController {
      * converte para comando e delega o processamento para o handler apropriado.
      * </p>
      *
+     * @param tenant valor do header {@value Tenants#HEADER}; ausente usa a agenda {@value Tenants#DEFAULT}
      * @param id  identificador único do evento a ser atualizado
      * @param dto novos dados do evento
      * @return ResponseEntity com status 200 (OK) sem corpo
      * @throws IllegalArgumentException se o ID ou DTO forem inválidos
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Void> update(@PathVariable UUID id, @RequestBody EventDto dto) {
+    public ResponseEntity<Void> update(@RequestHeader(name = Tenants.HEADER, required = false) String tenant,
+                                       @PathVariable UUID id, @RequestBody EventDto dto) {
         // Converte DTO para comando de domínio
-        EventCommand command = new EventCommand(dto.title(), dto.description(), dto.date());
+        EventCommand command = new EventCommand(dto.title(), dto.description(), dto.date(), dto.end(),
+                RecurrenceRule.parse(dto.recurrence()));
 
         // Delega processamento para o handler
-        updateHandler.handle(id, command);
+        updateHandler.handle(Tenants.resolve(tenant), id, command);
 
         // Retorna resposta com status OK
         return ResponseEntity.ok().build();
@@ -122,15 +135,17 @@ public class CommandController {
      * para o handler apropriado.
      * </p>
      *
+     * @param tenant valor do header {@value Tenants#HEADER}; ausente usa a agenda {@value Tenants#DEFAULT}
      * @param id identificador único do evento a ser excluído
      * @return ResponseEntity com status 204 (NO CONTENT)
      * @throws IllegalArgumentException se o ID for inválido
      *
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable UUID id) {
+    public ResponseEntity<Void> delete(@RequestHeader(name = Tenants.HEADER, required = false) String tenant,
+                                       @PathVariable UUID id) {
         // Delega processamento para o handler
-        deleteHandler.handle(id);
+        deleteHandler.handle(Tenants.resolve(tenant), id);
 
         // Retorna resposta com status NO CONTENT
         return ResponseEntity.noContent().build();
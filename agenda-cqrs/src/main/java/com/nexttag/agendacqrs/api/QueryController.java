@@ -1,13 +1,30 @@
 package com.nexttag.agendacqrs.api;
 
 import com.nexttag.agendacqrs.api.dto.EventDto;
+import com.nexttag.agendacqrs.api.dto.FreeBusyDto;
+import com.nexttag.agendacqrs.api.dto.TimeRangeDto;
+import com.nexttag.agendacqrs.api.dto.TitleSuggestionDto;
+import com.nexttag.agendacqrs.domain.tenant.Tenants;
+import com.nexttag.agendacqrs.query.handler.FindConflictsHandler;
+import com.nexttag.agendacqrs.query.handler.FreeBusyHandler;
 import com.nexttag.agendacqrs.query.handler.ListEventsHandler;
+import com.nexttag.agendacqrs.query.handler.ListEventsInRangeHandler;
+import com.nexttag.agendacqrs.query.handler.ListUpcomingEventsHandler;
+import com.nexttag.agendacqrs.query.handler.SuggestTitlesHandler;
 import com.nexttag.agendacqrs.query.model.EventQuery;
+import com.nexttag.agendacqrs.query.model.FreeBusy;
+import com.nexttag.agendacqrs.query.model.TimeRange;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,7 +34,8 @@ import java.util.stream.Collectors;
  * Esta classe implementa a camada de apresentação (API) para o lado de consulta (read)
  * da arquitetura CQRS, sendo responsável por:
  * <ul>
- *     <li>Receber requisições HTTP para operações de leitura (GET)</li>
+ *     <li>Receber requisições HTTP para operações de leitura (GET, e POST apenas quando os parâmetros
+ *     da consulta vão no corpo)</li>
  *     <li>Delegar o processamento para os handlers de consulta</li>
  *     <li>Converter modelos de consulta em DTOs apropriados</li>
  *     <li>Retornar respostas HTTP com os dados solicitados</li>
@@ -39,6 +57,10 @@ import java.util.stream.Collectors;
  * Este controlador acessa dados otimizados para leitura, que são mantidos sincronizados
  * com o lado de comando através de eventos de domínio processados pelo {@code QueryEventHandler}.
  * </p>
+ *
+ * <p>
+ * Todas as consultas leem apenas a partição do tenant informado no header {@value Tenants#HEADER}.
+ * </p>
  */
 @RestController
 @RequestMapping("/queries/events")
@@ -49,13 +71,50 @@ public class QueryController {
      */
     private final ListEventsHandler handler;
 
+    /**
+     * Handler para o autocompletar de títulos.
+     */
+    private final SuggestTitlesHandler suggestTitlesHandler;
+
+    /**
+     * Handler para a agenda dos próximos eventos.
+     */
+    private final ListUpcomingEventsHandler upcomingEventsHandler;
+
+    /**
+     * Handler para consultas por intervalo de datas.
+     */
+    private final ListEventsInRangeHandler rangeHandler;
+
+    /**
+     * Handler para a consulta de eventos que ocupam um intervalo.
+     */
+    private final FindConflictsHandler conflictsHandler;
+
+    /**
+     * Handler para consultas de livre/ocupado.
+     */
+    private final FreeBusyHandler freeBusyHandler;
+
     /**
      * Construtor para injeção de dependências.
      *
      * @param handler handler para consultas de listagem
+     * @param suggestTitlesHandler handler para sugestões de títulos
+     * @param upcomingEventsHandler handler para os próximos eventos
+     * @param rangeHandler handler para consultas por intervalo de datas
+     * @param conflictsHandler handler para consultas de conflitos de horário
+     * @param freeBusyHandler handler para consultas de livre/ocupado
      */
-    public QueryController(ListEventsHandler handler) {
+    public QueryController(ListEventsHandler handler, SuggestTitlesHandler suggestTitlesHandler,
+                           ListUpcomingEventsHandler upcomingEventsHandler, ListEventsInRangeHandler rangeHandler,
+                           FindConflictsHandler conflictsHandler, FreeBusyHandler freeBusyHandler) {
         this.handler = handler;
+        this.suggestTitlesHandler = suggestTitlesHandler;
+        this.upcomingEventsHandler = upcomingEventsHandler;
+        this.rangeHandler = rangeHandler;
+        this.conflictsHandler = conflictsHandler;
+        this.freeBusyHandler = freeBusyHandler;
     }
 
     /**
@@ -72,20 +131,190 @@ public class QueryController {
      * Isso garante consistência eventual entre os lados de escrita e leitura.
      * </p>
      *
+     * @param tenant valor do header {@value Tenants#HEADER}; ausente usa a agenda {@value Tenants#DEFAULT}
      * @return ResponseEntity com status 200 (OK) e lista de EventDto contendo todos os eventos
      * @throws org.springframework.dao.DataAccessException se ocorrer erro no acesso aos dados
      */
     @GetMapping
-    public ResponseEntity<List<EventDto>> listAll() {
+    public ResponseEntity<List<EventDto>> listAll(@RequestHeader(name = Tenants.HEADER, required = false) String tenant) {
         // Delega processamento para o handler de consulta
-        List<EventQuery> queries = handler.handle();
+        List<EventQuery> queries = handler.handle(Tenants.resolve(tenant));
 
         // Converte modelos de consulta para DTOs de resposta
         List<EventDto> dtos = queries.stream()
-                .map(q -> new EventDto(q.id(), q.title(), q.description(), q.date()))
+                .map(QueryController::toDto)
                 .collect(Collectors.toList());
 
         // Retorna resposta com status OK e lista de eventos
         return ResponseEntity.ok(dtos);
     }
-}
\ No newline at end of file
+
+    /**
+     * Endpoint de autocompletar títulos.
+     * <p>
+     * Retorna até {@code limit} títulos distintos que começam com {@code prefix} (sem
+     * diferenciar maiúsculas nem acentos), priorizando os que têm o próximo evento mais
+     * cedo. Pensado para ser chamado a cada tecla: a consulta usa um índice ordenado de
+     * títulos e não percorre o repositório de consultas.
+     * </p>
+     *
+     * @param tenant valor do header {@value Tenants#HEADER}; ausente usa a agenda {@value Tenants#DEFAULT}
+     * @param prefix texto digitado pelo usuário
+     * @param limit  quantidade máxima de sugestões (1 a {@value SuggestTitlesHandler#MAX_LIMIT})
+     * @return ResponseEntity com status 200 (OK) e a lista de sugestões
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TitleSuggestionDto>> suggest(
+            @RequestHeader(name = Tenants.HEADER, required = false) String tenant,
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "" + SuggestTitlesHandler.DEFAULT_LIMIT) int limit) {
+        List<TitleSuggestionDto> dtos = suggestTitlesHandler.handle(Tenants.resolve(tenant), prefix, limit).stream()
+                .map(s -> new TitleSuggestionDto(s.title(), s.eventId(), s.date()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    /**
+     * Endpoint da agenda "o que vem a seguir".
+     * <p>
+     * Retorna os próximos {@code limit} eventos a partir de agora, em ordem cronológica,
+     * incluindo as ocorrências de eventos recorrentes.
+     * A consulta usa o índice por data do repositório de consultas: custa O(log n + k)
+     * e não copia nem ordena a projeção inteira como {@link #listAll()}.
+     * </p>
+     *
+     * @param tenant valor do header {@value Tenants#HEADER}; ausente usa a agenda {@value Tenants#DEFAULT}
+     * @param limit quantidade máxima de eventos (1 a {@value ListUpcomingEventsHandler#MAX_LIMIT})
+     * @return ResponseEntity com status 200 (OK) e os próximos eventos
+     */
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<EventDto>> upcoming(
+            @RequestHeader(name = Tenants.HEADER, required = false) String tenant,
+            @RequestParam(defaultValue = "" + ListUpcomingEventsHandler.DEFAULT_LIMIT) int limit) {
+        List<EventDto> dtos = upcomingEventsHandler.handle(Tenants.resolve(tenant), limit).stream()
+                .map(QueryController::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    /**
+     * Endpoint de consulta por intervalo de datas.
+     * <p>
+     * Retorna os eventos em {@code [from, to)} em ordem cronológica. Eventos recorrentes aparecem
+     * uma vez por ocorrência dentro do intervalo, com o id da série; as ocorrências são calculadas
+     * sob demanda e só até completar {@code limit}.
+     * </p>
+     *
+     * @param tenant valor do header {@value Tenants#HEADER}; ausente usa a agenda {@value Tenants#DEFAULT}
+     * @param from  início do intervalo (inclusivo)
+     * @param to    fim do intervalo (exclusivo)
+     * @param limit quantidade máxima de eventos (1 a {@value ListEventsInRangeHandler#MAX_LIMIT})
+     * @return ResponseEntity com status 200 (OK) e os eventos do intervalo
+     * @throws IllegalArgumentException se {@code from} não for anterior a {@code to}
+     */
+    @GetMapping("/range")
+    public ResponseEntity<List<EventDto>> range(
+            @RequestHeader(name = Tenants.HEADER, required = false) String tenant,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "" + ListEventsInRangeHandler.DEFAULT_LIMIT) int limit) {
+        List<EventDto> dtos = rangeHandler.handle(Tenants.resolve(tenant), from, to, limit).stream()
+                .map(QueryController::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    /**
+     * Endpoint de conflitos de horário.
+     * <p>
+     * Retorna os eventos que ocupam algum instante de {@code [from, to)}, ou seja, os que conflitariam
+     * com um evento nesse horário. Diferente de {@link #range}, que filtra pela data de início, aqui um
+     * evento que começou antes de {@code from} e ainda não terminou também aparece. A consulta usa a
+     * árvore de intervalos do repositório de consultas; eventos sem {@code end} não ocupam tempo.
+     * </p>
+     *
+     * @param tenant valor do header {@value Tenants#HEADER}; ausente usa a agenda {@value Tenants#DEFAULT}
+     * @param from  início do intervalo (inclusivo)
+     * @param to    fim do intervalo (exclusivo)
+     * @param limit quantidade máxima de eventos (1 a {@value FindConflictsHandler#MAX_LIMIT})
+     * @return ResponseEntity com status 200 (OK) e os eventos que se sobrepõem ao intervalo
+     * @throws IllegalArgumentException se {@code from} não for anterior a {@code to}
+     */
+    @GetMapping("/conflicts")
+    public ResponseEntity<List<EventDto>> conflicts(
+            @RequestHeader(name = Tenants.HEADER, required = false) String tenant,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "" + FindConflictsHandler.DEFAULT_LIMIT) int limit) {
+        List<EventDto> dtos = conflictsHandler.handle(Tenants.resolve(tenant), from, to, limit).stream()
+                .map(QueryController::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    /**
+     * Endpoint de livre/ocupado para uma janela.
+     * <p>
+     * Retorna os blocos ocupados de {@code [from, to)}: eventos que se sobrepõem ou se encostam são
+     * fundidos em um único bloco, recortado à janela, então a resposta tem poucos intervalos em vez
+     * dos eventos completos. Eventos sem {@code end} não ocupam tempo.
+     * </p>
+     *
+     * @param tenant valor do header {@value Tenants#HEADER}; ausente usa a agenda {@value Tenants#DEFAULT}
+     * @param from início da janela (inclusivo)
+     * @param to   fim da janela (exclusivo), no máximo 366 dias depois de {@code from}
+     * @return ResponseEntity com status 200 (OK) e os blocos ocupados
+     * @throws IllegalArgumentException se a janela for vazia ou longa demais
+     */
+    @GetMapping("/freebusy")
+    public ResponseEntity<FreeBusyDto> freeBusy(
+            @RequestHeader(name = Tenants.HEADER, required = false) String tenant,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(toDto(freeBusyHandler.handle(Tenants.resolve(tenant), new TimeRange(from, to))));
+    }
+
+    /**
+     * Endpoint de livre/ocupado em lote.
+     * <p>
+     * Mesma consulta de {@link #freeBusy}, para várias janelas em uma única requisição (até
+     * {@value FreeBusyHandler#MAX_RANGES}). É um POST apenas porque as janelas vão no corpo;
+     * nada é alterado. As respostas seguem a ordem das janelas pedidas.
+     * </p>
+     *
+     * @param tenant valor do header {@value Tenants#HEADER}; ausente usa a agenda {@value Tenants#DEFAULT}
+     * @param ranges janelas a consultar
+     * @return ResponseEntity com status 200 (OK) e os blocos ocupados de cada janela
+     * @throws IllegalArgumentException se alguma janela for inválida ou houver janelas demais
+     */
+    @PostMapping("/freebusy")
+    public ResponseEntity<List<FreeBusyDto>> freeBusyBatch(
+            @RequestHeader(name = Tenants.HEADER, required = false) String tenant,
+            @RequestBody List<TimeRangeDto> ranges) {
+        List<TimeRange> windows = ranges.stream()
+                .map(range -> new TimeRange(range.from(), range.to()))
+                .collect(Collectors.toList());
+        List<FreeBusyDto> dtos = freeBusyHandler.handle(Tenants.resolve(tenant), windows).stream()
+                .map(QueryController::toDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(dtos);
+    }
+
+    private static FreeBusyDto toDto(FreeBusy freeBusy) {
+        List<TimeRangeDto> busy = freeBusy.busy().stream()
+                .map(range -> new TimeRangeDto(range.start(), range.end()))
+                .collect(Collectors.toList());
+        return new FreeBusyDto(freeBusy.window().start(), freeBusy.window().end(), busy);
+    }
+
+    /**
+     * Converte um modelo de consulta no DTO de resposta.
+     *
+     * @param query modelo de consulta (ou ocorrência de uma série)
+     * @return DTO com a regra de recorrência em formato RRULE, quando houver
+     */
+    private static EventDto toDto(EventQuery query) {
+        return new EventDto(query.id(), query.title(), query.description(), query.date(), query.end(),
+                query.recurrence() == null ? null : query.recurrence().toString());
+    }
+}
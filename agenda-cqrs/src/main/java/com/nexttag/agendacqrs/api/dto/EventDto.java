@@ -3,4 +3,10 @@ package com.nexttag.agendacqrs.api.dto;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public record EventDto(UUID id, String title, String description, LocalDateTime date) {}
\ No newline at end of file
+public record EventDto(UUID id, String title, String description, LocalDateTime date, LocalDateTime end,
+                       String recurrence) {
+
+    public EventDto(UUID id, String title, String description, LocalDateTime date) {
+        this(id, title, description, date, null, null);
+    }
+}
@@ -0,0 +1,6 @@
+package com.nexttag.agendacqrs.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record FreeBusyDto(LocalDateTime from, LocalDateTime to, List<TimeRangeDto> busy) {}
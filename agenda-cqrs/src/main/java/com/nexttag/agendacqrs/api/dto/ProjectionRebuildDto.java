@@ -0,0 +1,3 @@
+package com.nexttag.agendacqrs.api.dto;
+
+public record ProjectionRebuildDto(int tenants, int chunks, long events, int replayed, long elapsedMillis) {}
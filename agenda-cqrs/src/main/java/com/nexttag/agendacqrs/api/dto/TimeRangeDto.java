@@ -0,0 +1,5 @@
+package com.nexttag.agendacqrs.api.dto;
+
+import java.time.LocalDateTime;
+
+public record TimeRangeDto(LocalDateTime from, LocalDateTime to) {}
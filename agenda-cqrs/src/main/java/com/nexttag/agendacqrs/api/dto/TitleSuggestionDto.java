@@ -0,0 +1,6 @@
+package com.nexttag.agendacqrs.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TitleSuggestionDto(String title, UUID eventId, LocalDateTime date) {}
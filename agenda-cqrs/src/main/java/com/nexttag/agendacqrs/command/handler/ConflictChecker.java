@@ -0,0 +1,156 @@
+package com.nexttag.agendacqrs.command.handler;
+
+import com.nexttag.agendacqrs.command.model.EventCommand;
+import com.nexttag.agendacqrs.command.model.EventConflictException;
+import com.nexttag.agendacqrs.command.model.ReadModelBehindException;
+import com.nexttag.agendacqrs.infrastructure.outbox.EventOutbox;
+import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStore;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Verifica, antes de gravar, se o intervalo de um comando se sobrepõe a eventos existentes.
+ * <p>
+ * A verificação consulta a árvore de intervalos do lado de leitura ({@link QueryRepository#findOverlappingIds}),
+ * em O(log n) mais o custo dos conflitos encontrados, em vez de varrer todos os eventos a cada escrita. Só os
+ * ids dos conflitos são lidos; os eventos não são remontados.
+ * </p>
+ *
+ * <p>
+ * Verificar e gravar precisam ser atômicos, senão duas requisições concorrentes para o mesmo horário
+ * passariam ambas pela verificação. Por isso {@link #checkAndRun} executa verificação, gravação e
+ * publicação sob um único lock. A publicação passa pelo outbox, que espera (com prazo) a projeção de
+ * leitura aplicar o evento; normalmente a projeção já tem a escrita quando o lock é liberado.
+ * </p>
+ *
+ * <p>
+ * Quando o prazo estoura, a escrita está confirmada mas ainda fora da projeção, e uma verificação feita
+ * logo depois não a enxergaria. A partição é então marcada como {@link TenantQueryStore#isBehind() atrasada}:
+ * a próxima verificação do tenant espera o outbox alcançar as escritas confirmadas antes de consultar a
+ * projeção e, se ele continuar atrasado, recusa o comando com {@link ReadModelBehindException} em vez de
+ * deixar passar uma sobreposição. Se a projeção falhou ao aplicar um evento do tenant, a partição fica
+ * {@link TenantQueryStore#isStale() desatualizada} e é recarregada de {@code command_events} antes da
+ * verificação.
+ * </p>
+ *
+ * <p>
+ * O lock é o da partição do tenant ({@link TenantQueryStore#writeLock()}): eventos de tenants diferentes
+ * nunca conflitam, então as escritas de um tenant não esperam pelas de outro. Toda escrita passa pelo
+ * lock, mesmo sem intervalo ou sem verificação (exclusões usam {@link #run}), porque é ele que impede que
+ * a partição seja descartada no meio da gravação.
+ * </p>
+ *
+ * <p>
+ * Séries novas são verificadas em todas as ocorrências dentro de {@link #SERIES_HORIZON}: séries sem fim
+ * não têm um último conflito possível, então o horizonte limita o trabalho por escrita. As ocorrências vão
+ * juntas para {@link QueryRepository#findOverlappingIds(List, Duration, int, UUID)}, que busca as séries
+ * existentes uma vez para o horizonte inteiro em vez de uma vez por ocorrência.
+ * </p>
+ */
+@Component
+public class ConflictChecker {
+
+    /**
+     * Janela, a partir da primeira ocorrência, em que as ocorrências de uma série nova são verificadas.
+     */
+    public static final Duration SERIES_HORIZON = Duration.ofDays(366);
+
+    /**
+     * Quantidade máxima de ids de eventos em conflito reportados na exceção.
+     */
+    static final int MAX_REPORTED = 10;
+
+    private final TenantQueryStores stores;
+    private final EventOutbox outbox;
+
+    public ConflictChecker(TenantQueryStores stores, EventOutbox outbox) {
+        this.stores = stores;
+        this.outbox = outbox;
+    }
+
+    /**
+     * Verifica o comando e, se não houver conflito, executa a escrita sob o mesmo lock.
+     *
+     * @param tenantId tenant dono do evento
+     * @param id      id do evento gravado (ignorado na verificação, para que alterações não conflitem consigo)
+     * @param command dados do evento
+     * @param write   gravação e publicação do evento de domínio; devolve se a projeção já tem o evento
+     * @throws EventConflictException   se o intervalo se sobrepuser a outros eventos
+     * @throws ReadModelBehindException se uma escrita anterior do tenant ainda não chegou à projeção
+     */
+    public void checkAndRun(String tenantId, UUID id, EventCommand command, BooleanSupplier write) {
+        runLocked(tenantId, write, store -> {
+            // Eventos sem fim não ocupam tempo e não conflitam
+            if (command.end() != null) {
+                awaitCaughtUp(store);
+                List<UUID> conflicts = findConflicts(store.events(), id, command);
+                if (!conflicts.isEmpty()) {
+                    throw new EventConflictException(conflicts);
+                }
+            }
+        });
+    }
+
+    /**
+     * Executa, sem verificação, uma escrita que não pode criar conflitos (exclusão) sob o lock do tenant.
+     *
+     * @param tenantId tenant dono do evento
+     * @param write    gravação e publicação do evento de domínio; devolve se a projeção já tem o evento
+     */
+    public void run(String tenantId, BooleanSupplier write) {
+        runLocked(tenantId, write, store -> {
+        });
+    }
+
+    private void runLocked(String tenantId, BooleanSupplier write, Consumer<TenantQueryStore> check) {
+        while (true) {
+            TenantQueryStore store = stores.get(tenantId);
+            store.writeLock().lock();
+            try {
+                if (store.isEvicted() || stores.evictIfStale(store)) {
+                    // Descartada entre o get e o lock, ou sem um evento que a projeção não aplicou:
+                    // a próxima volta pega (e recarrega) a partição nova
+                    continue;
+                }
+                check.accept(store);
+                if (!write.getAsBoolean()) {
+                    // Gravada, mas fora da projeção por enquanto: a próxima verificação espera por ela
+                    store.setBehind(true);
+                }
+                return;
+            } finally {
+                store.writeLock().unlock();
+            }
+        }
+    }
+
+    private void awaitCaughtUp(TenantQueryStore store) {
+        if (!store.isBehind()) {
+            return;
+        }
+        if (!outbox.awaitVisible()) {
+            throw new ReadModelBehindException(store.tenantId());
+        }
+        store.setBehind(false);
+    }
+
+    private List<UUID> findConflicts(QueryRepository events, UUID id, EventCommand command) {
+        if (command.recurrence() == null) {
+            return events.findOverlappingIds(command.date(), command.end(), MAX_REPORTED, id);
+        }
+        List<LocalDateTime> starts = new ArrayList<>();
+        command.recurrence()
+                .occurrences(command.date(), command.date(), command.date().plus(SERIES_HORIZON))
+                .forEachRemaining(starts::add);
+        return events.findOverlappingIds(starts, Duration.between(command.date(), command.end()), MAX_REPORTED, id);
+    }
+}
@@ -3,8 +3,8 @@ package com.nexttag.agendacqrs.command.handler;
 
 import com.nexttag.agendacqrs.command.model.EventCommand;
 import com.nexttag.agendacqrs.domain.event.EventCreated;
+import com.nexttag.agendacqrs.infrastructure.outbox.EventOutbox;
 import com.nexttag.agendacqrs.infrastructure.repository.CommandRepository;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -39,20 +39,27 @@ public class CreateEventHandler {
     private final CommandRepository repository;
 
     /**
-     * Publicador de eventos da aplicação Spring.
+     * Outbox transacional dos eventos de domínio.
      * Utilizado para notificar outras partes do sistema sobre a criação do evento.
      */
-    private final ApplicationEventPublisher publisher;
+    private final EventOutbox outbox;
+
+    /**
+     * Verificação de conflitos de horário, executada sob o mesmo lock da gravação.
+     */
+    private final ConflictChecker conflictChecker;
 
     /**
      * Construtor para injeção de dependências.
      *
      * @param repository o repositório de comandos para persistência
-     * @param publisher o publicador de eventos da aplicação Spring
+     * @param outbox o outbox transacional dos eventos de domínio
+     * @param conflictChecker a verificação de conflitos de horário
      */
-    public CreateEventHandler(CommandRepository repository, ApplicationEventPublisher publisher) {
+    public CreateEventHandler(CommandRepository repository, EventOutbox outbox, ConflictChecker conflictChecker) {
         this.repository = repository;
-        this.publisher = publisher;
+        this.outbox = outbox;
+        this.conflictChecker = conflictChecker;
     }
 
     /**
@@ -60,8 +67,9 @@ public class CreateEventHandler {
      * <p>
      * Este método executa as seguintes operações em ordem:
      * <ol>
-     *     <li>Persiste o comando no repositório de comandos</li>
-     *     <li>Publica um evento de domínio {@link EventCreated} para notificar o sistema</li>
+     *     <li>Persiste o comando no repositório de comandos e grava o evento de domínio {@link EventCreated}
+     *     no outbox, na mesma transação</li>
+     *     <li>Espera o relay do outbox entregar o evento para notificar o sistema</li>
      *     <li>Retorna o identificador único do evento criado</li>
      * </ol>
      * </p>
@@ -71,21 +79,26 @@ public class CreateEventHandler {
      * sincronizar o lado de leitura (query) com as mudanças do lado de escrita (command).
      * </p>
      *
+     * @param tenantId o tenant dono da agenda
      * @param command o comando contendo os dados do evento a ser criado
      * @return o UUID do evento criado
      * @throws IllegalArgumentException se o command for null ou contiver dados inválidos
+     * @throws com.nexttag.agendacqrs.command.model.EventConflictException se o horário se sobrepuser a outro evento
+     * @throws com.nexttag.agendacqrs.command.model.ReadModelBehindException se uma escrita anterior do tenant ainda não chegou ao modelo de leitura
      * @throws org.springframework.dao.DataAccessException se ocorrer erro na persistência
      *
      * @see EventCommand
      * @see EventCreated
-     * @see com.nexttag.agendacqrs.infrastructure.event.QueryEventHandler#onEventCreated(EventCreated)
+     * @see com.nexttag.agendacqrs.infrastructure.event.QueryEventHandler#apply(com.nexttag.agendacqrs.domain.event.DomainEvent)
      */
-    public UUID handle(EventCommand command) {
-        // Persiste o comando no repositório de escrita
-        repository.save(command);
-
-        // Publica evento de domínio para sincronização com o lado de query
-        publisher.publishEvent(new EventCreated(command.id(), command.title(), command.description(), command.date()));
+    public UUID handle(String tenantId, EventCommand command) {
+        // Rejeita sobreposições; gravação e publicação acontecem sob o lock da verificação
+        conflictChecker.checkAndRun(tenantId, command.id(), command, () -> outbox.writeAndPublish(
+                // Persiste o comando no repositório de escrita
+                () -> repository.save(tenantId, command),
+                // Evento de domínio para sincronização com o lado de query, gravado na mesma transação
+                new EventCreated(tenantId, command.id(), command.title(), command.description(),
+                        command.date(), command.end(), command.recurrence())));
 
         // Retorna o identificador único do evento criado
         return command.id();
@@ -1,8 +1,8 @@
 package com.nexttag.agendacqrs.command.handler;
 
 import com.nexttag.agendacqrs.domain.event.EventDeleted;
+import com.nexttag.agendacqrs.infrastructure.outbox.EventOutbox;
 import com.nexttag.agendacqrs.infrastructure.repository.CommandRepository;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -32,20 +32,27 @@ public class DeleteEventHandler {
     private final CommandRepository repository;
 
     /**
-     * Publicador de eventos da aplicação Spring.
+     * Outbox transacional dos eventos de domínio.
      * Utilizado para notificar outras partes do sistema sobre a exclusão do evento.
      */
-    private final ApplicationEventPublisher publisher;
+    private final EventOutbox outbox;
+
+    /**
+     * Lock de escrita do tenant, o mesmo das criações e alterações.
+     */
+    private final ConflictChecker conflictChecker;
 
     /**
      * Construtor para injeção de dependências.
      *
      * @param repository o repositório de comandos para persistência
-     * @param publisher  o publicador de eventos da aplicação Spring
+     * @param outbox     o outbox transacional dos eventos de domínio
+     * @param conflictChecker o lock de escrita do tenant
      */
-    public DeleteEventHandler(CommandRepository repository, ApplicationEventPublisher publisher) {
+    public DeleteEventHandler(CommandRepository repository, EventOutbox outbox, ConflictChecker conflictChecker) {
         this.repository = repository;
-        this.publisher = publisher;
+        this.outbox = outbox;
+        this.conflictChecker = conflictChecker;
     }
 
     /**
@@ -53,8 +60,9 @@ public class DeleteEventHandler {
      * <p>
      * Este método executa as seguintes operações em ordem:
      * <ol>
-     *     <li>Remove o evento do repositório de comandos</li>
-     *     <li>Publica um evento de domínio {@link EventDeleted} para notificar o sistema</li>
+     *     <li>Remove o evento do repositório de comandos e grava o evento de domínio {@link EventDeleted}
+     *     no outbox, na mesma transação</li>
+     *     <li>Espera o relay do outbox entregar o evento para notificar o sistema</li>
      * </ol>
      * </p>
      *
@@ -64,16 +72,18 @@ public class DeleteEventHandler {
      * removendo a representação correspondente do repositório de consultas.
      * </p>
      *
+     * @param tenantId o tenant dono da agenda
      * @param id o identificador único do evento a ser excluído
      * @throws IllegalArgumentException                    se o id for null
      * @throws org.springframework.dao.DataAccessException se ocorrer erro na persistência
      *
      */
-    public void handle(UUID id) {
-        // Remove o evento do repositório de escrita
-        repository.delete(id);
-
-        // Publica evento de domínio para sincronização com o lado de query
-        publisher.publishEvent(new EventDeleted(id));
+    public void handle(String tenantId, UUID id) {
+        // Exclusões não conflitam, mas gravam sob o lock do tenant como as demais escritas
+        conflictChecker.run(tenantId, () -> outbox.writeAndPublish(
+                // Remove o evento do repositório de escrita
+                () -> repository.delete(tenantId, id),
+                // Evento de domínio para sincronização com o lado de query, gravado na mesma transação
+                new EventDeleted(tenantId, id)));
     }
 }
\ No newline at end of file
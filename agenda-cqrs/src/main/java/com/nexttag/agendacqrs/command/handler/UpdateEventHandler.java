@@ -2,8 +2,8 @@ package com.nexttag.agendacqrs.command.handler;
 
 import com.nexttag.agendacqrs.command.model.EventCommand;
 import com.nexttag.agendacqrs.domain.event.EventUpdated;
+import com.nexttag.agendacqrs.infrastructure.outbox.EventOutbox;
 import com.nexttag.agendacqrs.infrastructure.repository.CommandRepository;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -34,20 +34,27 @@ public class UpdateEventHandler {
     private final CommandRepository repository;
 
     /**
-     * Publicador de eventos da aplicação Spring.
+     * Outbox transacional dos eventos de domínio.
      * Utilizado para notificar outras partes do sistema sobre a atualização do evento.
      */
-    private final ApplicationEventPublisher publisher;
+    private final EventOutbox outbox;
+
+    /**
+     * Verificação de conflitos de horário, executada sob o mesmo lock da gravação.
+     */
+    private final ConflictChecker conflictChecker;
 
     /**
      * Construtor para injeção de dependências.
      *
      * @param repository o repositório de comandos para persistência
-     * @param publisher o publicador de eventos da aplicação Spring
+     * @param outbox o outbox transacional dos eventos de domínio
+     * @param conflictChecker a verificação de conflitos de horário
      */
-    public UpdateEventHandler(CommandRepository repository, ApplicationEventPublisher publisher) {
+    public UpdateEventHandler(CommandRepository repository, EventOutbox outbox, ConflictChecker conflictChecker) {
         this.repository = repository;
-        this.publisher = publisher;
+        this.outbox = outbox;
+        this.conflictChecker = conflictChecker;
     }
 
     /**
@@ -55,8 +62,9 @@ public class UpdateEventHandler {
      * <p>
      * Este método executa as seguintes operações em ordem:
      * <ol>
-     *     <li>Atualiza o evento no repositório de comandos com os novos dados</li>
-     *     <li>Publica um evento de domínio {@link EventUpdated} para notificar o sistema</li>
+     *     <li>Atualiza o evento no repositório de comandos com os novos dados e grava o evento de domínio
+     *     {@link EventUpdated} no outbox, na mesma transação</li>
+     *     <li>Espera o relay do outbox entregar o evento para notificar o sistema</li>
      * </ol>
      * </p>
      *
@@ -66,17 +74,22 @@ public class UpdateEventHandler {
      * atualizando a representação correspondente no repositório de consultas.
      * </p>
      *
+     * @param tenantId o tenant dono da agenda
      * @param id o identificador único do evento a ser atualizado
      * @param command o comando contendo os novos dados do evento
      * @throws IllegalArgumentException se o id ou command forem null ou contiverem dados inválidos
+     * @throws com.nexttag.agendacqrs.command.model.EventConflictException se o horário se sobrepuser a outro evento
+     * @throws com.nexttag.agendacqrs.command.model.ReadModelBehindException se uma escrita anterior do tenant ainda não chegou ao modelo de leitura
      * @throws org.springframework.dao.DataAccessException se ocorrer erro na persistência
 
      */
-    public void handle(UUID id, EventCommand command) {
-        // Atualiza o evento no repositório de escrita
-        repository.update(id, command);
-
-        // Publica evento de domínio para sincronização com o lado de query
-        publisher.publishEvent(new EventUpdated(id, command.title(), command.description(), command.date()));
+    public void handle(String tenantId, UUID id, EventCommand command) {
+        // Rejeita sobreposições com outros eventos; o próprio evento é ignorado na verificação
+        conflictChecker.checkAndRun(tenantId, id, command, () -> outbox.writeAndPublish(
+                // Atualiza o evento no repositório de escrita
+                () -> repository.update(tenantId, id, command),
+                // Evento de domínio para sincronização com o lado de query, gravado na mesma transação
+                new EventUpdated(tenantId, id, command.title(), command.description(), command.date(),
+                        command.end(), command.recurrence())));
     }
 }
\ No newline at end of file
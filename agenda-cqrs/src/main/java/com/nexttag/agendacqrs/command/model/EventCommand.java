@@ -1,48 +1,36 @@
-
 package com.nexttag.agendacqrs.command.model;
 
+import com.nexttag.agendacqrs.domain.id.IdGenerators;
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
- * Comando representando uma operação de escrita de evento na arquitetura CQRS.
- * <p>
- * Este record encapsula todos os dados necessários para operações de comando (escrita)
- * relacionadas a eventos, incluindo criação, atualização e exclusão. Serve como
- * objeto de transferência de dados entre a camada de API e os handlers de comando.
- * </p>
- *
- * <p>
- * O comando segue os princípios do CQRS (Command Query Responsibility Segregation),
- * sendo utilizado exclusivamente no lado de escrita para transportar dados
- * de entrada para os handlers de comando.
- * </p>
- *
- * <p>
- * A classe oferece dois construtores: um completo com ID especificado e outro
- * de conveniência que gera automaticamente um UUID único para novos eventos.
- * </p>
- *
- * @param id identificador único do evento
- * @param title título do evento
- * @param description descrição detalhada do evento
- * @param date data e hora do evento
+ * Comando de criação ou alteração de um evento. {@code end} é opcional e exclusivo: o evento
+ * ocupa {@code [date, end)}. Em séries, a duração {@code end - date} vale para cada ocorrência.
  */
-public record EventCommand(UUID id, String title, String description, LocalDateTime date) {
+public record EventCommand(UUID id, String title, String description, LocalDateTime date, LocalDateTime end,
+                           RecurrenceRule recurrence) {
+
+    public EventCommand {
+        if (recurrence != null && date == null) {
+            throw new IllegalArgumentException("date is required for recurring events");
+        }
+        if (recurrence != null && !recurrence.hasOccurrences(date)) {
+            throw new IllegalArgumentException("recurrence has no occurrences from date");
+        }
+        if (end != null && (date == null || !end.isAfter(date))) {
+            throw new IllegalArgumentException("end must be after date");
+        }
+    }
+
+    public EventCommand(String title, String description, LocalDateTime date, LocalDateTime end,
+                        RecurrenceRule recurrence) {
+        this(IdGenerators.next(), title, description, date, end, recurrence);
+    }
 
-    /**
-     * Construtor de conveniência para criação de novos eventos.
-     * <p>
-     * Gera automaticamente um UUID único para o evento, facilitando
-     * a criação de comandos para novos eventos sem necessidade de
-     * especificar manualmente um identificador.
-     * </p>
-     *
-     * @param title título do evento
-     * @param description descrição detalhada do evento
-     * @param date data e hora do evento
-     */
     public EventCommand(String title, String description, LocalDateTime date) {
-        this(UUID.randomUUID(), title, description, date);
+        this(title, description, date, null, null);
     }
-}
\ No newline at end of file
+}
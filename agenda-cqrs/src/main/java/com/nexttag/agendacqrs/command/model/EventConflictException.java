@@ -0,0 +1,26 @@
+package com.nexttag.agendacqrs.command.model;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lançada quando o intervalo de um evento criado ou alterado se sobrepõe a eventos já agendados.
+ * Respondida como {@code 409 Conflict}.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class EventConflictException extends RuntimeException {
+
+    private final List<UUID> conflictingIds;
+
+    public EventConflictException(List<UUID> conflictingIds) {
+        super("Event overlaps existing events: " + conflictingIds);
+        this.conflictingIds = List.copyOf(conflictingIds);
+    }
+
+    public List<UUID> getConflictingIds() {
+        return conflictingIds;
+    }
+}
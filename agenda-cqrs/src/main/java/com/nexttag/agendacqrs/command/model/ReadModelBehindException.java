@@ -0,0 +1,17 @@
+package com.nexttag.agendacqrs.command.model;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Lançada quando uma escrita anterior do tenant ainda não chegou ao modelo de leitura e, portanto, a
+ * verificação de conflitos não pode ser feita com segurança. Respondida como {@code 503 Service Unavailable};
+ * o comando pode ser repetido.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ReadModelBehindException extends RuntimeException {
+
+    public ReadModelBehindException(String tenantId) {
+        super("Read model of tenant " + tenantId + " is behind its latest writes; retry later");
+    }
+}
@@ -0,0 +1,23 @@
+package com.nexttag.agendacqrs.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Evento de domínio publicado pelo lado de comando.
+ * <p>
+ * A interface é selada: projeções e o outbox tratam os três tipos com um {@code switch} exaustivo, e um
+ * tipo novo quebra a compilação em vez de ser ignorado em silêncio.
+ * </p>
+ */
+public sealed interface DomainEvent permits EventCreated, EventUpdated, EventDeleted {
+
+    /**
+     * Tenant dono da agenda do evento.
+     */
+    String tenantId();
+
+    /**
+     * Identificador do evento da agenda.
+     */
+    UUID id();
+}
@@ -1,6 +1,9 @@
 
 package com.nexttag.agendacqrs.domain.event;
 
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.domain.tenant.Tenants;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -14,8 +17,8 @@ import java.util.UUID;
  *
  * <p>
  * O evento segue os princípios do Event Sourcing básico implementado na aplicação,
- * onde mudanças no estado são propagadas através de eventos de domínio usando
- * o sistema de eventos do Spring Framework.
+ * onde mudanças no estado são propagadas através de eventos de domínio gravados
+ * no outbox e entregues a cada projeção registrada.
  * </p>
  *
  * <p>
@@ -23,9 +26,18 @@ import java.util.UUID;
  * o repositório de consultas com o novo evento criado.
  * </p>
  *
+ * @param tenantId dono da agenda do evento
  * @param id identificador único do evento criado
  * @param title título do evento
  * @param description descrição detalhada do evento
  * @param date data e hora do evento
+ * @param end fim (exclusivo) do evento, ou null
+ * @param recurrence regra de recorrência, ou null para eventos avulsos
  */
-public record EventCreated(UUID id, String title, String description, LocalDateTime date) {}
\ No newline at end of file
+public record EventCreated(String tenantId, UUID id, String title, String description, LocalDateTime date,
+                           LocalDateTime end, RecurrenceRule recurrence) implements DomainEvent {
+
+    public EventCreated(UUID id, String title, String description, LocalDateTime date) {
+        this(Tenants.DEFAULT, id, title, description, date, null, null);
+    }
+}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.nexttag.agendacqrs.domain.event;
 
+import com.nexttag.agendacqrs.domain.tenant.Tenants;
+
 import java.util.UUID;
 
 /**
@@ -12,8 +14,8 @@ import java.util.UUID;
  *
  * <p>
  * O evento segue os princípios do Event Sourcing básico implementado na aplicação,
- * onde mudanças no estado são propagadas através de eventos de domínio usando
- * o sistema de eventos do Spring Framework.
+ * onde mudanças no estado são propagadas através de eventos de domínio gravados
+ * no outbox e entregues a cada projeção registrada.
  * </p>
  *
  * <p>
@@ -21,8 +23,14 @@ import java.util.UUID;
  * o repositório de consultas, removendo a representação do evento excluído.
  * </p>
  *
+ * @param tenantId dono da agenda do evento
  * @param id identificador único do evento que foi excluído
  *
  */
 
-public record EventDeleted(UUID id) {}
\ No newline at end of file
+public record EventDeleted(String tenantId, UUID id) implements DomainEvent {
+
+    public EventDeleted(UUID id) {
+        this(Tenants.DEFAULT, id);
+    }
+}
\ No newline at end of file
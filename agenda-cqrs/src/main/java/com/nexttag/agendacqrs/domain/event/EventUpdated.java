@@ -1,5 +1,8 @@
 package com.nexttag.agendacqrs.domain.event;
 
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.domain.tenant.Tenants;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -13,8 +16,8 @@ import java.util.UUID;
  *
  * <p>
  * O evento segue os princípios do Event Sourcing básico implementado na aplicação,
- * onde mudanças no estado são propagadas através de eventos de domínio usando
- * o sistema de eventos do Spring Framework.
+ * onde mudanças no estado são propagadas através de eventos de domínio gravados
+ * no outbox e entregues a cada projeção registrada.
  * </p>
  *
  * <p>
@@ -22,10 +25,19 @@ import java.util.UUID;
  * o repositório de consultas com os dados atualizados do evento.
  * </p>
  *
+ * @param tenantId dono da agenda do evento
  * @param id identificador único do evento que foi atualizado
  * @param title novo título do evento
  * @param description nova descrição detalhada do evento
  * @param date nova data e hora do evento
+ * @param end fim (exclusivo) do evento, ou null
+ * @param recurrence regra de recorrência, ou null para eventos avulsos
  */
 
-public record EventUpdated(UUID id, String title, String description, LocalDateTime date) {}
\ No newline at end of file
+public record EventUpdated(String tenantId, UUID id, String title, String description, LocalDateTime date,
+                           LocalDateTime end, RecurrenceRule recurrence) implements DomainEvent {
+
+    public EventUpdated(UUID id, String title, String description, LocalDateTime date) {
+        this(Tenants.DEFAULT, id, title, description, date, null, null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.nexttag.agendacqrs.domain.id;
+
+import java.util.UUID;
+
+/**
+ * Estratégia de geração de identificadores para novos eventos.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+    UUID next();
+}
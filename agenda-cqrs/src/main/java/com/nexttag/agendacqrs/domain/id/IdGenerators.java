@@ -0,0 +1,22 @@
+package com.nexttag.agendacqrs.domain.id;
+
+import java.util.UUID;
+
+/**
+ * Ponto único de geração de ids das entidades. O padrão é {@link UuidV7Generator};
+ * {@link #use(IdGenerator)} troca a estratégia (ex.: {@link RandomUuidGenerator} em comparações).
+ */
+public final class IdGenerators {
+    private static volatile IdGenerator generator = new UuidV7Generator();
+
+    private IdGenerators() {
+    }
+
+    public static UUID next() {
+        return generator.next();
+    }
+
+    public static void use(IdGenerator idGenerator) {
+        generator = idGenerator;
+    }
+}
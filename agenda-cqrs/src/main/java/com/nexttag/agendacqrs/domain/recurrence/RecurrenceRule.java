@@ -0,0 +1,561 @@
+package com.nexttag.agendacqrs.domain.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Regra de recorrência no subconjunto {@code FREQ/INTERVAL/COUNT/UNTIL/BYDAY} do RRULE (RFC 5545).
+ * <p>
+ * Só a regra é armazenada; as ocorrências são calculadas sob demanda a partir da data inicial da série.
+ * A série é dividida em períodos (dia, semana, mês ou ano, a cada {@code INTERVAL}) e a expansão salta
+ * direto para o período que contém o início da janela pedida, gerando apenas as ocorrências lidas pelo
+ * chamador. Com {@code COUNT}, a quantidade de ocorrências antes de um período é calculada aritmeticamente,
+ * sem percorrer a série desde o início.
+ * <p>
+ * {@code BYDAY} é aceito com {@code DAILY} (filtro de dias da semana) e {@code WEEKLY} (dias da semana,
+ * semanas começando na segunda-feira). Em {@code MONTHLY} e {@code YEARLY} a ocorrência cai no mesmo dia
+ * da data inicial e meses sem esse dia (31, 29 de fevereiro) são pulados, como na RFC.
+ * <p>
+ * Uma regra pode não ter ocorrência nenhuma a partir de certa data inicial ({@code FREQ=DAILY;INTERVAL=7;BYDAY=TU}
+ * começando numa segunda-feira): a expansão para depois de um ciclo completo do calendário sem ocorrências,
+ * em vez de procurar para sempre. {@link #hasOccurrences(LocalDateTime)} permite recusar essas séries na entrada.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency { DAILY, WEEKLY, MONTHLY, YEARLY }
+
+    private static final DateTimeFormatter UNTIL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final List<String> DAY_CODES = List.of("MO", "TU", "WE", "TH", "FR", "SA", "SU");
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDateTime until;
+    private final Set<DayOfWeek> byDay;
+    // BYDAY em ordem de segunda a domingo, usado para gerar as ocorrências de cada período
+    private final DayOfWeek[] sortedDays;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDateTime until, Set<DayOfWeek> byDay) {
+        if (frequency == null) {
+            throw new IllegalArgumentException("FREQ is required");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("INTERVAL must be positive");
+        }
+        if (count != null && count < 1) {
+            throw new IllegalArgumentException("COUNT must be positive");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT and UNTIL are mutually exclusive");
+        }
+        if (!byDay.isEmpty() && (frequency == Frequency.MONTHLY || frequency == Frequency.YEARLY)) {
+            throw new IllegalArgumentException("BYDAY is only supported with FREQ=DAILY or FREQ=WEEKLY");
+        }
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay.isEmpty() ? Set.of() : Collections.unmodifiableSet(EnumSet.copyOf(byDay));
+        this.sortedDays = this.byDay.stream().sorted().toArray(DayOfWeek[]::new);
+    }
+
+    public static RecurrenceRule of(Frequency frequency, int interval, Integer count, LocalDateTime until, Set<DayOfWeek> byDay) {
+        return new RecurrenceRule(frequency, interval, count, until, byDay == null ? Set.of() : byDay);
+    }
+
+    /**
+     * Interpreta uma regra no formato {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE;COUNT=10}, com prefixo
+     * {@code RRULE:} opcional. {@code UNTIL} aceita {@code yyyyMMdd'T'HHmmss[Z]} ou {@code yyyyMMdd} (dia inteiro).
+     *
+     * @return a regra, ou {@code null} se o texto for nulo ou vazio
+     * @throws IllegalArgumentException se a regra for inválida ou usar partes não suportadas
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            return null;
+        }
+        String text = rule.strip();
+        if (text.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            text = text.substring(6);
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDateTime until = null;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        for (String part : text.split(";")) {
+            int separator = part.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid RRULE part: " + part);
+            }
+            String name = part.substring(0, separator).strip().toUpperCase(Locale.ROOT);
+            String value = part.substring(separator + 1).strip().toUpperCase(Locale.ROOT);
+            try {
+                switch (name) {
+                    case "FREQ" -> frequency = Frequency.valueOf(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    case "UNTIL" -> until = parseUntil(value);
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            int index = DAY_CODES.indexOf(day.strip());
+                            if (index < 0) {
+                                throw new IllegalArgumentException("Unsupported BYDAY value: " + day);
+                            }
+                            byDay.add(DayOfWeek.of(index + 1));
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("Unsupported RRULE part: " + name);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+            }
+        }
+        return new RecurrenceRule(frequency, interval, count, until, byDay);
+    }
+
+    private static LocalDateTime parseUntil(String value) {
+        String local = value.endsWith("Z") ? value.substring(0, value.length() - 1) : value;
+        if (local.indexOf('T') < 0) {
+            // Data sem hora inclui o dia inteiro; segundos bastam porque toString() usa essa precisão
+            return LocalDate.parse(local, UNTIL_DATE).atTime(23, 59, 59);
+        }
+        return LocalDateTime.parse(local, UNTIL_DATE_TIME);
+    }
+
+    public Frequency frequency() {
+        return frequency;
+    }
+
+    public int interval() {
+        return interval;
+    }
+
+    public Integer count() {
+        return count;
+    }
+
+    public LocalDateTime until() {
+        return until;
+    }
+
+    public Set<DayOfWeek> byDay() {
+        return byDay;
+    }
+
+    /**
+     * Indica se a série não tem fim ({@code COUNT} e {@code UNTIL} ausentes).
+     */
+    public boolean isOpenEnded() {
+        return count == null && until == null;
+    }
+
+    /**
+     * Indica se a série que começa em {@code start} tem ao menos uma ocorrência.
+     */
+    public boolean hasOccurrences(LocalDateTime start) {
+        return occurrences(start, null, null).hasNext();
+    }
+
+    /**
+     * Ocorrências em ordem crescente dentro de {@code [from, to)}; limites nulos não restringem.
+     * A sequência é preguiçosa: cada ocorrência é calculada quando o iterador avança.
+     *
+     * @param start data inicial da série (primeira ocorrência possível)
+     */
+    public Iterator<LocalDateTime> occurrences(LocalDateTime start, LocalDateTime from, LocalDateTime to) {
+        return new AscendingIterator(start, from, to);
+    }
+
+    /**
+     * Ocorrências em ordem decrescente dentro de {@code [from, to)}. Séries sem fim exigem {@code to}.
+     *
+     * @param start data inicial da série (primeira ocorrência possível)
+     * @throws IllegalArgumentException se a série não tiver fim e {@code to} for nulo
+     */
+    public Iterator<LocalDateTime> occurrencesDescending(LocalDateTime start, LocalDateTime from, LocalDateTime to) {
+        if (to == null && isOpenEnded()) {
+            throw new IllegalArgumentException("An upper bound is required to list an open-ended series backwards");
+        }
+        return new DescendingIterator(start, from, to);
+    }
+
+    /**
+     * Versão em {@link Stream} de {@link #occurrences(LocalDateTime, LocalDateTime, LocalDateTime)}.
+     */
+    public Stream<LocalDateTime> between(LocalDateTime start, LocalDateTime from, LocalDateTime to) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(occurrences(start, from, to),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Índice do período que contém {@code dateTime} (negativo se anterior ao início da série).
+     */
+    private long periodOf(LocalDateTime start, LocalDateTime dateTime) {
+        LocalDate first = start.toLocalDate();
+        LocalDate date = dateTime.toLocalDate();
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(first, date);
+            case WEEKLY -> ChronoUnit.WEEKS.between(monday(first), monday(date));
+            case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(first), YearMonth.from(date));
+            case YEARLY -> (long) date.getYear() - first.getYear();
+        };
+        return Math.floorDiv(units, interval);
+    }
+
+    /**
+     * Primeiro instante do período {@code period}; nenhuma ocorrência do período é anterior a ele.
+     */
+    private LocalDateTime periodStart(LocalDateTime start, long period) {
+        LocalDate first = start.toLocalDate();
+        long units = period * interval;
+        LocalDate date = switch (frequency) {
+            case DAILY -> first.plusDays(units);
+            case WEEKLY -> monday(first).plusWeeks(units);
+            case MONTHLY -> first.withDayOfMonth(1).plusMonths(units);
+            case YEARLY -> first.withDayOfYear(1).plusYears(units);
+        };
+        return date.atStartOfDay();
+    }
+
+    /**
+     * Ocorrências candidatas do período em ordem crescente, sem aplicar {@code COUNT}/{@code UNTIL}.
+     */
+    private List<LocalDateTime> candidates(LocalDateTime start, long period) {
+        LocalDate first = start.toLocalDate();
+        LocalTime time = start.toLocalTime();
+        long units = period * interval;
+        switch (frequency) {
+            case DAILY -> {
+                LocalDate day = first.plusDays(units);
+                return byDay.isEmpty() || byDay.contains(day.getDayOfWeek()) ? List.of(day.atTime(time)) : List.of();
+            }
+            case WEEKLY -> {
+                if (byDay.isEmpty()) {
+                    return List.of(first.plusWeeks(units).atTime(time));
+                }
+                LocalDate weekStart = monday(first).plusWeeks(units);
+                List<LocalDateTime> result = new ArrayList<>(sortedDays.length);
+                for (DayOfWeek day : sortedDays) {
+                    LocalDateTime candidate = weekStart.plusDays(day.ordinal()).atTime(time);
+                    if (!candidate.isBefore(start)) {
+                        result.add(candidate);
+                    }
+                }
+                return result;
+            }
+            case MONTHLY -> {
+                YearMonth month = YearMonth.from(first).plusMonths(units);
+                return month.isValidDay(first.getDayOfMonth())
+                        ? List.of(month.atDay(first.getDayOfMonth()).atTime(time)) : List.of();
+            }
+            case YEARLY -> {
+                YearMonth month = YearMonth.of(first.getYear(), first.getMonth()).plusYears(units);
+                return month.isValidDay(first.getDayOfMonth())
+                        ? List.of(month.atDay(first.getDayOfMonth()).atTime(time)) : List.of();
+            }
+            default -> throw new IllegalStateException("Unexpected frequency: " + frequency);
+        }
+    }
+
+    /**
+     * Quantidade de ocorrências nos períodos {@code [0, period)}, usada para aplicar {@code COUNT}
+     * sem expandir a série desde o início.
+     */
+    private long countBefore(LocalDateTime start, long period) {
+        if (period <= 0) {
+            return 0;
+        }
+        LocalDate first = start.toLocalDate();
+        switch (frequency) {
+            case DAILY -> {
+                if (byDay.isEmpty()) {
+                    return period;
+                }
+                // O dia da semana repete a cada 7 períodos: conta ciclos completos e o resto
+                long cycles = period / 7;
+                long total = 0;
+                for (int i = 0; i < 7; i++) {
+                    if (byDay.contains(first.plusDays((long) i * interval).getDayOfWeek())) {
+                        total += cycles + (i < period % 7 ? 1 : 0);
+                    }
+                }
+                return total;
+            }
+            case WEEKLY -> {
+                if (byDay.isEmpty()) {
+                    return period;
+                }
+                return candidates(start, 0).size() + (period - 1) * sortedDays.length;
+            }
+            default -> {
+                if (first.getDayOfMonth() <= 28 || (frequency == Frequency.YEARLY && first.getMonth() != Month.FEBRUARY)) {
+                    return period;
+                }
+                // Dias 29-31 (e 29/02) não existem em todo período: conta os válidos, um teste por mês ou ano
+                long total = 0;
+                for (long p = 0; p < period; p++) {
+                    total += candidates(start, p).isEmpty() ? 0 : 1;
+                }
+                return total;
+            }
+        }
+    }
+
+    /**
+     * Quantidade de períodos seguidos sem ocorrência a partir da qual nenhum período seguinte terá ocorrência.
+     * O dia da semana se repete a cada 7 dias e o calendário gregoriano a cada 400 anos (4800 meses), então
+     * um ciclo inteiro vazio cobre todos os casos; em {@code WEEKLY} só o primeiro período pode ficar vazio.
+     */
+    private int emptyPeriodLimit() {
+        return switch (frequency) {
+            case DAILY -> 7;
+            case WEEKLY -> 2;
+            case MONTHLY -> 4800;
+            case YEARLY -> 400;
+        };
+    }
+
+    /**
+     * Último período que ainda contém ocorrências dentro do {@code COUNT} (busca binária sobre {@link #countBefore}),
+     * ou {@code -1} se a série não tiver ocorrência nenhuma.
+     */
+    private long lastPeriodByCount(LocalDateTime start) {
+        long low = 0;
+        long high = 1;
+        long found;
+        while ((found = countBefore(start, high)) < count) {
+            if (found == 0 && high >= emptyPeriodLimit()) {
+                return -1;
+            }
+            high *= 2;
+        }
+        // Invariante: countBefore(low) < count <= countBefore(high)
+        while (high - low > 1) {
+            long middle = (low + high) >>> 1;
+            if (countBefore(start, middle) < count) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static LocalDate monday(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private abstract class PeriodIterator implements Iterator<LocalDateTime> {
+        final LocalDateTime start;
+        final LocalDateTime from;
+        final LocalDateTime to;
+        long period;
+        List<LocalDateTime> buffer = List.of();
+        int index;
+        long ordinal;
+        LocalDateTime next;
+        boolean done;
+        int emptyPeriods;
+
+        PeriodIterator(LocalDateTime start, LocalDateTime from, LocalDateTime to) {
+            this.start = Objects.requireNonNull(start, "start");
+            this.from = from;
+            this.to = to;
+        }
+
+        boolean withinBounds(LocalDateTime candidate, long candidateOrdinal) {
+            return !candidate.isBefore(start)
+                    && (from == null || !candidate.isBefore(from))
+                    && (to == null || candidate.isBefore(to))
+                    && (until == null || !candidate.isAfter(until))
+                    && (count == null || candidateOrdinal < count);
+        }
+
+        /**
+         * Conta os períodos vazios seguidos ao carregar {@link #buffer}; depois de {@link #emptyPeriodLimit()}
+         * deles a série não tem mais ocorrências.
+         */
+        boolean exhausted() {
+            emptyPeriods = buffer.isEmpty() ? emptyPeriods + 1 : 0;
+            return emptyPeriods >= emptyPeriodLimit();
+        }
+
+        abstract LocalDateTime advance();
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = advance();
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime result = next;
+            next = null;
+            return result;
+        }
+    }
+
+    private final class AscendingIterator extends PeriodIterator {
+
+        AscendingIterator(LocalDateTime start, LocalDateTime from, LocalDateTime to) {
+            super(start, from, to);
+            // Salta direto para o período que contém o início da janela
+            period = from == null ? 0 : Math.max(0, periodOf(start, from));
+            loadPeriod();
+        }
+
+        private void loadPeriod() {
+            buffer = candidates(start, period);
+            index = 0;
+            ordinal = count == null ? 0 : countBefore(start, period);
+        }
+
+        @Override
+        LocalDateTime advance() {
+            while (true) {
+                while (index < buffer.size()) {
+                    LocalDateTime candidate = buffer.get(index++);
+                    long candidateOrdinal = ordinal++;
+                    if ((to != null && !candidate.isBefore(to))
+                            || (until != null && candidate.isAfter(until))
+                            || (count != null && candidateOrdinal >= count)) {
+                        return null;
+                    }
+                    if (withinBounds(candidate, candidateOrdinal)) {
+                        return candidate;
+                    }
+                }
+                period++;
+                LocalDateTime periodStart = periodStart(start, period);
+                if ((to != null && !periodStart.isBefore(to)) || (until != null && periodStart.isAfter(until))) {
+                    return null;
+                }
+                buffer = candidates(start, period);
+                index = 0;
+                if (exhausted()) {
+                    return null;
+                }
+            }
+        }
+    }
+
+    private final class DescendingIterator extends PeriodIterator {
+
+        DescendingIterator(LocalDateTime start, LocalDateTime from, LocalDateTime to) {
+            super(start, from, to);
+            LocalDateTime upper = to;
+            if (until != null && (upper == null || until.isBefore(upper))) {
+                upper = until;
+            }
+            period = upper == null ? Long.MAX_VALUE : periodOf(start, upper);
+            if (count != null) {
+                period = Math.min(period, lastPeriodByCount(start));
+            }
+            loadPeriod();
+        }
+
+        private void loadPeriod() {
+            if (period < 0) {
+                buffer = List.of();
+                return;
+            }
+            buffer = candidates(start, period);
+            index = buffer.size() - 1;
+            ordinal = (count == null ? 0 : countBefore(start, period)) + buffer.size() - 1;
+        }
+
+        @Override
+        LocalDateTime advance() {
+            while (period >= 0) {
+                while (index >= 0) {
+                    LocalDateTime candidate = buffer.get(index--);
+                    long candidateOrdinal = ordinal--;
+                    if (from != null && candidate.isBefore(from)) {
+                        return null;
+                    }
+                    if (withinBounds(candidate, candidateOrdinal)) {
+                        return candidate;
+                    }
+                }
+                period--;
+                if (period < 0 || (from != null && !periodStart(start, period + 1).isAfter(from))) {
+                    return null;
+                }
+                loadPeriod();
+                if (exhausted()) {
+                    return null;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Representação RRULE da regra, no mesmo formato aceito por {@link #parse(String)}.
+     */
+    @Override
+    public String toString() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            rule.append(";INTERVAL=").append(interval);
+        }
+        if (count != null) {
+            rule.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            rule.append(";UNTIL=").append(until.format(UNTIL_DATE_TIME));
+        }
+        if (sortedDays.length > 0) {
+            rule.append(";BYDAY=").append(Stream.of(sortedDays)
+                    .map(day -> DAY_CODES.get(day.ordinal()))
+                    .collect(Collectors.joining(",")));
+        }
+        return rule.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RecurrenceRule rule
+                && frequency == rule.frequency
+                && interval == rule.interval
+                && Objects.equals(count, rule.count)
+                && Objects.equals(until, rule.until)
+                && byDay.equals(rule.byDay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, interval, count, until, byDay);
+    }
+}
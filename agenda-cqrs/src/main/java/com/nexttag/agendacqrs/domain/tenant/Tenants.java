@@ -0,0 +1,42 @@
+package com.nexttag.agendacqrs.domain.tenant;
+
+import java.util.regex.Pattern;
+
+/**
+ * Identificação do dono (tenant) de cada agenda.
+ * <p>
+ * Cada usuário ou organização tem sua própria agenda, identificada pelo header {@value #HEADER}.
+ * Requisições sem o header usam a agenda {@value #DEFAULT}, o que mantém os clientes de antes
+ * do particionamento funcionando.
+ * </p>
+ */
+public final class Tenants {
+
+    public static final String HEADER = "X-Tenant-Id";
+
+    public static final String DEFAULT = "default";
+
+    private static final Pattern VALID = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_.-]{0,63}");
+
+    private Tenants() {
+    }
+
+    /**
+     * Resolve o tenant a partir do valor do header.
+     *
+     * @param header valor recebido, possivelmente null
+     * @return o tenant informado, ou {@value #DEFAULT} se ausente
+     * @throws IllegalArgumentException se o valor não for um identificador válido (até 64 caracteres
+     *                                  alfanuméricos, {@code _}, {@code .} ou {@code -})
+     */
+    public static String resolve(String header) {
+        if (header == null || header.isBlank()) {
+            return DEFAULT;
+        }
+        String tenant = header.strip();
+        if (!VALID.matcher(tenant).matches()) {
+            throw new IllegalArgumentException("Invalid tenant id: " + tenant);
+        }
+        return tenant;
+    }
+}
@@ -0,0 +1,154 @@
+package com.nexttag.agendacqrs.infrastructure.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de concorrência adaptativo no estilo TCP Vegas.
+ * <p>
+ * Em vez de um número fixo de requisições simultâneas, o limite acompanha a latência observada. A menor
+ * latência vista ({@code minRtt}) estima o tempo de serviço sem fila; a razão {@code minRtt / rtt} de cada
+ * amostra diz que fração do limite está sendo atendida e, por diferença, quantas requisições estão apenas
+ * esperando na fila do banco: {@code queue = limit * (1 - minRtt / rtt)}. Fila pequena (até {@code alpha})
+ * aumenta o limite, fila grande (a partir de {@code beta}) o reduz, e entre os dois ele fica onde está.
+ * {@code alpha}, {@code beta} e o passo crescem com {@code log10(limit)}, como no limitador Vegas do
+ * concurrency-limits da Netflix.
+ * </p>
+ *
+ * <p>
+ * O aumento é aditivo por "volta" (cada amostra soma {@code passo / limit}, então o limite sobe um passo a
+ * cada {@code limit} requisições concluídas), e só acontece quando o limite está sendo usado (pelo menos
+ * metade ocupada na entrada da requisição), para não inflar em períodos calmos. A redução é por amostra:
+ * quando o banco satura, o limite cai em poucas requisições, não em poucas voltas.
+ * </p>
+ *
+ * <p>
+ * O {@code minRtt} é o mínimo de duas janelas de {@value #PROBE_MULTIPLIER} × limite amostras (a atual e a
+ * anterior). Uma latência base que mudou de verdade (banco maior, cache frio) passa a valer depois de duas
+ * janelas, sem que um único pico reinicie a referência.
+ * </p>
+ *
+ * <p>
+ * {@link #tryAcquire()} nunca espera: acima do limite a requisição é recusada na hora, e quem chamou decide
+ * o que responder.
+ * </p>
+ */
+public final class AdaptiveLimiter {
+
+    static final int PROBE_MULTIPLIER = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+
+    // Protegidos por this
+    private long windowMinRttNanos;
+    private long previousWindowMinRttNanos;
+    private long samplesInWindow;
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+    }
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    /**
+     * Tenta ocupar uma vaga.
+     *
+     * @return a vaga, que deve ser devolvida com {@link Permit#release()}, ou null se o limite foi atingido
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(nanoClock.getAsLong(), current + 1);
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Menor latência observada desde o último reinício, em nanossegundos (0 antes da primeira amostra).
+     */
+    public synchronized long minRttNanos() {
+        if (previousWindowMinRttNanos == 0) {
+            return windowMinRttNanos;
+        }
+        return Math.min(windowMinRttNanos, previousWindowMinRttNanos);
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        double current = limit;
+        if (++samplesInWindow >= PROBE_MULTIPLIER * (long) current) {
+            samplesInWindow = 0;
+            previousWindowMinRttNanos = windowMinRttNanos;
+            windowMinRttNanos = 0;
+        }
+        if (windowMinRttNanos == 0 || rttNanos < windowMinRttNanos) {
+            windowMinRttNanos = rttNanos;
+        }
+        double log = Math.max(1, Math.log10(current));
+        double queue = Math.ceil(current * (1 - (double) minRttNanos() / rttNanos));
+        double next = current;
+        if (queue <= 3 * log) {
+            // Aumenta só se o limite atual estiver sendo usado
+            if (inflightAtStart * 2 >= current) {
+                next = current + log / current;
+            }
+        } else if (queue >= 6 * log) {
+            next = current - log;
+        }
+        limit = Math.min(maxLimit, Math.max(minLimit, next));
+    }
+
+    /**
+     * Vaga ocupada por uma requisição; devolver registra a latência da requisição.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inflightAtStart;
+        private boolean released;
+
+        private Permit(long startNanos, int inflightAtStart) {
+            this.startNanos = startNanos;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        /**
+         * Devolve a vaga. Chamadas repetidas são ignoradas.
+         */
+        public void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            inflight.decrementAndGet();
+            onSample(nanoClock.getAsLong() - startNanos, inflightAtStart);
+        }
+    }
+}
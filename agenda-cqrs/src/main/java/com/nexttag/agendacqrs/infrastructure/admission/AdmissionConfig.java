@@ -0,0 +1,31 @@
+package com.nexttag.agendacqrs.infrastructure.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class AdmissionConfig {
+
+    @Bean
+    public AdaptiveLimiter commandLimiter(@Value("${agenda.admission.initial-limit:20}") int initialLimit,
+                                          @Value("${agenda.admission.min-limit:2}") int minLimit,
+                                          @Value("${agenda.admission.max-limit:200}") int maxLimit) {
+        return new AdaptiveLimiter(initialLimit, minLimit, maxLimit);
+    }
+
+    // Só os comandos passam pelo limite; as consultas leem a memória e não disputam o banco
+    @Bean
+    public FilterRegistrationBean<CommandAdmissionFilter> commandAdmissionFilter(
+            AdaptiveLimiter commandLimiter, MeterRegistry meterRegistry,
+            @Value("${agenda.admission.retry-after:1s}") Duration retryAfter) {
+        FilterRegistrationBean<CommandAdmissionFilter> registration =
+                new FilterRegistrationBean<>(new CommandAdmissionFilter(commandLimiter, retryAfter, meterRegistry));
+        registration.addUrlPatterns("/commands/*");
+        return registration;
+    }
+}
@@ -0,0 +1,72 @@
+package com.nexttag.agendacqrs.infrastructure.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Controle de admissão na frente dos endpoints de comando.
+ * <p>
+ * Cada requisição ocupa uma vaga do {@link AdaptiveLimiter} enquanto o handler roda; sem vaga, responde
+ * {@code 429 Too Many Requests} com {@code Retry-After} imediatamente, sem tocar no banco. Assim, numa
+ * rajada de escritas, o excesso é recusado barato em vez de formar fila no H2, e a latência de quem é
+ * admitido (e das consultas, que dividem a mesma JVM e o mesmo pool) continua limitada.
+ * </p>
+ *
+ * <p>
+ * Métricas: {@code agenda.admission.limit} (limite atual), {@code agenda.admission.inflight},
+ * {@code agenda.admission.min-rtt} e o contador {@code agenda.admission.rejected}.
+ * </p>
+ */
+public class CommandAdmissionFilter extends OncePerRequestFilter {
+
+    private final AdaptiveLimiter limiter;
+    private final String retryAfterSeconds;
+    private final Counter rejected;
+
+    public CommandAdmissionFilter(AdaptiveLimiter limiter, Duration retryAfter, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        // Retry-After só aceita segundos inteiros
+        this.retryAfterSeconds = Long.toString(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+        this.rejected = Counter.builder("agenda.admission.rejected")
+                .description("Command requests rejected by the adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("agenda.admission.limit", limiter, AdaptiveLimiter::limit)
+                .description("Current adaptive concurrency limit for command requests")
+                .register(meterRegistry);
+        Gauge.builder("agenda.admission.inflight", limiter, AdaptiveLimiter::inflight)
+                .description("Command requests currently being processed")
+                .register(meterRegistry);
+        Gauge.builder("agenda.admission.min-rtt", limiter, l -> l.minRttNanos() / 1e6)
+                .description("Lowest observed command latency, used as the no-queue baseline")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        AdaptiveLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            rejected.increment();
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permit.release();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.nexttag.agendacqrs.infrastructure.event;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Lançada quando uma reconstrução do modelo de leitura é pedida com outra em andamento.
+ * Respondida como {@code 409 Conflict}.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ProjectionRebuildInProgressException extends RuntimeException {
+
+    public ProjectionRebuildInProgressException() {
+        super("A query model rebuild is already running");
+    }
+}
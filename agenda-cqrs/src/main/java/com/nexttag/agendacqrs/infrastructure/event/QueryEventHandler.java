@@ -1,14 +1,22 @@
 package com.nexttag.agendacqrs.infrastructure.event;
 
+import com.nexttag.agendacqrs.domain.event.DomainEvent;
 import com.nexttag.agendacqrs.domain.event.EventCreated;
 import com.nexttag.agendacqrs.domain.event.EventDeleted;
 import com.nexttag.agendacqrs.domain.event.EventUpdated;
-import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.infrastructure.projection.Projection;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStore;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
 import com.nexttag.agendacqrs.query.model.EventQuery;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -22,24 +30,142 @@ import java.util.UUID;
  * Os eventos tratados incluem criação, atualização e exclusão de eventos, garantindo que
  * o modelo de query permaneça sincronizado com as mudanças realizadas no modelo de comando.
  * </p>
+ * <p>
+ * Cada evento de domínio carrega o tenant dono da agenda; a mudança é aplicada apenas na
+ * partição desse tenant, obtida de {@link TenantQueryStores}.
+ * </p>
+ * <p>
+ * É a projeção {@code query} do {@link com.nexttag.agendacqrs.infrastructure.projection.ProjectionDispatcher},
+ * com {@link #readYourWrites()}: o comando só responde depois que a alteração chegou aqui, e a verificação
+ * de conflitos, que lê este modelo, enxerga as reservas recém-gravadas.
+ * </p>
+ * <p>
+ * Durante uma reconstrução ({@link QueryProjectionRebuilder}) os eventos continuam sendo aplicados às
+ * partições em uso e, para os tenants em reconstrução, também guardados; {@link #install} reaplica esses
+ * eventos na partição nova e a coloca no lugar da antiga sob o lock de escrita do tenant.
+ * </p>
  *
  * @author Sistema Agenda CQRS
  * @version 1.0
  * @since 1.0
  */
 @Component
-public class QueryEventHandler {
+public class QueryEventHandler implements Projection {
+
+    private final TenantQueryStores stores;
+
+    private final Object applyLock = new Object();
+    // Protegido por applyLock: eventos aplicados desde o início da reconstrução, por tenant em reconstrução
+    private Map<String, List<DomainEvent>> buffered;
+
+    /**
+     * Construtor para injeção de dependência das projeções de leitura.
+     *
+     * @param stores as partições do modelo de leitura (repositório de consultas e índice de títulos) por tenant
+     */
+    public QueryEventHandler(TenantQueryStores stores) {
+        this.stores = stores;
+    }
+
+    @Override
+    public String name() {
+        return "query";
+    }
+
+    @Override
+    public boolean readYourWrites() {
+        return true;
+    }
+
+    /**
+     * Aplica o evento na partição do tenant. Se falhar, a partição é marcada como
+     * {@link TenantQueryStore#isStale() desatualizada}: o evento não volta a ser entregue, e a próxima escrita
+     * do tenant recarrega a partição em vez de verificar conflitos num modelo sem ele.
+     */
+    @Override
+    public void apply(DomainEvent event) {
+        synchronized (applyLock) {
+            TenantQueryStore store = stores.get(event.tenantId());
+            try {
+                applyTo(store, event);
+            } catch (RuntimeException e) {
+                store.markStale();
+                throw e;
+            }
+            if (buffered != null) {
+                List<DomainEvent> events = buffered.get(event.tenantId());
+                if (events != null) {
+                    events.add(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Passa a guardar os eventos aplicados aos tenants informados, até {@link #install} ou {@link #stopBuffering}.
+     */
+    void startBuffering(Set<String> tenantIds) {
+        synchronized (applyLock) {
+            buffered = new HashMap<>();
+            tenantIds.forEach(tenantId -> buffered.put(tenantId, new ArrayList<>()));
+        }
+    }
 
-    private final QueryRepository queryRepository;
+    /**
+     * Descarta os eventos guardados e para de guardar.
+     */
+    void stopBuffering() {
+        synchronized (applyLock) {
+            buffered = null;
+        }
+    }
 
     /**
-     * Construtor para injeção de dependência do repositório de queries.
+     * Reaplica na partição nova os eventos guardados do tenant e a coloca no lugar da atual.
+     * <p>
+     * Roda sob o lock de escrita da partição atual, então nenhuma verificação de conflitos do tenant está no
+     * meio do caminho, e sob o lock das aplicações, então nenhum evento cai entre a reaplicação e a troca.
+     * Se o tenant foi descartado por ociosidade no meio da reconstrução, a partição nova é descartada também:
+     * o próximo acesso carrega o tenant do zero.
+     * </p>
      *
-     * @param queryRepository o repositório responsável por gerenciar os dados de consulta
-     * @throws IllegalArgumentException se o repositório for nulo
+     * @param fresh partição montada a partir de {@code command_events}
+     * @return quantidade de eventos reaplicados
      */
-    public QueryEventHandler(QueryRepository queryRepository) {
-        this.queryRepository = queryRepository;
+    int install(TenantQueryStore fresh) {
+        String tenantId = fresh.tenantId();
+        while (true) {
+            TenantQueryStore current = stores.getIfLoaded(tenantId);
+            if (current == null) {
+                synchronized (applyLock) {
+                    buffered.remove(tenantId);
+                }
+                return 0;
+            }
+            current.writeLock().lock();
+            try {
+                // Descartada enquanto esperávamos o lock: tenta de novo com a que estiver em memória
+                if (current.isEvicted()) {
+                    continue;
+                }
+                synchronized (applyLock) {
+                    List<DomainEvent> events = buffered.remove(tenantId);
+                    events.forEach(event -> applyTo(fresh, event));
+                    stores.replace(current, fresh);
+                    return events.size();
+                }
+            } finally {
+                current.writeLock().unlock();
+            }
+        }
+    }
+
+    private void applyTo(TenantQueryStore store, DomainEvent event) {
+        switch (event) {
+            case EventCreated created -> onEventCreated(store, created);
+            case EventUpdated updated -> onEventUpdated(store, updated);
+            case EventDeleted deleted -> onEventDeleted(store, deleted);
+        }
     }
 
     /**
@@ -49,12 +175,15 @@ public class QueryEventHandler {
      * a representação correspondente no repositório de consultas.
      * </p>
      *
+     * @param store partição do tenant do evento
      * @param event o evento de criação contendo os dados do novo evento
      * @see EventCreated
      */
-    @EventListener
-    public void onEventCreated(EventCreated event) {
-        queryRepository.add(toEventQuery(event.id(), event.title(), event.description(), event.date()));
+    private void onEventCreated(TenantQueryStore store, EventCreated event) {
+        EventQuery query = toEventQuery(event.id(), event.title(), event.description(), event.date(), event.end(),
+                event.recurrence());
+        store.events().add(query);
+        store.titles().add(query);
     }
 
     /**
@@ -64,12 +193,17 @@ public class QueryEventHandler {
      * a representação correspondente no repositório de consultas.
      * </p>
      *
+     * @param store partição do tenant do evento
      * @param event o evento de atualização contendo os novos dados do evento
      * @see EventUpdated
      */
-    @EventListener
-    public void onEventUpdated(EventUpdated event) {
-        queryRepository.update(toEventQuery(event.id(), event.title(), event.description(), event.date()));
+    private void onEventUpdated(TenantQueryStore store, EventUpdated event) {
+        EventQuery query = toEventQuery(event.id(), event.title(), event.description(), event.date(), event.end(),
+                event.recurrence());
+        // A versão anterior é necessária para tirar o título/data antigos do índice de sugestões
+        EventQuery previous = store.events().findById(event.id()).orElse(null);
+        store.events().update(query);
+        store.titles().replace(previous, query);
     }
 
     /**
@@ -79,12 +213,13 @@ public class QueryEventHandler {
      * a representação correspondente do repositório de consultas.
      * </p>
      *
+     * @param store partição do tenant do evento
      * @param event o evento de exclusão contendo o ID do evento a ser removido
      * @see EventDeleted
      */
-    @EventListener
-    public void onEventDeleted(EventDeleted event) {
-        queryRepository.remove(event.id());
+    private void onEventDeleted(TenantQueryStore store, EventDeleted event) {
+        store.events().findById(event.id()).ifPresent(store.titles()::remove);
+        store.events().remove(event.id());
     }
 
     /**
@@ -97,11 +232,14 @@ public class QueryEventHandler {
      * @param id o identificador único do evento
      * @param title o título do evento
      * @param description a descrição do evento
-     * @param date a data e hora do evento
+     * @param date a data e hora do evento (primeira ocorrência, se for uma série)
+     * @param end o fim (exclusivo) do evento, ou null se não tiver duração
+     * @param recurrence a regra de recorrência, ou null para eventos avulsos
      * @return uma nova instância de EventQuery com os dados fornecidos
      * @see EventQuery
      */
-    private EventQuery toEventQuery(UUID id, String title, String description, LocalDateTime date) {
-        return new EventQuery(id, title, description, date);
+    private EventQuery toEventQuery(UUID id, String title, String description, LocalDateTime date,
+                                    LocalDateTime end, RecurrenceRule recurrence) {
+        return new EventQuery(id, title, description, date, end, recurrence);
     }
 }
\ No newline at end of file
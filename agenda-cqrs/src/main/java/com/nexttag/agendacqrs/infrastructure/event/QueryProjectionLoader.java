@@ -0,0 +1,65 @@
+package com.nexttag.agendacqrs.infrastructure.event;
+
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.infrastructure.repository.CommandEntity;
+import com.nexttag.agendacqrs.infrastructure.repository.CommandJpaRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStore;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carrega o modelo de leitura de um tenant a partir da tabela de comandos.
+ * <p>
+ * O repositório de consultas vive apenas em memória e é particionado por tenant. Cada partição
+ * começa vazia e é preenchida aqui no primeiro acesso do tenant (e de novo depois de descartada por
+ * ociosidade), lendo só as linhas daquele tenant pelo índice {@code (tenant_id, date)}. Com um banco
+ * durável (perfil {@code prod}) isso também traz de volta os eventos gravados em execuções anteriores.
+ * </p>
+ *
+ * @author Sistema Agenda CQRS
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class QueryProjectionLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryProjectionLoader.class);
+
+    private final CommandJpaRepository commandJpaRepository;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param commandJpaRepository repositório JPA do lado de comando (fonte da verdade)
+     */
+    public QueryProjectionLoader(CommandJpaRepository commandJpaRepository) {
+        this.commandJpaRepository = commandJpaRepository;
+    }
+
+    /**
+     * Copia os eventos persistidos do tenant para o repositório de consultas e o índice de títulos da partição.
+     *
+     * @param store partição do tenant a ser preenchida
+     */
+    public void load(TenantQueryStore store) {
+        commandJpaRepository.findByTenantId(store.tenantId()).forEach(entity -> {
+            EventQuery query = toEventQuery(entity);
+            store.events().add(query);
+            store.titles().add(query);
+        });
+        log.debug("Loaded {} events of tenant '{}' into the query model", store.events().count(), store.tenantId());
+    }
+
+    /**
+     * Converte uma linha de {@code command_events} no modelo de leitura.
+     *
+     * @param entity entidade do lado de comando
+     * @return o evento correspondente no modelo de leitura
+     */
+    public static EventQuery toEventQuery(CommandEntity entity) {
+        return new EventQuery(entity.getId(), entity.getTitle(), entity.getDescription(), entity.getDate(),
+                entity.getEnd(), RecurrenceRule.parse(entity.getRecurrence()));
+    }
+}
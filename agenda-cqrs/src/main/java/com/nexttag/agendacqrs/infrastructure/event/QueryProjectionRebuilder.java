@@ -0,0 +1,216 @@
+package com.nexttag.agendacqrs.infrastructure.event;
+
+import com.nexttag.agendacqrs.infrastructure.repository.CommandEntity;
+import com.nexttag.agendacqrs.infrastructure.repository.CommandJpaRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStore;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reconstrói o modelo de leitura a partir de {@code command_events} sem parar a aplicação.
+ * <p>
+ * Os tenants em memória são relidos em paralelo: o intervalo de ids entre o menor e o maior id é dividido
+ * em {@code parallelism × }{@value #CHUNKS_PER_THREAD} trechos contíguos, cada um lido pela chave primária
+ * por uma thread de um pool de {@code parallelism} threads (padrão: o número de núcleos) e carregado em
+ * partições novas, fora do mapa em uso. Os trechos são calculados sobre o valor de 128 bits dos ids, e não
+ * sobre os bits altos: ids UUID v7 começam pelo timestamp e ficariam todos no mesmo trecho.
+ * </p>
+ *
+ * <p>
+ * Enquanto isso as consultas continuam sendo servidas pelas partições antigas, que seguem recebendo os
+ * eventos ao vivo. O {@link QueryEventHandler} guarda esses eventos desde antes da leitura; no fim, cada
+ * tenant recebe os eventos guardados na partição nova e a troca acontece de uma vez, sob o lock de escrita
+ * do tenant. Reaplicar é seguro porque a projeção grava pelo id: um evento que a leitura já enxergou
+ * apenas regrava o mesmo valor, na mesma ordem em que foi confirmado.
+ * </p>
+ *
+ * <p>
+ * Tenants que não estão em memória não são relidos: eles já são carregados do zero no próximo acesso.
+ * </p>
+ */
+@Component
+public class QueryProjectionRebuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryProjectionRebuilder.class);
+
+    static final int CHUNKS_PER_THREAD = 4;
+
+    private final CommandJpaRepository commandJpaRepository;
+    private final TenantQueryStores stores;
+    private final QueryEventHandler queryEventHandler;
+    private final int parallelism;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param commandJpaRepository tabela de comandos (fonte da verdade)
+     * @param stores               partições em uso do modelo de leitura
+     * @param queryEventHandler    projeção que guarda os eventos ao vivo e faz a troca
+     * @param parallelism          threads de leitura; 0 usa o número de núcleos
+     */
+    public QueryProjectionRebuilder(CommandJpaRepository commandJpaRepository, TenantQueryStores stores,
+                                    QueryEventHandler queryEventHandler,
+                                    @Value("${agenda.rebuild.parallelism:0}") int parallelism) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Parallelism cannot be negative");
+        }
+        this.commandJpaRepository = commandJpaRepository;
+        this.stores = stores;
+        this.queryEventHandler = queryEventHandler;
+        this.parallelism = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+
+    /**
+     * Reconstrói as partições dos tenants em memória e as troca pelas atuais.
+     *
+     * @return resumo da reconstrução
+     * @throws ProjectionRebuildInProgressException se outra reconstrução estiver em andamento
+     */
+    public Report rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ProjectionRebuildInProgressException();
+        }
+        long started = System.nanoTime();
+        Set<String> tenants = stores.loadedTenants();
+        // Antes da leitura: todo evento que a leitura possa não ter enxergado fica guardado
+        queryEventHandler.startBuffering(tenants);
+        try {
+            Map<String, TenantQueryStore> fresh = new ConcurrentHashMap<>();
+            tenants.forEach(tenantId -> fresh.put(tenantId, new TenantQueryStore(tenantId)));
+            List<IdRange> ranges = ranges(tenants);
+            long events = load(tenants, ranges, fresh);
+
+            int replayed = 0;
+            for (TenantQueryStore store : fresh.values()) {
+                replayed += queryEventHandler.install(store);
+            }
+            Report report = new Report(tenants.size(), ranges.size(), events, replayed,
+                    Duration.ofNanos(System.nanoTime() - started));
+            log.info("Rebuilt query model of {} tenants from {} events in {} chunks ({} live events replayed) in {} ms",
+                    report.tenants(), report.events(), report.chunks(), report.replayed(), report.elapsed().toMillis());
+            return report;
+        } finally {
+            queryEventHandler.stopBuffering();
+            running.set(false);
+        }
+    }
+
+    private List<IdRange> ranges(Set<String> tenants) {
+        if (tenants.isEmpty()) {
+            return List.of();
+        }
+        UUID min = commandJpaRepository.findMinId(tenants);
+        UUID max = commandJpaRepository.findMaxId(tenants);
+        if (min == null) {
+            return List.of();
+        }
+        return split(min, max, parallelism * CHUNKS_PER_THREAD);
+    }
+
+    private long load(Set<String> tenants, List<IdRange> ranges, Map<String, TenantQueryStore> fresh) {
+        try (ExecutorService pool = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("projection-rebuild-", 0).daemon().factory())) {
+            List<Future<Integer>> chunks = new ArrayList<>(ranges.size());
+            for (IdRange range : ranges) {
+                chunks.add(pool.submit(() -> loadChunk(tenants, range, fresh)));
+            }
+            long events = 0;
+            for (Future<Integer> chunk : chunks) {
+                events += chunk.get();
+            }
+            return events;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to rebuild the query model", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding the query model", e);
+        }
+    }
+
+    private int loadChunk(Set<String> tenants, IdRange range, Map<String, TenantQueryStore> fresh) {
+        List<CommandEntity> entities = range.closed()
+                ? commandJpaRepository.findIdRangeClosed(tenants, range.from(), range.to())
+                : commandJpaRepository.findIdRange(tenants, range.from(), range.to());
+        for (CommandEntity entity : entities) {
+            EventQuery query = QueryProjectionLoader.toEventQuery(entity);
+            TenantQueryStore store = fresh.get(entity.getTenantId());
+            store.events().add(query);
+            store.titles().add(query);
+        }
+        return entities.size();
+    }
+
+    /**
+     * Divide {@code [min, max]} em até {@code chunks} trechos contíguos de tamanho parecido, comparando os
+     * ids como inteiros de 128 bits sem sinal (a ordem do H2 para colunas {@code uuid}). O último trecho
+     * é fechado, para incluir {@code max}.
+     */
+    static List<IdRange> split(UUID min, UUID max, int chunks) {
+        BigInteger low = unsigned(min);
+        BigInteger span = unsigned(max).subtract(low);
+        List<UUID> bounds = new ArrayList<>(chunks + 1);
+        for (int i = 0; i <= chunks; i++) {
+            UUID bound = uuid(low.add(span.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(chunks))));
+            if (bounds.isEmpty() || !bounds.getLast().equals(bound)) {
+                bounds.add(bound);
+            }
+        }
+        if (bounds.size() == 1) {
+            return List.of(new IdRange(min, max, true));
+        }
+        List<IdRange> ranges = new ArrayList<>(bounds.size() - 1);
+        for (int i = 0; i < bounds.size() - 1; i++) {
+            ranges.add(new IdRange(bounds.get(i), bounds.get(i + 1), i == bounds.size() - 2));
+        }
+        return ranges;
+    }
+
+    private static BigInteger unsigned(UUID id) {
+        return new BigInteger(1, ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array());
+    }
+
+    private static UUID uuid(BigInteger value) {
+        return new UUID(value.shiftRight(Long.SIZE).longValue(), value.longValue());
+    }
+
+    /**
+     * Trecho de ids {@code [from, to)}, ou {@code [from, to]} se {@code closed}.
+     */
+    record IdRange(UUID from, UUID to, boolean closed) {
+    }
+
+    /**
+     * Resumo de uma reconstrução.
+     *
+     * @param tenants  tenants reconstruídos
+     * @param chunks   trechos de ids lidos
+     * @param events   eventos lidos de {@code command_events}
+     * @param replayed eventos ao vivo reaplicados nas partições novas
+     * @param elapsed  duração total
+     */
+    public record Report(int tenants, int chunks, long events, int replayed, Duration elapsed) {
+    }
+}
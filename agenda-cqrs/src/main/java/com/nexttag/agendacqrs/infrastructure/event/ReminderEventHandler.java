@@ -0,0 +1,132 @@
+package com.nexttag.agendacqrs.infrastructure.event;
+
+import com.nexttag.agendacqrs.domain.event.DomainEvent;
+import com.nexttag.agendacqrs.domain.event.EventCreated;
+import com.nexttag.agendacqrs.domain.event.EventDeleted;
+import com.nexttag.agendacqrs.domain.event.EventUpdated;
+import com.nexttag.agendacqrs.infrastructure.projection.Projection;
+import com.nexttag.agendacqrs.infrastructure.reminder.ReminderScheduler;
+import com.nexttag.agendacqrs.infrastructure.repository.CommandEntity;
+import com.nexttag.agendacqrs.infrastructure.repository.CommandJpaRepository;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Mantém os lembretes sincronizados com os eventos de domínio.
+ * <p>
+ * Assim como o {@link QueryEventHandler}, consome {@link EventCreated}, {@link EventUpdated} e
+ * {@link EventDeleted}: criar agenda o lembrete, alterar reagenda (o timer anterior é cancelado) e
+ * excluir cancela. Os lembretes vivem só em memória; na subida a agenda é reconstruída a partir da
+ * tabela de comandos, de todos os tenants (a projeção de leitura só é carregada por tenant, sob demanda,
+ * e não serve de fonte aqui).
+ * </p>
+ * <p>
+ * A reconstrução roda como fase do ciclo de vida antes do {@code ProjectionDispatcher} e do relay do
+ * outbox, então nenhum evento de domínio é aplicado enquanto a tabela é lida. Escritas confirmadas nesse
+ * meio-tempo ficam pendentes no outbox e são entregues depois, na ordem, por cima do que foi lido.
+ * </p>
+ * <p>
+ * É a projeção {@code reminders}: roda na própria thread, sem que o comando espere por ela.
+ * </p>
+ *
+ * @see ReminderScheduler
+ */
+@Component
+public class ReminderEventHandler implements Projection, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderEventHandler.class);
+
+    static final int RECOVERY_PAGE_SIZE = 1000;
+
+    private final ReminderScheduler scheduler;
+    private final CommandJpaRepository commandJpaRepository;
+    private volatile boolean running;
+
+    /**
+     * Construtor para injeção de dependências.
+     *
+     * @param scheduler            agenda de lembretes
+     * @param commandJpaRepository tabela de comandos, usada para reconstruir a agenda na subida
+     */
+    public ReminderEventHandler(ReminderScheduler scheduler, CommandJpaRepository commandJpaRepository) {
+        this.scheduler = scheduler;
+        this.commandJpaRepository = commandJpaRepository;
+    }
+
+    @Override
+    public String name() {
+        return "reminders";
+    }
+
+    @Override
+    public void apply(DomainEvent event) {
+        switch (event) {
+            case EventCreated created -> onEventCreated(created);
+            case EventUpdated updated -> onEventUpdated(updated);
+            case EventDeleted deleted -> onEventDeleted(deleted);
+        }
+    }
+
+    private void onEventCreated(EventCreated event) {
+        scheduler.schedule(event.tenantId(), new EventQuery(event.id(), event.title(), event.description(), event.date(), event.end(),
+                event.recurrence()));
+    }
+
+    private void onEventUpdated(EventUpdated event) {
+        scheduler.schedule(event.tenantId(), new EventQuery(event.id(), event.title(), event.description(), event.date(), event.end(),
+                event.recurrence()));
+    }
+
+    private void onEventDeleted(EventDeleted event) {
+        scheduler.cancel(event.id());
+    }
+
+    /**
+     * Reconstrói a agenda a partir da tabela de comandos, em páginas de {@value #RECOVERY_PAGE_SIZE} eventos
+     * pela chave primária, sem carregar a tabela inteira.
+     */
+    public void recover() {
+        List<CommandEntity> page = commandJpaRepository.findByOrderByIdAsc(Limit.of(RECOVERY_PAGE_SIZE));
+        while (!page.isEmpty()) {
+            for (CommandEntity entity : page) {
+                scheduler.schedule(entity.getTenantId(), QueryProjectionLoader.toEventQuery(entity));
+            }
+            if (page.size() < RECOVERY_PAGE_SIZE) {
+                break;
+            }
+            page = commandJpaRepository.findByIdGreaterThanOrderByIdAsc(page.get(page.size() - 1).getId(),
+                    Limit.of(RECOVERY_PAGE_SIZE));
+        }
+        log.info("Scheduled {} reminders from the command store", scheduler.size());
+    }
+
+    @Override
+    public void start() {
+        recover();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Sobe antes do {@code ProjectionDispatcher} ({@code DEFAULT_PHASE - 1}) e, portanto, antes do relay.
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 2;
+    }
+}
@@ -0,0 +1,80 @@
+package com.nexttag.agendacqrs.infrastructure.outbox;
+
+import com.nexttag.agendacqrs.domain.event.DomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Publicação de eventos de domínio pelo padrão transactional outbox.
+ * <p>
+ * {@link #writeAndPublish} executa a gravação em {@code command_events} e insere o evento em
+ * {@code outbox_events} na mesma transação: ou as duas linhas existem, ou nenhuma. Uma queda depois do
+ * commit não perde o evento, pois o {@link OutboxRelay} o encontra pendente e o entrega na próxima passada.
+ * </p>
+ *
+ * <p>
+ * Depois do commit, quem escreveu espera a entrega (até {@code awaitTimeout}), que inclui a aplicação nas
+ * projeções com {@code readYourWrites}. Assim, quando o comando responde, o modelo de leitura do tenant já
+ * tem a alteração, e a verificação de conflitos, que roda sob o lock do tenant, continua vendo as próprias
+ * escritas. Se o relay demorar mais que o timeout, {@link #writeAndPublish} devolve {@code false}: o evento
+ * já está gravado e será entregue, mas ainda não está visível, e quem chamou decide o que fazer com isso.
+ * </p>
+ */
+public class EventOutbox {
+
+    private static final Logger log = LoggerFactory.getLogger(EventOutbox.class);
+
+    private final TransactionTemplate transactions;
+    private final OutboxJpaRepository repository;
+    private final OutboxCodec codec;
+    private final OutboxRelay relay;
+    private final Clock clock;
+    private final Duration awaitTimeout;
+
+    EventOutbox(TransactionTemplate transactions, OutboxJpaRepository repository, OutboxCodec codec,
+                OutboxRelay relay, Clock clock, Duration awaitTimeout) {
+        this.transactions = transactions;
+        this.repository = repository;
+        this.codec = codec;
+        this.relay = relay;
+        this.clock = clock;
+        this.awaitTimeout = awaitTimeout;
+    }
+
+    /**
+     * Executa a gravação e registra o evento no outbox em uma única transação, e espera a entrega.
+     *
+     * @param write gravação no lado de comando
+     * @param event evento de domínio
+     * @return true se o evento já foi aplicado nas projeções {@code readYourWrites}; false se o timeout
+     * estourou antes (o evento continua gravado e será entregue)
+     */
+    public boolean writeAndPublish(Runnable write, DomainEvent event) {
+        OutboxEntity entry = codec.encode(event, LocalDateTime.now(clock));
+        transactions.executeWithoutResult(status -> {
+            write.run();
+            repository.save(entry);
+        });
+        if (!relay.awaitDelivery(awaitTimeout)) {
+            log.warn("Outbox event {} not applied to read-your-writes projections within {}", entry.getSeq(),
+                    awaitTimeout);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Espera, até {@code awaitTimeout}, que as projeções {@code readYourWrites} apliquem tudo o que já foi
+     * confirmado no outbox.
+     *
+     * @return true se alcançaram dentro do timeout
+     */
+    public boolean awaitVisible() {
+        return relay.awaitDelivery(awaitTimeout);
+    }
+}
@@ -0,0 +1,78 @@
+package com.nexttag.agendacqrs.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexttag.agendacqrs.domain.event.DomainEvent;
+import com.nexttag.agendacqrs.domain.event.EventCreated;
+import com.nexttag.agendacqrs.domain.event.EventDeleted;
+import com.nexttag.agendacqrs.domain.event.EventUpdated;
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+
+import java.time.LocalDateTime;
+
+/**
+ * Converte eventos de domínio em linhas do outbox e de volta.
+ * <p>
+ * Tenant, tipo e id ficam em colunas próprias; o restante vai em um JSON pequeno, com a recorrência no
+ * formato RRULE, como em {@code command_events}.
+ * </p>
+ */
+final class OutboxCodec {
+
+    private final ObjectMapper objectMapper;
+
+    OutboxCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    OutboxEntity encode(DomainEvent event, LocalDateTime now) {
+        return switch (event) {
+            case EventCreated e -> new OutboxEntity(e.tenantId(), EventCreated.class.getSimpleName(), e.id(),
+                    write(new Payload(e.title(), e.description(), e.date(), e.end(), format(e.recurrence()))), now);
+            case EventUpdated e -> new OutboxEntity(e.tenantId(), EventUpdated.class.getSimpleName(), e.id(),
+                    write(new Payload(e.title(), e.description(), e.date(), e.end(), format(e.recurrence()))), now);
+            case EventDeleted e -> new OutboxEntity(e.tenantId(), EventDeleted.class.getSimpleName(), e.id(), null,
+                    now);
+        };
+    }
+
+    DomainEvent decode(OutboxEntity entity) {
+        if (EventDeleted.class.getSimpleName().equals(entity.getEventType())) {
+            return new EventDeleted(entity.getTenantId(), entity.getEventId());
+        }
+        Payload p = read(entity.getPayload());
+        RecurrenceRule recurrence = RecurrenceRule.parse(p.recurrence());
+        if (EventCreated.class.getSimpleName().equals(entity.getEventType())) {
+            return new EventCreated(entity.getTenantId(), entity.getEventId(), p.title(), p.description(), p.date(),
+                    p.end(), recurrence);
+        }
+        if (EventUpdated.class.getSimpleName().equals(entity.getEventType())) {
+            return new EventUpdated(entity.getTenantId(), entity.getEventId(), p.title(), p.description(), p.date(),
+                    p.end(), recurrence);
+        }
+        throw new IllegalStateException("Unknown outbox event type: " + entity.getEventType());
+    }
+
+    private String write(Payload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload", e);
+        }
+    }
+
+    private Payload read(String json) {
+        try {
+            return objectMapper.readValue(json, Payload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read outbox payload", e);
+        }
+    }
+
+    private static String format(RecurrenceRule recurrence) {
+        return recurrence == null ? null : recurrence.toString();
+    }
+
+    record Payload(String title, String description, LocalDateTime date, LocalDateTime end, String recurrence) {
+    }
+}
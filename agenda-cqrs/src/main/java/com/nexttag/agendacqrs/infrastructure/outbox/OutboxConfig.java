@@ -0,0 +1,36 @@
+package com.nexttag.agendacqrs.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexttag.agendacqrs.infrastructure.projection.ProjectionDispatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class OutboxConfig {
+
+    // O relay é um SmartLifecycle: começa depois das threads das projeções e para antes delas
+    @Bean
+    public OutboxRelay outboxRelay(OutboxJpaRepository repository, ObjectMapper objectMapper,
+                                   ProjectionDispatcher projectionDispatcher,
+                                   @Value("${agenda.outbox.batch-size:500}") int batchSize,
+                                   @Value("${agenda.outbox.poll-interval:1s}") Duration pollInterval,
+                                   @Value("${agenda.outbox.retention:1d}") Duration retention,
+                                   @Value("${agenda.outbox.await-timeout:5s}") Duration awaitTimeout) {
+        return new OutboxRelay(repository, new OutboxCodec(objectMapper), projectionDispatcher, Clock.systemDefaultZone(),
+                batchSize, pollInterval, retention, awaitTimeout);
+    }
+
+    @Bean
+    public EventOutbox eventOutbox(PlatformTransactionManager transactionManager, OutboxJpaRepository repository,
+                                   ObjectMapper objectMapper, OutboxRelay outboxRelay,
+                                   @Value("${agenda.outbox.await-timeout:5s}") Duration awaitTimeout) {
+        return new EventOutbox(new TransactionTemplate(transactionManager), repository,
+                new OutboxCodec(objectMapper), outboxRelay, Clock.systemDefaultZone(), awaitTimeout);
+    }
+}
@@ -0,0 +1,91 @@
+package com.nexttag.agendacqrs.infrastructure.outbox;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Linha da tabela {@code outbox_events}: um evento de domínio gravado na mesma transação da alteração
+ * em {@code command_events}, à espera de ser entregue pelo {@link OutboxRelay}.
+ * <p>
+ * {@code seq} é gerado pelo banco e dá a ordem de entrega; {@code processedAt} fica nulo até a entrega.
+ * </p>
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(name = "tenant_id", nullable = false, length = 64)
+    private String tenantId;
+
+    /**
+     * Tipo do evento de domínio (nome simples da classe, ex.: {@code EventCreated}).
+     */
+    @Column(name = "event_type", nullable = false, length = 32)
+    private String eventType;
+
+    /**
+     * Id do evento da agenda a que o evento de domínio se refere.
+     */
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    /**
+     * Dados do evento em JSON; nulo para exclusões.
+     */
+    @Column(length = 2048)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    /**
+     * Construtor padrão exigido pelo JPA.
+     */
+    public OutboxEntity() {
+    }
+
+    public OutboxEntity(String tenantId, String eventType, UUID eventId, String payload, LocalDateTime createdAt) {
+        this.tenantId = tenantId;
+        this.eventType = eventType;
+        this.eventId = eventId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+}
@@ -0,0 +1,46 @@
+package com.nexttag.agendacqrs.infrastructure.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Acesso à tabela {@code outbox_events}. As leituras e atualizações do relay usam o índice
+ * {@code (processed_at, seq)}: pendentes são as linhas com {@code processed_at} nulo, em ordem de {@code seq}.
+ */
+@Repository
+public interface OutboxJpaRepository extends JpaRepository<OutboxEntity, Long> {
+
+    /**
+     * Próximas linhas pendentes, em ordem de sequência.
+     */
+    @Query("select o from OutboxEntity o where o.processedAt is null order by o.seq")
+    List<OutboxEntity> findPending(Limit limit);
+
+    /**
+     * Marca um lote inteiro como entregue em um único UPDATE.
+     *
+     * @return quantidade de linhas marcadas
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEntity o set o.processedAt = :processedAt where o.seq in :seqs")
+    int markProcessed(@Param("seqs") List<Long> seqs, @Param("processedAt") LocalDateTime processedAt);
+
+    /**
+     * Apaga as linhas entregues antes do instante informado.
+     *
+     * @return quantidade de linhas apagadas
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEntity o where o.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
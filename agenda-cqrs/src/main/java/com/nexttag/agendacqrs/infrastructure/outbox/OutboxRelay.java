@@ -0,0 +1,247 @@
+package com.nexttag.agendacqrs.infrastructure.outbox;
+
+import com.nexttag.agendacqrs.infrastructure.projection.ProjectionDispatcher;
+import com.nexttag.agendacqrs.infrastructure.projection.SequencedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entrega os eventos do outbox às projeções (modelo de leitura, lembretes) em lotes.
+ * <p>
+ * Uma única thread lê até {@code batchSize} linhas pendentes em ordem de {@code seq}, entrega o lote ao
+ * {@link ProjectionDispatcher}, que o enfileira em cada projeção, e marca o lote inteiro como entregue com
+ * um único UPDATE. Ao fim da passada, espera até {@code readYourWritesTimeout} que as projeções com
+ * {@code readYourWrites} apliquem o que foi enfileirado; se o prazo estoura, segue para a próxima passada
+ * e a passada não conta como entregue para quem a esperava em {@link #awaitDelivery}. O custo
+ * fixo por ida ao banco (consulta, transação, UPDATE) é dividido pelo lote: com muitas escritas
+ * concorrentes, cada passada entrega tudo o que foi confirmado desde a anterior.
+ * </p>
+ *
+ * <p>
+ * A thread acorda quando uma escrita é confirmada ({@link #awaitDelivery}) ou a cada {@code pollInterval},
+ * o que cobre linhas que ficaram pendentes de uma execução anterior que caiu entre a gravação e a entrega.
+ * A entrega é pelo menos uma vez: se a aplicação cair depois de entregar e antes do UPDATE, o lote é
+ * reentregue na subida, e as projeções tratam eventos repetidos (gravam pelo id). Se uma linha não puder
+ * ser lida, o lote para nela e ela é tentada de novo na próxima passada, sem furar a ordem.
+ * </p>
+ *
+ * <p>
+ * Linhas entregues há mais de {@code retention} são apagadas, no máximo uma vez por minuto.
+ * </p>
+ *
+ * <p>
+ * Como {@link SmartLifecycle}, o relay para no fechamento do contexto, antes de os beans (o
+ * {@code DataSource} inclusive) serem destruídos. {@link #stop()} não deixa começar outro lote nem outra
+ * passada e espera a thread terminar a passada em andamento, para que nenhuma consulta chegue a um banco
+ * já fechado.
+ * </p>
+ */
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    /**
+     * Folga, além do {@code readYourWritesTimeout}, para a passada em andamento terminar na parada.
+     */
+    private static final Duration STOP_GRACE = Duration.ofSeconds(5);
+
+    private final OutboxJpaRepository repository;
+    private final OutboxCodec codec;
+    private final ProjectionDispatcher dispatcher;
+    private final Clock clock;
+    private final int batchSize;
+    private final long pollMillis;
+    private final Duration retention;
+    private final Duration readYourWritesTimeout;
+
+    private final Object lock = new Object();
+    // Protegidos por lock: passadas iniciadas e concluídas, a última concluída com as projeções
+    // readYourWrites em dia, quantos esperam a entrega e se alguém pediu uma passada nova
+    private long passesStarted;
+    private long passesCompleted;
+    private long lastCaughtUpPass;
+    private int waiting;
+    private boolean requested = true;
+    private volatile boolean running;
+    private volatile boolean stopping;
+
+    private Thread thread;
+    private LocalDateTime lastPurge = LocalDateTime.MIN;
+
+    OutboxRelay(OutboxJpaRepository repository, OutboxCodec codec, ProjectionDispatcher dispatcher,
+                Clock clock, int batchSize, Duration pollInterval, Duration retention, Duration readYourWritesTimeout) {
+        if (batchSize <= 0 || pollInterval.toMillis() <= 0) {
+            throw new IllegalArgumentException("Batch size and poll interval must be positive");
+        }
+        this.repository = repository;
+        this.codec = codec;
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.pollMillis = pollInterval.toMillis();
+        this.retention = retention;
+        this.readYourWritesTimeout = readYourWritesTimeout;
+    }
+
+    /**
+     * Pede uma passada e espera até que uma passada iniciada depois desta chamada termine com as projeções
+     * {@code readYourWrites} em dia, ou até o timeout. Quem chama já confirmou sua transação, então a
+     * passada esperada enxerga a linha gravada.
+     *
+     * @return true se a escrita já foi aplicada nas projeções {@code readYourWrites} dentro do timeout
+     */
+    public boolean awaitDelivery(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (lock) {
+            long target = passesStarted + 1;
+            requested = true;
+            waiting++;
+            lock.notifyAll();
+            try {
+                while (lastCaughtUpPass < target) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !running) {
+                        return false;
+                    }
+                    try {
+                        lock.wait(Math.max(1, remaining / 1_000_000));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+                return true;
+            } finally {
+                waiting--;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        stopping = false;
+        running = true;
+        thread = Thread.ofPlatform().name("outbox-relay").daemon().start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        stopping = true;
+        running = false;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+        if (thread == null) {
+            return;
+        }
+        Duration timeout = readYourWritesTimeout.plus(STOP_GRACE);
+        try {
+            thread.join(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("Outbox relay did not finish its pass within {}", timeout);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            long pass;
+            synchronized (lock) {
+                if (!requested) {
+                    try {
+                        lock.wait(pollMillis);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                requested = false;
+                pass = ++passesStarted;
+            }
+            boolean caughtUp = false;
+            try {
+                drain();
+                // Parando: o que foi enfileirado é aplicado pelas projeções, mas nada mais vai ao banco
+                if (!stopping) {
+                    caughtUp = dispatcher.awaitReadYourWrites(readYourWritesTimeout);
+                    purge();
+                }
+            } catch (RuntimeException e) {
+                // Uma exceção aqui mataria a thread; a próxima passada tenta de novo
+                log.error("Outbox relay pass failed", e);
+            }
+            synchronized (lock) {
+                passesCompleted = pass;
+                if (caughtUp) {
+                    lastCaughtUpPass = pass;
+                } else if (waiting > 0) {
+                    // Quem espera a entrega segue esperando, até o próprio timeout, por uma passada em dia
+                    requested = true;
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Entrega lotes até esvaziar o outbox, uma linha não poder ser lida ou o relay começar a parar.
+     *
+     * @return quantidade de eventos entregues
+     */
+    int drain() {
+        int total = 0;
+        while (true) {
+            List<OutboxEntity> batch = repository.findPending(Limit.of(batchSize));
+            List<SequencedEvent> events = new ArrayList<>(batch.size());
+            List<Long> delivered = new ArrayList<>(batch.size());
+            boolean failed = false;
+            for (OutboxEntity entry : batch) {
+                try {
+                    events.add(new SequencedEvent(entry.getSeq(), entry.getCreatedAt(), codec.decode(entry)));
+                } catch (RuntimeException e) {
+                    log.error("Failed to decode outbox event {} ({}), will retry", entry.getSeq(),
+                            entry.getEventType(), e);
+                    failed = true;
+                    break;
+                }
+                delivered.add(entry.getSeq());
+            }
+            if (!delivered.isEmpty()) {
+                dispatcher.dispatch(events);
+                repository.markProcessed(delivered, LocalDateTime.now(clock));
+                total += delivered.size();
+            }
+            if (failed || batch.size() < batchSize || stopping) {
+                return total;
+            }
+        }
+    }
+
+    private void purge() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (lastPurge.plus(PURGE_INTERVAL).isAfter(now)) {
+            return;
+        }
+        lastPurge = now;
+        int purged = repository.deleteProcessedBefore(now.minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} delivered outbox events", purged);
+        }
+    }
+}
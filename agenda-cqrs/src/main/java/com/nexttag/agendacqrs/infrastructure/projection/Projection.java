@@ -0,0 +1,43 @@
+package com.nexttag.agendacqrs.infrastructure.projection;
+
+import com.nexttag.agendacqrs.domain.event.DomainEvent;
+
+/**
+ * Modelo de leitura alimentado pelos eventos de domínio.
+ * <p>
+ * Cada bean que implementa esta interface é registrado pelo {@link ProjectionDispatcher} e recebe todos
+ * os eventos, em ordem de confirmação no outbox, na sua própria thread. {@link #apply} nunca é chamado
+ * em paralelo para a mesma projeção, mas pode rodar em paralelo com as outras.
+ * </p>
+ *
+ * <p>
+ * A entrega é pelo menos uma vez: um mesmo evento pode chegar de novo (ex.: queda antes de o outbox
+ * marcar a linha), então {@link #apply} deve ser idempotente, gravando pelo id do evento.
+ * </p>
+ */
+public interface Projection {
+
+    /**
+     * Nome único da projeção, usado na thread e na tag {@code projection} das métricas.
+     */
+    String name();
+
+    /**
+     * Aplica o evento ao modelo de leitura. Uma exceção é registrada no log e o evento é pulado; numa
+     * projeção {@link #readYourWrites()}, a projeção deve também deixar de confiar na parte do modelo que
+     * ficou sem o evento, pois ele não será entregue de novo.
+     *
+     * @param event evento de domínio confirmado
+     */
+    void apply(DomainEvent event);
+
+    /**
+     * Se true, o relay do outbox só conclui uma passada depois que esta projeção aplicou os eventos dela,
+     * e o comando que gravou responde já enxergando a própria escrita nesta projeção. Deve ficar restrito
+     * a projeções rápidas, lidas logo depois de uma escrita; as demais seguem no próprio ritmo. Uma passada
+     * em que a projeção pulou um evento não conta como entregue.
+     */
+    default boolean readYourWrites() {
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package com.nexttag.agendacqrs.infrastructure.projection;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.util.List;
+
+@Configuration
+public class ProjectionConfig {
+
+    // Toda Projection registrada como bean entra aqui, cada uma com sua fila e sua thread
+    @Bean
+    public ProjectionDispatcher projectionDispatcher(List<Projection> projections, MeterRegistry meterRegistry) {
+        return new ProjectionDispatcher(projections, Clock.systemDefaultZone(), meterRegistry);
+    }
+}
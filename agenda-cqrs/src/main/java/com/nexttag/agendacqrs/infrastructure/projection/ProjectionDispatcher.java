@@ -0,0 +1,122 @@
+package com.nexttag.agendacqrs.infrastructure.projection;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Distribui os eventos de domínio entregues pelo outbox a todas as {@link Projection} registradas.
+ * <p>
+ * Cada projeção tem seu próprio {@link ProjectionWorker}: uma fila, uma thread e um checkpoint. O relay
+ * só enfileira o lote em cada fila e segue em frente, então as projeções aplicam o mesmo lote em
+ * paralelo e uma projeção lenta acumula atraso só para si. A exceção são as projeções com
+ * {@link Projection#readYourWrites()}: ao fim de cada passada o relay espera, com prazo, que elas apliquem
+ * tudo o que foi enfileirado, para que o comando responda já enxergando a própria escrita. Se o prazo
+ * estoura, ou se uma delas pulou um evento que não conseguiu aplicar, a passada termina assim mesmo e o
+ * relay segue; quem esperava a entrega fica sabendo.
+ * </p>
+ *
+ * <p>
+ * Vazão e atraso de cada projeção ficam nas métricas {@code agenda.projection.*} (tag {@code projection}).
+ * As filas vivem em memória: as projeções desta aplicação também, e se reconstroem a partir de
+ * {@code command_events} na subida, então eventos enfileirados e não aplicados numa queda não se perdem.
+ * </p>
+ */
+public class ProjectionDispatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectionDispatcher.class);
+
+    private final List<ProjectionWorker> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public ProjectionDispatcher(List<Projection> projections, Clock clock, MeterRegistry meterRegistry) {
+        Set<String> names = new HashSet<>();
+        for (Projection projection : projections) {
+            if (!names.add(projection.name())) {
+                throw new IllegalStateException("Duplicate projection name: " + projection.name());
+            }
+            workers.add(new ProjectionWorker(projection, clock, meterRegistry));
+        }
+    }
+
+    /**
+     * Enfileira os eventos em todas as projeções, sem esperar que sejam aplicados.
+     *
+     * @param events eventos em ordem de {@code seq}
+     */
+    public void dispatch(List<SequencedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        for (ProjectionWorker worker : workers) {
+            worker.enqueue(events);
+        }
+    }
+
+    /**
+     * Espera, até {@code timeout}, que as projeções com {@link Projection#readYourWrites()} apliquem tudo o
+     * que já foi enfileirado. As filas continuam sendo aplicadas depois do prazo.
+     *
+     * @return false se alguma projeção não alcançou a própria fila no prazo, ou pulou um evento que não
+     * conseguiu aplicar desde a chamada anterior
+     */
+    public boolean awaitReadYourWrites(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean caughtUp = true;
+        for (ProjectionWorker worker : workers) {
+            if (!worker.projection().readYourWrites()) {
+                continue;
+            }
+            if (!worker.awaitApplied(worker.enqueued(), deadline)) {
+                log.warn("Projection '{}' did not apply {} queued events within {}", worker.projection().name(),
+                        worker.lag(), timeout);
+                caughtUp = false;
+            } else if (worker.takeSkipped()) {
+                log.warn("Projection '{}' skipped events it failed to apply", worker.projection().name());
+                caughtUp = false;
+            }
+        }
+        return caughtUp;
+    }
+
+    /**
+     * Nomes das projeções registradas, na ordem de registro.
+     */
+    public List<String> projectionNames() {
+        return workers.stream().map(worker -> worker.projection().name()).toList();
+    }
+
+    @Override
+    public void start() {
+        workers.forEach(ProjectionWorker::start);
+        running = true;
+        log.info("Started projections {}", projectionNames());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        workers.forEach(ProjectionWorker::stop);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Sobe antes do relay do outbox e para depois dele, para que nenhum lote seja enfileirado sem worker.
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 1;
+    }
+}
@@ -0,0 +1,201 @@
+package com.nexttag.agendacqrs.infrastructure.projection;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fila, thread e checkpoint de uma projeção.
+ * <p>
+ * A fila não tem limite: o relay nunca bloqueia esperando uma projeção lenta, e o atraso dela aparece
+ * nas métricas em vez de segurar as outras. O checkpoint é o {@code seq} do último evento aplicado.
+ * </p>
+ *
+ * <p>
+ * Um evento que a projeção não consegue aplicar é pulado, para não parar a fila. Numa projeção com
+ * {@link Projection#readYourWrites()} ele não conta como aplicado para quem espera: {@link #takeSkipped}
+ * avisa, e quem esperava a entrega não trata o modelo como em dia.
+ * </p>
+ */
+final class ProjectionWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectionWorker.class);
+
+    private static final long POLL_MILLIS = 100;
+
+    private final Projection projection;
+    private final Clock clock;
+    private final LinkedBlockingQueue<SequencedEvent> queue = new LinkedBlockingQueue<>();
+    private final Counter appliedCounter;
+    private final Counter failedCounter;
+
+    private final Object lock = new Object();
+    // Escrito só pelo relay; lido pelas métricas
+    private volatile long enqueued;
+    // Protegido por lock; lido sem lock pelas métricas
+    private volatile long applied;
+    private volatile long checkpoint;
+    // Protegido por lock: algum evento pulado desde o último takeSkipped
+    private boolean skippedSinceAwait;
+    private volatile boolean running;
+
+    private Thread thread;
+
+    ProjectionWorker(Projection projection, Clock clock, MeterRegistry meterRegistry) {
+        this.projection = projection;
+        this.clock = clock;
+        String name = projection.name();
+        this.appliedCounter = Counter.builder("agenda.projection.applied")
+                .description("Domain events applied by the projection")
+                .tag("projection", name)
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("agenda.projection.failed")
+                .description("Domain events the projection failed to apply and skipped")
+                .tag("projection", name)
+                .register(meterRegistry);
+        Gauge.builder("agenda.projection.lag", this, ProjectionWorker::lag)
+                .description("Domain events queued but not yet applied by the projection")
+                .tag("projection", name)
+                .register(meterRegistry);
+        Gauge.builder("agenda.projection.lag.seconds", this, w -> w.lagAge().toMillis() / 1000.0)
+                .description("Age of the oldest domain event waiting in the projection queue")
+                .tag("projection", name)
+                .register(meterRegistry);
+        Gauge.builder("agenda.projection.checkpoint", this, ProjectionWorker::checkpoint)
+                .description("Outbox seq of the last domain event applied by the projection")
+                .tag("projection", name)
+                .register(meterRegistry);
+    }
+
+    Projection projection() {
+        return projection;
+    }
+
+    /**
+     * Enfileira os eventos.
+     *
+     * @return total de eventos enfileirados até aqui, a posição a esperar em {@link #awaitApplied}
+     */
+    long enqueue(List<SequencedEvent> events) {
+        queue.addAll(events);
+        enqueued += events.size();
+        return enqueued;
+    }
+
+    /**
+     * Total de eventos enfileirados até aqui.
+     */
+    long enqueued() {
+        return enqueued;
+    }
+
+    /**
+     * Espera até que {@code target} eventos tenham sido aplicados, até o prazo ou até o worker parar.
+     *
+     * @param deadlineNanos prazo em {@link System#nanoTime()}
+     * @return true se a posição foi alcançada
+     */
+    boolean awaitApplied(long target, long deadlineNanos) {
+        synchronized (lock) {
+            while (applied < target) {
+                long remaining = deadlineNanos - System.nanoTime();
+                if (!running || remaining <= 0) {
+                    return false;
+                }
+                try {
+                    lock.wait(Math.min(POLL_MILLIS, Math.max(1, remaining / 1_000_000)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Indica se a projeção, sendo {@code readYourWrites}, pulou algum evento desde a chamada anterior.
+     */
+    boolean takeSkipped() {
+        synchronized (lock) {
+            boolean skipped = skippedSinceAwait;
+            skippedSinceAwait = false;
+            return skipped;
+        }
+    }
+
+    long lag() {
+        return enqueued - applied;
+    }
+
+    long checkpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Há quanto tempo o evento mais antigo da fila espera; zero com a fila vazia.
+     */
+    Duration lagAge() {
+        SequencedEvent head = queue.peek();
+        if (head == null) {
+            return Duration.ZERO;
+        }
+        Duration age = Duration.between(head.createdAt(), LocalDateTime.now(clock));
+        return age.isNegative() ? Duration.ZERO : age;
+    }
+
+    void start() {
+        running = true;
+        thread = Thread.ofPlatform().name("projection-" + projection.name()).daemon().start(this::run);
+    }
+
+    void stop() {
+        running = false;
+        if (thread != null) {
+            try {
+                thread.join(POLL_MILLIS * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            SequencedEvent next;
+            try {
+                next = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (next == null) {
+                continue;
+            }
+            boolean skipped = false;
+            try {
+                projection.apply(next.event());
+                appliedCounter.increment();
+            } catch (RuntimeException e) {
+                // Segurar a fila por um evento com defeito pararia a projeção inteira
+                log.error("Projection '{}' failed to apply outbox event {}, skipping", projection.name(), next.seq(), e);
+                failedCounter.increment();
+                skipped = projection.readYourWrites();
+            }
+            checkpoint = next.seq();
+            synchronized (lock) {
+                skippedSinceAwait |= skipped;
+                applied++;
+                lock.notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.nexttag.agendacqrs.infrastructure.projection;
+
+import com.nexttag.agendacqrs.domain.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de domínio com a posição ({@code seq}) e o horário em que foi gravado no outbox.
+ *
+ * @param seq       posição do evento no outbox; vira o checkpoint da projeção depois de aplicado
+ * @param createdAt horário da gravação, usado para medir o atraso da projeção
+ * @param event     evento de domínio
+ */
+public record SequencedEvent(long seq, LocalDateTime createdAt, DomainEvent event) {
+}
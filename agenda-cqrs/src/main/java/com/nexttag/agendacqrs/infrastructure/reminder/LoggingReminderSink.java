@@ -0,0 +1,22 @@
+package com.nexttag.agendacqrs.infrastructure.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Destino padrão dos lembretes quando nenhum {@link ReminderSink} foi registrado: apenas registra no log.
+ */
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void deliver(List<Reminder> reminders) {
+        for (Reminder reminder : reminders) {
+            log.info("Reminder: '{}' ({}, tenant {}) starts at {}", reminder.title(), reminder.eventId(),
+                    reminder.tenantId(), reminder.start());
+        }
+    }
+}
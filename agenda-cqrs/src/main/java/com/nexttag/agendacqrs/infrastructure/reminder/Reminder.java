@@ -0,0 +1,15 @@
+package com.nexttag.agendacqrs.infrastructure.reminder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lembrete vencido entregue ao {@link ReminderSink}.
+ *
+ * @param tenantId tenant dono do evento
+ * @param eventId  identificador do evento (da série, para eventos recorrentes)
+ * @param title    título do evento
+ * @param start    início do evento ou da ocorrência lembrada
+ * @param remindAt instante em que o lembrete estava agendado
+ */
+public record Reminder(String tenantId, UUID eventId, String title, LocalDateTime start, LocalDateTime remindAt) {}
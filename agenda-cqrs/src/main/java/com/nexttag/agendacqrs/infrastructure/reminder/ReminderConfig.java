@@ -0,0 +1,22 @@
+package com.nexttag.agendacqrs.infrastructure.reminder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ReminderConfig {
+
+    // Um ReminderSink registrado pela aplicação substitui o destino padrão, que só registra no log
+    @Bean(initMethod = "start")
+    public ReminderScheduler reminderScheduler(ObjectProvider<ReminderSink> sink,
+                                               @Value("${agenda.reminders.lead-time:15m}") Duration leadTime,
+                                               @Value("${agenda.reminders.horizon:30d}") Duration horizon,
+                                               @Value("${agenda.reminders.tick:1s}") Duration tick,
+                                               @Value("${agenda.reminders.batch-size:500}") int batchSize) {
+        return new ReminderScheduler(leadTime, horizon, tick, batchSize, sink.getIfAvailable(LoggingReminderSink::new));
+    }
+}
@@ -0,0 +1,262 @@
+package com.nexttag.agendacqrs.infrastructure.reminder;
+
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agenda lembretes {@code leadTime} antes do início de cada evento, sobre uma {@link TimingWheel}.
+ * <p>
+ * Em vez de consultar a tabela periodicamente ou manter um {@code ScheduledFuture} por evento, há um
+ * único timer por evento na roda e uma única thread que a avança a cada tick. Agendar, reagendar e
+ * cancelar custam O(1): o handle do timer é encontrado pelo id do evento em um mapa e desligado da
+ * lista do seu slot. Séries recorrentes têm um timer só, para a próxima ocorrência; quando ele vence,
+ * a ocorrência seguinte é agendada.
+ * </p>
+ *
+ * <p>
+ * A próxima ocorrência de uma série é procurada só até {@code horizon} adiante, já que a busca roda sob o
+ * lock da roda. Uma série sem ocorrência nesse trecho, mas que continua depois dele, recebe um timer de
+ * revisão no fim do trecho, que retoma a busca a partir dali sem disparar lembrete.
+ * </p>
+ *
+ * <p>
+ * Os lembretes vencidos em um tick são entregues ao {@link ReminderSink} em lotes de até
+ * {@code batchSize}, cada lote em uma virtual thread, fora do lock da roda. Lembretes nunca disparam
+ * antes do horário: o prazo é arredondado para cima até o próximo tick. Um lembrete cujo horário já
+ * passou, mas cujo evento ainda não começou (evento criado em cima da hora, ou aplicação que ficou
+ * fora do ar), dispara no tick seguinte.
+ * </p>
+ */
+public class ReminderScheduler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    private final Clock clock;
+    private final Duration leadTime;
+    private final Duration horizon;
+    private final long tickMillis;
+    private final int batchSize;
+    private final ReminderSink sink;
+    private final ExecutorService dispatcher;
+
+    private final Object lock = new Object();
+    private final TimingWheel<Entry> wheel;
+    private final Map<UUID, TimingWheel.Timer<Entry>> timers = new HashMap<>();
+
+    private ScheduledExecutorService ticker;
+
+    public ReminderScheduler(Clock clock, Duration leadTime, Duration horizon, Duration tick, int batchSize,
+                             ReminderSink sink, ExecutorService dispatcher) {
+        if (leadTime.isNegative()) {
+            throw new IllegalArgumentException("Lead time cannot be negative");
+        }
+        if (!horizon.isPositive()) {
+            throw new IllegalArgumentException("Horizon must be positive");
+        }
+        if (tick.toMillis() <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Tick and batch size must be positive");
+        }
+        this.clock = clock;
+        this.leadTime = leadTime;
+        this.horizon = horizon;
+        this.tickMillis = tick.toMillis();
+        this.batchSize = batchSize;
+        this.sink = sink;
+        this.dispatcher = dispatcher;
+        this.wheel = new TimingWheel<>(Math.floorDiv(clock.millis(), tickMillis));
+    }
+
+    public ReminderScheduler(Duration leadTime, Duration horizon, Duration tick, int batchSize, ReminderSink sink) {
+        this(Clock.systemDefaultZone(), leadTime, horizon, tick, batchSize, sink, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Agenda (ou reagenda) o lembrete do evento, substituindo o anterior com o mesmo id.
+     * Eventos sem data, já iniciados ou séries sem próximas ocorrências ficam sem lembrete.
+     *
+     * @param tenantId tenant dono do evento, repassado no {@link Reminder}
+     * @param event    evento a lembrar
+     */
+    public void schedule(String tenantId, EventQuery event) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        synchronized (lock) {
+            cancelLocked(event.id());
+            scheduleNextLocked(tenantId, event, now);
+        }
+    }
+
+    /**
+     * Cancela o lembrete do evento, se houver.
+     */
+    public void cancel(UUID eventId) {
+        synchronized (lock) {
+            cancelLocked(eventId);
+        }
+    }
+
+    /**
+     * Quantidade de timers agendados: um por evento com lembrete ou série à espera de revisão.
+     */
+    public int size() {
+        synchronized (lock) {
+            return timers.size();
+        }
+    }
+
+    /**
+     * Inicia a thread que avança a roda a cada tick.
+     */
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("reminder-wheel").daemon().factory());
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        dispatcher.shutdown();
+    }
+
+    private void tick() {
+        try {
+            advanceTo(clock.instant());
+        } catch (RuntimeException e) {
+            // Uma exceção aqui cancelaria as próximas execuções do scheduleAtFixedRate
+            log.error("Failed to advance the reminder wheel", e);
+        }
+    }
+
+    /**
+     * Avança a roda até o instante informado e despacha os lembretes vencidos.
+     *
+     * @return quantidade de lembretes despachados
+     */
+    int advanceTo(Instant now) {
+        LocalDateTime nowDateTime = LocalDateTime.ofInstant(now, clock.getZone());
+        List<Reminder> due = new ArrayList<>();
+        synchronized (lock) {
+            wheel.advanceTo(Math.floorDiv(now.toEpochMilli(), tickMillis), entry -> {
+                timers.remove(entry.event().id());
+                if (entry.review()) {
+                    scheduleNextLocked(entry.tenantId(), entry.event(), max(nowDateTime, entry.start()));
+                    return;
+                }
+                due.add(new Reminder(entry.tenantId(), entry.event().id(), entry.event().title(), entry.start(),
+                        entry.start().minus(leadTime)));
+                if (entry.event().isRecurring()) {
+                    scheduleNextLocked(entry.tenantId(), entry.event(), max(nowDateTime, entry.start()));
+                }
+            });
+        }
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Reminder> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            dispatcher.execute(() -> deliver(batch));
+        }
+        return due.size();
+    }
+
+    private void deliver(List<Reminder> batch) {
+        try {
+            sink.deliver(batch);
+        } catch (RuntimeException e) {
+            log.warn("Failed to deliver {} reminders", batch.size(), e);
+        }
+    }
+
+    /**
+     * Agenda o lembrete da primeira ocorrência que começa depois de {@code after}, ou, se a série só
+     * continuar depois do horizonte, a revisão no fim dele.
+     */
+    private void scheduleNextLocked(String tenantId, EventQuery event, LocalDateTime after) {
+        LocalDateTime limit = after.plus(horizon);
+        LocalDateTime start = nextStart(event, after, limit);
+        if (start != null) {
+            timers.put(event.id(), wheel.schedule(deadline(start), new Entry(tenantId, event, start, false)));
+        } else if (event.isRecurring() && continuesAfter(event, limit)) {
+            // O timer vence com a antecedência de um lembrete, a tempo de uma ocorrência logo depois do limite
+            timers.put(event.id(), wheel.schedule(deadline(limit), new Entry(tenantId, event, limit, true)));
+        }
+    }
+
+    /**
+     * Tick do lembrete de uma ocorrência em {@code start}, arredondado para cima: nunca dispara antes do horário.
+     */
+    private long deadline(LocalDateTime start) {
+        long remindAtMillis = start.minus(leadTime).atZone(clock.getZone()).toInstant().toEpochMilli();
+        return Math.floorDiv(remindAtMillis + tickMillis - 1, tickMillis);
+    }
+
+    /**
+     * Primeira ocorrência em {@code (after, limit]}; eventos avulsos não têm limite, pois não há busca.
+     */
+    private static LocalDateTime nextStart(EventQuery event, LocalDateTime after, LocalDateTime limit) {
+        if (event.date() == null) {
+            return null;
+        }
+        if (!event.isRecurring()) {
+            return event.date().isAfter(after) ? event.date() : null;
+        }
+        Iterator<LocalDateTime> occurrences = event.recurrence().occurrences(event.date(), after, limit.plusNanos(1));
+        while (occurrences.hasNext()) {
+            LocalDateTime occurrence = occurrences.next();
+            if (occurrence.isAfter(after)) {
+                return occurrence;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indica se a série ainda tem ocorrências depois de {@code limit}, sem expandi-la até lá.
+     */
+    private static boolean continuesAfter(EventQuery event, LocalDateTime limit) {
+        RecurrenceRule rule = event.recurrence();
+        if (rule.until() != null) {
+            return rule.until().isAfter(limit);
+        }
+        if (rule.count() != null) {
+            // A última ocorrência sai direto da busca binária sobre COUNT
+            Iterator<LocalDateTime> last = rule.occurrencesDescending(event.date(), null, null);
+            return last.hasNext() && last.next().isAfter(limit);
+        }
+        return rule.hasOccurrences(event.date());
+    }
+
+    private void cancelLocked(UUID eventId) {
+        TimingWheel.Timer<Entry> timer = timers.remove(eventId);
+        if (timer != null) {
+            wheel.cancel(timer);
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    /**
+     * Valor de cada timer: o tenant, o evento (para reagendar séries) e o início da ocorrência lembrada,
+     * ou, numa revisão ({@code review}), o instante a partir do qual a busca da série continua.
+     */
+    private record Entry(String tenantId, EventQuery event, LocalDateTime start, boolean review) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.nexttag.agendacqrs.infrastructure.reminder;
+
+import java.util.List;
+
+/**
+ * Destino dos lembretes vencidos (e-mail, push, fila...).
+ * <p>
+ * Basta registrar um bean que implemente esta interface para substituir o {@link LoggingReminderSink}.
+ * Cada chamada recebe um lote e roda em uma virtual thread própria, então a implementação pode
+ * bloquear em I/O sem atrasar a roda de tempo; lotes diferentes podem ser entregues em paralelo.
+ * </p>
+ */
+@FunctionalInterface
+public interface ReminderSink {
+
+    void deliver(List<Reminder> reminders);
+}
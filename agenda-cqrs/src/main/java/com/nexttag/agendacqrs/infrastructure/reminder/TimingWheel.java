@@ -0,0 +1,157 @@
+package com.nexttag.agendacqrs.infrastructure.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * Roda de tempo hierárquica (Varghese &amp; Lauck) com granularidade de um tick.
+ * <p>
+ * O tempo é um contador de ticks de 64 bits dividido em dígitos de {@value #SLOT_BITS} bits; cada dígito
+ * é um nível com {@value #SLOTS} posições. Um timer fica no nível do dígito mais alto em que seu prazo
+ * difere do tick atual, na posição dada por esse dígito do prazo. Agendar e cancelar custam O(1): calcular
+ * nível e posição e ligar/desligar o nó de uma lista duplamente encadeada. Ao avançar, quando um dígito
+ * do tick atual muda, a posição correspondente daquele nível é redistribuída para os níveis de baixo, e a
+ * posição atual do nível 0 contém exatamente os timers vencidos. Cada timer desce no máximo uma vez por
+ * nível, então o custo amortizado por timer também é constante.
+ * </p>
+ *
+ * <p>
+ * <strong>Nota:</strong> a classe não é thread-safe; o {@link ReminderScheduler} serializa o acesso.
+ * </p>
+ *
+ * @param <T> valor associado a cada timer
+ */
+final class TimingWheel<T> {
+
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+
+    @SuppressWarnings("unchecked")
+    private final Timer<T>[][] slots = new Timer[LEVELS][SLOTS];
+
+    private long currentTick;
+    private int size;
+
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Agenda um timer para o tick informado. Prazos que já passaram vencem no próximo avanço.
+     */
+    Timer<T> schedule(long deadlineTick, T value) {
+        Timer<T> timer = new Timer<>(Math.max(deadlineTick, currentTick + 1), value);
+        link(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancela o timer; não faz nada se ele já venceu ou já foi cancelado.
+     */
+    void cancel(Timer<T> timer) {
+        if (timer.level < 0) {
+            return;
+        }
+        unlink(timer);
+        size--;
+    }
+
+    /**
+     * Avança até {@code targetTick}, entregando os timers vencidos em ordem de prazo.
+     */
+    void advanceTo(long targetTick, Consumer<T> expired) {
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Dígitos que mudaram neste tick: do mais alto para o mais baixo, para que os timers redistribuídos
+            // de um nível ainda sejam considerados pelos níveis de baixo no mesmo tick
+            int changed = Math.min(Long.numberOfTrailingZeros(currentTick) / SLOT_BITS, LEVELS - 1);
+            for (int level = changed; level > 0; level--) {
+                int slot = digit(currentTick, level);
+                Timer<T> timer = slots[level][slot];
+                slots[level][slot] = null;
+                while (timer != null) {
+                    Timer<T> next = timer.next;
+                    timer.level = -1;
+                    link(timer);
+                    timer = next;
+                }
+            }
+            int slot = digit(currentTick, 0);
+            Timer<T> timer = slots[0][slot];
+            slots[0][slot] = null;
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                timer.level = -1;
+                timer.prev = timer.next = null;
+                size--;
+                expired.accept(timer.value);
+                timer = next;
+            }
+        }
+    }
+
+    private void link(Timer<T> timer) {
+        long diff = timer.deadline ^ currentTick;
+        int level = diff == 0 ? 0 : (Long.SIZE - 1 - Long.numberOfLeadingZeros(diff)) / SLOT_BITS;
+        int slot = digit(timer.deadline, level);
+        timer.level = level;
+        timer.slot = slot;
+        timer.prev = null;
+        timer.next = slots[level][slot];
+        if (timer.next != null) {
+            timer.next.prev = timer;
+        }
+        slots[level][slot] = timer;
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = timer.next = null;
+        timer.level = -1;
+    }
+
+    private static int digit(long tick, int level) {
+        return (int) (tick >>> (level * SLOT_BITS)) & (SLOTS - 1);
+    }
+
+    /**
+     * Nó de um timer agendado; serve de handle para o cancelamento.
+     */
+    static final class Timer<T> {
+        private final long deadline;
+        private final T value;
+        private int level = -1;
+        private int slot;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(long deadline, T value) {
+            this.deadline = deadline;
+            this.value = value;
+        }
+
+        long deadline() {
+            return deadline;
+        }
+
+        T value() {
+            return value;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.nexttag.agendacqrs.infrastructure.repository;
 
+import com.nexttag.agendacqrs.domain.tenant.Tenants;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
@@ -36,6 +37,12 @@ public class CommandEntity {
     @Id
     private UUID id;
 
+    /**
+     * Dono da agenda; as consultas do lado de comando sempre filtram por ele.
+     */
+    @Column(name = "tenant_id", nullable = false, length = 64)
+    private String tenantId = Tenants.DEFAULT;
+
     /**
      * Título do evento.
      */
@@ -51,6 +58,17 @@ public class CommandEntity {
      */
     private LocalDateTime date;
 
+    /**
+     * Fim (exclusivo) do evento; nulo para eventos sem duração.
+     */
+    @Column(name = "end_date")
+    private LocalDateTime end;
+
+    /**
+     * Regra RRULE da série; nula para eventos avulsos.
+     */
+    private String recurrence;
+
     /**
      * Construtor padrão exigido pelo JPA.
      * Não deve ser utilizado diretamente no código da aplicação.
@@ -73,6 +91,14 @@ public class CommandEntity {
         this.date = date;
     }
 
+    public CommandEntity(String tenantId, UUID id, String title, String description, LocalDateTime date,
+                         LocalDateTime end, String recurrence) {
+        this(id, title, description, date);
+        this.tenantId = tenantId;
+        this.end = end;
+        this.recurrence = recurrence;
+    }
+
     // Getters and Setters
 
     /**
@@ -98,6 +124,14 @@ public class CommandEntity {
      *
      * @return título do evento
      */
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -146,4 +180,20 @@ public class CommandEntity {
     public void setDate(LocalDateTime date) {
         this.date = date;
     }
-}
\ No newline at end of file
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    public void setEnd(LocalDateTime end) {
+        this.end = end;
+    }
+
+    public String getRecurrence() {
+        return recurrence;
+    }
+
+    public void setRecurrence(String recurrence) {
+        this.recurrence = recurrence;
+    }
+}
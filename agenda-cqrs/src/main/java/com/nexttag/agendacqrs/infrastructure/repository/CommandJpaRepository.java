@@ -1,7 +1,14 @@
 package com.nexttag.agendacqrs.infrastructure.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -35,4 +42,50 @@ public interface CommandJpaRepository extends JpaRepository<CommandEntity, UUID>
     // - delete(CommandEntity entity)
     // - existsById(UUID id)
     // - count()
+
+    /**
+     * Busca um evento dentro da agenda de um tenant; eventos de outros tenants não são encontrados.
+     */
+    Optional<CommandEntity> findByIdAndTenantId(UUID id, String tenantId);
+
+    /**
+     * Todos os eventos de um tenant, usando o índice {@code (tenant_id, date)}.
+     */
+    List<CommandEntity> findByTenantId(String tenantId);
+
+    /**
+     * Primeira página de todos os eventos, de todos os tenants, em ordem de id.
+     */
+    List<CommandEntity> findByOrderByIdAsc(Limit limit);
+
+    /**
+     * Página seguinte de {@link #findByOrderByIdAsc}: eventos com id maior que o último lido, pela chave primária.
+     */
+    List<CommandEntity> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
+
+    /**
+     * Menor id entre os eventos dos tenants, ou null se não houver nenhum.
+     */
+    @Query("select min(c.id) from CommandEntity c where c.tenantId in :tenants")
+    UUID findMinId(@Param("tenants") Collection<String> tenants);
+
+    /**
+     * Maior id entre os eventos dos tenants, ou null se não houver nenhum.
+     */
+    @Query("select max(c.id) from CommandEntity c where c.tenantId in :tenants")
+    UUID findMaxId(@Param("tenants") Collection<String> tenants);
+
+    /**
+     * Eventos dos tenants com id em {@code [from, to)}, pela chave primária.
+     */
+    @Query("select c from CommandEntity c where c.tenantId in :tenants and c.id >= :from and c.id < :to")
+    List<CommandEntity> findIdRange(@Param("tenants") Collection<String> tenants, @Param("from") UUID from,
+                                    @Param("to") UUID to);
+
+    /**
+     * Eventos dos tenants com id em {@code [from, to]}; usado no último trecho, que inclui o maior id.
+     */
+    @Query("select c from CommandEntity c where c.tenantId in :tenants and c.id >= :from and c.id <= :to")
+    List<CommandEntity> findIdRangeClosed(@Param("tenants") Collection<String> tenants, @Param("from") UUID from,
+                                          @Param("to") UUID to);
 }
\ No newline at end of file
@@ -47,14 +47,15 @@ public class CommandRepository {
      * Esta operação é utilizada para criação de novos eventos.
      * </p>
      *
+     * @param tenantId dono da agenda
      * @param command comando contendo os dados do evento a ser persistido
      * @throws org.springframework.dao.DataAccessException se ocorrer erro na persistência
      *
-     * @see com.nexttag.agendacqrs.command.handler.CreateEventHandler#handle(EventCommand)
+     * @see com.nexttag.agendacqrs.command.handler.CreateEventHandler#handle(String, EventCommand)
      */
-    public void save(EventCommand command) {
+    public void save(String tenantId, EventCommand command) {
         // Converte comando para entidade JPA
-        CommandEntity entity = toEntity(command);
+        CommandEntity entity = toEntity(tenantId, command);
 
         // Persiste a entidade no banco de dados
         jpaRepository.save(entity);
@@ -64,24 +65,27 @@ public class CommandRepository {
      * Atualiza um evento existente no repositório de comandos.
      * <p>
      * Busca a entidade pelo ID fornecido e atualiza seus campos com os dados
-     * do comando. Lança exceção se o evento não for encontrado.
+     * do comando. Lança exceção se o evento não for encontrado na agenda do tenant.
      * </p>
      *
+     * @param tenantId dono da agenda
      * @param id identificador único do evento a ser atualizado
      * @param command comando contendo os novos dados do evento
      * @throws RuntimeException se o evento não for encontrado
      * @throws org.springframework.dao.DataAccessException se ocorrer erro na persistência
      *
-     * @see com.nexttag.agendacqrs.command.handler.UpdateEventHandler#handle(UUID, EventCommand)
+     * @see com.nexttag.agendacqrs.command.handler.UpdateEventHandler#handle(String, UUID, EventCommand)
      */
-    public void update(UUID id, EventCommand command) {
-        jpaRepository.findById(id)
+    public void update(String tenantId, UUID id, EventCommand command) {
+        jpaRepository.findByIdAndTenantId(id, tenantId)
                 .ifPresentOrElse(
                         entity -> {
                             // Atualiza os campos da entidade existente
                             entity.setTitle(command.title());
                             entity.setDescription(command.description());
                             entity.setDate(command.date());
+                            entity.setEnd(command.end());
+                            entity.setRecurrence(formatRecurrence(command));
 
                             // Persiste as alterações
                             jpaRepository.save(entity);
@@ -96,18 +100,19 @@ public class CommandRepository {
      * Remove um evento do repositório de comandos.
      * <p>
      * Verifica se o evento existe antes de tentar removê-lo, lançando
-     * exceção caso não seja encontrado. Garante consistência nas operações de exclusão.
+     * exceção caso não seja encontrado na agenda do tenant. Garante consistência nas operações de exclusão.
      * </p>
      *
+     * @param tenantId dono da agenda
      * @param id identificador único do evento a ser removido
      * @throws RuntimeException se o evento não for encontrado
      * @throws org.springframework.dao.DataAccessException se ocorrer erro na persistência
      *
-     * @see com.nexttag.agendacqrs.command.handler.DeleteEventHandler#handle(UUID)
+     * @see com.nexttag.agendacqrs.command.handler.DeleteEventHandler#handle(String, UUID)
      */
-    public void delete(UUID id) {
-        // Verifica se o evento existe antes de tentar deletar
-        if (jpaRepository.findById(id).isEmpty()) {
+    public void delete(String tenantId, UUID id) {
+        // Verifica se o evento existe na agenda do tenant antes de tentar deletar
+        if (jpaRepository.findByIdAndTenantId(id, tenantId).isEmpty()) {
             throw new RuntimeException("Event not found with id: " + id);
         }
 
@@ -122,10 +127,16 @@ public class CommandRepository {
      * e entidades de persistência, mantendo a separação de responsabilidades.
      * </p>
      *
+     * @param tenantId dono da agenda
      * @param command comando a ser convertido
      * @return entidade JPA correspondente
      */
-    private CommandEntity toEntity(EventCommand command) {
-        return new CommandEntity(command.id(), command.title(), command.description(), command.date());
+    private CommandEntity toEntity(String tenantId, EventCommand command) {
+        return new CommandEntity(tenantId, command.id(), command.title(), command.description(), command.date(),
+                command.end(), formatRecurrence(command));
+    }
+
+    private static String formatRecurrence(EventCommand command) {
+        return command.recurrence() == null ? null : command.recurrence().toString();
     }
 }
\ No newline at end of file
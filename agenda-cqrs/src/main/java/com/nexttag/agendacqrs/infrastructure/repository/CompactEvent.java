@@ -0,0 +1,247 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Forma compacta de um {@link EventQuery}, a que o {@link QueryRepository} guarda.
+ * <p>
+ * Cada {@code LocalDateTime} de um {@code EventQuery} são três objetos (72 bytes com o
+ * {@code LocalDate} e o {@code LocalTime}), o id é um {@code UUID} de 32 bytes, e título e descrição
+ * são uma {@code String} cada. Aqui as datas viram segundos desde a época, em UTC, mais os nanos em
+ * campos primitivos; o id fica em dois {@code long}; o título vem de um {@link StringPool} compartilhado
+ * entre todos os tenants; e a descrição fica em bytes UTF-8, comprimida com Deflate quando é longa o
+ * bastante para compensar.
+ * </p>
+ *
+ * <p>
+ * O {@code EventQuery} só é remontado em {@link #decode()}, chamado para os eventos que vão na resposta.
+ * A ordem por {@code (date, id)} do índice por data, a árvore de intervalos e a tabela por id
+ * ({@link EventTable}) trabalham direto nos campos primitivos; consultas que só precisam de id ou
+ * intervalo usam {@link #id()}, {@link #date()} e {@link #end()} sem remontar o evento.
+ * </p>
+ */
+final class CompactEvent implements IntervalTree.Interval {
+
+    /**
+     * Valor de {@link #dateSecond} e {@link #endSecond} quando a data é {@code null}; fica antes de
+     * qualquer data representável, como o {@code nullsFirst} das comparações de {@code EventQuery}.
+     */
+    static final long NO_DATE = Long.MIN_VALUE;
+
+    /**
+     * Ordem do índice por data: data e, no mesmo instante, id (na ordem de {@link UUID#compareTo}).
+     */
+    static final Comparator<CompactEvent> BY_DATE = (event, other) -> {
+        int cmp = Long.compare(event.dateSecond, other.dateSecond);
+        if (cmp == 0) {
+            cmp = Integer.compare(event.dateNano, other.dateNano);
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(event.idMsb, other.idMsb);
+        }
+        return cmp != 0 ? cmp : Long.compare(event.idLsb, other.idLsb);
+    };
+
+    private static final StringPool TITLES = new StringPool(65_536);
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * Abaixo disso o cabeçalho e o dicionário do Deflate costumam custar mais do que economizam.
+     */
+    private static final int COMPRESSION_THRESHOLD = 128;
+
+    final long idMsb;
+    final long idLsb;
+    final long dateSecond;
+    final int dateNano;
+    final long endSecond;
+    final int endNano;
+    private final String title;
+    private final byte[] description;
+    private final boolean compressed;
+    private final RecurrenceRule recurrence;
+
+    private CompactEvent(long idMsb, long idLsb, String title, byte[] description, boolean compressed,
+                         long dateSecond, int dateNano, long endSecond, int endNano, RecurrenceRule recurrence) {
+        this.idMsb = idMsb;
+        this.idLsb = idLsb;
+        this.title = title;
+        this.description = description;
+        this.compressed = compressed;
+        this.dateSecond = dateSecond;
+        this.dateNano = dateNano;
+        this.endSecond = endSecond;
+        this.endNano = endNano;
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Compacta um evento do modelo de leitura.
+     */
+    static CompactEvent encode(EventQuery event) {
+        byte[] description = event.description() == null ? null : event.description().getBytes(StandardCharsets.UTF_8);
+        byte[] deflated = description != null && description.length >= COMPRESSION_THRESHOLD ? deflate(description) : null;
+        boolean compressed = deflated != null && deflated.length < description.length;
+        return new CompactEvent(event.id().getMostSignificantBits(), event.id().getLeastSignificantBits(),
+                TITLES.intern(event.title()),
+                compressed ? deflated : description != null && description.length == 0 ? EMPTY : description,
+                compressed, epochSecond(event.date()), nano(event.date()), epochSecond(event.end()), nano(event.end()),
+                event.recurrence());
+    }
+
+    /**
+     * Chave de busca que fica antes de todos os eventos que começam em {@code date}.
+     */
+    static CompactEvent lowest(LocalDateTime date) {
+        return new CompactEvent(Long.MIN_VALUE, Long.MIN_VALUE, null, null, false, epochSecond(date), nano(date),
+                NO_DATE, 0, null);
+    }
+
+    /**
+     * Ocorrência da série que começa em {@code occurrence}, com a mesma duração; título e descrição são
+     * compartilhados com a série, então nada é descomprimido até o {@link #decode()}.
+     */
+    CompactEvent at(LocalDateTime occurrence) {
+        long second = epochSecond(occurrence);
+        int nano = nano(occurrence);
+        if (endSecond == NO_DATE) {
+            return new CompactEvent(idMsb, idLsb, title, description, compressed, second, nano, NO_DATE, 0, recurrence);
+        }
+        // Mesma conta de Duration.between + plus, sem alocar: nanos normalizados em [0, 1e9)
+        long endNanos = (long) nano + endNano - dateNano;
+        return new CompactEvent(idMsb, idLsb, title, description, compressed, second, nano,
+                second + endSecond - dateSecond + Math.floorDiv(endNanos, 1_000_000_000L),
+                (int) Math.floorMod(endNanos, 1_000_000_000L), recurrence);
+    }
+
+    /**
+     * Remonta o {@code EventQuery} original.
+     */
+    EventQuery decode() {
+        return new EventQuery(id(), title, description(), date(), end(), recurrence);
+    }
+
+    UUID id() {
+        return new UUID(idMsb, idLsb);
+    }
+
+    LocalDateTime date() {
+        return toDateTime(dateSecond, dateNano);
+    }
+
+    LocalDateTime end() {
+        return toDateTime(endSecond, endNano);
+    }
+
+    boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    RecurrenceRule recurrence() {
+        return recurrence;
+    }
+
+    boolean hasDate() {
+        return dateSecond != NO_DATE;
+    }
+
+    boolean hasInterval() {
+        return dateSecond != NO_DATE && endSecond != NO_DATE;
+    }
+
+    @Override
+    public long startSecond() {
+        return dateSecond;
+    }
+
+    @Override
+    public int startNano() {
+        return dateNano;
+    }
+
+    @Override
+    public long endSecond() {
+        return endSecond;
+    }
+
+    @Override
+    public int endNano() {
+        return endNano;
+    }
+
+    @Override
+    public long idMsb() {
+        return idMsb;
+    }
+
+    @Override
+    public long idLsb() {
+        return idLsb;
+    }
+
+    private String description() {
+        if (description == null) {
+            return null;
+        }
+        return new String(compressed ? inflate(description) : description, StandardCharsets.UTF_8);
+    }
+
+    private static long epochSecond(LocalDateTime date) {
+        return date == null ? NO_DATE : date.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static int nano(LocalDateTime date) {
+        return date == null ? 0 : date.getNano();
+    }
+
+    private static LocalDateTime toDateTime(long second, int nano) {
+        return second == NO_DATE ? null : LocalDateTime.ofEpochSecond(second, nano, ZoneOffset.UTC);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            // Só interessa se ficar menor que o original; se não couber, desiste
+            byte[] buffer = new byte[raw.length];
+            int length = deflater.deflate(buffer);
+            return deflater.finished() ? Arrays.copyOf(buffer, length) : null;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] deflated) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(deflated);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(deflated.length * 3);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed description");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted compressed description", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
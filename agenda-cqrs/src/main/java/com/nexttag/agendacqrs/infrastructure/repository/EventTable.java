@@ -0,0 +1,151 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tabela hash de {@link CompactEvent} por id, com endereçamento aberto e sondagem linear.
+ * <p>
+ * Um {@code ConcurrentHashMap<UUID, CompactEvent>} custa, por evento, o nó do mapa (32 bytes) e o
+ * {@code UUID} da chave (32 bytes), além da posição na tabela. Aqui a chave é o próprio evento, que já
+ * guarda o id em dois {@code long}: cada evento ocupa só uma referência no array, entre 5 e 11 bytes
+ * por evento conforme a ocupação.
+ * </p>
+ *
+ * <p>
+ * Remoções deslocam para trás as entradas seguintes do mesmo agrupamento, em vez de deixar marcas
+ * de removido, então a sondagem de uma busca nunca cresce com o histórico de exclusões.
+ * </p>
+ *
+ * <p>
+ * <strong>Nota:</strong> a classe não é thread-safe; o {@link QueryRepository} serializa o acesso.
+ * </p>
+ */
+final class EventTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private CompactEvent[] slots = new CompactEvent[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Retorna o evento com o id informado, ou {@code null}.
+     */
+    CompactEvent get(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int mask = slots.length - 1;
+        for (int i = home(msb, lsb, mask); slots[i] != null; i = (i + 1) & mask) {
+            if (slots[i].idMsb == msb && slots[i].idLsb == lsb) {
+                return slots[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Grava o evento no lugar do que tiver o mesmo id.
+     *
+     * @return evento substituído, ou {@code null}
+     */
+    CompactEvent put(CompactEvent event) {
+        // Fator de carga máximo de 3/4: acima disso as sequências de sondagem crescem rápido
+        if ((size + 1) * 4L > slots.length * 3L) {
+            resize(slots.length * 2);
+        }
+        int mask = slots.length - 1;
+        int i = home(event.idMsb, event.idLsb, mask);
+        for (; slots[i] != null; i = (i + 1) & mask) {
+            if (slots[i].idMsb == event.idMsb && slots[i].idLsb == event.idLsb) {
+                CompactEvent previous = slots[i];
+                slots[i] = event;
+                return previous;
+            }
+        }
+        slots[i] = event;
+        size++;
+        return null;
+    }
+
+    /**
+     * Remove o evento com o id informado.
+     *
+     * @return evento removido, ou {@code null}
+     */
+    CompactEvent remove(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        int mask = slots.length - 1;
+        int i = home(msb, lsb, mask);
+        for (; slots[i] != null; i = (i + 1) & mask) {
+            if (slots[i].idMsb == msb && slots[i].idLsb == lsb) {
+                break;
+            }
+        }
+        CompactEvent removed = slots[i];
+        if (removed == null) {
+            return null;
+        }
+        slots[i] = null;
+        size--;
+        // Puxa para o buraco cada entrada seguinte cuja posição de origem não fica entre o buraco e ela
+        for (int j = (i + 1) & mask; slots[j] != null; j = (j + 1) & mask) {
+            int origin = home(slots[j].idMsb, slots[j].idLsb, mask);
+            if (((j - origin) & mask) >= ((j - i) & mask)) {
+                slots[i] = slots[j];
+                slots[j] = null;
+                i = j;
+            }
+        }
+        return removed;
+    }
+
+    List<CompactEvent> values() {
+        List<CompactEvent> values = new ArrayList<>(size);
+        for (CompactEvent event : slots) {
+            if (event != null) {
+                values.add(event);
+            }
+        }
+        return values;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        slots = new CompactEvent[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        CompactEvent[] previous = slots;
+        slots = new CompactEvent[capacity];
+        int mask = capacity - 1;
+        for (CompactEvent event : previous) {
+            if (event != null) {
+                int i = home(event.idMsb, event.idLsb, mask);
+                while (slots[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                slots[i] = event;
+            }
+        }
+    }
+
+    /**
+     * Posição de origem do id; o embaralhamento final do MurmurHash3 espalha ids sequenciais (UUID v7)
+     * tão bem quanto os aleatórios.
+     */
+    private static int home(long msb, long lsb, int mask) {
+        long hash = msb ^ Long.rotateLeft(lsb, 32);
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
@@ -0,0 +1,277 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Árvore de intervalos aumentada para consultas de sobreposição.
+ * <p>
+ * AVL ordenada por {@code (start, id)} em que cada nó guarda também o maior {@code end} da sua
+ * subárvore. A consulta de sobreposição usa esse máximo para descartar subárvores inteiras que
+ * terminam antes da janela e para de descer à direita quando o início já passou do fim da janela:
+ * localizar custa O(log n) e cada intervalo devolvido acrescenta no máximo um caminho de O(log n).
+ * </p>
+ *
+ * <p>
+ * Intervalos são semiabertos, {@code [start, end)}: um evento que termina às 10h não conflita
+ * com outro que começa às 10h.
+ * </p>
+ *
+ * <p>
+ * Início, fim e id vêm do próprio valor ({@link Interval}), em campos primitivos: o nó só acrescenta
+ * o maior fim da subárvore, a altura e os filhos. Com o {@link CompactEvent} como valor, a árvore não
+ * segura nenhum objeto de data ou {@code UUID} por evento nem repete os campos que ele já tem.
+ * </p>
+ *
+ * <p>
+ * <strong>Nota:</strong> a classe não é thread-safe; o {@link QueryRepository} serializa o acesso.
+ * </p>
+ *
+ * @param <V> intervalo guardado
+ */
+final class IntervalTree<V extends IntervalTree.Interval> {
+
+    /**
+     * Intervalo {@code [start, end)} identificado por {@code (start, id)}, com os instantes em segundos
+     * desde a época (UTC) mais nanos e o id em dois {@code long}.
+     */
+    interface Interval {
+        long startSecond();
+
+        int startNano();
+
+        long endSecond();
+
+        int endNano();
+
+        long idMsb();
+
+        long idLsb();
+    }
+
+    private Node<V> root;
+    private int size;
+
+    /**
+     * Insere o intervalo, substituindo o valor se já existir um com o mesmo {@code (start, id)}.
+     *
+     * @throws IllegalArgumentException se end não for posterior a start
+     */
+    void insert(V value) {
+        if (compare(value.endSecond(), value.endNano(), value.startSecond(), value.startNano()) <= 0) {
+            throw new IllegalArgumentException("Interval end must be after start");
+        }
+        root = insert(root, new Node<>(value));
+    }
+
+    /**
+     * Remove o intervalo com o mesmo {@code (start, id)} de {@code value}, se existir.
+     */
+    void remove(V value) {
+        root = remove(root, value);
+    }
+
+    /**
+     * Retorna até {@code limit} valores cujos intervalos se sobrepõem a {@code [from, to)},
+     * em ordem de {@code (start, id)}.
+     *
+     * @param ignoredId id a desconsiderar, ou null
+     */
+    List<V> overlapping(LocalDateTime from, LocalDateTime to, int limit, UUID ignoredId) {
+        List<V> result = new ArrayList<>();
+        long ignoredMsb = ignoredId == null ? 0 : ignoredId.getMostSignificantBits();
+        long ignoredLsb = ignoredId == null ? 0 : ignoredId.getLeastSignificantBits();
+        collect(root, new Window(second(from), from.getNano(), second(to), to.getNano(), limit,
+                ignoredId != null, ignoredMsb, ignoredLsb), result);
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    private static <V extends Interval> void collect(Node<V> node, Window window, List<V> result) {
+        // Nada nesta subárvore termina depois de from
+        if (node == null || result.size() >= window.limit
+                || compare(node.maxEndSecond, node.maxEndNano, window.fromSecond, window.fromNano) <= 0) {
+            return;
+        }
+        collect(node.left, window, result);
+        // Todo o lado direito começa em node.start ou depois; se isso já não é antes de to, acabou
+        V value = node.value;
+        if (result.size() >= window.limit
+                || compare(value.startSecond(), value.startNano(), window.toSecond, window.toNano) >= 0) {
+            return;
+        }
+        if (compare(value.endSecond(), value.endNano(), window.fromSecond, window.fromNano) > 0
+                && !window.ignores(value)) {
+            result.add(value);
+        }
+        collect(node.right, window, result);
+    }
+
+    private Node<V> insert(Node<V> node, Node<V> inserted) {
+        if (node == null) {
+            size++;
+            return inserted;
+        }
+        int cmp = compare(inserted.value, node.value);
+        if (cmp < 0) {
+            node.left = insert(node.left, inserted);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, inserted);
+        } else {
+            node.value = inserted.value;
+        }
+        return balance(node);
+    }
+
+    private Node<V> remove(Node<V> node, V removed) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(removed, node.value);
+        if (cmp < 0) {
+            node.left = remove(node.left, removed);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, removed);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Sucessor assume o lugar do nó removido
+            Node<V> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = removeMin(node.right);
+            successor.left = node.left;
+            return balance(successor);
+        }
+        return balance(node);
+    }
+
+    private Node<V> removeMin(Node<V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    /**
+     * Ordem por {@code (start, id)}; o id compara como {@link UUID#compareTo}.
+     */
+    private static int compare(Interval interval, Interval other) {
+        int cmp = compare(interval.startSecond(), interval.startNano(), other.startSecond(), other.startNano());
+        if (cmp != 0) {
+            return cmp;
+        }
+        cmp = Long.compare(interval.idMsb(), other.idMsb());
+        return cmp != 0 ? cmp : Long.compare(interval.idLsb(), other.idLsb());
+    }
+
+    private static int compare(long second, int nano, long otherSecond, int otherNano) {
+        int cmp = Long.compare(second, otherSecond);
+        return cmp != 0 ? cmp : Integer.compare(nano, otherNano);
+    }
+
+    private static long second(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static <V extends Interval> Node<V> balance(Node<V> node) {
+        node.update();
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <V extends Interval> Node<V> rotateRight(Node<V> node) {
+        Node<V> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static <V extends Interval> Node<V> rotateLeft(Node<V> node) {
+        Node<V> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Janela de uma consulta de sobreposição, com o id ignorado já decomposto.
+     */
+    private record Window(long fromSecond, int fromNano, long toSecond, int toNano, int limit,
+                          boolean ignoring, long ignoredMsb, long ignoredLsb) {
+
+        boolean ignores(Interval interval) {
+            return ignoring && interval.idMsb() == ignoredMsb && interval.idLsb() == ignoredLsb;
+        }
+    }
+
+    private static final class Node<V extends Interval> {
+        private V value;
+        private long maxEndSecond;
+        private int maxEndNano;
+        private int height = 1;
+        private Node<V> left;
+        private Node<V> right;
+
+        private Node(V value) {
+            this.value = value;
+            this.maxEndSecond = value.endSecond();
+            this.maxEndNano = value.endNano();
+        }
+
+        /**
+         * Recalcula altura e maior fim da subárvore a partir dos filhos.
+         */
+        private void update() {
+            height = 1 + Math.max(IntervalTree.height(left), IntervalTree.height(right));
+            maxEndSecond = value.endSecond();
+            maxEndNano = value.endNano();
+            if (left != null && compare(left.maxEndSecond, left.maxEndNano, maxEndSecond, maxEndNano) > 0) {
+                maxEndSecond = left.maxEndSecond;
+                maxEndNano = left.maxEndNano;
+            }
+            if (right != null && compare(right.maxEndSecond, right.maxEndNano, maxEndSecond, maxEndNano) > 0) {
+                maxEndSecond = right.maxEndSecond;
+                maxEndNano = right.maxEndNano;
+            }
+        }
+    }
+}
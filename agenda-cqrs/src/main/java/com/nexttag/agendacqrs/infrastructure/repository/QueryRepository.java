@@ -1,9 +1,16 @@
 package com.nexttag.agendacqrs.infrastructure.repository;
 
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
 import com.nexttag.agendacqrs.query.model.EventQuery;
-import org.springframework.stereotype.Component;
+import com.nexttag.agendacqrs.query.model.TimeRange;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * Repositório em memória para operações de consulta no lado de query da arquitetura CQRS.
@@ -20,8 +27,44 @@ import java.util.concurrent.ConcurrentHashMap;
  * </p>
  *
  * <p>
- * Utiliza {@code ConcurrentHashMap} para garantir thread-safety em operações
- * concorrentes, permitindo múltiplas leituras simultâneas sem bloqueio.
+ * O acesso por id passa por uma {@link EventTable} protegida por um {@link ReadWriteLock}: várias
+ * leituras simultâneas não se bloqueiam, e cada escrita troca a entrada da tabela e a dos índices
+ * de uma vez.
+ * </p>
+ *
+ * <p>
+ * Além do mapa por id, mantém um índice ordenado por {@code (date, id)} em um
+ * {@code ConcurrentSkipListSet}. Consultas por tempo, como os próximos eventos a partir de
+ * agora, posicionam-se no índice em O(log n) e percorrem só os k elementos pedidos, sem
+ * copiar nem ordenar o restante da projeção.
+ * </p>
+ *
+ * <p>
+ * Séries recorrentes são guardadas uma única vez, com a regra, fora do índice por data. As consultas
+ * por tempo intercalam o índice com as ocorrências das séries, calculadas sob demanda e apenas até
+ * completar o resultado; o armazenamento cresce com o número de séries, não de ocorrências.
+ * </p>
+ *
+ * <p>
+ * As séries ficam em outras duas {@link IntervalTree}, pelo período que vai da data inicial ao fim da
+ * última ocorrência ({@code UNTIL} ou {@code COUNT}), ou sem fim. Uma consulta só expande as séries cujo
+ * período alcança a janela: séries encerradas ou que ainda não começaram não custam nada. Séries sem fim
+ * alcançam qualquer janela posterior ao seu início, então continuam sendo percorridas uma a uma; ficam
+ * em uma árvore à parte para que {@link #findOverlappingIds(List, Duration, int, UUID)} as busque uma
+ * vez só para todas as janelas, e não uma vez por janela.
+ * </p>
+ *
+ * <p>
+ * Eventos avulsos com {@code end} também entram em uma {@link IntervalTree}, que responde
+ * "quais eventos ocupam algum instante de {@code [from, to)}" sem varrer a projeção. A árvore não é
+ * concorrente e fica sob o mesmo lock da tabela por id.
+ * </p>
+ *
+ * <p>
+ * Os eventos são guardados como {@link CompactEvent}: id e datas em campos primitivos, títulos
+ * deduplicados e descrições longas comprimidas. O {@code EventQuery} só é remontado para os eventos
+ * devolvidos por {@link #findOverlapping} e pelas demais consultas que respondem eventos;
+ * {@link #findOverlappingIds} e {@link #findBusyIntervals} leem só os campos primitivos.
  * </p>
  *
  * <p>
@@ -29,14 +72,43 @@ import java.util.concurrent.ConcurrentHashMap;
  * de cache distribuído como Redis para escalabilidade e persistência.
  * </p>
  */
-@Component
 public class QueryRepository {
 
     /**
-     * Armazenamento em memória thread-safe para os dados de consulta.
-     * Utiliza UUID como chave para acesso eficiente aos eventos.
+     * Distância, em intervalos entre ocorrências, a partir da qual {@link #overlapsAny} recria o iterador
+     * de uma série em vez de avançá-lo até a próxima janela.
+     */
+    private static final int SKIP_STEPS = 4;
+
+    /**
+     * Armazenamento em memória dos dados de consulta, por id. Protegido por {@link #lock}.
+     */
+    private final EventTable storage = new EventTable();
+
+    /**
+     * Índice ordenado por data e id, mantido junto com {@link #storage}.
+     * Eventos sem data não entram no índice.
+     */
+    private final NavigableSet<CompactEvent> byDate = new ConcurrentSkipListSet<>(CompactEvent.BY_DATE);
+
+    /**
+     * Séries recorrentes com fim, pelo período das suas ocorrências; as ocorrências não são materializadas.
+     * Protegida por {@link #lock}.
+     */
+    private final IntervalTree<SeriesSpan> boundedSeries = new IntervalTree<>();
+
+    /**
+     * Séries recorrentes sem fim, da data inicial em diante. Protegida por {@link #lock}.
+     */
+    private final IntervalTree<SeriesSpan> openSeries = new IntervalTree<>();
+
+    /**
+     * Intervalos {@code [date, end)} dos eventos avulsos que têm fim, para detecção de conflitos.
+     * Protegida por {@link #lock}.
      */
-    private final Map<UUID, EventQuery> storage = new ConcurrentHashMap<>();
+    private final IntervalTree<CompactEvent> intervals = new IntervalTree<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     /**
      * Adiciona um novo evento ao repositório de consultas.
@@ -54,7 +126,7 @@ public class QueryRepository {
         }
 
         // Adiciona o evento ao armazenamento em memória
-        storage.put(eventQuery.id(), eventQuery);
+        store(eventQuery);
     }
 
     /**
@@ -73,7 +145,7 @@ public class QueryRepository {
         }
 
         // Atualiza o evento no armazenamento (substitui se existir)
-        storage.put(eventQuery.id(), eventQuery);
+        store(eventQuery);
     }
 
     /**
@@ -86,15 +158,23 @@ public class QueryRepository {
      * @param id identificador único do evento a ser removido
      * @throws IllegalArgumentException se id for null
      *
-     * @see com.nexttag.agendacqrs.infrastructure.event.QueryEventHandler#onEventDeleted
+     * @see com.nexttag.agendacqrs.infrastructure.event.QueryEventHandler#apply
      */
     public void remove(UUID id) {
         if (id == null) {
             throw new IllegalArgumentException("Event ID cannot be null");
         }
 
-        // Remove o evento do armazenamento
-        storage.remove(id);
+        // Remove o evento do armazenamento e dos índices sob o lock de escrita
+        lock.writeLock().lock();
+        try {
+            CompactEvent previous = storage.remove(id);
+            if (previous != null) {
+                unindex(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -110,8 +190,253 @@ public class QueryRepository {
      * @see com.nexttag.agendacqrs.query.handler.ListEventsHandler#handle()
      */
     public List<EventQuery> findAll() {
-        // Retorna cópia imutável dos valores para evitar modificações externas
-        return new ArrayList<>(storage.values());
+        // Retorna cópia dos valores para evitar modificações externas
+        List<CompactEvent> stored;
+        lock.readLock().lock();
+        try {
+            stored = storage.values();
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<EventQuery> events = new ArrayList<>(stored.size());
+        for (CompactEvent event : stored) {
+            events.add(event.decode());
+        }
+        return events;
+    }
+
+    /**
+     * Retorna os próximos eventos a partir de um instante, em ordem cronológica.
+     * <p>
+     * Posiciona-se no índice por data em O(log n) e lê apenas {@code limit} entradas.
+     * Eventos atualizados para o passado ou excluídos já saíram do índice quando a
+     * atualização correspondente foi aplicada.
+     * </p>
+     *
+     * @param from  instante inicial (inclusivo)
+     * @param limit quantidade máxima de eventos
+     * @return lista com no máximo {@code limit} eventos com data maior ou igual a {@code from}
+     * @throws IllegalArgumentException se from for null
+     *
+     * @see com.nexttag.agendacqrs.query.handler.ListUpcomingEventsHandler#handle(int)
+     */
+    public List<EventQuery> findUpcoming(LocalDateTime from, int limit) {
+        return findBetween(from, null, limit);
+    }
+
+    /**
+     * Retorna os eventos em {@code [from, to)} em ordem cronológica, incluindo as ocorrências das séries.
+     * <p>
+     * Cada série contribui com um iterador preguiçoso que salta direto para {@code from}; a intercalação
+     * para ao atingir {@code limit}, então só as ocorrências devolvidas são calculadas.
+     * </p>
+     *
+     * @param from  instante inicial (inclusivo)
+     * @param to    instante final (exclusivo), ou null para não limitar
+     * @param limit quantidade máxima de eventos
+     * @return lista com no máximo {@code limit} eventos, ordenada por data e id
+     * @throws IllegalArgumentException se from for null ou não for anterior a to
+     *
+     * @see com.nexttag.agendacqrs.query.handler.ListEventsInRangeHandler#handle(LocalDateTime, LocalDateTime, int)
+     */
+    public List<EventQuery> findBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        if (from == null) {
+            throw new IllegalArgumentException("Start date cannot be null");
+        }
+        if (to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+
+        NavigableSet<CompactEvent> range = to == null
+                ? byDate.tailSet(CompactEvent.lowest(from), true)
+                : byDate.subSet(CompactEvent.lowest(from), true, CompactEvent.lowest(to), false);
+        List<EventQuery> result = new ArrayList<>(Math.max(0, Math.min(limit, 256)));
+        List<SeriesSpan> active = activeSeries(from, to == null ? LocalDateTime.MAX : to);
+        if (active.isEmpty()) {
+            Iterator<CompactEvent> iterator = range.iterator();
+            while (result.size() < limit && iterator.hasNext()) {
+                result.add(iterator.next().decode());
+            }
+            return result;
+        }
+
+        // Intercalação k-way: índice por data + um iterador de ocorrências por série
+        PriorityQueue<Source> sources = new PriorityQueue<>();
+        Iterator<CompactEvent> indexed = range.iterator();
+        Source.offer(sources, new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return indexed.hasNext();
+            }
+
+            @Override
+            public EventQuery next() {
+                return indexed.next().decode();
+            }
+        });
+        for (SeriesSpan span : active) {
+            CompactEvent recurring = span.series;
+            Iterator<LocalDateTime> dates = recurring.recurrence().occurrences(recurring.date(), from, to);
+            Source.offer(sources, new Iterator<>() {
+                // Decodificada uma vez, na primeira ocorrência que entra no resultado
+                private EventQuery decoded;
+
+                @Override
+                public boolean hasNext() {
+                    return dates.hasNext();
+                }
+
+                @Override
+                public EventQuery next() {
+                    if (decoded == null) {
+                        decoded = recurring.decode();
+                    }
+                    return decoded.occurrenceAt(dates.next());
+                }
+            });
+        }
+        while (result.size() < limit && !sources.isEmpty()) {
+            Source source = sources.poll();
+            result.add(source.head);
+            if (source.advance()) {
+                sources.add(source);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retorna os eventos que ocupam algum instante de {@code [from, to)}, incluindo ocorrências de séries.
+     * <p>
+     * Os eventos avulsos vêm da árvore de intervalos, sem varrer a projeção. As séries vêm da árvore de
+     * séries, só as que têm ocorrências no período da janela; para cada uma, com duração {@code d}, só são
+     * calculadas as ocorrências que começam em {@code [from - d, to)}.
+     * Eventos sem {@code end} não ocupam tempo e nunca aparecem aqui.
+     * </p>
+     *
+     * @param from      início da janela (inclusivo)
+     * @param to        fim da janela (exclusivo)
+     * @param limit     quantidade máxima de eventos
+     * @param ignoredId id que não deve ser considerado (o próprio evento, ao checar uma alteração), ou null
+     * @return lista com no máximo {@code limit} eventos, ordenada por data e id
+     * @throws IllegalArgumentException se from ou to forem null ou from não for anterior a to
+     *
+     * @see com.nexttag.agendacqrs.query.handler.FindConflictsHandler#handle(LocalDateTime, LocalDateTime, int)
+     */
+    public List<EventQuery> findOverlapping(LocalDateTime from, LocalDateTime to, int limit, UUID ignoredId) {
+        List<CompactEvent> overlapping = overlapping(from, to, limit, ignoredId);
+        List<EventQuery> result = new ArrayList<>(overlapping.size());
+        for (CompactEvent event : overlapping) {
+            result.add(event.decode());
+        }
+        return result;
+    }
+
+    /**
+     * Como {@link #findOverlapping}, mas devolve só os ids distintos, sem remontar os eventos: primeiro
+     * os eventos avulsos, por data, e depois as séries.
+     *
+     * @throws IllegalArgumentException se from ou to forem null ou from não for anterior a to
+     *
+     * @see com.nexttag.agendacqrs.command.handler.ConflictChecker
+     */
+    public List<UUID> findOverlappingIds(LocalDateTime from, LocalDateTime to, int limit, UUID ignoredId) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Start and end dates cannot be null");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+        return findOverlappingIds(List.of(from), Duration.between(from, to), limit, ignoredId);
+    }
+
+    /**
+     * Ids dos eventos que ocupam algum instante de alguma das janelas {@code [start, start + duration)},
+     * como {@link #findOverlappingIds(LocalDateTime, LocalDateTime, int, UUID)} repetida para cada início.
+     * <p>
+     * Séries com fim são buscadas janela a janela na sua árvore, que devolve só as que alcançam cada uma.
+     * Séries sem fim alcançam todas as janelas depois do seu início: são buscadas uma vez só, para o
+     * período inteiro, e as ocorrências de cada uma são comparadas às janelas em uma única passada que
+     * salta direto para a próxima janela. O custo delas não multiplica o número de séries pelo de janelas.
+     * </p>
+     *
+     * @param starts    inícios das janelas, em ordem crescente
+     * @param duration  duração de cada janela
+     * @param limit     quantidade máxima de ids
+     * @param ignoredId id que não deve ser considerado, ou null
+     * @return até {@code limit} ids distintos: os eventos avulsos, janela a janela, e depois as séries
+     * @throws IllegalArgumentException se a duração não for positiva
+     *
+     * @see com.nexttag.agendacqrs.command.handler.ConflictChecker
+     */
+    public List<UUID> findOverlappingIds(List<LocalDateTime> starts, Duration duration, int limit, UUID ignoredId) {
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        if (starts.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> ids = new LinkedHashSet<>();
+        for (int i = 0; i < starts.size() && ids.size() < limit; i++) {
+            LocalDateTime from = starts.get(i);
+            LocalDateTime to = from.plus(duration);
+            List<CompactEvent> events;
+            List<SeriesSpan> bounded;
+            lock.readLock().lock();
+            try {
+                events = intervals.overlapping(from, to, limit - ids.size(), ignoredId);
+                bounded = boundedSeries.size() == 0 ? List.of()
+                        : boundedSeries.overlapping(from, to, Integer.MAX_VALUE, ignoredId);
+            } finally {
+                lock.readLock().unlock();
+            }
+            for (CompactEvent event : events) {
+                ids.add(event.id());
+            }
+            for (int j = 0; j < bounded.size() && ids.size() < limit; j++) {
+                CompactEvent recurring = bounded.get(j).series;
+                UUID id = recurring.id();
+                if (!ids.contains(id) && recurring.hasInterval() && overlaps(recurring, from, to)) {
+                    ids.add(id);
+                }
+            }
+        }
+        if (ids.size() >= limit) {
+            return List.copyOf(ids);
+        }
+
+        List<SeriesSpan> open;
+        lock.readLock().lock();
+        try {
+            open = openSeries.size() == 0 ? List.of()
+                    : openSeries.overlapping(starts.get(0), starts.get(starts.size() - 1).plus(duration), Integer.MAX_VALUE, ignoredId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (int i = 0; i < open.size() && ids.size() < limit; i++) {
+            CompactEvent recurring = open.get(i).series;
+            if (recurring.hasInterval() && overlapsAny(recurring, starts, duration)) {
+                ids.add(recurring.id());
+            }
+        }
+        return List.copyOf(ids);
+    }
+
+    /**
+     * Retorna o intervalo {@code [date, end)} de cada evento que ocupa algum instante de
+     * {@code [from, to)}, ordenados por início, sem recortar às bordas da janela nem remontar os eventos.
+     *
+     * @throws IllegalArgumentException se from ou to forem null ou from não for anterior a to
+     *
+     * @see com.nexttag.agendacqrs.query.handler.FreeBusyHandler
+     */
+    public List<TimeRange> findBusyIntervals(LocalDateTime from, LocalDateTime to) {
+        List<CompactEvent> overlapping = overlapping(from, to, Integer.MAX_VALUE, null);
+        List<TimeRange> result = new ArrayList<>(overlapping.size());
+        for (CompactEvent event : overlapping) {
+            result.add(new TimeRange(event.date(), event.end()));
+        }
+        return result;
     }
 
     /**
@@ -130,7 +455,14 @@ public class QueryRepository {
             throw new IllegalArgumentException("Event ID cannot be null");
         }
 
-        return Optional.ofNullable(storage.get(id));
+        CompactEvent event;
+        lock.readLock().lock();
+        try {
+            event = storage.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Optional.ofNullable(event).map(CompactEvent::decode);
     }
 
     /**
@@ -142,7 +474,12 @@ public class QueryRepository {
      * @return quantidade total de eventos no repositório
      */
     public int count() {
-        return storage.size();
+        lock.readLock().lock();
+        try {
+            return storage.size();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
@@ -153,6 +490,298 @@ public class QueryRepository {
      * </p>
      */
     public void clear() {
-        storage.clear();
+        lock.writeLock().lock();
+        try {
+            storage.clear();
+            byDate.clear();
+            boundedSeries.clear();
+            openSeries.clear();
+            intervals.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Eventos avulsos e ocorrências de séries que ocupam algum instante de {@code [from, to)}, na ordem
+     * de {@link CompactEvent#BY_DATE}; as ocorrências compartilham título e descrição com a série.
+     */
+    private List<CompactEvent> overlapping(LocalDateTime from, LocalDateTime to, int limit, UUID ignoredId) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Start and end dates cannot be null");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+
+        List<CompactEvent> result;
+        List<SeriesSpan> active;
+        lock.readLock().lock();
+        try {
+            result = intervals.overlapping(from, to, limit, ignoredId);
+            active = seriesOverlapping(from, to, ignoredId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (active.isEmpty()) {
+            return result;
+        }
+
+        boolean merged = false;
+        for (SeriesSpan span : active) {
+            CompactEvent recurring = span.series;
+            if (!recurring.hasInterval()) {
+                continue;
+            }
+            Duration duration = Duration.between(recurring.date(), recurring.end());
+            Iterator<LocalDateTime> dates = recurring.recurrence().occurrences(recurring.date(), from.minus(duration), to);
+            for (int taken = 0; taken < limit && dates.hasNext(); ) {
+                LocalDateTime occurrence = dates.next();
+                // Começar exatamente em from - d significa terminar em from: encosta, não sobrepõe
+                if (occurrence.plus(duration).isAfter(from)) {
+                    result.add(recurring.at(occurrence));
+                    merged = true;
+                    taken++;
+                }
+            }
+        }
+        if (merged) {
+            result.sort(CompactEvent.BY_DATE);
+        }
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * Séries com alguma ocorrência que começa antes de {@code to} e termina depois de {@code from}
+     * (ou, sem duração, começa em {@code [from, to)}), talvez com algumas a mais; em ordem de data inicial.
+     */
+    private List<SeriesSpan> activeSeries(LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            return seriesOverlapping(from, to, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Séries das duas árvores cujo período alcança {@code [from, to)}; exige o lock de leitura.
+     */
+    private List<SeriesSpan> seriesOverlapping(LocalDateTime from, LocalDateTime to, UUID ignoredId) {
+        if (boundedSeries.size() == 0 && openSeries.size() == 0) {
+            return List.of();
+        }
+        List<SeriesSpan> active = boundedSeries.overlapping(from, to, Integer.MAX_VALUE, ignoredId);
+        active.addAll(openSeries.overlapping(from, to, Integer.MAX_VALUE, ignoredId));
+        return active;
+    }
+
+    /**
+     * Indica se alguma ocorrência da série se sobrepõe a {@code [from, to)}.
+     */
+    private static boolean overlaps(CompactEvent recurring, LocalDateTime from, LocalDateTime to) {
+        Duration length = Duration.between(recurring.date(), recurring.end());
+        Iterator<LocalDateTime> occurrences = recurring.recurrence().occurrences(recurring.date(), from.minus(length), to);
+        while (occurrences.hasNext()) {
+            // Começar exatamente em from - d significa terminar em from: encosta, não sobrepõe
+            if (occurrences.next().plus(length).isAfter(from)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indica se alguma ocorrência da série se sobrepõe a alguma das janelas ordenadas.
+     * <p>
+     * Como as janelas têm a mesma duração, inícios e fins crescem juntos: a janela atual é a primeira
+     * que termina depois da ocorrência, e se nem ela começa antes do fim da ocorrência nenhuma outra
+     * começa. Quando a janela atual fica a mais de {@link #SKIP_STEPS} intervalos entre ocorrências, o
+     * iterador é recriado a partir dela em vez de passar por todas as ocorrências do caminho; janelas
+     * próximas seguem o iterador, que é mais barato que recriá-lo.
+     * </p>
+     */
+    private static boolean overlapsAny(CompactEvent recurring, List<LocalDateTime> starts, Duration duration) {
+        Duration length = Duration.between(recurring.date(), recurring.end());
+        LocalDateTime to = starts.get(starts.size() - 1).plus(duration);
+        Iterator<LocalDateTime> occurrences = recurring.recurrence()
+                .occurrences(recurring.date(), starts.get(0).minus(length), to);
+        LocalDateTime previous = null;
+        int window = 0;
+        while (occurrences.hasNext()) {
+            LocalDateTime occurrence = occurrences.next();
+            while (window < starts.size() && !starts.get(window).plus(duration).isAfter(occurrence)) {
+                window++;
+            }
+            if (window == starts.size()) {
+                return false;
+            }
+            LocalDateTime start = starts.get(window);
+            LocalDateTime occurrenceEnd = occurrence.plus(length);
+            if (start.isBefore(occurrenceEnd)) {
+                return true;
+            }
+            if (previous != null && Duration.between(occurrenceEnd, start)
+                    .compareTo(Duration.between(previous, occurrence).multipliedBy(SKIP_STEPS)) > 0) {
+                // Terminar exatamente no início da janela só encosta: a busca recomeça logo depois disso
+                occurrences = recurring.recurrence().occurrences(recurring.date(), start.minus(length).plusNanos(1), to);
+                previous = null;
+            } else {
+                previous = occurrence;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Grava o evento na tabela por id e move suas entradas nos índices.
+     * <p>
+     * O lock de escrita serializa as escritas, então a entrada antiga dos índices é sempre a que
+     * corresponde ao valor substituído.
+     * </p>
+     */
+    private void store(EventQuery eventQuery) {
+        CompactEvent compact = CompactEvent.encode(eventQuery);
+        // Validado antes de mexer na tabela, para que um intervalo inválido não deixe os índices pela metade
+        if (!compact.isRecurring() && compact.hasInterval() && !eventQuery.end().isAfter(eventQuery.date())) {
+            throw new IllegalArgumentException("Interval end must be after start");
+        }
+        lock.writeLock().lock();
+        try {
+            CompactEvent previous = storage.put(compact);
+            if (previous != null) {
+                unindex(previous);
+            }
+            if (compact.isRecurring()) {
+                SeriesSpan span = SeriesSpan.of(compact);
+                if (span != null) {
+                    seriesTree(compact).insert(span);
+                }
+            } else if (compact.hasDate()) {
+                byDate.add(compact);
+                if (compact.hasInterval()) {
+                    intervals.insert(compact);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unindex(CompactEvent previous) {
+        if (previous.isRecurring()) {
+            if (previous.hasDate()) {
+                seriesTree(previous).remove(new SeriesSpan(previous, Long.MAX_VALUE, 0));
+            }
+        } else if (previous.hasDate()) {
+            byDate.remove(previous);
+            if (previous.hasInterval()) {
+                intervals.remove(previous);
+            }
+        }
+    }
+
+    private IntervalTree<SeriesSpan> seriesTree(CompactEvent recurring) {
+        return recurring.recurrence().isOpenEnded() ? openSeries : boundedSeries;
+    }
+
+    /**
+     * Entrada das árvores de séries: a série, pela data inicial e id, e o fim da sua última ocorrência.
+     */
+    private static final class SeriesSpan implements IntervalTree.Interval {
+        private final CompactEvent series;
+        private final long endSecond;
+        private final int endNano;
+
+        private SeriesSpan(CompactEvent series, long endSecond, int endNano) {
+            this.series = series;
+            this.endSecond = endSecond;
+            this.endNano = endNano;
+        }
+
+        /**
+         * Período da série, ou null se ela não tiver data ou nenhuma ocorrência.
+         */
+        static SeriesSpan of(CompactEvent series) {
+            if (!series.hasDate()) {
+                return null;
+            }
+            RecurrenceRule rule = series.recurrence();
+            if (rule.isOpenEnded()) {
+                return new SeriesSpan(series, Long.MAX_VALUE, 0);
+            }
+            // A última ocorrência sai direto da busca binária sobre COUNT ou do UNTIL
+            Iterator<LocalDateTime> last = rule.occurrencesDescending(series.date(), null, null);
+            if (!last.hasNext()) {
+                return null;
+            }
+            // Sem duração a ocorrência ocupa só o seu instante; o nano a mais mantém o intervalo não vazio
+            Duration length = series.hasInterval() ? Duration.between(series.date(), series.end()) : Duration.ZERO;
+            LocalDateTime end = last.next().plus(length.isPositive() ? length : Duration.ofNanos(1));
+            return new SeriesSpan(series, end.toEpochSecond(ZoneOffset.UTC), end.getNano());
+        }
+
+        @Override
+        public long startSecond() {
+            return series.dateSecond;
+        }
+
+        @Override
+        public int startNano() {
+            return series.dateNano;
+        }
+
+        @Override
+        public long endSecond() {
+            return endSecond;
+        }
+
+        @Override
+        public int endNano() {
+            return endNano;
+        }
+
+        @Override
+        public long idMsb() {
+            return series.idMsb;
+        }
+
+        @Override
+        public long idLsb() {
+            return series.idLsb;
+        }
+    }
+
+    /**
+     * Cabeça de um iterador ordenado na intercalação de {@link #findBetween}.
+     */
+    private static final class Source implements Comparable<Source> {
+        private final Iterator<EventQuery> iterator;
+        private EventQuery head;
+
+        private Source(Iterator<EventQuery> iterator) {
+            this.iterator = iterator;
+            this.head = iterator.next();
+        }
+
+        static void offer(PriorityQueue<Source> sources, Iterator<EventQuery> iterator) {
+            if (iterator.hasNext()) {
+                sources.add(new Source(iterator));
+            }
+        }
+
+        boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            head = iterator.next();
+            return true;
+        }
+
+        @Override
+        public int compareTo(Source other) {
+            int cmp = head.date().compareTo(other.head.date());
+            return cmp != 0 ? cmp : head.id().compareTo(other.head.id());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pool limitado de strings canônicas, para que textos repetidos entre eventos sejam guardados uma vez só.
+ * <p>
+ * Títulos se repetem muito em uma agenda ("Daily", "1:1", "Reunião de planejamento"), mas cada comando
+ * desserializado traz a sua própria instância. {@link #intern(String)} devolve a instância já guardada
+ * para o mesmo conteúdo, e as demais cópias viram lixo.
+ * </p>
+ *
+ * <p>
+ * O pool é um cache de mapeamento direto: cada string tem uma única posição, dada pelo seu hash, e uma
+ * string nova despeja a que ocupava a posição. A memória fica presa em {@code capacity} referências, e
+ * títulos que saíram de uso são substituídos pelos que estão chegando em vez de ocuparem o pool para
+ * sempre. Um título despejado continua correto nos eventos que já o guardam; só a próxima cópia dele
+ * deixa de ser deduplicada com aquelas. Leituras e escritas não usam lock.
+ * </p>
+ */
+final class StringPool {
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+
+    /**
+     * @param capacity quantidade de posições, arredondada para a potência de dois seguinte
+     */
+    StringPool(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Pool capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        size = size < capacity ? size << 1 : size;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Retorna a instância canônica da string, guardando-a no lugar da que ocupava a sua posição.
+     *
+     * @param value string a deduplicar (pode ser {@code null})
+     * @return instância igual a {@code value}, compartilhada sempre que possível
+     */
+    String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int hash = value.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+        String pooled = slots.get(slot);
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+        slots.set(slot, value);
+        return value;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
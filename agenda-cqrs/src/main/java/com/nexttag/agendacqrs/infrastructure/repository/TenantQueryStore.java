@@ -0,0 +1,132 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Partição do modelo de leitura de um único tenant.
+ * <p>
+ * Cada tenant tem seu próprio {@link QueryRepository} e seu próprio {@link TitleSuggestionIndex}: mapas,
+ * índices e locks não são compartilhados, então a carga de um tenant movimentado não disputa com as
+ * consultas dos demais, e uma consulta nunca percorre dados de outro tenant.
+ * </p>
+ *
+ * <p>
+ * A partição é criada vazia e carregada na primeira vez em que é usada ({@link #ensureLoaded}). O
+ * {@link #writeLock()} serializa a verificação de conflitos e a gravação dentro do tenant; uma partição
+ * descartada por ociosidade é marcada como {@link #isEvicted() evicted} sob esse mesmo lock, para que
+ * quem a segurava saiba que deve buscar a nova.
+ * </p>
+ *
+ * <p>
+ * Uma escrita confirmada que o outbox não entregou à partição no prazo a deixa {@link #isBehind() atrasada}
+ * até que alguém confirme que ela alcançou as escritas do tenant. Um evento que a projeção não conseguiu
+ * aplicar a deixa {@link #isStale() desatualizada}: o outbox não o entrega de novo, então só recarregar a
+ * partição de {@code command_events} a põe em dia.
+ * </p>
+ */
+public final class TenantQueryStore {
+
+    private final String tenantId;
+    private final QueryRepository events;
+    private final TitleSuggestionIndex titles;
+    private final Lock writeLock = new ReentrantLock();
+
+    private volatile boolean loaded;
+    private volatile boolean evicted;
+    private volatile boolean stale;
+    private volatile long lastAccessNanos = System.nanoTime();
+    // Protegido por writeLock
+    private boolean behind;
+
+    public TenantQueryStore(String tenantId, QueryRepository events, TitleSuggestionIndex titles) {
+        this.tenantId = tenantId;
+        this.events = events;
+        this.titles = titles;
+    }
+
+    public TenantQueryStore(String tenantId) {
+        this(tenantId, new QueryRepository(), new TitleSuggestionIndex());
+    }
+
+    public String tenantId() {
+        return tenantId;
+    }
+
+    public QueryRepository events() {
+        return events;
+    }
+
+    public TitleSuggestionIndex titles() {
+        return titles;
+    }
+
+    /**
+     * Lock das escritas do tenant (verificação de conflitos + gravação + publicação).
+     */
+    public Lock writeLock() {
+        return writeLock;
+    }
+
+    public boolean isEvicted() {
+        return evicted;
+    }
+
+    /**
+     * Indica se alguma escrita confirmada do tenant pode ainda não ter sido aplicada aqui. Só deve ser
+     * lido e alterado com o {@link #writeLock()}.
+     */
+    public boolean isBehind() {
+        return behind;
+    }
+
+    public void setBehind(boolean behind) {
+        this.behind = behind;
+    }
+
+    /**
+     * Indica se algum evento do tenant deixou de ser aplicado aqui; a partição precisa ser recarregada.
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    public void markStale() {
+        stale = true;
+    }
+
+    /**
+     * Carrega a partição uma única vez; chamadas concorrentes esperam a primeira terminar.
+     */
+    void ensureLoaded(Consumer<TenantQueryStore> loader) {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                loader.accept(this);
+                loaded = true;
+            }
+        }
+    }
+
+    /**
+     * Marca como carregada uma partição preenchida por fora, para que {@link #ensureLoaded} não a recarregue.
+     */
+    void markLoaded() {
+        loaded = true;
+    }
+
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    long idleNanos(long now) {
+        return now - lastAccessNanos;
+    }
+
+    void markEvicted() {
+        evicted = true;
+    }
+}
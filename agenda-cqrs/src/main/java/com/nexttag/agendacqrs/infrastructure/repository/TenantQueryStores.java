@@ -0,0 +1,161 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import com.nexttag.agendacqrs.infrastructure.event.QueryProjectionLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Roteia o modelo de leitura para a partição de cada tenant.
+ * <p>
+ * As partições são criadas sob demanda: o primeiro acesso de um tenant cria a partição (operação
+ * barata, feita dentro do {@code computeIfAbsent}) e a carrega com os eventos daquele tenant fora do
+ * lock do mapa, então carregar um tenant grande não bloqueia os outros. Partições sem acesso há mais de
+ * {@code agenda.tenants.idle-timeout} são descartadas e recarregadas do {@code command_events} quando
+ * voltarem a ser usadas; a memória acompanha os tenants ativos, não o total.
+ * </p>
+ *
+ * <p>
+ * A varredura de ociosidade roda no próprio acesso, no máximo uma vez a cada metade do timeout, sem
+ * thread dedicada.
+ * </p>
+ */
+@Component
+public class TenantQueryStores {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantQueryStores.class);
+
+    private final ConcurrentMap<String, TenantQueryStore> stores = new ConcurrentHashMap<>();
+    private final QueryProjectionLoader loader;
+    private final long idleTimeoutNanos;
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+
+    public TenantQueryStores(QueryProjectionLoader loader,
+                             @Value("${agenda.tenants.idle-timeout:10m}") Duration idleTimeout) {
+        this.loader = loader;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    /**
+     * Partição do tenant, carregada se ainda não estiver em memória.
+     *
+     * @param tenantId tenant já resolvido (veja {@link com.nexttag.agendacqrs.domain.tenant.Tenants#resolve})
+     * @return a partição do tenant
+     */
+    public TenantQueryStore get(String tenantId) {
+        maybeEvictIdle();
+        TenantQueryStore store = stores.computeIfAbsent(tenantId, TenantQueryStore::new);
+        store.touch();
+        store.ensureLoaded(loader::load);
+        return store;
+    }
+
+    /**
+     * Partição do tenant, se estiver em memória; não carrega nem conta como acesso.
+     *
+     * @return a partição, ou null se o tenant não estiver carregado
+     */
+    public TenantQueryStore getIfLoaded(String tenantId) {
+        return stores.get(tenantId);
+    }
+
+    /**
+     * Tenants com partição em memória neste momento.
+     */
+    public Set<String> loadedTenants() {
+        return Set.copyOf(stores.keySet());
+    }
+
+    /**
+     * Troca a partição em memória por outra já preenchida, montada por fora (reconstrução do modelo de
+     * leitura). Quem chama deve segurar o {@link TenantQueryStore#writeLock()} da partição atual; ela é
+     * marcada como evicted, então quem esperava o lock passa para a nova.
+     *
+     * @param current partição atual do tenant
+     * @param fresh   partição nova, do mesmo tenant
+     * @return false se a partição atual já não estava mais em memória
+     */
+    public boolean replace(TenantQueryStore current, TenantQueryStore fresh) {
+        if (!current.tenantId().equals(fresh.tenantId())) {
+            throw new IllegalArgumentException("Stores belong to different tenants");
+        }
+        fresh.markLoaded();
+        fresh.touch();
+        if (!stores.replace(current.tenantId(), current, fresh)) {
+            return false;
+        }
+        current.markEvicted();
+        return true;
+    }
+
+    /**
+     * Descarta a partição se ela ficou {@link TenantQueryStore#isStale() desatualizada}; o próximo
+     * {@link #get} a recarrega de {@code command_events}. Quem chama deve segurar o
+     * {@link TenantQueryStore#writeLock()} da partição.
+     *
+     * @return true se a partição foi descartada
+     */
+    public boolean evictIfStale(TenantQueryStore store) {
+        if (!store.isStale()) {
+            return false;
+        }
+        stores.remove(store.tenantId(), store);
+        store.markEvicted();
+        log.warn("Evicted stale query store of tenant '{}', reloading it from command_events", store.tenantId());
+        return true;
+    }
+
+    /**
+     * Quantidade de partições em memória.
+     */
+    public int size() {
+        return stores.size();
+    }
+
+    /**
+     * Descarta as partições ociosas há mais que o timeout.
+     *
+     * @return quantidade de partições descartadas
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (TenantQueryStore store : stores.values()) {
+            if (store.idleNanos(now) < idleTimeoutNanos) {
+                continue;
+            }
+            // Sob o lock de escrita: nenhuma gravação do tenant está em andamento na partição descartada.
+            // tryLock porque a varredura pode rodar dentro da escrita de outro tenant; partição ocupada não está ociosa
+            if (!store.writeLock().tryLock()) {
+                continue;
+            }
+            try {
+                if (store.idleNanos(now) >= idleTimeoutNanos && stores.remove(store.tenantId(), store)) {
+                    store.markEvicted();
+                    evicted++;
+                }
+            } finally {
+                store.writeLock().unlock();
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle tenant stores", evicted);
+        }
+        return evicted;
+    }
+
+    private void maybeEvictIdle() {
+        long now = System.nanoTime();
+        long last = lastSweepNanos.get();
+        if (now - last >= idleTimeoutNanos / 2 && lastSweepNanos.compareAndSet(last, now)) {
+            evictIdle();
+        }
+    }
+}
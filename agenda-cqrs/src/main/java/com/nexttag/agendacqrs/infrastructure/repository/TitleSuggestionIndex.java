@@ -0,0 +1,258 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import com.nexttag.agendacqrs.query.model.TitleSuggestion;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.regex.Pattern;
+
+/**
+ * Projeção de leitura para autocompletar títulos de eventos.
+ * <p>
+ * Os títulos são normalizados (minúsculas, sem acentos, espaços colapsados) e mantidos em um
+ * {@link ConcurrentSkipListMap} ordenado. Uma busca por prefixo percorre apenas o intervalo
+ * {@code [prefixo, prefixo + Character.MAX_VALUE)} do índice, sem varrer o repositório de consultas,
+ * e para cada título consulta a próxima ocorrência em um conjunto ordenado por data. Séries
+ * recorrentes ficam à parte e têm a próxima ocorrência calculada pela regra na hora da busca.
+ * </p>
+ *
+ * <p>
+ * Leituras não usam lock. As escritas, bem menos frequentes que as teclas digitadas no
+ * autocompletar, são serializadas para que um título sem ocorrências seja removido sem
+ * disputar com uma inserção concorrente do mesmo título.
+ * </p>
+ *
+ * @author Sistema Agenda CQRS
+ * @version 1.0
+ * @since 1.0
+ */
+public class TitleSuggestionIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    /**
+     * Título normalizado → ocorrências daquele título.
+     */
+    private final ConcurrentSkipListMap<String, TitleEntry> titles = new ConcurrentSkipListMap<>();
+
+    /**
+     * Indexa o título de um evento.
+     *
+     * @param event evento do modelo de leitura
+     */
+    public synchronized void add(EventQuery event) {
+        String key = normalize(event.title());
+        if (key.isEmpty()) {
+            return;
+        }
+        TitleEntry entry = titles.computeIfAbsent(key, k -> new TitleEntry());
+        entry.title = event.title();
+        if (event.isRecurring()) {
+            entry.series.put(event.id(), event);
+        } else {
+            entry.occurrences.add(Occurrence.of(event.date(), event.id()));
+        }
+    }
+
+    /**
+     * Remove a ocorrência de um evento; o título sai do índice quando não restam ocorrências.
+     *
+     * @param event evento como estava indexado
+     */
+    public synchronized void remove(EventQuery event) {
+        String key = normalize(event.title());
+        TitleEntry entry = titles.get(key);
+        if (entry == null) {
+            return;
+        }
+        if (event.isRecurring()) {
+            entry.series.remove(event.id());
+        } else {
+            entry.occurrences.remove(Occurrence.of(event.date(), event.id()));
+        }
+        if (entry.occurrences.isEmpty() && entry.series.isEmpty()) {
+            titles.remove(key);
+        }
+    }
+
+    /**
+     * Substitui a versão anterior de um evento pela nova.
+     *
+     * @param previous versão anterior (pode ser {@code null} se o evento não estava indexado)
+     * @param current  nova versão
+     */
+    public synchronized void replace(EventQuery previous, EventQuery current) {
+        if (previous != null) {
+            remove(previous);
+        }
+        add(current);
+    }
+
+    /**
+     * Busca os títulos que começam com o prefixo informado.
+     * <p>
+     * Títulos com eventos futuros vêm primeiro, do mais próximo ao mais distante; depois os
+     * títulos cujos eventos já passaram, do mais recente ao mais antigo.
+     * </p>
+     *
+     * @param prefix prefixo digitado (normalizado da mesma forma que os títulos)
+     * @param limit  quantidade máxima de sugestões
+     * @param now    instante de referência para "próximo evento"
+     * @return sugestões ordenadas por relevância
+     */
+    public List<TitleSuggestion> suggest(String prefix, int limit, LocalDateTime now) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        // Heap limitado a "limit" elementos com o menos relevante no topo: O(m log k) para m títulos casados
+        Comparator<Ranked> relevance = Comparator.comparing(Ranked::past)
+                .thenComparing(ranked -> ranked.past() ? -epochKey(ranked.date()) : epochKey(ranked.date()));
+        PriorityQueue<Ranked> top = new PriorityQueue<>(limit + 1, relevance.reversed());
+        Occurrence from = Occurrence.of(now, MIN_ID);
+        for (Map.Entry<String, TitleEntry> match : titles.subMap(key, true, key + Character.MAX_VALUE, false).entrySet()) {
+            TitleEntry entry = match.getValue();
+            Occurrence next = earliest(entry.occurrences.ceiling(from), nextOfSeries(entry, now));
+            boolean past = next == null;
+            Occurrence chosen = past ? latest(lastOrNull(entry.occurrences), lastOfSeries(entry, now)) : next;
+            if (chosen == null) {
+                continue;
+            }
+            top.add(new Ranked(entry.title, chosen.id(), chosen.date(), past));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Ranked> ranked = new ArrayList<>(top);
+        ranked.sort(relevance);
+        return ranked.stream()
+                .map(r -> new TitleSuggestion(r.title(), r.id(), r.date()))
+                .toList();
+    }
+
+    /**
+     * Quantidade de títulos distintos indexados.
+     *
+     * @return número de títulos
+     */
+    public int size() {
+        return titles.size();
+    }
+
+    /**
+     * Remove todos os títulos do índice.
+     */
+    public synchronized void clear() {
+        titles.clear();
+    }
+
+    /**
+     * Normaliza um título para comparação: minúsculas, sem acentos e com espaços colapsados.
+     *
+     * @param title título original
+     * @return título normalizado (vazio se {@code null})
+     */
+    static String normalize(String title) {
+        if (title == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(title, Normalizer.Form.NFD);
+        String withoutAccents = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(withoutAccents.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Occurrence lastOrNull(NavigableSet<Occurrence> occurrences) {
+        // O conjunto pode ter ficado vazio entre o get e esta leitura, já que leituras não usam lock
+        try {
+            return occurrences.last();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    private static Occurrence nextOfSeries(TitleEntry entry, LocalDateTime now) {
+        Occurrence next = null;
+        for (EventQuery series : entry.series.values()) {
+            Iterator<LocalDateTime> dates = series.recurrence().occurrences(series.date(), now, null);
+            if (dates.hasNext()) {
+                next = earliest(next, Occurrence.of(dates.next(), series.id()));
+            }
+        }
+        return next;
+    }
+
+    private static Occurrence lastOfSeries(TitleEntry entry, LocalDateTime now) {
+        Occurrence last = null;
+        for (EventQuery series : entry.series.values()) {
+            Iterator<LocalDateTime> dates = series.recurrence().occurrencesDescending(series.date(), null, now);
+            if (dates.hasNext()) {
+                last = latest(last, Occurrence.of(dates.next(), series.id()));
+            }
+        }
+        return last;
+    }
+
+    private static Occurrence earliest(Occurrence a, Occurrence b) {
+        return a == null ? b : b == null || a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static Occurrence latest(Occurrence a, Occurrence b) {
+        return a == null ? b : b == null || a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static long epochKey(LocalDateTime date) {
+        return date == null ? Long.MIN_VALUE : date.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static final class TitleEntry {
+        private volatile String title;
+        private final NavigableSet<Occurrence> occurrences = new ConcurrentSkipListSet<>();
+        private final Map<UUID, EventQuery> series = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Ocorrência de um título; a data fica em campos primitivos, como no {@link CompactEvent}, para que
+     * o índice não segure um {@code LocalDateTime} por evento. Data {@code null} ordena primeiro.
+     */
+    private record Occurrence(long second, int nano, UUID id) implements Comparable<Occurrence> {
+        private static final Comparator<Occurrence> ORDER = Comparator
+                .comparingLong(Occurrence::second)
+                .thenComparingInt(Occurrence::nano)
+                .thenComparing(Occurrence::id);
+
+        static Occurrence of(LocalDateTime date, UUID id) {
+            return date == null
+                    ? new Occurrence(CompactEvent.NO_DATE, 0, id)
+                    : new Occurrence(date.toEpochSecond(ZoneOffset.UTC), date.getNano(), id);
+        }
+
+        LocalDateTime date() {
+            return second == CompactEvent.NO_DATE ? null : LocalDateTime.ofEpochSecond(second, nano, ZoneOffset.UTC);
+        }
+
+        @Override
+        public int compareTo(Occurrence other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    private record Ranked(String title, UUID id, LocalDateTime date, boolean past) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.nexttag.agendacqrs.query.handler;
+
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class FindConflictsHandler {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    private final TenantQueryStores stores;
+
+    public FindConflictsHandler(TenantQueryStores stores) {
+        this.stores = stores;
+    }
+
+    public List<EventQuery> handle(String tenantId, LocalDateTime from, LocalDateTime to, int limit) {
+        int bounded = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return stores.get(tenantId).events().findOverlapping(from, to, bounded, null);
+    }
+}
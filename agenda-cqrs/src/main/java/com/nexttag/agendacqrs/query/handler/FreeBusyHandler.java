@@ -0,0 +1,93 @@
+package com.nexttag.agendacqrs.query.handler;
+
+import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.query.model.FreeBusy;
+import com.nexttag.agendacqrs.query.model.TimeRange;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Calcula os blocos ocupados de uma ou mais janelas de tempo.
+ * <p>
+ * Os intervalos da janela vêm do repositório de consultas já ordenados por início (árvore de intervalos
+ * mais ocorrências das séries), lidos dos campos primitivos sem remontar título e descrição dos eventos;
+ * uma única passada linear funde os que se sobrepõem ou se encostam.
+ * A resposta tem um bloco por período ocupado contínuo, não um item por evento.
+ * </p>
+ */
+@Component
+public class FreeBusyHandler {
+
+    /**
+     * Quantidade máxima de janelas por requisição em lote.
+     */
+    public static final int MAX_RANGES = 50;
+
+    /**
+     * Duração máxima de cada janela; limita a expansão de séries recorrentes.
+     */
+    public static final Duration MAX_WINDOW = Duration.ofDays(366);
+
+    private final TenantQueryStores stores;
+
+    public FreeBusyHandler(TenantQueryStores stores) {
+        this.stores = stores;
+    }
+
+    public FreeBusy handle(String tenantId, TimeRange window) {
+        return handle(stores.get(tenantId).events(), window);
+    }
+
+    public List<FreeBusy> handle(String tenantId, List<TimeRange> windows) {
+        if (windows.size() > MAX_RANGES) {
+            throw new IllegalArgumentException("At most " + MAX_RANGES + " ranges per request");
+        }
+        QueryRepository repository = stores.get(tenantId).events();
+        List<FreeBusy> result = new ArrayList<>(windows.size());
+        for (TimeRange window : windows) {
+            result.add(handle(repository, window));
+        }
+        return result;
+    }
+
+    private static FreeBusy handle(QueryRepository repository, TimeRange window) {
+        if (Duration.between(window.start(), window.end()).compareTo(MAX_WINDOW) > 0) {
+            throw new IllegalArgumentException("Window cannot be longer than " + MAX_WINDOW.toDays() + " days");
+        }
+        return new FreeBusy(window, merge(window, repository.findBusyIntervals(window.start(), window.end())));
+    }
+
+    /**
+     * Funde intervalos ordenados por início em blocos disjuntos, recortados à janela.
+     */
+    private static List<TimeRange> merge(TimeRange window, List<TimeRange> intervals) {
+        List<TimeRange> busy = new ArrayList<>();
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        for (TimeRange interval : intervals) {
+            LocalDateTime eventStart = interval.start().isBefore(window.start()) ? window.start() : interval.start();
+            LocalDateTime eventEnd = interval.end().isAfter(window.end()) ? window.end() : interval.end();
+            if (start != null && !eventStart.isAfter(end)) {
+                // Sobrepõe ou encosta no bloco atual: só estende o fim
+                if (eventEnd.isAfter(end)) {
+                    end = eventEnd;
+                }
+                continue;
+            }
+            if (start != null) {
+                busy.add(new TimeRange(start, end));
+            }
+            start = eventStart;
+            end = eventEnd;
+        }
+        if (start != null) {
+            busy.add(new TimeRange(start, end));
+        }
+        return busy;
+    }
+}
@@ -1,6 +1,6 @@
 package com.nexttag.agendacqrs.query.handler;
 
-import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
 import com.nexttag.agendacqrs.query.model.EventQuery;
 import org.springframework.stereotype.Component;
 
@@ -8,13 +8,13 @@ import java.util.List;
 
 @Component
 public class ListEventsHandler {
-    private final QueryRepository repository;
+    private final TenantQueryStores stores;
 
-    public ListEventsHandler(QueryRepository repository) {
-        this.repository = repository;
+    public ListEventsHandler(TenantQueryStores stores) {
+        this.stores = stores;
     }
 
-    public List<EventQuery> handle() {
-        return repository.findAll();
+    public List<EventQuery> handle(String tenantId) {
+        return stores.get(tenantId).events().findAll();
     }
 }
\ No newline at end of file
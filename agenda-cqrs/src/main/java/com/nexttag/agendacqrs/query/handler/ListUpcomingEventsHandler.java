@@ -0,0 +1,26 @@
+package com.nexttag.agendacqrs.query.handler;
+
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+public class ListUpcomingEventsHandler {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 100;
+
+    private final TenantQueryStores stores;
+
+    public ListUpcomingEventsHandler(TenantQueryStores stores) {
+        this.stores = stores;
+    }
+
+    public List<EventQuery> handle(String tenantId, int limit) {
+        int bounded = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return stores.get(tenantId).events().findUpcoming(LocalDateTime.now(), bounded);
+    }
+}
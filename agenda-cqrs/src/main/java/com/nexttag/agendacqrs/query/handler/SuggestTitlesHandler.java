@@ -0,0 +1,34 @@
+package com.nexttag.agendacqrs.query.handler;
+
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.infrastructure.repository.TitleSuggestionIndex;
+import com.nexttag.agendacqrs.query.model.TitleSuggestion;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Handler da consulta de autocompletar títulos.
+ * <p>
+ * Consulta apenas o {@link TitleSuggestionIndex} do tenant; o custo depende do número de títulos que
+ * casam com o prefixo, não do tamanho do repositório de consultas.
+ * </p>
+ */
+@Component
+public class SuggestTitlesHandler {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private final TenantQueryStores stores;
+
+    public SuggestTitlesHandler(TenantQueryStores stores) {
+        this.stores = stores;
+    }
+
+    public List<TitleSuggestion> handle(String tenantId, String prefix, int limit) {
+        int bounded = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return stores.get(tenantId).titles().suggest(prefix, bounded, LocalDateTime.now());
+    }
+}
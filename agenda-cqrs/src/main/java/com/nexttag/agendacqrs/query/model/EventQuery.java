@@ -1,6 +1,39 @@
 package com.nexttag.agendacqrs.query.model;
 
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public record EventQuery(UUID id, String title, String description, LocalDateTime date) {}
\ No newline at end of file
+/**
+ * Modelo de leitura de um evento. Com {@code end} preenchido o evento ocupa o intervalo
+ * {@code [date, end)}. Com {@code recurrence} preenchida representa uma série: {@code date}
+ * é a primeira ocorrência e as demais são calculadas sob demanda, com a mesma duração.
+ */
+public record EventQuery(UUID id, String title, String description, LocalDateTime date, LocalDateTime end,
+                         RecurrenceRule recurrence) {
+
+    public EventQuery(UUID id, String title, String description, LocalDateTime date) {
+        this(id, title, description, date, null, null);
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Indica se o evento ocupa um intervalo de tempo (tem {@code end}).
+     */
+    public boolean hasInterval() {
+        return date != null && end != null;
+    }
+
+    /**
+     * Ocorrência da série na data informada; mantém id, regra e duração da série.
+     */
+    public EventQuery occurrenceAt(LocalDateTime occurrence) {
+        LocalDateTime occurrenceEnd = end == null ? null : occurrence.plus(Duration.between(date, end));
+        return new EventQuery(id, title, description, occurrence, occurrenceEnd, recurrence);
+    }
+}
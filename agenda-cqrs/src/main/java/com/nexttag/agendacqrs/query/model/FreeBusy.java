@@ -0,0 +1,15 @@
+package com.nexttag.agendacqrs.query.model;
+
+import java.util.List;
+
+/**
+ * Blocos ocupados de uma janela de tempo.
+ * <p>
+ * Os blocos são disjuntos, ordenados e recortados à janela: eventos que se sobrepõem ou se encostam
+ * viram um único bloco. O que não está em {@code busy} dentro de {@code window} está livre.
+ * </p>
+ *
+ * @param window janela consultada
+ * @param busy   blocos ocupados, em ordem cronológica
+ */
+public record FreeBusy(TimeRange window, List<TimeRange> busy) {}
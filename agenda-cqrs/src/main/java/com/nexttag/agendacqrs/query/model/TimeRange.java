@@ -0,0 +1,21 @@
+package com.nexttag.agendacqrs.query.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Intervalo semiaberto {@code [start, end)}.
+ *
+ * @param start início (inclusivo)
+ * @param end   fim (exclusivo)
+ */
+public record TimeRange(LocalDateTime start, LocalDateTime end) {
+
+    public TimeRange {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end dates cannot be null");
+        }
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+    }
+}
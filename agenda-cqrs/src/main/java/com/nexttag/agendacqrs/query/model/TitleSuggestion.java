@@ -0,0 +1,18 @@
+package com.nexttag.agendacqrs.query.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Sugestão de título para o autocompletar.
+ * <p>
+ * Cada sugestão corresponde a um título distinto (após normalização) e aponta para a
+ * ocorrência mais relevante dele: o próximo evento a acontecer ou, se todos já passaram,
+ * o mais recente.
+ * </p>
+ *
+ * @param title   título como foi cadastrado
+ * @param eventId identificador da ocorrência escolhida
+ * @param date    data da ocorrência escolhida
+ */
+public record TitleSuggestion(String title, UUID eventId, LocalDateTime date) {}
@@ -0,0 +1,10 @@
+create table command_events (
+    id          uuid not null,
+    title       varchar(255),
+    description varchar(255),
+    date        timestamp(6),
+    primary key (id)
+);
+
+create index idx_command_events_date on command_events (date);
+create index idx_command_events_date_id on command_events (date, id);
@@ -0,0 +1 @@
+alter table command_events add column recurrence varchar(255);
@@ -0,0 +1 @@
+alter table command_events add column end_date timestamp(6);
@@ -0,0 +1,4 @@
+-- Agendas por tenant: linhas existentes ficam na agenda padrão
+alter table command_events add column tenant_id varchar(64) default 'default' not null;
+
+create index idx_command_events_tenant_date on command_events (tenant_id, date);
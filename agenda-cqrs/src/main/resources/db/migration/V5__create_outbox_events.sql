@@ -0,0 +1,13 @@
+-- Outbox transacional: eventos de domínio gravados na mesma transação de command_events
+create table outbox_events (
+    seq          bigint generated by default as identity,
+    tenant_id    varchar(64)   not null,
+    event_type   varchar(32)   not null,
+    event_id     uuid          not null,
+    payload      varchar(2048),
+    created_at   timestamp(6)  not null,
+    processed_at timestamp(6),
+    primary key (seq)
+);
+
+create index idx_outbox_events_pending on outbox_events (processed_at, seq);
@@ -0,0 +1,107 @@
+package com.nexttag.agendacqrs.benchmark;
+
+import com.nexttag.agendacqrs.infrastructure.admission.AdaptiveLimiter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sobrecarga simulada: muito mais clientes concorrentes do que o "banco" consegue atender, com e sem o
+ * {@link AdaptiveLimiter} na frente.
+ * <p>
+ * O banco é um semáforo de {@value #DB_CONNECTIONS} conexões com {@value #SERVICE_MILLIS} ms por escrita;
+ * acima disso as requisições fazem fila. Sem limite, toda requisição entra na fila e a latência cresce com
+ * o número de clientes. Com o limite, o excesso é recusado na hora e quem entra espera pouco.
+ * </p>
+ * <p>
+ * Não roda no build padrão:
+ * {@code mvn test -Dtest=AdmissionControlBenchmarkTest -Dbenchmark=true [-Dbenchmark.clients=400]}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AdmissionControlBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 400);
+    private static final int DB_CONNECTIONS = 10;
+    private static final int SERVICE_MILLIS = 2;
+    private static final long RUN_MILLIS = 5_000;
+
+    @Test
+    void compareWithAndWithoutLimiter() throws Exception {
+        Result unlimited = run(null);
+        Result limited = run(new AdaptiveLimiter(20, 2, 200));
+
+        System.out.printf("%n%d clients, %d connections, %d ms per write, %d s per run%n",
+                CLIENTS, DB_CONNECTIONS, SERVICE_MILLIS, RUN_MILLIS / 1000);
+        System.out.printf("%-12s %12s %12s %12s %12s %12s%n",
+                "strategy", "admitted/s", "rejected/s", "p50 (ms)", "p99 (ms)", "max (ms)");
+        print("no limit", unlimited);
+        print("adaptive", limited);
+    }
+
+    private static Result run(AdaptiveLimiter limiter) throws InterruptedException {
+        Semaphore db = new Semaphore(DB_CONNECTIONS, true);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong rejected = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RUN_MILLIS);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        AdaptiveLimiter.Permit permit = limiter == null ? null : limiter.tryAcquire();
+                        if (limiter != null && permit == null) {
+                            rejected.incrementAndGet();
+                            // Cliente respeitando um Retry-After curto
+                            sleep(20);
+                            continue;
+                        }
+                        try {
+                            db.acquireUninterruptibly();
+                            try {
+                                sleep(SERVICE_MILLIS);
+                            } finally {
+                                db.release();
+                            }
+                        } finally {
+                            if (permit != null) {
+                                permit.release();
+                            }
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                });
+            }
+        }
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(sorted, rejected.get());
+    }
+
+    private static void print(String name, Result result) {
+        long[] sorted = result.latencies();
+        double seconds = RUN_MILLIS / 1000.0;
+        System.out.printf("%-12s %12.0f %12.0f %12.1f %12.1f %12.1f%n", name,
+                sorted.length / seconds, result.rejected() / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(p * sorted.length))] / 1e6;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(long[] latencies, long rejected) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.nexttag.agendacqrs.benchmark;
+
+import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Mede a consulta de conflitos da árvore de intervalos contra uma varredura linear da projeção,
+ * com milhões de eventos de duração variada espalhados por alguns anos.
+ * <p>
+ * Não roda no build padrão:
+ * {@code mvn test -Dtest=IntervalTreeBenchmarkTest -Dbenchmark=true [-Dbenchmark.intervals=5000000] -DargLine=-Xmx4g}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IntervalTreeBenchmarkTest {
+
+    private static final int INTERVALS = Integer.getInteger("benchmark.intervals", 2_000_000);
+    private static final int QUERIES = 20_000;
+    private static final int SCANS = 20;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int SPAN_MINUTES = 3 * 365 * 24 * 60;
+
+    @Test
+    void compareTreeAndLinearScan() {
+        SplittableRandom random = new SplittableRandom(42);
+        QueryRepository repository = new QueryRepository();
+
+        long loadStart = System.nanoTime();
+        for (int i = 0; i < INTERVALS; i++) {
+            LocalDateTime start = BASE.plusMinutes(random.nextInt(SPAN_MINUTES));
+            // Maioria de reuniões curtas e alguns eventos de vários dias, que alongam o maxEnd das subárvores
+            int minutes = random.nextInt(100) < 95 ? 15 + random.nextInt(180) : 24 * 60 + random.nextInt(7 * 24 * 60);
+            repository.add(new EventQuery(UUID.randomUUID(), "Event " + i, null, start, start.plusMinutes(minutes), null));
+        }
+        long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+
+        LocalDateTime[] windows = new LocalDateTime[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            windows[i] = BASE.plusMinutes(random.nextInt(SPAN_MINUTES));
+        }
+
+        long found = 0;
+        for (int i = 0; i < QUERIES / 10; i++) {
+            found += repository.findOverlapping(windows[i], windows[i].plusHours(1), Integer.MAX_VALUE, null).size();
+        }
+        found = 0;
+        long treeStart = System.nanoTime();
+        for (LocalDateTime from : windows) {
+            found += repository.findOverlapping(from, from.plusHours(1), Integer.MAX_VALUE, null).size();
+        }
+        long treeNanos = (System.nanoTime() - treeStart) / QUERIES;
+
+        List<EventQuery> all = repository.findAll();
+        long scanned = 0;
+        long scanStart = System.nanoTime();
+        for (int i = 0; i < SCANS; i++) {
+            LocalDateTime from = windows[i];
+            LocalDateTime to = from.plusHours(1);
+            scanned += all.stream().filter(event -> event.date().isBefore(to) && event.end().isAfter(from)).count();
+        }
+        long scanNanos = (System.nanoTime() - scanStart) / SCANS;
+
+        System.out.printf("%n%d intervals loaded in %d ms, %.1f overlaps per 1h window%n",
+                INTERVALS, loadMillis, (double) found / QUERIES);
+        System.out.printf("%-14s %18s%n", "strategy", "query (us/op)");
+        System.out.printf("%-14s %18.1f%n", "interval tree", treeNanos / 1000.0);
+        System.out.printf("%-14s %18.1f%n", "linear scan", scanNanos / 1000.0);
+        System.out.printf("(scan checksum %d)%n", scanned);
+    }
+}
@@ -0,0 +1,86 @@
+package com.nexttag.agendacqrs.benchmark;
+
+import com.nexttag.agendacqrs.domain.id.IdGenerators;
+import com.nexttag.agendacqrs.infrastructure.event.QueryEventHandler;
+import com.nexttag.agendacqrs.infrastructure.event.QueryProjectionRebuilder;
+import com.nexttag.agendacqrs.infrastructure.repository.CommandJpaRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Mede a reconstrução do modelo de leitura a partir de {@code command_events} com 1, 2, 4... threads de
+ * leitura, até o número de núcleos, contra a carga sequencial do {@code QueryProjectionLoader}.
+ * <p>
+ * Não roda no build padrão:
+ * {@code mvn test -Dtest=ProjectionRebuildBenchmarkTest -Dbenchmark=true [-Dbenchmark.events=500000] -DargLine=-Xmx4g}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:rebuild-benchmark")
+class ProjectionRebuildBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 300_000);
+    private static final int TENANTS = 8;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CommandJpaRepository commandJpaRepository;
+
+    @Autowired
+    private TenantQueryStores stores;
+
+    @Autowired
+    private QueryEventHandler queryEventHandler;
+
+    @Test
+    void rebuildScalesWithThreads() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Object[]> rows = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            LocalDateTime start = BASE.plusMinutes(random.nextInt(3 * 365 * 24 * 60));
+            rows.add(new Object[]{IdGenerators.next(), "tenant-" + (i % TENANTS), "Event " + i, "Description " + i,
+                    Timestamp.valueOf(start), Timestamp.valueOf(start.plusMinutes(30 + random.nextInt(120)))});
+        }
+        jdbcTemplate.batchUpdate("insert into command_events (id, tenant_id, title, description, date, end_date) "
+                + "values (?, ?, ?, ?, ?, ?)", rows);
+
+        long loadStart = System.nanoTime();
+        for (int t = 0; t < TENANTS; t++) {
+            stores.get("tenant-" + t);
+        }
+        long loadMillis = (System.nanoTime() - loadStart) / 1_000_000;
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%n%d events in %d tenants, %d cores%n", EVENTS, TENANTS, cores);
+        System.out.printf("%-22s %12s %16s%n", "strategy", "time (ms)", "events/s");
+        System.out.printf("%-22s %12d %16.0f%n", "sequential load", loadMillis, EVENTS * 1000.0 / loadMillis);
+        // Aquecimento
+        new QueryProjectionRebuilder(commandJpaRepository, stores, queryEventHandler, cores).rebuild();
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            rebuild(threads);
+        }
+        if (Integer.bitCount(cores) != 1) {
+            rebuild(cores);
+        }
+    }
+
+    private void rebuild(int threads) {
+        QueryProjectionRebuilder.Report report =
+                new QueryProjectionRebuilder(commandJpaRepository, stores, queryEventHandler, threads).rebuild();
+        long millis = report.elapsed().toMillis();
+        System.out.printf("%-22s %12d %16.0f%n", "rebuild, " + threads + " threads", millis,
+                report.events() * 1000.0 / Math.max(1, millis));
+    }
+}
@@ -0,0 +1,89 @@
+package com.nexttag.agendacqrs.benchmark;
+
+import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Mede quantos bytes de heap cada evento ocupa no modelo de leitura, com títulos repetidos entre
+ * eventos e descrições de tamanhos variados, como chegam dos comandos.
+ * <p>
+ * O heap usado é lido depois de forçar coletas antes e depois da carga, com os eventos de origem já
+ * descartados: só sobra o que o {@link QueryRepository} retém. Rodar com um heap fixo para que as
+ * coletas sejam completas.
+ * </p>
+ * <p>
+ * Não roda no build padrão:
+ * {@code mvn test -Dtest=QueryFootprintBenchmarkTest -Dbenchmark=true [-Dbenchmark.events=500000] -DargLine="-Xms2g -Xmx2g"}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class QueryFootprintBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 500_000);
+    private static final int DISTINCT_TITLES = 200;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int SPAN_MINUTES = 3 * 365 * 24 * 60;
+    private static final String[] WORDS = {"reunião", "cliente", "projeto", "revisão", "entrega", "sprint",
+            "alinhamento", "contrato", "sala", "pauta", "equipe", "orçamento", "proposta", "status"};
+
+    @Test
+    void measureBytesPerEvent() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long before = usedHeapAfterGc(memory);
+
+        QueryRepository repository = new QueryRepository();
+        SplittableRandom random = new SplittableRandom(42);
+        long descriptionChars = 0;
+        for (int i = 0; i < EVENTS; i++) {
+            LocalDateTime start = BASE.plusMinutes(random.nextInt(SPAN_MINUTES) / 15 * 15L);
+            LocalDateTime end = random.nextInt(100) < 80 ? start.plusMinutes(15 + random.nextInt(8) * 15L) : null;
+            // Cada título chega como uma String própria, como depois de desserializar o comando
+            String title = new String("Reunião " + random.nextInt(DISTINCT_TITLES));
+            String description = description(random);
+            descriptionChars += description == null ? 0 : description.length();
+            repository.add(new EventQuery(UUID.randomUUID(), title, description, start, end, null));
+        }
+
+        long after = usedHeapAfterGc(memory);
+        assertEquals(EVENTS, repository.count());
+        System.out.printf("%n%d events, %.1f description chars per event on average%n",
+                EVENTS, (double) descriptionChars / EVENTS);
+        System.out.printf("%-16s %14s%n", "retained (MB)", "bytes/event");
+        System.out.printf("%-16.1f %14.1f%n", (after - before) / 1048576.0, (double) (after - before) / EVENTS);
+    }
+
+    /**
+     * 40% sem descrição, metade com uma linha curta e o resto com uma pauta que ocupa boa parte dos
+     * 255 caracteres da coluna.
+     */
+    private static String description(SplittableRandom random) {
+        int kind = random.nextInt(10);
+        if (kind < 4) {
+            return kind == 0 ? null : "";
+        }
+        int words = kind < 9 ? 4 + random.nextInt(6) : 20 + random.nextInt(10);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(i == 0 ? "" : i % 12 == 0 ? ". " : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.length() > 255 ? text.substring(0, 255) : text.toString();
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,139 @@
+package com.nexttag.agendacqrs.benchmark;
+
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Mede quanto as séries recorrentes custam nas consultas de sobreposição, com poucas ou muitas séries e
+ * com proporções diferentes de séries sem fim.
+ * <p>
+ * Séries encerradas ({@code COUNT}) ficam espalhadas por três anos e a árvore de séries descarta as que
+ * não alcançam a janela. Séries sem fim alcançam toda janela posterior ao seu início e são expandidas
+ * uma a uma: a linha com 100% delas é o custo de percorrer todas as séries, o mesmo de antes do índice.
+ * </p>
+ * <p>
+ * A verificação de uma série diária nova nos 366 dias do horizonte é medida de duas formas: uma consulta
+ * por ocorrência e a consulta única com todas as ocorrências, que o {@code ConflictChecker} usa. Os eventos
+ * ficam no horário comercial e a série nova às 3h, sem conflitos: como numa escrita aceita, todas as
+ * ocorrências são verificadas.
+ * </p>
+ * <p>
+ * Não roda no build padrão:
+ * {@code mvn test -Dtest=SeriesOverlapBenchmarkTest -Dbenchmark=true [-Dbenchmark.intervals=200000]}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SeriesOverlapBenchmarkTest {
+
+    private static final int INTERVALS = Integer.getInteger("benchmark.intervals", 200_000);
+    private static final int[] SERIES = {1_000, 10_000};
+    private static final int[] OPEN_ENDED_PERCENT = {0, 10, 100};
+    private static final int QUERIES = 2_000;
+    private static final int CHECKS = 20;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int DAYS = 3 * 365;
+
+    @Test
+    void measureSeriesCost() {
+        System.out.printf("%n%d one-off intervals; daily series check covers 366 occurrences%n", INTERVALS);
+        System.out.printf("%-8s %-10s %16s %22s %20s%n",
+                "series", "open-ended", "window (us/op)", "per occurrence (ms/op)", "batched (ms/op)");
+        for (int series : SERIES) {
+            for (int openEnded : OPEN_ENDED_PERCENT) {
+                run(series, openEnded);
+            }
+        }
+    }
+
+    private static void run(int seriesCount, int openEndedPercent) {
+        SplittableRandom random = new SplittableRandom(42);
+        QueryRepository repository = new QueryRepository();
+        for (int i = 0; i < INTERVALS; i++) {
+            LocalDateTime start = businessHours(random, DAYS);
+            repository.add(new EventQuery(UUID.randomUUID(), "Event", null, start, start.plusMinutes(15 + random.nextInt(120)), null));
+        }
+        for (int i = 0; i < seriesCount; i++) {
+            // Séries encerradas duram algumas semanas; as sem fim começam no primeiro ano
+            boolean openEnded = random.nextInt(100) < openEndedPercent;
+            LocalDateTime start = businessHours(random, openEnded ? 365 : DAYS);
+            RecurrenceRule rule = openEnded
+                    ? RecurrenceRule.parse("FREQ=WEEKLY")
+                    : RecurrenceRule.parse("FREQ=DAILY;COUNT=" + (5 + random.nextInt(40)));
+            repository.add(new EventQuery(UUID.randomUUID(), "Series", null, start, start.plusMinutes(30), rule));
+        }
+
+        LocalDateTime[] windows = new LocalDateTime[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            windows[i] = businessHours(random, DAYS);
+        }
+        long found = 0;
+        for (int round = 0; round < 5; round++) {
+            for (LocalDateTime from : windows) {
+                found += repository.findOverlapping(from, from.plusHours(1), Integer.MAX_VALUE, null).size();
+            }
+        }
+        long windowStart = System.nanoTime();
+        for (LocalDateTime from : windows) {
+            found += repository.findOverlapping(from, from.plusHours(1), Integer.MAX_VALUE, null).size();
+        }
+        long windowNanos = (System.nanoTime() - windowStart) / QUERIES;
+
+        List<List<LocalDateTime>> checks = new ArrayList<>();
+        for (int i = 0; i < CHECKS; i++) {
+            LocalDateTime first = BASE.plusDays(random.nextInt(2 * 365)).withHour(3);
+            checks.add(RecurrenceRule.parse("FREQ=DAILY").between(first, first, first.plusDays(366)).toList());
+        }
+        Duration hour = Duration.ofHours(1);
+        for (int round = 0; round < 5; round++) {
+            for (List<LocalDateTime> starts : checks) {
+                found += perOccurrence(repository, starts, hour) + repository.findOverlappingIds(starts, hour, 10, null).size();
+            }
+        }
+        long loopStart = System.nanoTime();
+        for (List<LocalDateTime> starts : checks) {
+            found += perOccurrence(repository, starts, hour);
+        }
+        long loopNanos = (System.nanoTime() - loopStart) / CHECKS;
+        long batchStart = System.nanoTime();
+        for (List<LocalDateTime> starts : checks) {
+            found += repository.findOverlappingIds(starts, hour, 10, null).size();
+        }
+        long batchNanos = (System.nanoTime() - batchStart) / CHECKS;
+
+        System.out.printf("%-8d %9d%% %16.1f %22.2f %20.2f%n", seriesCount, openEndedPercent,
+                windowNanos / 1000.0, loopNanos / 1_000_000.0, batchNanos / 1_000_000.0);
+        if (found < 0) {
+            System.out.println(found);
+        }
+    }
+
+    /**
+     * Início entre 8h e 18h, em múltiplos de 15 minutos, em um dos primeiros {@code days} dias.
+     */
+    private static LocalDateTime businessHours(SplittableRandom random, int days) {
+        return BASE.plusDays(random.nextInt(days)).plusHours(8).plusMinutes(random.nextInt(40) * 15L);
+    }
+
+    /**
+     * Verificação antiga: uma consulta por ocorrência, até juntar 10 conflitos.
+     */
+    private static int perOccurrence(QueryRepository repository, List<LocalDateTime> starts, Duration duration) {
+        int conflicts = 0;
+        for (LocalDateTime start : starts) {
+            if (conflicts >= 10) {
+                break;
+            }
+            conflicts += repository.findOverlappingIds(start, start.plus(duration), 10, null).size();
+        }
+        return conflicts;
+    }
+}
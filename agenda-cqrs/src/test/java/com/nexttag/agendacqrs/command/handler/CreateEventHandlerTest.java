@@ -1,47 +1,189 @@
 package com.nexttag.agendacqrs.command.handler;
 
 import com.nexttag.agendacqrs.command.model.EventCommand;
+import com.nexttag.agendacqrs.command.model.EventConflictException;
+import com.nexttag.agendacqrs.command.model.ReadModelBehindException;
 import com.nexttag.agendacqrs.domain.event.EventCreated;
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.infrastructure.event.QueryEventHandler;
+import com.nexttag.agendacqrs.infrastructure.event.QueryProjectionLoader;
+import com.nexttag.agendacqrs.infrastructure.outbox.EventOutbox;
 import com.nexttag.agendacqrs.infrastructure.repository.CommandRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStore;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.infrastructure.repository.TitleSuggestionIndex;
+import com.nexttag.agendacqrs.query.model.EventQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class CreateEventHandlerTest {
 
+    private static final String TENANT = "acme";
+
     @Mock
     private CommandRepository repository;
 
     @Mock
-    private ApplicationEventPublisher publisher;
+    private EventOutbox outbox;
+
+    private QueryRepository queryRepository;
 
     private CreateEventHandler handler;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        handler = new CreateEventHandler(repository, publisher);
+        TenantQueryStores stores = new TenantQueryStores(mock(QueryProjectionLoader.class), Duration.ofMinutes(10));
+        queryRepository = stores.get(TENANT).events();
+        handler = new CreateEventHandler(repository, outbox, new ConflictChecker(stores, outbox));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return true;
+        }).when(outbox).writeAndPublish(any(), any());
     }
 
     @Test
     void handle() {
         EventCommand command = new EventCommand("Title", "Desc", LocalDateTime.now());
 
-        assertNotNull(handler.handle(command));
+        assertNotNull(handler.handle(TENANT, command));
 
-        verify(repository).save(command);
+        verify(repository).save(TENANT, command);
 
         ArgumentCaptor<EventCreated> captor = ArgumentCaptor.forClass(EventCreated.class);
-        verify(publisher).publishEvent(captor.capture());
+        verify(outbox).writeAndPublish(any(), captor.capture());
         EventCreated event = captor.getValue();
         assertNotNull(event.id());
+        assertEquals(TENANT, event.tenantId());
+    }
+
+    @Test
+    void rejectsOverlappingInterval() {
+        LocalDateTime start = LocalDateTime.of(2025, 6, 2, 10, 0);
+        EventQuery booked = new EventQuery(UUID.randomUUID(), "Booked", "", start, start.plusHours(1), null);
+        queryRepository.add(booked);
+
+        EventCommand overlapping = new EventCommand("Title", "Desc", start.plusMinutes(30), start.plusHours(2), null);
+        EventConflictException conflict = assertThrows(EventConflictException.class, () -> handler.handle(TENANT, overlapping));
+
+        assertEquals(List.of(booked.id()), conflict.getConflictingIds());
+        verify(repository, never()).save(anyString(), any());
+        verify(outbox, never()).writeAndPublish(any(), any());
+    }
+
+    @Test
+    void acceptsAdjacentIntervalAndChecksSeriesOccurrences() {
+        LocalDateTime start = LocalDateTime.of(2025, 6, 2, 10, 0);
+        queryRepository.add(new EventQuery(UUID.randomUUID(), "Booked", "", start.plusDays(7), start.plusDays(7).plusHours(1),
+                null));
+
+        EventCommand adjacent = new EventCommand("Title", "Desc", start.plusDays(7).plusHours(1),
+                start.plusDays(7).plusHours(2), null);
+        assertNotNull(handler.handle(TENANT, adjacent));
+
+        // A segunda ocorrência semanal cai sobre o evento já agendado
+        EventCommand weekly = new EventCommand("Weekly", "Desc", start, start.plusMinutes(30),
+                RecurrenceRule.parse("FREQ=WEEKLY"));
+        assertThrows(EventConflictException.class, () -> handler.handle(TENANT, weekly));
+    }
+
+    @Test
+    void eventsOfOtherTenantsDoNotConflict() {
+        LocalDateTime start = LocalDateTime.of(2025, 6, 2, 10, 0);
+        queryRepository.add(new EventQuery(UUID.randomUUID(), "Booked", "", start, start.plusHours(1), null));
+
+        EventCommand sameSlot = new EventCommand("Title", "Desc", start, start.plusHours(1), null);
+        assertNotNull(handler.handle("globex", sameSlot));
+
+        verify(repository).save("globex", sameSlot);
+    }
+
+    @Test
+    void rejectsRecurrenceWithoutOccurrences() {
+        // Segunda-feira: a cada 7 dias nunca cai numa terça
+        LocalDateTime monday = LocalDateTime.of(2025, 6, 2, 10, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> new EventCommand("Title", "Desc", monday, null,
+                RecurrenceRule.parse("FREQ=DAILY;INTERVAL=7;BYDAY=TU")));
+    }
+
+    @Test
+    void writeNotYetInTheReadModelHoldsBackTheNextCheck() {
+        LocalDateTime start = LocalDateTime.of(2025, 6, 2, 10, 0);
+        EventCommand booked = new EventCommand("Booked", "Desc", start, start.plusHours(1), null);
+        EventCommand overlapping = new EventCommand("Title", "Desc", start.plusMinutes(30), start.plusHours(2), null);
+        // O outbox não entregou a primeira reserva no prazo
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return false;
+        }).when(outbox).writeAndPublish(any(), any());
+        handler.handle(TENANT, booked);
+
+        when(outbox.awaitVisible()).thenReturn(false);
+        assertThrows(ReadModelBehindException.class, () -> handler.handle(TENANT, overlapping));
+        verify(repository, never()).save(TENANT, overlapping);
+
+        // A projeção alcançou: a verificação volta a rodar, agora enxergando a reserva
+        queryRepository.add(new EventQuery(booked.id(), booked.title(), booked.description(), booked.date(),
+                booked.end(), null));
+        when(outbox.awaitVisible()).thenReturn(true);
+        assertThrows(EventConflictException.class, () -> handler.handle(TENANT, overlapping));
+    }
+
+    @Test
+    void writeTheProjectionFailedToApplyIsReloadedBeforeTheNextCheck() {
+        LocalDateTime start = LocalDateTime.of(2025, 6, 2, 10, 0);
+        EventCommand booked = new EventCommand("Booked", "Desc", start, start.plusHours(1), null);
+        EventCommand overlapping = new EventCommand("Title", "Desc", start.plusMinutes(30), start.plusHours(2), null);
+        // command_events: o que foi gravado, de onde a partição é recarregada
+        List<EventQuery> committed = new ArrayList<>();
+        QueryProjectionLoader loader = mock(QueryProjectionLoader.class);
+        doAnswer(invocation -> {
+            committed.forEach(invocation.<TenantQueryStore>getArgument(0).events()::add);
+            return null;
+        }).when(loader).load(any());
+        TenantQueryStores stores = new TenantQueryStores(loader, Duration.ofMinutes(10));
+        // A projeção de leitura falha uma vez ao aplicar a reserva
+        QueryRepository failing = spy(new QueryRepository());
+        doThrow(new IllegalStateException("boom")).doCallRealMethod().when(failing).add(any());
+        stores.replace(stores.get(TENANT), new TenantQueryStore(TENANT, failing, new TitleSuggestionIndex()));
+        QueryEventHandler projection = new QueryEventHandler(stores);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            committed.add(new EventQuery(booked.id(), booked.title(), booked.description(), booked.date(),
+                    booked.end(), null));
+            assertThrows(IllegalStateException.class, () -> projection.apply(invocation.getArgument(1)));
+            return true;
+        }).when(outbox).writeAndPublish(any(), any());
+        CreateEventHandler handler = new CreateEventHandler(repository, outbox, new ConflictChecker(stores, outbox));
+
+        handler.handle(TENANT, booked);
+
+        EventConflictException conflict = assertThrows(EventConflictException.class, () -> handler.handle(TENANT, overlapping));
+        assertEquals(List.of(booked.id()), conflict.getConflictingIds());
+        verify(repository, never()).save(TENANT, overlapping);
     }
-}
\ No newline at end of file
+}
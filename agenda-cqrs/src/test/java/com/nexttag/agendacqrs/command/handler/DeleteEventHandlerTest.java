@@ -1,16 +1,22 @@
 package com.nexttag.agendacqrs.command.handler;
 
 import com.nexttag.agendacqrs.domain.event.EventDeleted;
+import com.nexttag.agendacqrs.infrastructure.event.QueryProjectionLoader;
+import com.nexttag.agendacqrs.infrastructure.outbox.EventOutbox;
 import com.nexttag.agendacqrs.infrastructure.repository.CommandRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 class DeleteEventHandlerTest {
@@ -19,27 +25,33 @@ class DeleteEventHandlerTest {
     private CommandRepository repository;
 
     @Mock
-    private ApplicationEventPublisher publisher;
+    private EventOutbox outbox;
 
     private DeleteEventHandler handler;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        handler = new DeleteEventHandler(repository, publisher);
+        TenantQueryStores stores = new TenantQueryStores(mock(QueryProjectionLoader.class), Duration.ofMinutes(10));
+        handler = new DeleteEventHandler(repository, outbox, new ConflictChecker(stores, outbox));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return true;
+        }).when(outbox).writeAndPublish(any(), any());
     }
 
     @Test
     void handle() {
         UUID id = UUID.randomUUID();
 
-        handler.handle(id);
+        handler.handle("acme", id);
 
-        verify(repository).delete(id);
+        verify(repository).delete("acme", id);
 
         ArgumentCaptor<EventDeleted> captor = ArgumentCaptor.forClass(EventDeleted.class);
-        verify(publisher).publishEvent(captor.capture());
+        verify(outbox).writeAndPublish(any(), captor.capture());
         EventDeleted event = captor.getValue();
         assert id.equals(event.id());
+        assert "acme".equals(event.tenantId());
     }
 }
\ No newline at end of file
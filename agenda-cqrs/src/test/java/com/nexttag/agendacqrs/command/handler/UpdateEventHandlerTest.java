@@ -2,33 +2,51 @@ package com.nexttag.agendacqrs.command.handler;
 
 import com.nexttag.agendacqrs.command.model.EventCommand;
 import com.nexttag.agendacqrs.domain.event.EventUpdated;
+import com.nexttag.agendacqrs.infrastructure.event.QueryProjectionLoader;
+import com.nexttag.agendacqrs.infrastructure.outbox.EventOutbox;
 import com.nexttag.agendacqrs.infrastructure.repository.CommandRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.query.model.EventQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 class UpdateEventHandlerTest {
 
+    private static final String TENANT = "acme";
+
     @Mock
     private CommandRepository repository;
 
     @Mock
-    private ApplicationEventPublisher publisher;
+    private EventOutbox outbox;
+
+    private QueryRepository queryRepository;
 
     private UpdateEventHandler handler;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        handler = new UpdateEventHandler(repository, publisher);
+        TenantQueryStores stores = new TenantQueryStores(mock(QueryProjectionLoader.class), Duration.ofMinutes(10));
+        queryRepository = stores.get(TENANT).events();
+        handler = new UpdateEventHandler(repository, outbox, new ConflictChecker(stores, outbox));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return true;
+        }).when(outbox).writeAndPublish(any(), any());
     }
 
     @Test
@@ -36,14 +54,27 @@ class UpdateEventHandlerTest {
         UUID id = UUID.randomUUID();
         EventCommand command = new EventCommand("New Title", "New Desc", LocalDateTime.now().plusDays(1));
 
-        handler.handle(id, command);
+        handler.handle(TENANT, id, command);
 
-        verify(repository).update(id, command);
+        verify(repository).update(TENANT, id, command);
 
         ArgumentCaptor<EventUpdated> captor = ArgumentCaptor.forClass(EventUpdated.class);
-        verify(publisher).publishEvent(captor.capture());
+        verify(outbox).writeAndPublish(any(), captor.capture());
         EventUpdated event = captor.getValue();
         assert id.equals(event.id());
         assert "New Title".equals(event.title());
+        assert TENANT.equals(event.tenantId());
+    }
+
+    @Test
+    void movingAnEventDoesNotConflictWithItself() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime start = LocalDateTime.of(2025, 6, 2, 10, 0);
+        queryRepository.add(new EventQuery(id, "Title", "Desc", start, start.plusHours(1), null));
+
+        EventCommand moved = new EventCommand("Title", "Desc", start.plusMinutes(30), start.plusMinutes(90), null);
+        handler.handle(TENANT, id, moved);
+
+        verify(repository).update(TENANT, id, moved);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.nexttag.agendacqrs.domain.tenant;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantsTest {
+
+    @Test
+    void missingHeaderFallsBackToDefaultTenant() {
+        assertEquals(Tenants.DEFAULT, Tenants.resolve(null));
+        assertEquals(Tenants.DEFAULT, Tenants.resolve("  "));
+        assertEquals("acme-br.01", Tenants.resolve(" acme-br.01 "));
+    }
+
+    @Test
+    void rejectsInvalidIdentifiers() {
+        assertThrows(IllegalArgumentException.class, () -> Tenants.resolve("../etc"));
+        assertThrows(IllegalArgumentException.class, () -> Tenants.resolve("a b"));
+        assertThrows(IllegalArgumentException.class, () -> Tenants.resolve("a".repeat(65)));
+    }
+}
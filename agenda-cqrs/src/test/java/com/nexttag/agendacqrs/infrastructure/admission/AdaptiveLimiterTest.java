@@ -0,0 +1,89 @@
+package com.nexttag.agendacqrs.infrastructure.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void rejectsAboveTheLimitUntilAPermitIsReleased() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(2, 1, 10, clock::get);
+
+        AdaptiveLimiter.Permit first = limiter.tryAcquire();
+        assertNotNull(limiter.tryAcquire());
+        assertNull(limiter.tryAcquire());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(5));
+        first.release();
+        first.release();
+        assertEquals(1, limiter.inflight());
+        assertNotNull(limiter.tryAcquire());
+    }
+
+    @Test
+    void growsWhileLatencyStaysFlat() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(20, 2, 200, clock::get);
+
+        // Banco com folga: a latência não depende da concorrência, então não há fila e o limite sobe
+        runRounds(limiter, 30, 1_000);
+
+        assertTrue(limiter.limit() > 20, "limit should grow, was " + limiter.limit());
+    }
+
+    @Test
+    void shrinksTowardsCapacityWhenLatencyRises() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(100, 2, 200, clock::get);
+
+        // Latência base medida com o banco folgado
+        runRounds(limiter, 1, 1_000);
+
+        // Banco que passa a atender 8 por vez: acima disso as requisições esperam e a latência cresce
+        runRounds(limiter, 1, 8);
+        assertTrue(limiter.limit() < 50, "limit should shrink, was " + limiter.limit());
+
+        runRounds(limiter, 20, 8);
+        assertTrue(limiter.limit() >= 2 && limiter.limit() <= 24, "limit should stay near capacity, was "
+                + limiter.limit());
+    }
+
+    @Test
+    void doesNotGrowWhenTheLimitIsNotUsed() {
+        AdaptiveLimiter limiter = new AdaptiveLimiter(20, 2, 200, clock::get);
+
+        for (int i = 0; i < 100; i++) {
+            AdaptiveLimiter.Permit permit = limiter.tryAcquire();
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+            permit.release();
+        }
+
+        assertEquals(20, limiter.limit());
+    }
+
+    /**
+     * Ocupa o limite inteiro e libera todas as vagas juntas, {@code rounds} vezes. A latência simula um recurso
+     * que atende {@code capacity} requisições por vez em 10 ms: acima disso, cada lote extra espera mais 10 ms.
+     */
+    private void runRounds(AdaptiveLimiter limiter, int rounds, int capacity) {
+        for (int round = 0; round < rounds; round++) {
+            List<AdaptiveLimiter.Permit> permits = new ArrayList<>();
+            AdaptiveLimiter.Permit permit;
+            while ((permit = limiter.tryAcquire()) != null) {
+                permits.add(permit);
+            }
+            long batches = Math.max(1, (permits.size() + capacity - 1) / capacity);
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10 * batches));
+            permits.forEach(AdaptiveLimiter.Permit::release);
+        }
+    }
+}
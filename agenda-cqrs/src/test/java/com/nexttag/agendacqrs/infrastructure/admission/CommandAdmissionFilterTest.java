@@ -0,0 +1,58 @@
+package com.nexttag.agendacqrs.infrastructure.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CommandAdmissionFilterTest {
+
+    private SimpleMeterRegistry registry;
+
+    private AdaptiveLimiter limiter;
+
+    private CommandAdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        limiter = new AdaptiveLimiter(1, 1, 10);
+        filter = new CommandAdmissionFilter(limiter, Duration.ofMillis(1500), registry);
+    }
+
+    @Test
+    void admitsWithinTheLimitAndReleasesThePermit() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/commands/events"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(0, limiter.inflight());
+    }
+
+    @Test
+    void rejectsWith429AndRetryAfterWhenTheLimitIsReached() throws Exception {
+        AdaptiveLimiter.Permit busy = limiter.tryAcquire();
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/commands/events"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertEquals(1.0, registry.get("agenda.admission.rejected").counter().count());
+        assertEquals(1.0, registry.get("agenda.admission.limit").gauge().value());
+        busy.release();
+    }
+}
@@ -4,6 +4,9 @@ import com.nexttag.agendacqrs.domain.event.EventCreated;
 import com.nexttag.agendacqrs.domain.event.EventDeleted;
 import com.nexttag.agendacqrs.domain.event.EventUpdated;
 import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStore;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.infrastructure.repository.TitleSuggestionIndex;
 import com.nexttag.agendacqrs.query.model.EventQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,51 +14,85 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class QueryEventHandlerTest {
 
     @Mock
     private QueryRepository repository;
 
+    @Mock
+    private TitleSuggestionIndex titleSuggestionIndex;
+
+    @Mock
+    private TenantQueryStores stores;
+
+    private TenantQueryStore store;
+
     private QueryEventHandler handler;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        handler = new QueryEventHandler(repository);
+        store = new TenantQueryStore("acme", repository, titleSuggestionIndex);
+        when(stores.get("acme")).thenReturn(store);
+        handler = new QueryEventHandler(stores);
     }
 
     @Test
     void onEventCreated() {
         UUID id = UUID.randomUUID();
-        EventCreated event = new EventCreated(id, "Title", "Desc", LocalDateTime.now());
+        EventCreated event = new EventCreated("acme", id, "Title", "Desc", LocalDateTime.now(), null, null);
 
-        handler.onEventCreated(event);
+        handler.apply(event);
 
         verify(repository).add(any(EventQuery.class));
+        verify(titleSuggestionIndex).add(any(EventQuery.class));
     }
 
     @Test
     void onEventUpdated() {
         UUID id = UUID.randomUUID();
-        EventUpdated event = new EventUpdated(id, "New Title", "New Desc", LocalDateTime.now().plusDays(1));
+        EventQuery previous = new EventQuery(id, "Title", "Desc", LocalDateTime.now());
+        when(repository.findById(id)).thenReturn(Optional.of(previous));
+        EventUpdated event = new EventUpdated("acme", id, "New Title", "New Desc", LocalDateTime.now().plusDays(1),
+                null, null);
 
-        handler.onEventUpdated(event);
+        handler.apply(event);
 
         verify(repository).update(any(EventQuery.class));
+        verify(titleSuggestionIndex).replace(eq(previous), any(EventQuery.class));
     }
 
     @Test
     void onEventDeleted() {
         UUID id = UUID.randomUUID();
-        EventDeleted event = new EventDeleted(id);
+        EventQuery previous = new EventQuery(id, "Title", "Desc", LocalDateTime.now());
+        when(repository.findById(id)).thenReturn(Optional.of(previous));
+        EventDeleted event = new EventDeleted("acme", id);
 
-        handler.onEventDeleted(event);
+        handler.apply(event);
 
         verify(repository).remove(id);
+        verify(titleSuggestionIndex).remove(previous);
+    }
+
+    @Test
+    void failedEventLeavesTheTenantStoreStale() {
+        EventCreated event = new EventCreated("acme", UUID.randomUUID(), "Title", "Desc", LocalDateTime.now(), null, null);
+        doThrow(new IllegalStateException("boom")).when(repository).add(any(EventQuery.class));
+
+        assertThrows(IllegalStateException.class, () -> handler.apply(event));
+
+        assertTrue(store.isStale());
     }
 }
\ No newline at end of file
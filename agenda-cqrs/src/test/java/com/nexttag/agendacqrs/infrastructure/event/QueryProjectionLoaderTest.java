@@ -0,0 +1,45 @@
+package com.nexttag.agendacqrs.infrastructure.event;
+
+import com.nexttag.agendacqrs.infrastructure.repository.CommandEntity;
+import com.nexttag.agendacqrs.infrastructure.repository.CommandJpaRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+class QueryProjectionLoaderTest {
+
+    @Mock
+    private CommandJpaRepository commandJpaRepository;
+
+    private QueryProjectionLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        loader = new QueryProjectionLoader(commandJpaRepository);
+    }
+
+    @Test
+    void loadCopiesPersistedEventsIntoQueryModel() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime date = LocalDateTime.now();
+        when(commandJpaRepository.findByTenantId("acme"))
+                .thenReturn(List.of(new CommandEntity("acme", id, "Title", "Desc", date, null, null)));
+        TenantQueryStore store = new TenantQueryStore("acme");
+
+        loader.load(store);
+
+        assertEquals(1, store.events().count());
+        assertEquals("Title", store.events().findById(id).orElseThrow().title());
+        assertEquals(1, store.titles().size());
+    }
+}
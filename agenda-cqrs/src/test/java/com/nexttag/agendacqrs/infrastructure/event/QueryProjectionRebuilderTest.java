@@ -0,0 +1,128 @@
+package com.nexttag.agendacqrs.infrastructure.event;
+
+import com.nexttag.agendacqrs.domain.event.EventCreated;
+import com.nexttag.agendacqrs.domain.event.EventDeleted;
+import com.nexttag.agendacqrs.infrastructure.event.QueryProjectionRebuilder.IdRange;
+import com.nexttag.agendacqrs.infrastructure.repository.CommandEntity;
+import com.nexttag.agendacqrs.infrastructure.repository.CommandJpaRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStore;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.when;
+
+class QueryProjectionRebuilderTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 6, 2, 10, 0);
+
+    @Mock
+    private CommandJpaRepository commandJpaRepository;
+
+    private TenantQueryStores stores;
+
+    private QueryEventHandler handler;
+
+    private QueryProjectionRebuilder rebuilder;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        stores = new TenantQueryStores(new QueryProjectionLoader(commandJpaRepository), Duration.ofMinutes(10));
+        handler = new QueryEventHandler(stores);
+        rebuilder = new QueryProjectionRebuilder(commandJpaRepository, stores, handler, 2);
+    }
+
+    @Test
+    void splitCoversTheWholeRangeInUnsignedOrder() {
+        UUID min = UUID.fromString("00000000-0000-0000-0000-000000000010");
+        UUID max = UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffff00");
+
+        List<IdRange> ranges = QueryProjectionRebuilder.split(min, max, 8);
+
+        assertEquals(8, ranges.size());
+        assertEquals(min, ranges.getFirst().from());
+        assertEquals(max, ranges.getLast().to());
+        assertTrue(ranges.getLast().closed());
+        for (int i = 1; i < ranges.size(); i++) {
+            assertEquals(ranges.get(i - 1).to(), ranges.get(i).from());
+            assertFalse(ranges.get(i - 1).closed());
+        }
+        // A metade do intervalo sem sinal; os trechos seguintes têm o bit de sinal ligado e continuam crescendo
+        assertEquals(UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffff88"), ranges.get(4).from());
+        assertEquals(UUID.fromString("9fffffff-ffff-ffff-ffff-ffffffffff66"), ranges.get(5).from());
+
+        assertEquals(List.of(new IdRange(min, min, true)), QueryProjectionRebuilder.split(min, min, 8));
+    }
+
+    @Test
+    void rebuildSwapsFreshStoresAndReplaysLiveEvents() {
+        UUID kept = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        UUID deletedDuringRebuild = UUID.randomUUID();
+        UUID createdDuringRebuild = UUID.randomUUID();
+        TenantQueryStore old = stores.get("acme");
+        // O modelo atual divergiu: tem um evento que não existe mais e não tem outro
+        old.events().add(new EventQuery(stale, "Stale", "", DATE, null, null));
+        old.events().add(new EventQuery(deletedDuringRebuild, "Doomed", "", DATE, null, null));
+
+        when(commandJpaRepository.findMinId(anySet())).thenReturn(new UUID(0, 0));
+        when(commandJpaRepository.findMaxId(anySet())).thenReturn(new UUID(-1, -1));
+        AtomicBoolean live = new AtomicBoolean();
+        when(commandJpaRepository.findIdRange(anySet(), any(), any())).thenAnswer(invocation -> chunk(live,
+                kept, deletedDuringRebuild, createdDuringRebuild));
+        when(commandJpaRepository.findIdRangeClosed(anySet(), any(), any())).thenAnswer(invocation -> chunk(live,
+                kept, deletedDuringRebuild, createdDuringRebuild));
+
+        QueryProjectionRebuilder.Report report = rebuilder.rebuild();
+
+        assertEquals(1, report.tenants());
+        assertEquals(2 * QueryProjectionRebuilder.CHUNKS_PER_THREAD, report.chunks());
+        assertEquals(2, report.events());
+        assertEquals(2, report.replayed());
+
+        TenantQueryStore current = stores.get("acme");
+        assertTrue(old.isEvicted());
+        assertEquals(Set.of(kept, createdDuringRebuild),
+                Set.copyOf(current.events().findAll().stream().map(EventQuery::id).toList()));
+        assertEquals(2, current.titles().size());
+        // Enquanto a reconstrução rodava, a partição antiga também recebeu os eventos ao vivo
+        assertTrue(old.events().findById(createdDuringRebuild).isPresent());
+        assertFalse(old.events().findById(deletedDuringRebuild).isPresent());
+
+        // Depois da troca, os eventos vão direto para a partição nova
+        handler.apply(new EventDeleted("acme", kept));
+        assertSame(current, stores.get("acme"));
+        assertEquals(1, current.events().count());
+    }
+
+    /**
+     * O primeiro trecho lido devolve as linhas e, no meio da leitura, simula dois eventos ao vivo que a
+     * leitura não enxergou; os demais trechos voltam vazios.
+     */
+    private List<CommandEntity> chunk(AtomicBoolean live, UUID kept, UUID deleted, UUID created) {
+        if (!live.compareAndSet(false, true)) {
+            return List.of();
+        }
+        handler.apply(new EventCreated("acme", created, "Created", "", DATE, null, null));
+        handler.apply(new EventDeleted("acme", deleted));
+        return List.of(new CommandEntity("acme", kept, "Kept", "", DATE, null, null),
+                new CommandEntity("acme", deleted, "Doomed", "", DATE, null, null));
+    }
+}
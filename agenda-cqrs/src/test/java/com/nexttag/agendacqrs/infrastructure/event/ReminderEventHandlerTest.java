@@ -0,0 +1,67 @@
+package com.nexttag.agendacqrs.infrastructure.event;
+
+import com.nexttag.agendacqrs.infrastructure.reminder.ReminderScheduler;
+import com.nexttag.agendacqrs.infrastructure.repository.CommandEntity;
+import com.nexttag.agendacqrs.infrastructure.repository.CommandJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReminderEventHandlerTest {
+
+    private static final Limit PAGE = Limit.of(ReminderEventHandler.RECOVERY_PAGE_SIZE);
+
+    @Mock
+    private ReminderScheduler scheduler;
+
+    @Mock
+    private CommandJpaRepository commandJpaRepository;
+
+    private ReminderEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        handler = new ReminderEventHandler(scheduler, commandJpaRepository);
+    }
+
+    @Test
+    void recoversPageByPageBeforeProjectionsStart() {
+        List<CommandEntity> first = entities(ReminderEventHandler.RECOVERY_PAGE_SIZE);
+        List<CommandEntity> second = entities(1);
+        when(commandJpaRepository.findByOrderByIdAsc(PAGE)).thenReturn(first);
+        when(commandJpaRepository.findByIdGreaterThanOrderByIdAsc(first.get(first.size() - 1).getId(), PAGE))
+                .thenReturn(second);
+
+        handler.start();
+
+        verify(scheduler, times(ReminderEventHandler.RECOVERY_PAGE_SIZE + 1)).schedule(eq("acme"), any());
+        verify(commandJpaRepository, never()).findAll();
+        assertTrue(handler.isRunning());
+        // O ProjectionDispatcher sobe em DEFAULT_PHASE - 1
+        assertTrue(handler.getPhase() < SmartLifecycle.DEFAULT_PHASE - 1);
+    }
+
+    private static List<CommandEntity> entities(int count) {
+        LocalDateTime date = LocalDateTime.of(2025, 6, 2, 10, 0);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new CommandEntity("acme", UUID.randomUUID(), "Title", "Desc", date.plusHours(i), null, null))
+                .toList();
+    }
+}
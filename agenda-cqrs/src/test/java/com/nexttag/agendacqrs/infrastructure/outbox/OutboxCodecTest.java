@@ -0,0 +1,42 @@
+package com.nexttag.agendacqrs.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.nexttag.agendacqrs.domain.event.EventCreated;
+import com.nexttag.agendacqrs.domain.event.EventDeleted;
+import com.nexttag.agendacqrs.domain.event.EventUpdated;
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OutboxCodecTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 2, 8, 0);
+
+    private final OutboxCodec codec = new OutboxCodec(JsonMapper.builder().findAndAddModules().build());
+
+    @Test
+    void roundTripsDomainEvents() {
+        UUID id = UUID.randomUUID();
+        EventCreated created = new EventCreated("acme", id, "Daily", "Standup", NOW, NOW.plusMinutes(15),
+                RecurrenceRule.parse("FREQ=DAILY;COUNT=5"));
+        EventUpdated updated = new EventUpdated("acme", id, "Moved", null, NOW.plusHours(1), null, null);
+        EventDeleted deleted = new EventDeleted("acme", id);
+
+        OutboxEntity entry = codec.encode(created, NOW);
+        assertEquals("EventCreated", entry.getEventType());
+        assertEquals(id, entry.getEventId());
+        assertEquals(NOW, entry.getCreatedAt());
+        assertEquals(created.toString(), codec.decode(entry).toString());
+
+        assertEquals(updated, codec.decode(codec.encode(updated, NOW)));
+
+        OutboxEntity deletion = codec.encode(deleted, NOW);
+        assertNull(deletion.getPayload());
+        assertEquals(deleted, codec.decode(deletion));
+    }
+}
@@ -0,0 +1,162 @@
+package com.nexttag.agendacqrs.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.nexttag.agendacqrs.domain.event.EventDeleted;
+import com.nexttag.agendacqrs.infrastructure.projection.ProjectionDispatcher;
+import com.nexttag.agendacqrs.infrastructure.projection.SequencedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 2, 8, 0);
+
+    @Mock
+    private OutboxJpaRepository repository;
+
+    @Mock
+    private ProjectionDispatcher dispatcher;
+
+    private final OutboxCodec codec = new OutboxCodec(JsonMapper.builder().findAndAddModules().build());
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        relay = new OutboxRelay(repository, codec, dispatcher, clock, 3, Duration.ofSeconds(10), Duration.ofDays(1),
+                Duration.ofSeconds(5));
+        when(dispatcher.awaitReadYourWrites(any())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.stop();
+    }
+
+    @Test
+    void drainDeliversInOrderAndMarksEachBatchWithOneUpdate() {
+        List<OutboxEntity> entries = entries(1, 5);
+        when(repository.findPending(Limit.of(3))).thenReturn(entries.subList(0, 3), entries.subList(3, 5));
+
+        assertEquals(5, relay.drain());
+
+        verify(dispatcher).dispatch(sequenced(entries.subList(0, 3)));
+        verify(dispatcher).dispatch(sequenced(entries.subList(3, 5)));
+        verify(repository).markProcessed(List.of(1L, 2L, 3L), NOW);
+        verify(repository).markProcessed(List.of(4L, 5L), NOW);
+    }
+
+    @Test
+    void unreadableEntryStopsTheBatchAndKeepsTheRestPending() {
+        List<OutboxEntity> entries = entries(1, 3);
+        ReflectionTestUtils.setField(entries.get(1), "eventType", "Unknown");
+        when(repository.findPending(Limit.of(3))).thenReturn(entries);
+
+        assertEquals(1, relay.drain());
+
+        verify(dispatcher).dispatch(sequenced(entries.subList(0, 1)));
+        verify(repository).markProcessed(List.of(1L), NOW);
+    }
+
+    @Test
+    void awaitDeliveryReturnsAfterAPassThatSeesTheWrite() {
+        List<OutboxEntity> entries = entries(1, 1);
+        when(repository.findPending(Limit.of(3))).thenReturn(List.of(), entries, List.of());
+        relay.start();
+        // Primeira passada (pendências da subida) não encontra nada
+        verify(repository, timeout(1_000)).findPending(any());
+
+        assertTrue(relay.awaitDelivery(Duration.ofSeconds(5)));
+
+        verify(dispatcher).dispatch(List.of(new SequencedEvent(1, NOW,
+                new EventDeleted("acme", entries.getFirst().getEventId()))));
+        verify(repository).markProcessed(eq(List.of(1L)), any());
+    }
+
+    @Test
+    void awaitDeliveryReportsWritesNotYetAppliedAndTheRelayCarriesOn() {
+        List<OutboxEntity> entries = entries(1, 1);
+        when(repository.findPending(Limit.of(3))).thenReturn(entries, List.of());
+        when(dispatcher.awaitReadYourWrites(any())).thenReturn(false);
+        relay.start();
+
+        assertFalse(relay.awaitDelivery(Duration.ofMillis(300)));
+        verify(repository, timeout(1_000)).markProcessed(eq(List.of(1L)), any());
+
+        // A projeção alcançou a fila: a próxima espera é atendida por uma passada nova
+        when(dispatcher.awaitReadYourWrites(any())).thenReturn(true);
+        assertTrue(relay.awaitDelivery(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void stopWaitsForThePassInProgressAndStartsNoOther() throws InterruptedException {
+        List<OutboxEntity> entries = entries(1, 3);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // Lote cheio: sem a parada, o relay leria o próximo em seguida
+        when(repository.findPending(Limit.of(3))).thenAnswer(invocation -> {
+            reading.countDown();
+            release.await();
+            return entries;
+        });
+        relay.start();
+        assertTrue(reading.await(1, TimeUnit.SECONDS));
+
+        Thread stopper = Thread.ofPlatform().start(relay::stop);
+        stopper.join(200);
+        assertTrue(stopper.isAlive());
+        release.countDown();
+        stopper.join(5_000);
+
+        assertFalse(stopper.isAlive());
+        verify(repository).findPending(any());
+        verify(repository).markProcessed(eq(List.of(1L, 2L, 3L)), any());
+        verify(dispatcher, never()).awaitReadYourWrites(any());
+        verifyNoMoreInteractions(repository);
+    }
+
+    private List<SequencedEvent> sequenced(List<OutboxEntity> entries) {
+        return entries.stream()
+                .map(entry -> new SequencedEvent(entry.getSeq(), entry.getCreatedAt(), codec.decode(entry)))
+                .toList();
+    }
+
+    private List<OutboxEntity> entries(long fromSeq, long toSeq) {
+        List<OutboxEntity> entries = new ArrayList<>();
+        LongStream.rangeClosed(fromSeq, toSeq).forEach(seq -> {
+            OutboxEntity entry = codec.encode(new EventDeleted("acme", UUID.randomUUID()), NOW);
+            ReflectionTestUtils.setField(entry, "seq", seq);
+            entries.add(entry);
+        });
+        return entries;
+    }
+}
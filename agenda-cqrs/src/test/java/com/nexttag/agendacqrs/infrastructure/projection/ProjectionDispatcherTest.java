@@ -0,0 +1,171 @@
+package com.nexttag.agendacqrs.infrastructure.projection;
+
+import com.nexttag.agendacqrs.domain.event.DomainEvent;
+import com.nexttag.agendacqrs.domain.event.EventDeleted;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectionDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 2, 8, 0);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Cinco segundos depois da gravação dos eventos
+    private final Clock clock = Clock.fixed(NOW.plusSeconds(5).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private ProjectionDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void slowProjectionDoesNotStallTheOthers() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<DomainEvent> fast = new CopyOnWriteArrayList<>();
+        List<DomainEvent> slow = new CopyOnWriteArrayList<>();
+        dispatcher = new ProjectionDispatcher(List.of(
+                projection("query", true, fast::add),
+                projection("reminders", false, event -> {
+                    await(release);
+                    slow.add(event);
+                })), clock, meterRegistry);
+        dispatcher.start();
+        List<SequencedEvent> events = events(1, 2);
+
+        // Retorna assim que a projeção de leitura aplicou o lote, com a lenta ainda presa no primeiro evento
+        dispatcher.dispatch(events);
+        assertTrue(dispatcher.awaitReadYourWrites(Duration.ofSeconds(5)));
+
+        assertEquals(events.stream().map(SequencedEvent::event).toList(), fast);
+        assertEquals(0, slow.size());
+        assertEquals(0, gauge("agenda.projection.lag", "query"));
+        assertEquals(2, gauge("agenda.projection.checkpoint", "query"));
+        assertEquals(2, gauge("agenda.projection.lag", "reminders"));
+        assertEquals(5, gauge("agenda.projection.lag.seconds", "reminders"));
+
+        release.countDown();
+        waitUntil(() -> gauge("agenda.projection.checkpoint", "reminders") == 2);
+        assertEquals(2, slow.size());
+        assertEquals(0, gauge("agenda.projection.lag", "reminders"));
+        assertEquals(2, meterRegistry.get("agenda.projection.applied").tag("projection", "reminders").counter().count());
+    }
+
+    @Test
+    void failedEventIsSkippedAndCountedButNotReportedAsApplied() {
+        List<DomainEvent> applied = new CopyOnWriteArrayList<>();
+        List<SequencedEvent> events = events(7, 2);
+        dispatcher = new ProjectionDispatcher(List.of(projection("query", true, event -> {
+            if (event.equals(events.getFirst().event())) {
+                throw new IllegalStateException("boom");
+            }
+            applied.add(event);
+        })), clock, meterRegistry);
+        dispatcher.start();
+
+        dispatcher.dispatch(events);
+        // A fila andou, mas a passada com o evento pulado não conta como entregue
+        assertFalse(dispatcher.awaitReadYourWrites(Duration.ofSeconds(5)));
+        assertTrue(dispatcher.awaitReadYourWrites(Duration.ofSeconds(5)));
+
+        assertEquals(List.of(events.get(1).event()), applied);
+        assertEquals(8, gauge("agenda.projection.checkpoint", "query"));
+        assertEquals(1, meterRegistry.get("agenda.projection.failed").tag("projection", "query").counter().count());
+        assertEquals(1, meterRegistry.get("agenda.projection.applied").tag("projection", "query").counter().count());
+    }
+
+    @Test
+    void readYourWritesWaitGivesUpAtTheDeadline() {
+        CountDownLatch release = new CountDownLatch(1);
+        List<DomainEvent> applied = new CopyOnWriteArrayList<>();
+        dispatcher = new ProjectionDispatcher(List.of(projection("query", true, event -> {
+            await(release);
+            applied.add(event);
+        })), clock, meterRegistry);
+        dispatcher.start();
+
+        dispatcher.dispatch(events(1, 2));
+
+        assertFalse(dispatcher.awaitReadYourWrites(Duration.ofMillis(200)));
+        release.countDown();
+        // A fila segue sendo aplicada depois do prazo
+        assertTrue(dispatcher.awaitReadYourWrites(Duration.ofSeconds(5)));
+        assertEquals(2, applied.size());
+    }
+
+    @Test
+    void rejectsDuplicateNames() {
+        List<Projection> projections = List.of(projection("query", false, event -> {
+        }), projection("query", false, event -> {
+        }));
+
+        assertThrows(IllegalStateException.class, () -> new ProjectionDispatcher(projections, clock, meterRegistry));
+    }
+
+    private double gauge(String name, String projection) {
+        return meterRegistry.get(name).tag("projection", projection).gauge().value();
+    }
+
+    private static List<SequencedEvent> events(long fromSeq, int count) {
+        return LongStream.range(fromSeq, fromSeq + count)
+                .mapToObj(seq -> new SequencedEvent(seq, NOW, new EventDeleted("acme", UUID.randomUUID())))
+                .toList();
+    }
+
+    private static Projection projection(String name, boolean readYourWrites, Consumer<DomainEvent> apply) {
+        return new Projection() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void apply(DomainEvent event) {
+                apply.accept(event);
+            }
+
+            @Override
+            public boolean readYourWrites() {
+                return readYourWrites;
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.nexttag.agendacqrs.infrastructure.reminder;
+
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReminderSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 2, 8, 0);
+
+    private final List<List<Reminder>> batches = new CopyOnWriteArrayList<>();
+
+    private ExecutorService dispatcher;
+
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        scheduler = new ReminderScheduler(clock, Duration.ofMinutes(15), Duration.ofDays(30), Duration.ofSeconds(1), 2,
+                batches::add, dispatcher);
+    }
+
+    @Test
+    void firesLeadTimeBeforeStartFollowingUpdatesAndDeletes() {
+        EventQuery moved = event(NOW.plusHours(1));
+        EventQuery deleted = event(NOW.plusHours(1));
+        scheduler.schedule("acme", moved);
+        scheduler.schedule("acme", deleted);
+        scheduler.schedule("acme", event(NOW.minusHours(1)));
+        scheduler.schedule("acme", new EventQuery(moved.id(), "Moved", "", NOW.plusHours(2), null, null));
+        scheduler.cancel(deleted.id());
+        assertEquals(1, scheduler.size());
+
+        assertEquals(0, advanceTo(NOW.plusHours(2).minusMinutes(15).minusSeconds(1)));
+        assertEquals(1, advanceTo(NOW.plusHours(2).minusMinutes(15)));
+        dispatcher.close();
+
+        Reminder reminder = batches.get(0).get(0);
+        assertEquals("acme", reminder.tenantId());
+        assertEquals(moved.id(), reminder.eventId());
+        assertEquals(NOW.plusHours(2), reminder.start());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    void dispatchesInBatchesAndReschedulesSeries() {
+        for (int i = 0; i < 5; i++) {
+            scheduler.schedule("acme", event(NOW.plusMinutes(10)));
+        }
+        EventQuery daily = new EventQuery(UUID.randomUUID(), "Daily", "", NOW.minusDays(3).plusHours(1), null,
+                RecurrenceRule.parse("FREQ=DAILY;COUNT=5"));
+        scheduler.schedule("acme", daily);
+
+        // Já dentro da antecedência: disparam no tick seguinte
+        assertEquals(5, advanceTo(NOW.plusSeconds(1)));
+        assertEquals(1, advanceTo(NOW.plusMinutes(45)));
+        assertEquals(0, advanceTo(NOW.plusDays(1)));
+        assertEquals(1, advanceTo(NOW.plusDays(1).plusMinutes(45)));
+        // COUNT=5 a partir de 3 dias atrás: a última ocorrência foi a de amanhã
+        assertEquals(0, advanceTo(NOW.plusDays(10)));
+        dispatcher.close();
+
+        assertEquals(5, batches.size());
+        assertEquals(List.of(NOW.plusHours(1), NOW.plusDays(1).plusHours(1)), batches.stream()
+                .flatMap(List::stream)
+                .filter(reminder -> reminder.eventId().equals(daily.id()))
+                .map(Reminder::start)
+                .toList());
+    }
+
+    @Test
+    void seriesBeyondTheHorizonIsReviewedUntilItsNextOccurrence() {
+        // Próxima ocorrência anual daqui a 100 dias, além do horizonte de 30
+        EventQuery yearly = new EventQuery(UUID.randomUUID(), "Yearly", "", NOW.plusDays(100).minusYears(1), null,
+                RecurrenceRule.parse("FREQ=YEARLY"));
+        EventQuery finished = new EventQuery(UUID.randomUUID(), "Finished", "", NOW.minusDays(10), null,
+                RecurrenceRule.parse("FREQ=DAILY;COUNT=3"));
+        scheduler.schedule("acme", yearly);
+        scheduler.schedule("acme", finished);
+        assertEquals(1, scheduler.size());
+
+        int fired = 0;
+        for (int day = 1; day < 100; day++) {
+            fired += advanceTo(NOW.plusDays(day));
+        }
+        assertEquals(0, fired);
+        assertEquals(1, advanceTo(NOW.plusDays(100).minusMinutes(15)));
+        dispatcher.close();
+
+        assertEquals(NOW.plusDays(100), batches.get(0).get(0).start());
+        assertEquals(1, scheduler.size());
+    }
+
+    private int advanceTo(LocalDateTime time) {
+        return scheduler.advanceTo(time.toInstant(ZoneOffset.UTC));
+    }
+
+    private static EventQuery event(LocalDateTime date) {
+        return new EventQuery(UUID.randomUUID(), "Title", "Desc", date);
+    }
+}
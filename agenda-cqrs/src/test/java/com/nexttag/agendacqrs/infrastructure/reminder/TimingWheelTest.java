@@ -0,0 +1,84 @@
+package com.nexttag.agendacqrs.infrastructure.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    @Test
+    void firesEachTimerExactlyAtItsDeadlineAcrossLevels() {
+        long start = 1_000_003L;
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        Random random = new Random(7);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            // Prazos de 1 tick a ~3 níveis acima, incluindo fronteiras de dígito
+            long deadline = start + 1 + (random.nextBoolean() ? random.nextInt(300_000) : random.nextInt(64));
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        long target = start;
+        while (wheel.size() > 0) {
+            target += 1 + random.nextInt(5_000);
+            long limit = target;
+            wheel.advanceTo(target, deadline -> {
+                assertTrue(deadline <= limit);
+                fired.add(deadline);
+            });
+            // Nada vencido pode ter ficado para trás
+            assertTrue(fired.stream().allMatch(d -> d <= limit));
+        }
+        deadlines.sort(null);
+        assertEquals(deadlines, fired);
+    }
+
+    @Test
+    void cancelledTimersNeverFireAndPastDeadlinesFireOnNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(100);
+        TimingWheel.Timer<String> kept = wheel.schedule(5_000, "kept");
+        TimingWheel.Timer<String> cancelled = wheel.schedule(5_000, "cancelled");
+        wheel.schedule(50, "late");
+        wheel.cancel(cancelled);
+        wheel.cancel(cancelled);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(101, fired::add);
+        assertEquals(List.of("late"), fired);
+
+        wheel.advanceTo(10_000, fired::add);
+        assertEquals(List.of("late", "kept"), fired);
+        assertEquals(5_000, kept.deadline());
+        assertEquals(0, wheel.size());
+        wheel.cancel(kept);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancellingAfterCascadeStillUnlinks() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(0);
+        List<TimingWheel.Timer<Integer>> timers = new ArrayList<>();
+        for (int i = 1; i <= 10_000; i++) {
+            timers.add(wheel.schedule(i * 37L, i));
+        }
+        Set<Integer> cancelled = new HashSet<>();
+        wheel.advanceTo(100_000, value -> { });
+        for (int i = 0; i < timers.size(); i += 3) {
+            wheel.cancel(timers.get(i));
+            cancelled.add(timers.get(i).value());
+        }
+        List<Integer> fired = new ArrayList<>();
+        wheel.advanceTo(Long.MAX_VALUE >>> 40, fired::add);
+        assertTrue(fired.stream().noneMatch(cancelled::contains));
+        assertEquals(0, wheel.size());
+    }
+}
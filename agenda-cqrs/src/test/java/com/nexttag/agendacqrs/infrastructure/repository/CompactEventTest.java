@@ -0,0 +1,60 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactEventTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 6, 2, 9, 30, 15, 123_456_789);
+
+    @Test
+    void decodesExactlyWhatWasEncoded() {
+        String agenda = "Pauta: revisão do contrato, orçamento e cronograma. ".repeat(20);
+        List<EventQuery> events = List.of(
+                new EventQuery(UUID.randomUUID(), "Reunião", agenda, DATE, DATE.plusHours(1), null),
+                new EventQuery(UUID.randomUUID(), "Daily", "", DATE, DATE.plusMinutes(15),
+                        RecurrenceRule.parse("FREQ=DAILY;COUNT=5")),
+                new EventQuery(UUID.randomUUID(), "Sem data", null, null, null, null),
+                new EventQuery(UUID.randomUUID(), "Antes da época", "curta", LocalDateTime.of(1900, 1, 1, 0, 0), null, null));
+
+        for (EventQuery event : events) {
+            assertEquals(event, CompactEvent.encode(event).decode());
+        }
+    }
+
+    @Test
+    void sharesTitlesAndOrdersByDateThenId() {
+        CompactEvent first = CompactEvent.encode(new EventQuery(UUID.randomUUID(), new String("Daily"), null, DATE));
+        CompactEvent second = CompactEvent.encode(new EventQuery(UUID.randomUUID(), new String("Daily"), null, DATE));
+        CompactEvent later = CompactEvent.encode(new EventQuery(UUID.randomUUID(), "Daily", null, DATE.plusNanos(1)));
+
+        assertSame(first.decode().title(), second.decode().title());
+        assertTrue(CompactEvent.BY_DATE.compare(CompactEvent.lowest(DATE), first) < 0);
+        assertTrue(CompactEvent.BY_DATE.compare(first, later) < 0);
+        assertTrue(CompactEvent.BY_DATE.compare(second, later) < 0);
+        assertTrue(CompactEvent.BY_DATE.compare(later, CompactEvent.lowest(DATE.plusSeconds(1))) < 0);
+        assertEquals(Integer.signum(first.id().compareTo(second.id())),
+                Integer.signum(CompactEvent.BY_DATE.compare(first, second)));
+    }
+
+    @Test
+    void occurrenceKeepsTheSeriesDurationWithoutDecoding() {
+        EventQuery series = new EventQuery(UUID.randomUUID(), "Plantão", "Escala", DATE,
+                DATE.plusHours(10).plusNanos(900_000_000), RecurrenceRule.parse("FREQ=WEEKLY"));
+        LocalDateTime occurrence = DATE.plusWeeks(3).withNano(200_000_000);
+
+        CompactEvent compact = CompactEvent.encode(series).at(occurrence);
+
+        assertEquals(series.occurrenceAt(occurrence), compact.decode());
+        assertEquals(series.id(), compact.id());
+    }
+}
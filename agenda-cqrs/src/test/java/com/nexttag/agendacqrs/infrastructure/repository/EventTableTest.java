@@ -0,0 +1,49 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class EventTableTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 6, 2, 9, 0);
+
+    @Test
+    void matchesHashMapAfterRandomPutsAndRemovals() {
+        Random random = new Random(42);
+        EventTable table = new EventTable();
+        Map<UUID, CompactEvent> expected = new HashMap<>();
+        // Poucos ids distintos, para forçar substituições e remoções no meio de agrupamentos
+        UUID[] ids = new UUID[2_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = new UUID(random.nextInt(64), i);
+        }
+        for (int i = 0; i < 50_000; i++) {
+            UUID id = ids[random.nextInt(ids.length)];
+            if (random.nextInt(3) == 0) {
+                assertSame(expected.remove(id), table.remove(id));
+            } else {
+                CompactEvent event = CompactEvent.encode(new EventQuery(id, "Evento " + i, null, DATE));
+                assertSame(expected.put(id, event), table.put(event));
+            }
+        }
+
+        assertEquals(expected.size(), table.size());
+        assertEquals(expected.size(), table.values().size());
+        for (UUID id : ids) {
+            assertSame(expected.get(id), table.get(id));
+        }
+        table.clear();
+        assertNull(table.get(ids[0]));
+        assertEquals(0, table.size());
+    }
+}
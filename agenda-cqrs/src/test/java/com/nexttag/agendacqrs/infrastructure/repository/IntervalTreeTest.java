@@ -0,0 +1,100 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void intervalsAreHalfOpen() {
+        IntervalTree<Interval> tree = new IntervalTree<>();
+        Interval nine = new Interval(BASE.plusHours(9), BASE.plusHours(10), UUID.randomUUID());
+        Interval ten = new Interval(BASE.plusHours(10), BASE.plusHours(11), UUID.randomUUID());
+        tree.insert(nine);
+        tree.insert(ten);
+
+        assertEquals(List.of(ten), tree.overlapping(BASE.plusHours(10), BASE.plusHours(12), 10, null));
+        assertEquals(List.of(nine), tree.overlapping(BASE.plusHours(8), BASE.plusHours(10), 10, null));
+        assertEquals(List.of(ten), tree.overlapping(BASE.plusHours(8), BASE.plusHours(12), 10, nine.id()));
+        assertTrue(tree.overlapping(BASE.plusHours(11), BASE.plusHours(12), 10, null).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> tree.insert(new Interval(BASE, BASE, UUID.randomUUID())));
+    }
+
+    @Test
+    void matchesLinearScanAfterRandomInsertsAndRemovals() {
+        Random random = new Random(42);
+        IntervalTree<Interval> tree = new IntervalTree<>();
+        List<Interval> live = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            if (!live.isEmpty() && random.nextInt(4) == 0) {
+                Interval removed = live.remove(random.nextInt(live.size()));
+                tree.remove(removed);
+            } else {
+                LocalDateTime start = BASE.plusMinutes(random.nextInt(100_000));
+                Interval interval = new Interval(start, start.plusMinutes(1 + random.nextInt(random.nextBoolean() ? 60 : 5_000)),
+                        UUID.randomUUID());
+                live.add(interval);
+                tree.insert(interval);
+            }
+        }
+        assertEquals(live.size(), tree.size());
+
+        Comparator<Interval> order = Comparator.comparing(Interval::start).thenComparing(Interval::id);
+        for (int q = 0; q < 500; q++) {
+            LocalDateTime from = BASE.plusMinutes(random.nextInt(100_000));
+            LocalDateTime to = from.plusMinutes(1 + random.nextInt(600));
+            List<Interval> expected = live.stream()
+                    .filter(interval -> interval.start().isBefore(to) && interval.end().isAfter(from))
+                    .sorted(order)
+                    .toList();
+            assertEquals(expected, tree.overlapping(from, to, Integer.MAX_VALUE, null));
+            assertEquals(expected.subList(0, Math.min(3, expected.size())), tree.overlapping(from, to, 3, null));
+        }
+    }
+
+    private record Interval(LocalDateTime start, LocalDateTime end, UUID id) implements IntervalTree.Interval {
+
+        @Override
+        public long startSecond() {
+            return start.toEpochSecond(ZoneOffset.UTC);
+        }
+
+        @Override
+        public int startNano() {
+            return start.getNano();
+        }
+
+        @Override
+        public long endSecond() {
+            return end.toEpochSecond(ZoneOffset.UTC);
+        }
+
+        @Override
+        public int endNano() {
+            return end.getNano();
+        }
+
+        @Override
+        public long idMsb() {
+            return id.getMostSignificantBits();
+        }
+
+        @Override
+        public long idLsb() {
+            return id.getLeastSignificantBits();
+        }
+    }
+}
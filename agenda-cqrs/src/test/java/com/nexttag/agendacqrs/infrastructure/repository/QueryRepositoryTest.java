@@ -0,0 +1,165 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import com.nexttag.agendacqrs.query.model.TimeRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private QueryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new QueryRepository();
+    }
+
+    @Test
+    void findUpcomingReturnsNextEventsInChronologicalOrder() {
+        EventQuery later = event(NOW.plusDays(3));
+        EventQuery soon = event(NOW.plusHours(1));
+        EventQuery atNow = event(NOW);
+        repository.add(later);
+        repository.add(event(NOW.minusDays(1)));
+        repository.add(soon);
+        repository.add(atNow);
+        repository.add(event(null));
+
+        assertEquals(List.of(atNow, soon, later), repository.findUpcoming(NOW, 10));
+        assertEquals(List.of(atNow, soon), repository.findUpcoming(NOW, 2));
+    }
+
+    @Test
+    void findUpcomingFollowsUpdatesAndDeletes() {
+        EventQuery original = event(NOW.plusDays(1));
+        EventQuery other = event(NOW.plusDays(2));
+        repository.add(original);
+        repository.add(other);
+
+        EventQuery movedToPast = new EventQuery(original.id(), original.title(), original.description(), NOW.minusDays(1));
+        repository.update(movedToPast);
+        assertEquals(List.of(other), repository.findUpcoming(NOW, 10));
+
+        repository.remove(other.id());
+        assertTrue(repository.findUpcoming(NOW, 10).isEmpty());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void findBetweenExpandsSeriesOnlyInsideTheWindow() {
+        EventQuery oneOff = event(NOW.plusDays(2).plusHours(1));
+        EventQuery daily = new EventQuery(UUID.randomUUID(), "Daily", "Desc", NOW.minusDays(30), null,
+                RecurrenceRule.parse("FREQ=DAILY"));
+        repository.add(oneOff);
+        repository.add(daily);
+
+        List<EventQuery> result = repository.findBetween(NOW.plusDays(1), NOW.plusDays(4), 10);
+
+        assertEquals(List.of(NOW.plusDays(1), NOW.plusDays(2), oneOff.date(), NOW.plusDays(3)),
+                result.stream().map(EventQuery::date).toList());
+        assertEquals(daily.id(), result.get(0).id());
+        assertEquals(3, repository.findUpcoming(NOW, 3).size());
+
+        repository.remove(daily.id());
+        assertEquals(List.of(oneOff), repository.findBetween(NOW, NOW.plusDays(4), 10));
+    }
+
+    @Test
+    void findOverlappingCombinesIntervalsAndSeriesOccurrences() {
+        EventQuery meeting = new EventQuery(UUID.randomUUID(), "Meeting", "", NOW.plusHours(1), NOW.plusHours(3), null);
+        EventQuery earlier = new EventQuery(UUID.randomUUID(), "Earlier", "", NOW.minusHours(2), NOW, null);
+        EventQuery daily = new EventQuery(UUID.randomUUID(), "Daily", "", NOW.minusDays(5).plusHours(2),
+                NOW.minusDays(5).plusHours(4), RecurrenceRule.parse("FREQ=DAILY"));
+        repository.add(meeting);
+        repository.add(earlier);
+        repository.add(daily);
+        repository.add(event(NOW.plusHours(2)));
+
+        List<EventQuery> overlapping = repository.findOverlapping(NOW, NOW.plusHours(3), 10, null);
+
+        assertEquals(List.of(meeting.id(), daily.id()), overlapping.stream().map(EventQuery::id).toList());
+        assertEquals(NOW.plusHours(2), overlapping.get(1).date());
+        assertEquals(NOW.plusHours(4), overlapping.get(1).end());
+        assertEquals(List.of(daily.id()),
+                repository.findOverlapping(NOW, NOW.plusHours(3), 10, meeting.id()).stream().map(EventQuery::id).toList());
+        assertEquals(List.of(meeting.id(), daily.id()), repository.findOverlappingIds(NOW, NOW.plusHours(3), 10, null));
+        assertEquals(List.of(new TimeRange(NOW.plusHours(1), NOW.plusHours(3)), new TimeRange(NOW.plusHours(2), NOW.plusHours(4))),
+                repository.findBusyIntervals(NOW, NOW.plusHours(3)));
+
+        repository.update(new EventQuery(meeting.id(), "Meeting", "", NOW.plusDays(1), NOW.plusDays(1).plusHours(1), null));
+        assertEquals(List.of(daily.id()),
+                repository.findOverlapping(NOW, NOW.plusHours(3), 10, null).stream().map(EventQuery::id).toList());
+    }
+
+    @Test
+    void seriesOutsideTheirPeriodAreNotExpanded() {
+        EventQuery ended = new EventQuery(UUID.randomUUID(), "Ended", "", NOW.minusDays(10), NOW.minusDays(10).plusHours(1),
+                RecurrenceRule.parse("FREQ=DAILY;COUNT=3"));
+        EventQuery future = new EventQuery(UUID.randomUUID(), "Future", "", NOW.plusDays(10), NOW.plusDays(10).plusHours(1),
+                RecurrenceRule.parse("FREQ=WEEKLY"));
+        EventQuery until = new EventQuery(UUID.randomUUID(), "Until", "", NOW.minusDays(1), NOW.minusDays(1).plusHours(1),
+                RecurrenceRule.parse("FREQ=DAILY;UNTIL=20250603T120000"));
+        repository.add(ended);
+        repository.add(future);
+        repository.add(until);
+
+        assertEquals(List.of(until.id()), repository.findOverlappingIds(NOW, NOW.plusDays(1), 10, null));
+        assertEquals(List.of(ended.id()), repository.findOverlappingIds(NOW.minusDays(9), NOW.minusDays(8), 10, null));
+        assertTrue(repository.findOverlappingIds(NOW.plusDays(3), NOW.plusDays(9), 10, null).isEmpty());
+        assertEquals(List.of(NOW.plusDays(10), NOW.plusDays(17)),
+                repository.findBetween(NOW.plusDays(3), NOW.plusDays(20), 10).stream().map(EventQuery::date).toList());
+
+        repository.update(new EventQuery(future.id(), "Future", "", NOW.minusDays(1), NOW.minusDays(1).plusHours(1), null));
+        assertTrue(repository.findBetween(NOW.plusDays(3), NOW.plusDays(20), 10).isEmpty());
+    }
+
+    @Test
+    void findOverlappingIdsForManyWindowsMatchesOneQueryPerWindow() {
+        Random random = new Random(42);
+        String[] rules = {"FREQ=DAILY", "FREQ=WEEKLY;BYDAY=MO,WE", "FREQ=DAILY;INTERVAL=3;COUNT=20",
+                "FREQ=MONTHLY;UNTIL=20251231T000000", "FREQ=WEEKLY;INTERVAL=2"};
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = NOW.plusMinutes(random.nextInt(200 * 24 * 60) - 100 * 24 * 60L);
+            LocalDateTime end = start.plusMinutes(15 + random.nextInt(random.nextBoolean() ? 120 : 3 * 24 * 60));
+            RecurrenceRule rule = random.nextInt(4) == 0 ? RecurrenceRule.parse(rules[random.nextInt(rules.length)]) : null;
+            repository.add(new EventQuery(UUID.randomUUID(), "E" + i, null, start, end, rule));
+        }
+
+        for (int q = 0; q < 50; q++) {
+            LocalDateTime first = NOW.plusMinutes(random.nextInt(100 * 24 * 60));
+            Duration duration = Duration.ofMinutes(30 + random.nextInt(240));
+            int step = 1 + random.nextInt(10);
+            List<LocalDateTime> starts = new ArrayList<>();
+            Set<UUID> expected = new HashSet<>();
+            for (int w = 0; w < 30; w++) {
+                LocalDateTime start = first.plusDays((long) w * step);
+                starts.add(start);
+                repository.findOverlapping(start, start.plus(duration), Integer.MAX_VALUE, null)
+                        .forEach(event -> expected.add(event.id()));
+            }
+
+            List<UUID> found = repository.findOverlappingIds(starts, duration, Integer.MAX_VALUE, null);
+            assertEquals(expected, new HashSet<>(found));
+            assertEquals(found.size(), expected.size());
+        }
+    }
+
+    private static EventQuery event(LocalDateTime date) {
+        return new EventQuery(UUID.randomUUID(), "Title", "Desc", date);
+    }
+}
@@ -0,0 +1,38 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StringPoolTest {
+
+    @Test
+    void deduplicatesRepeatedStrings() {
+        StringPool pool = new StringPool(1024);
+        String daily = pool.intern(new String("Daily"));
+        String demo = pool.intern(new String("Demo"));
+
+        assertSame(daily, pool.intern(new String("Daily")));
+        assertSame(demo, pool.intern(new String("Demo")));
+        assertNull(pool.intern(null));
+        assertEquals(1024, pool.capacity());
+        assertEquals(8, new StringPool(5).capacity());
+    }
+
+    @Test
+    void newStringsEvictWhatOccupiedTheirSlot() {
+        // Uma posição só: toda string nova despeja a anterior
+        StringPool pool = new StringPool(1);
+        String stale = pool.intern(new String("Planejamento 2023"));
+        String current = pool.intern(new String("Planejamento 2025"));
+
+        assertSame(current, pool.intern(new String("Planejamento 2025")));
+        String again = new String("Planejamento 2023");
+        assertSame(again, pool.intern(again));
+        assertNotSame(stale, again);
+        assertSame(again, pool.intern(new String("Planejamento 2023")));
+    }
+}
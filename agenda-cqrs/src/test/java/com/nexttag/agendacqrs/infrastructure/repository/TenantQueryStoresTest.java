@@ -0,0 +1,82 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import com.nexttag.agendacqrs.infrastructure.event.QueryProjectionLoader;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TenantQueryStoresTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 6, 2, 10, 0);
+
+    @Mock
+    private CommandJpaRepository commandJpaRepository;
+
+    private QueryProjectionLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        loader = new QueryProjectionLoader(commandJpaRepository);
+        when(commandJpaRepository.findByTenantId("acme"))
+                .thenReturn(List.of(new CommandEntity("acme", UUID.randomUUID(), "Acme", "", DATE, null, null)));
+        when(commandJpaRepository.findByTenantId("globex"))
+                .thenReturn(List.of(new CommandEntity("globex", UUID.randomUUID(), "Globex", "", DATE, null, null)));
+    }
+
+    @Test
+    void loadsEachTenantLazilyAndOnlyOnce() {
+        TenantQueryStores stores = new TenantQueryStores(loader, Duration.ofMinutes(10));
+        verify(commandJpaRepository, never()).findByTenantId("acme");
+
+        TenantQueryStore acme = stores.get("acme");
+        assertSame(acme, stores.get("acme"));
+
+        verify(commandJpaRepository, times(1)).findByTenantId("acme");
+        verify(commandJpaRepository, never()).findByTenantId("globex");
+        assertEquals(1, stores.size());
+    }
+
+    @Test
+    void keepsTenantsIsolated() {
+        TenantQueryStores stores = new TenantQueryStores(loader, Duration.ofMinutes(10));
+
+        TenantQueryStore acme = stores.get("acme");
+        TenantQueryStore globex = stores.get("globex");
+
+        assertEquals(List.of("Acme"), acme.events().findAll().stream().map(EventQuery::title).toList());
+        assertEquals(List.of("Globex"), globex.events().findAll().stream().map(EventQuery::title).toList());
+        assertTrue(acme.titles().suggest("glo", 10, DATE.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    void evictsIdleTenantsAndReloadsThemOnNextAccess() {
+        TenantQueryStores stores = new TenantQueryStores(loader, Duration.ZERO);
+        TenantQueryStore first = stores.get("acme");
+
+        assertEquals(1, stores.evictIdle());
+        assertTrue(first.isEvicted());
+        assertEquals(0, stores.size());
+
+        TenantQueryStore second = stores.get("acme");
+        assertNotSame(first, second);
+        assertEquals(1, second.events().count());
+        verify(commandJpaRepository, times(2)).findByTenantId("acme");
+    }
+}
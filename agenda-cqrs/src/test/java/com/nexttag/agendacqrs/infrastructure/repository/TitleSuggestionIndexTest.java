@@ -0,0 +1,110 @@
+package com.nexttag.agendacqrs.infrastructure.repository;
+
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import com.nexttag.agendacqrs.query.model.TitleSuggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TitleSuggestionIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private TitleSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TitleSuggestionIndex();
+    }
+
+    @Test
+    void matchesPrefixIgnoringCaseAccentsAndExtraSpaces() {
+        index.add(event("Reunião  de Equipe", NOW.plusDays(1)));
+        index.add(event("Revisão de código", NOW.plusDays(2)));
+        index.add(event("Almoço", NOW.plusDays(3)));
+
+        List<TitleSuggestion> result = index.suggest("REUNIAO d", 10, NOW);
+
+        assertEquals(1, result.size());
+        assertEquals("Reunião  de Equipe", result.get(0).title());
+        assertEquals(2, index.suggest("re", 10, NOW).size());
+    }
+
+    @Test
+    void ranksUpcomingTitlesFirstThenMostRecentPast() {
+        index.add(event("Daily", NOW.plusDays(5)));
+        index.add(event("Demo", NOW.plusHours(1)));
+        index.add(event("Deploy antigo", NOW.minusDays(10)));
+        index.add(event("Design review", NOW.minusDays(1)));
+
+        List<String> titles = index.suggest("d", 10, NOW).stream().map(TitleSuggestion::title).toList();
+
+        assertEquals(List.of("Demo", "Daily", "Design review", "Deploy antigo"), titles);
+    }
+
+    @Test
+    void pointsToNextOccurrenceOfRepeatedTitleAndHonorsLimit() {
+        EventQuery past = event("Daily", NOW.minusDays(1));
+        EventQuery next = event("Daily", NOW.plusDays(1));
+        index.add(past);
+        index.add(next);
+        index.add(event("daily", NOW.plusDays(2)));
+        index.add(event("Demo", NOW.plusDays(3)));
+
+        List<TitleSuggestion> result = index.suggest("d", 1, NOW);
+
+        assertEquals(1, result.size());
+        assertEquals(next.id(), result.get(0).eventId());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void removesTitleWhenLastOccurrenceIsGone() {
+        EventQuery original = event("Planejamento", NOW.plusDays(1));
+        index.add(original);
+
+        EventQuery renamed = new EventQuery(original.id(), "Retrospectiva", original.description(), original.date());
+        index.replace(original, renamed);
+
+        assertTrue(index.suggest("plan", 10, NOW).isEmpty());
+        assertEquals(1, index.suggest("retro", 10, NOW).size());
+
+        index.remove(renamed);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void seriesPointsToItsNextOccurrence() {
+        EventQuery weekly = new EventQuery(UUID.randomUUID(), "Daily", "", NOW.minusWeeks(10), null,
+                RecurrenceRule.parse("FREQ=WEEKLY"));
+        index.add(weekly);
+        index.add(event("Demo", NOW.plusDays(30)));
+
+        List<TitleSuggestion> result = index.suggest("d", 10, NOW);
+
+        assertEquals("Daily", result.get(0).title());
+        assertEquals(weekly.id(), result.get(0).eventId());
+        assertEquals(NOW.minusWeeks(10).plusWeeks(10), result.get(0).date());
+
+        index.remove(weekly);
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void blankPrefixReturnsNothing() {
+        index.add(event("Daily", NOW.plusDays(1)));
+
+        assertTrue(index.suggest("  ", 10, NOW).isEmpty());
+    }
+
+    private static EventQuery event(String title, LocalDateTime date) {
+        return new EventQuery(UUID.randomUUID(), title, "", date);
+    }
+}
@@ -0,0 +1,79 @@
+package com.nexttag.agendacqrs.query.handler;
+
+import com.nexttag.agendacqrs.domain.recurrence.RecurrenceRule;
+import com.nexttag.agendacqrs.infrastructure.event.QueryProjectionLoader;
+import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import com.nexttag.agendacqrs.query.model.FreeBusy;
+import com.nexttag.agendacqrs.query.model.TimeRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class FreeBusyHandlerTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 6, 2, 0, 0);
+
+    private QueryRepository repository;
+
+    private FreeBusyHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        TenantQueryStores stores = new TenantQueryStores(mock(QueryProjectionLoader.class), Duration.ofMinutes(10));
+        repository = stores.get("acme").events();
+        handler = new FreeBusyHandler(stores);
+    }
+
+    @Test
+    void mergesOverlappingAndAdjacentEventsClippedToTheWindow() {
+        add(DAY.plusHours(7), DAY.plusHours(9));
+        add(DAY.plusHours(9), DAY.plusHours(10));
+        add(DAY.plusHours(9).plusMinutes(30), DAY.plusHours(9).plusMinutes(45));
+        add(DAY.plusHours(14), DAY.plusHours(15));
+        add(DAY.plusHours(17), DAY.plusHours(20));
+        repository.add(new EventQuery(UUID.randomUUID(), "No end", "", DAY.plusHours(12)));
+        // Série diária das 11h às 11h30, com uma ocorrência dentro da janela
+        repository.add(new EventQuery(UUID.randomUUID(), "Daily", "", DAY.minusDays(3).plusHours(11),
+                DAY.minusDays(3).plusHours(11).plusMinutes(30), RecurrenceRule.parse("FREQ=DAILY")));
+
+        FreeBusy freeBusy = handler.handle("acme", new TimeRange(DAY.plusHours(8), DAY.plusHours(18)));
+
+        assertEquals(List.of(
+                new TimeRange(DAY.plusHours(8), DAY.plusHours(10)),
+                new TimeRange(DAY.plusHours(11), DAY.plusHours(11).plusMinutes(30)),
+                new TimeRange(DAY.plusHours(14), DAY.plusHours(15)),
+                new TimeRange(DAY.plusHours(17), DAY.plusHours(18))), freeBusy.busy());
+    }
+
+    @Test
+    void batchKeepsRequestOrderAndValidatesWindows() {
+        add(DAY.plusHours(9), DAY.plusHours(10));
+        TimeRange morning = new TimeRange(DAY.plusHours(8), DAY.plusHours(12));
+        TimeRange nextDay = new TimeRange(DAY.plusDays(1), DAY.plusDays(2));
+
+        List<FreeBusy> result = handler.handle("acme", List.of(morning, nextDay));
+
+        assertEquals(morning, result.get(0).window());
+        assertEquals(1, result.get(0).busy().size());
+        assertTrue(result.get(1).busy().isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> handler.handle("acme", Collections.nCopies(FreeBusyHandler.MAX_RANGES + 1, morning)));
+        assertThrows(IllegalArgumentException.class, () -> handler.handle("acme", new TimeRange(DAY, DAY.plusYears(2))));
+    }
+
+    private void add(LocalDateTime start, LocalDateTime end) {
+        repository.add(new EventQuery(UUID.randomUUID(), "Busy", "", start, end, null));
+    }
+}
@@ -1,6 +1,9 @@
 package com.nexttag.agendacqrs.query.handler;
 
 import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStore;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.infrastructure.repository.TitleSuggestionIndex;
 import com.nexttag.agendacqrs.query.model.EventQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,12 +22,16 @@ class ListEventsHandlerTest {
     @Mock
     private QueryRepository repository;
 
+    @Mock
+    private TenantQueryStores stores;
+
     private ListEventsHandler handler;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        handler = new ListEventsHandler(repository);
+        when(stores.get("acme")).thenReturn(new TenantQueryStore("acme", repository, new TitleSuggestionIndex()));
+        handler = new ListEventsHandler(stores);
     }
 
     @Test
@@ -32,7 +39,7 @@ class ListEventsHandlerTest {
         EventQuery event = new EventQuery(UUID.randomUUID(), "Title", "Desc", LocalDateTime.now());
         when(repository.findAll()).thenReturn(List.of(event));
 
-        List<EventQuery> result = handler.handle();
+        List<EventQuery> result = handler.handle("acme");
         assertEquals(1, result.size());
         assertEquals("Title", result.get(0).title());
     }
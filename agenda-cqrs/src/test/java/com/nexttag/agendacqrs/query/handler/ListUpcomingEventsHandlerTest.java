@@ -0,0 +1,49 @@
+package com.nexttag.agendacqrs.query.handler;
+
+import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStore;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.infrastructure.repository.TitleSuggestionIndex;
+import com.nexttag.agendacqrs.query.model.EventQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ListUpcomingEventsHandlerTest {
+
+    @Mock
+    private QueryRepository repository;
+
+    @Mock
+    private TenantQueryStores stores;
+
+    private ListUpcomingEventsHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(stores.get("acme")).thenReturn(new TenantQueryStore("acme", repository, new TitleSuggestionIndex()));
+        handler = new ListUpcomingEventsHandler(stores);
+    }
+
+    @Test
+    void handleReturnsUpcomingEventsWithBoundedLimit() {
+        EventQuery next = new EventQuery(UUID.randomUUID(), "Title", "Desc", LocalDateTime.now().plusDays(1));
+        when(repository.findUpcoming(any(LocalDateTime.class), eq(ListUpcomingEventsHandler.MAX_LIMIT)))
+                .thenReturn(List.of(next));
+
+        assertEquals(List.of(next), handler.handle("acme", 10_000));
+        verify(repository).findUpcoming(any(LocalDateTime.class), eq(ListUpcomingEventsHandler.MAX_LIMIT));
+    }
+}
@@ -0,0 +1,54 @@
+package com.nexttag.agendacqrs.query.handler;
+
+import com.nexttag.agendacqrs.infrastructure.repository.QueryRepository;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStore;
+import com.nexttag.agendacqrs.infrastructure.repository.TenantQueryStores;
+import com.nexttag.agendacqrs.infrastructure.repository.TitleSuggestionIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SuggestTitlesHandlerTest {
+
+    @Mock
+    private TitleSuggestionIndex index;
+
+    @Mock
+    private TenantQueryStores stores;
+
+    private SuggestTitlesHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(stores.get("acme")).thenReturn(new TenantQueryStore("acme", new QueryRepository(), index));
+        handler = new SuggestTitlesHandler(stores);
+        when(index.suggest(any(), any(Integer.class), any(LocalDateTime.class))).thenReturn(List.of());
+    }
+
+    @Test
+    void clampsLimitToAllowedRange() {
+        handler.handle("acme", "re", 1000);
+        handler.handle("acme", "re", 0);
+
+        verify(index).suggest(eq("re"), eq(SuggestTitlesHandler.MAX_LIMIT), any(LocalDateTime.class));
+        verify(index).suggest(eq("re"), eq(1), any(LocalDateTime.class));
+    }
+
+    @Test
+    void delegatesToIndex() {
+        assertEquals(List.of(), handler.handle("acme", "re", 5));
+
+        verify(index).suggest(eq("re"), eq(5), any(LocalDateTime.class));
+    }
+}
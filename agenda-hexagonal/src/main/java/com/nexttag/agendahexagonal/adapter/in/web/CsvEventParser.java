@@ -0,0 +1,75 @@
+package com.nexttag.agendahexagonal.adapter.in.web;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.RecurrenceRule;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Converte uma linha CSV {@code title,description,date[,recurrence]} em evento. A coluna {@code recurrence}
+ * é opcional: vazia ou ausente, o evento é avulso; preenchida, leva a regra RRULE da série (entre aspas
+ * quando tiver vírgulas, ex.: {@code "FREQ=WEEKLY;BYDAY=MO,WE"}) e uma regra inválida rejeita a linha.
+ * Campos podem vir entre aspas (com {@code ""} como aspas escapadas); a linha de cabeçalho é ignorada.
+ */
+class CsvEventParser implements Function<String, Event> {
+    static final String HEADER = "title,description,date,recurrence";
+    private static final String HEADER_WITHOUT_RECURRENCE = "title,description,date";
+
+    @Override
+    public Event apply(String line) {
+        String stripped = line.strip();
+        if (stripped.equalsIgnoreCase(HEADER) || stripped.equalsIgnoreCase(HEADER_WITHOUT_RECURRENCE)) {
+            return null;
+        }
+        List<String> fields = split(line);
+        if (fields.size() != 3 && fields.size() != 4) {
+            throw new IllegalArgumentException("Expected 3 or 4 columns (" + HEADER + ") but found " + fields.size());
+        }
+        String title = fields.get(0);
+        if (title.isBlank()) {
+            throw new IllegalArgumentException("title is required");
+        }
+        String description = fields.get(1).isEmpty() ? null : fields.get(1);
+        RecurrenceRule recurrence = fields.size() == 4 ? RecurrenceRule.parse(fields.get(3)) : null;
+        try {
+            return new Event(title, description, LocalDateTime.parse(fields.get(2).strip())).withRecurrence(recurrence);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date: " + fields.get(2));
+        }
+    }
+
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -1,28 +1,54 @@
 package com.nexttag.agendahexagonal.adapter.in.web;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.nexttag.agendahexagonal.adapter.in.web.dto.EventDto;
+import com.nexttag.agendahexagonal.adapter.in.web.dto.EventPageDto;
 import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventCursor;
+import com.nexttag.agendahexagonal.domain.entity.EventPage;
+import com.nexttag.agendahexagonal.domain.entity.EventPageCriteria;
+import com.nexttag.agendahexagonal.domain.entity.EventPatch;
+import com.nexttag.agendahexagonal.domain.entity.RecurrenceRule;
 import com.nexttag.agendahexagonal.domain.port.in.EventUseCase;
+import com.nexttag.agendahexagonal.domain.usecase.ListEventsUseCase;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/events")
 public class EventController {
     private final EventUseCase eventUseCase;
+    private final ListEventsUseCase listEventsUseCase;
+    private final ObjectMapper objectMapper;
 
-    public EventController(EventUseCase eventUseCase) {
+    public EventController(EventUseCase eventUseCase, ListEventsUseCase listEventsUseCase, ObjectMapper objectMapper) {
         this.eventUseCase = eventUseCase;
+        this.listEventsUseCase = listEventsUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
     public ResponseEntity<EventDto> create(@RequestBody EventDto dto) {
-        Event event = new Event(dto.title(), dto.description(), dto.date());
+        Event event = new Event(dto.title(), dto.description(), dto.date())
+                .withRecurrence(RecurrenceRule.parse(dto.recurrence()));
         Event created = eventUseCase.create(event);
         return ResponseEntity.status(HttpStatus.CREATED).body(toDto(created));
     }
@@ -34,20 +60,83 @@ public class EventController {
         return ResponseEntity.ok(dtos);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        // Cada linha é serializada e enviada assim que sai do cursor; nada é acumulado em listas
+        StreamingResponseBody body = out -> {
+            try (Stream<Event> events = eventUseCase.exportAll();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                ObjectWriter writer = objectMapper.writerFor(EventDto.class)
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+                Iterator<Event> iterator = events.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeValue(generator, toDto(iterator.next()));
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<EventPageDto> listPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String title,
+            @RequestParam(defaultValue = "ASC") EventPageCriteria.Direction sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "0") int limit) {
+        EventPageCriteria criteria = new EventPageCriteria(from, to, title, sort, decodeCursor(cursor), limit);
+        EventPage page = listEventsUseCase.execute(criteria);
+        List<EventDto> dtos = page.items().stream().map(this::toDto).collect(Collectors.toList());
+        return ResponseEntity.ok(new EventPageDto(dtos, encodeCursor(page.next())));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EventDto> update(@PathVariable UUID id, @RequestBody EventDto dto) {
-        Event event = new Event(dto.title(), dto.description(), dto.date());
+        Event event = new Event(dto.title(), dto.description(), dto.date())
+                .withRecurrence(RecurrenceRule.parse(dto.recurrence()));
         Event updated = eventUseCase.update(id, event);
         return ResponseEntity.ok(toDto(updated));
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patch(@PathVariable UUID id, @RequestBody EventDto dto) {
+        eventUseCase.patch(id, new EventPatch(dto.title(), dto.description(), dto.date()));
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable UUID id) {
         eventUseCase.delete(id);
         return ResponseEntity.noContent().build();
     }
 
+    // O cursor é opaco para o cliente: "date|id" em Base64 URL-safe
+    private String encodeCursor(EventCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.date() + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private EventCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf('|');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return new EventCursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+    }
+
     private EventDto toDto(Event event) {
-        return new EventDto(event.id(), event.title(), event.description(), event.date());
+        return new EventDto(event.id(), event.title(), event.description(), event.date(),
+                event.recurrence() == null ? null : event.recurrence().toString());
     }
 }
\ No newline at end of file
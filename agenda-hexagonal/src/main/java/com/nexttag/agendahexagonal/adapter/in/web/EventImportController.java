@@ -0,0 +1,63 @@
+package com.nexttag.agendahexagonal.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nexttag.agendahexagonal.adapter.in.web.dto.ImportReportDto;
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.ImportReport;
+import com.nexttag.agendahexagonal.domain.usecase.ImportEventsUseCase;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/events")
+public class EventImportController {
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
+    private final ImportEventsUseCase importEventsUseCase;
+    private final NdjsonEventParser ndjsonParser;
+    private final CsvEventParser csvParser = new CsvEventParser();
+
+    public EventImportController(ImportEventsUseCase importEventsUseCase, ObjectMapper objectMapper) {
+        this.importEventsUseCase = importEventsUseCase;
+        this.ndjsonParser = new NdjsonEventParser(objectMapper);
+    }
+
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<ImportReportDto> importNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(importLines(body, ndjsonParser));
+    }
+
+    @PostMapping(value = "/import", consumes = CSV)
+    public ResponseEntity<ImportReportDto> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(importLines(body, csvParser));
+    }
+
+    private ImportReportDto importLines(InputStream body, Function<String, Event> parser) throws IOException {
+        // O corpo é lido linha a linha diretamente do socket, sem ser carregado inteiro em memória
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024)) {
+            return toDto(importEventsUseCase.execute(reader.lines().iterator(), parser));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private ImportReportDto toDto(ImportReport report) {
+        return new ImportReportDto(report.imported(), report.failed(), report.elapsedMillis(), report.rowsPerSecond(),
+                report.errors().stream()
+                        .map(error -> new ImportReportDto.RowErrorDto(error.line(), error.message()))
+                        .toList());
+    }
+}
@@ -0,0 +1,40 @@
+package com.nexttag.agendahexagonal.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.nexttag.agendahexagonal.adapter.in.web.dto.EventDto;
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.RecurrenceRule;
+
+import java.util.function.Function;
+
+/**
+ * Converte uma linha NDJSON ({@code {"title":...,"description":...,"date":...,"recurrence":...}}) em evento,
+ * no mesmo formato de {@code GET /events/export}. Uma regra de recorrência inválida rejeita a linha.
+ */
+class NdjsonEventParser implements Function<String, Event> {
+    private final ObjectReader reader;
+
+    NdjsonEventParser(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(EventDto.class);
+    }
+
+    @Override
+    public Event apply(String line) {
+        EventDto dto;
+        try {
+            dto = reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (dto.title() == null || dto.title().isBlank()) {
+            throw new IllegalArgumentException("title is required");
+        }
+        if (dto.date() == null) {
+            throw new IllegalArgumentException("date is required");
+        }
+        return new Event(dto.title(), dto.description(), dto.date())
+                .withRecurrence(RecurrenceRule.parse(dto.recurrence()));
+    }
+}
@@ -3,5 +3,8 @@ package com.nexttag.agendahexagonal.adapter.in.web.dto;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public record EventDto(UUID id, String title, String description, LocalDateTime date) {
-}
\ No newline at end of file
+public record EventDto(UUID id, String title, String description, LocalDateTime date, String recurrence) {
+    public EventDto(UUID id, String title, String description, LocalDateTime date) {
+        this(id, title, description, date, null);
+    }
+}
@@ -0,0 +1,6 @@
+package com.nexttag.agendahexagonal.adapter.in.web.dto;
+
+import java.util.List;
+
+public record EventPageDto(List<EventDto> items, String nextCursor) {
+}
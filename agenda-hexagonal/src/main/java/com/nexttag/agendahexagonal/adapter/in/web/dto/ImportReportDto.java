@@ -0,0 +1,10 @@
+package com.nexttag.agendahexagonal.adapter.in.web.dto;
+
+import java.util.List;
+
+public record ImportReportDto(long imported, long failed, long elapsedMillis, double rowsPerSecond,
+                              List<RowErrorDto> errors) {
+
+    public record RowErrorDto(long line, String message) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.nexttag.agendahexagonal.adapter.in.webflux;
+
+import com.nexttag.agendahexagonal.adapter.in.web.dto.EventDto;
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.port.in.ReactiveEventUseCase;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/events")
+public class ReactiveEventController {
+    private final ReactiveEventUseCase eventUseCase;
+
+    public ReactiveEventController(ReactiveEventUseCase eventUseCase) {
+        this.eventUseCase = eventUseCase;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<EventDto>> create(@RequestBody EventDto dto) {
+        Event event = new Event(dto.title(), dto.description(), dto.date());
+        return eventUseCase.create(event)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(toDto(created)));
+    }
+
+    @GetMapping
+    public Flux<EventDto> listAll() {
+        return eventUseCase.listAll().map(this::toDto);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<EventDto>> update(@PathVariable UUID id, @RequestBody EventDto dto) {
+        Event event = new Event(dto.title(), dto.description(), dto.date());
+        return eventUseCase.update(id, event)
+                .map(updated -> ResponseEntity.ok(toDto(updated)));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable UUID id) {
+        return eventUseCase.delete(id)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    private EventDto toDto(Event event) {
+        return new EventDto(event.id(), event.title(), event.description(), event.date());
+    }
+}
@@ -0,0 +1,18 @@
+package com.nexttag.agendahexagonal.adapter.in.webflux;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveServerConfig {
+
+    // Com spring-boot-starter-web no classpath o Spring Boot escolheria o Tomcat também no modo reativo;
+    // o Netty atende muitas conexões com poucas threads de event loop.
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,114 @@
+package com.nexttag.agendahexagonal.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventPage;
+import com.nexttag.agendahexagonal.domain.entity.EventPageCriteria;
+import com.nexttag.agendahexagonal.domain.entity.EventPatch;
+import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de cache para a porta de saída: envolve o adaptador de persistência
+ * sem que o domínio perceba a diferença.
+ * <p>
+ * O Caffeine usa W-TinyLFU como política de admissão/despejo, o que mantém no cache
+ * os eventos consultados com mais frequência (os do dia) mesmo com um limite pequeno.
+ * Escritas passam pelo cache (write-through) e exclusões o invalidam.
+ */
+@Component
+@Primary
+@Profile("!reactive & !embedded")
+public class CachingEventRepositoryAdapter implements EventRepositoryPort {
+    private final EventRepositoryPort delegate;
+    private final Cache<UUID, Event> cache;
+
+    public CachingEventRepositoryAdapter(@Qualifier("eventRepositoryAdapter") EventRepositoryPort delegate,
+                                         @Value("${agenda.cache.maximum-size:10000}") long maximumSize,
+                                         @Value("${agenda.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                                         MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "events");
+    }
+
+    @Override
+    public Event save(Event event) {
+        Event saved = delegate.save(event);
+        cache.put(saved.id(), saved);
+        return saved;
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Optional<Event> findById(UUID id) {
+        // Ausências não são armazenadas: o loader retorna null e o Caffeine não grava a entrada
+        return Optional.ofNullable(cache.get(id, key -> delegate.findById(key).orElse(null)));
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        delegate.deleteById(id);
+        cache.invalidate(id);
+    }
+
+    @Override
+    public int updatePartial(UUID id, EventPatch patch) {
+        int updated = delegate.updatePartial(id, patch);
+        if (updated > 0) {
+            // Aplica a mesma alteração à entrada em cache, se houver, em vez de forçar nova leitura
+            cache.asMap().computeIfPresent(id, (key, cached) -> patch.applyTo(cached));
+        } else {
+            cache.invalidate(id);
+        }
+        return updated;
+    }
+
+    @Override
+    public EventPage findPage(EventPageCriteria criteria) {
+        return delegate.findPage(criteria);
+    }
+
+    @Override
+    public List<Event> findSeries(LocalDateTime from, LocalDateTime to) {
+        return delegate.findSeries(from, to);
+    }
+
+    @Override
+    public int saveAll(List<Event> events) {
+        // Cargas em lote não passam pelo cache para não expulsar os eventos mais acessados
+        return delegate.saveAll(events);
+    }
+
+    @Override
+    public Stream<Event> streamAll() {
+        return delegate.streamAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
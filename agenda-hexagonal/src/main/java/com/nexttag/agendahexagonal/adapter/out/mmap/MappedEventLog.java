@@ -0,0 +1,237 @@
+package com.nexttag.agendahexagonal.adapter.out.mmap;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.RecurrenceRule;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Arquivo de dados append-only mapeado em memória.
+ * <p>
+ * Cada registro tem um cabeçalho {@code [int tamanho][int crc32c]} seguido do corpo
+ * {@code [byte tipo][long msb][long lsb]} e, para gravações, {@code [long epochSecond][int nano][título][descrição][recorrência]}.
+ * A recorrência (texto RRULE) foi acrescentada depois: registros gravados sem ela terminam na descrição e são lidos
+ * como eventos avulsos.
+ * Exclusões são gravadas como lápides (tipo {@link #DELETE}). Na abertura o arquivo é percorrido até o primeiro
+ * registro vazio ou com CRC inválido, descartando uma escrita interrompida no final.
+ * <p>
+ * Não é thread-safe: a sincronização fica a cargo de {@link MappedFileEventRepositoryAdapter}.
+ */
+class MappedEventLog implements Closeable {
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    private static final int HEADER_SIZE = 8;
+    private static final int INITIAL_CAPACITY = 16 * 1024 * 1024;
+    private static final int NULL_LENGTH = -1;
+    private static final int NULL_DATE_NANO = -1;
+
+    private final Path path;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int writePosition;
+
+    MappedEventLog(Path path) {
+        this.path = path;
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Data file larger than 2GB: " + path);
+            }
+            map((int) Math.max(INITIAL_CAPACITY, size));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    /**
+     * Percorre os registros válidos em ordem de gravação e posiciona o ponteiro de escrita após o último.
+     */
+    void recover(RecordVisitor visitor) {
+        int position = 0;
+        while (position + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            if (checksum(position + HEADER_SIZE, length) != buffer.getInt(position + 4)) {
+                break;
+            }
+            int body = position + HEADER_SIZE;
+            UUID id = new UUID(buffer.getLong(body + 1), buffer.getLong(body + 9));
+            visitor.visit(buffer.get(body), id, position, HEADER_SIZE + length);
+            position += HEADER_SIZE + length;
+        }
+        writePosition = position;
+        // Zera o restante de um registro interrompido para que não seja confundido com dados válidos
+        if (position + HEADER_SIZE <= buffer.capacity()) {
+            buffer.putInt(position, 0);
+        }
+    }
+
+    int appendPut(Event event) {
+        byte[] title = encode(event.title());
+        byte[] description = encode(event.description());
+        byte[] recurrence = encode(event.recurrence() == null ? null : event.recurrence().toString());
+        int length = 1 + 16 + 12 + lengthOf(title) + lengthOf(description) + lengthOf(recurrence);
+        int position = reserve(length);
+        int cursor = position + HEADER_SIZE;
+        buffer.put(cursor, PUT);
+        buffer.putLong(cursor + 1, event.id().getMostSignificantBits());
+        buffer.putLong(cursor + 9, event.id().getLeastSignificantBits());
+        cursor += 17;
+        if (event.date() == null) {
+            buffer.putLong(cursor, 0L);
+            buffer.putInt(cursor + 8, NULL_DATE_NANO);
+        } else {
+            buffer.putLong(cursor, event.date().toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(cursor + 8, event.date().getNano());
+        }
+        cursor += 12;
+        cursor = putString(cursor, title);
+        cursor = putString(cursor, description);
+        putString(cursor, recurrence);
+        commit(position, length);
+        return position;
+    }
+
+    int appendDelete(UUID id) {
+        int length = 1 + 16;
+        int position = reserve(length);
+        int cursor = position + HEADER_SIZE;
+        buffer.put(cursor, DELETE);
+        buffer.putLong(cursor + 1, id.getMostSignificantBits());
+        buffer.putLong(cursor + 9, id.getLeastSignificantBits());
+        commit(position, length);
+        return position;
+    }
+
+    Event read(int position) {
+        int end = position + HEADER_SIZE + buffer.getInt(position);
+        int cursor = position + HEADER_SIZE;
+        UUID id = new UUID(buffer.getLong(cursor + 1), buffer.getLong(cursor + 9));
+        cursor += 17;
+        long epochSecond = buffer.getLong(cursor);
+        int nano = buffer.getInt(cursor + 8);
+        LocalDateTime date = nano == NULL_DATE_NANO ? null : LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        cursor += 12;
+        int titleLength = buffer.getInt(cursor);
+        String title = getString(cursor);
+        cursor += 4 + Math.max(titleLength, 0);
+        int descriptionLength = buffer.getInt(cursor);
+        String description = getString(cursor);
+        cursor += 4 + Math.max(descriptionLength, 0);
+        RecurrenceRule recurrence = cursor < end ? RecurrenceRule.parse(getString(cursor)) : null;
+        return new Event(id, title, description, date, recurrence);
+    }
+
+    int recordSize(int position) {
+        return HEADER_SIZE + buffer.getInt(position);
+    }
+
+    int size() {
+        return writePosition;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int reserve(int length) {
+        long required = (long) writePosition + HEADER_SIZE + length + HEADER_SIZE;
+        if (required > buffer.capacity()) {
+            long capacity = buffer.capacity();
+            while (capacity < required) {
+                capacity *= 2;
+            }
+            if (capacity > Integer.MAX_VALUE) {
+                if (required > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("Data file is full (2GB): " + path);
+                }
+                capacity = Integer.MAX_VALUE;
+            }
+            map((int) capacity);
+        }
+        return writePosition;
+    }
+
+    private void commit(int position, int length) {
+        // O tamanho é gravado por último: até lá o registro é invisível para a recuperação
+        buffer.putInt(position + 4, checksum(position + HEADER_SIZE, length));
+        buffer.putInt(position, length);
+        writePosition = position + HEADER_SIZE + length;
+    }
+
+    private void map(int capacity) {
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int checksum(int position, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position, length));
+        return (int) crc.getValue();
+    }
+
+    private int putString(int position, byte[] value) {
+        if (value == null) {
+            buffer.putInt(position, NULL_LENGTH);
+            return position + 4;
+        }
+        buffer.putInt(position, value.length);
+        buffer.put(position + 4, value);
+        return position + 4 + value.length;
+    }
+
+    private String getString(int position) {
+        int length = buffer.getInt(position);
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(position + 4, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int lengthOf(byte[] value) {
+        return 4 + (value == null ? 0 : value.length);
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(byte type, UUID id, int position, int size);
+    }
+}
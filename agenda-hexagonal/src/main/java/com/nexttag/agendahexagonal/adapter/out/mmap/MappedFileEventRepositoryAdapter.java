@@ -0,0 +1,400 @@
+package com.nexttag.agendahexagonal.adapter.out.mmap;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventCursor;
+import com.nexttag.agendahexagonal.domain.entity.EventPage;
+import com.nexttag.agendahexagonal.domain.entity.EventPageCriteria;
+import com.nexttag.agendahexagonal.domain.entity.EventPatch;
+import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador de persistência embarcado, sem H2 nem JPA: os eventos ficam em um arquivo
+ * append-only mapeado em memória ({@link MappedEventLog}) e o heap guarda apenas índices
+ * (id → posição no arquivo, (date, id) → id e o conjunto de séries recorrentes), decodificando
+ * o evento sob demanda.
+ * <p>
+ * Na inicialização os índices são reconstruídos a partir do arquivo. Atualizações e exclusões
+ * deixam registros mortos, removidos por uma compactação periódica em segundo plano quando
+ * passam de {@code agenda.storage.compaction-threshold} do arquivo.
+ * <p>
+ * As gravações vão para o mapeamento em memória e chegam ao disco quando o sistema operacional
+ * descarrega as páginas ou, no máximo, a cada {@code agenda.storage.force-interval}, quando o
+ * mapeamento é forçado. Uma queda da aplicação não perde nada, porque as páginas já estão no
+ * page cache; uma queda da máquina pode perder as gravações desse último intervalo.
+ */
+@Component
+@Profile("embedded")
+public class MappedFileEventRepositoryAdapter implements EventRepositoryPort, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(MappedFileEventRepositoryAdapter.class);
+    private static final int MIN_COMPACTION_BYTES = 1024 * 1024;
+    static final int EXPORT_PAGE_SIZE = 1000;
+    private static final Comparator<EventCursor> ORDER = Comparator
+            .comparing(EventCursor::date, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(EventCursor::id, EventCursor.ID_ORDER);
+
+    private final Path path;
+    private final double compactionThreshold;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> positions = new HashMap<>();
+    private final NavigableMap<EventCursor, UUID> byDate = new TreeMap<>(ORDER);
+    private final Set<UUID> series = new HashSet<>();
+    private final ScheduledExecutorService compactor;
+    private MappedEventLog eventLog;
+    private long deadBytes;
+
+    public MappedFileEventRepositoryAdapter(@Value("${agenda.storage.path:./data/events.dat}") Path path,
+                                            @Value("${agenda.storage.compaction-threshold:0.5}") double compactionThreshold,
+                                            @Value("${agenda.storage.compaction-interval:1m}") Duration compactionInterval,
+                                            @Value("${agenda.storage.force-interval:1s}") Duration forceInterval) {
+        this.path = path;
+        this.compactionThreshold = compactionThreshold;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        open();
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-log-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = compactionInterval.toMillis();
+        compactor.scheduleWithFixedDelay(this::compactIfNeeded, interval, interval, TimeUnit.MILLISECONDS);
+        long force = forceInterval.toMillis();
+        compactor.scheduleWithFixedDelay(this::force, force, force, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Event save(Event event) {
+        lock.writeLock().lock();
+        try {
+            put(event);
+            return event;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Event> events = new ArrayList<>(positions.size());
+            for (int position : positions.values()) {
+                events.add(eventLog.read(position));
+            }
+            return events;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Event> findById(UUID id) {
+        lock.readLock().lock();
+        try {
+            Integer position = positions.get(id);
+            return position == null ? Optional.empty() : Optional.of(eventLog.read(position));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer position = positions.remove(id);
+            if (position == null) {
+                return;
+            }
+            Event removed = eventLog.read(position);
+            byDate.remove(EventCursor.of(removed));
+            series.remove(id);
+            int tombstone = eventLog.appendDelete(id);
+            deadBytes += eventLog.recordSize(position) + eventLog.recordSize(tombstone);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int updatePartial(UUID id, EventPatch patch) {
+        lock.writeLock().lock();
+        try {
+            Integer position = positions.get(id);
+            if (position == null) {
+                return 0;
+            }
+            put(patch.applyTo(eventLog.read(position)));
+            return 1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public EventPage findPage(EventPageCriteria criteria) {
+        return findPage(criteria, false);
+    }
+
+    private EventPage findPage(EventPageCriteria criteria, boolean includeSeries) {
+        // O cursor entra nos limites do intervalo em vez de ser aplicado sobre o mapa já recortado:
+        // um cursor fora de [from, to) faria o tailMap da visão lançar IllegalArgumentException
+        boolean descending = criteria.direction() == EventPageCriteria.Direction.DESC;
+        EventCursor lower = criteria.from() == null ? null : lowest(criteria.from());
+        boolean lowerInclusive = true;
+        EventCursor upper = criteria.to() == null ? null : lowest(criteria.to());
+        EventCursor after = criteria.after();
+        if (after != null && !descending && (lower == null || ORDER.compare(after, lower) >= 0)) {
+            lower = after;
+            lowerInclusive = false;
+        }
+        if (after != null && descending && (upper == null || ORDER.compare(after, upper) < 0)) {
+            upper = after;
+        }
+        if (lower != null && upper != null && ORDER.compare(lower, upper) >= 0) {
+            return new EventPage(List.of(), null);
+        }
+
+        lock.readLock().lock();
+        try {
+            NavigableMap<EventCursor, UUID> range = byDate;
+            if (lower != null) {
+                range = range.tailMap(lower, lowerInclusive);
+            }
+            if (upper != null) {
+                range = range.headMap(upper, false);
+            }
+            if (descending) {
+                range = range.descendingMap();
+            }
+
+            String prefix = criteria.titlePrefix();
+            List<Event> items = new ArrayList<>(criteria.limit());
+            for (UUID id : range.values()) {
+                if (!includeSeries && series.contains(id)) {
+                    continue;
+                }
+                Event event = eventLog.read(positions.get(id));
+                if (prefix != null && (event.title() == null || !event.title().startsWith(prefix))) {
+                    continue;
+                }
+                if (items.size() == criteria.limit()) {
+                    return new EventPage(items, EventCursor.of(items.get(items.size() - 1)));
+                }
+                items.add(event);
+            }
+            return new EventPage(items, null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findSeries(LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            List<Event> result = new ArrayList<>();
+            for (UUID id : series) {
+                Event event = eventLog.read(positions.get(id));
+                LocalDateTime until = event.recurrence().until();
+                if ((to == null || event.date().isBefore(to)) && (from == null || until == null || !until.isBefore(from))) {
+                    result.add(event);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int saveAll(List<Event> events) {
+        lock.writeLock().lock();
+        try {
+            for (Event event : events) {
+                put(event);
+            }
+            return events.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Stream<Event> streamAll() {
+        // Percorre o índice por (date, id) em páginas: o lock de leitura é mantido só durante
+        // cada página, então escritas e compactação não ficam bloqueadas durante a exportação
+        return Stream.iterate(findPage(exportPage(null), true), Objects::nonNull,
+                        page -> page.next() == null ? null : findPage(exportPage(page.next()), true))
+                .flatMap(page -> page.items().stream());
+    }
+
+    private static EventCursor lowest(LocalDateTime date) {
+        return new EventCursor(date, EventCursor.MIN_ID);
+    }
+
+    private static EventPageCriteria exportPage(EventCursor after) {
+        return new EventPageCriteria(null, null, null, EventPageCriteria.Direction.ASC, after, EXPORT_PAGE_SIZE);
+    }
+
+    /**
+     * Reescreve o arquivo apenas com os registros vivos quando a fração de bytes mortos passa do limite.
+     */
+    void compactIfNeeded() {
+        lock.writeLock().lock();
+        try {
+            long size = eventLog.size();
+            if (size < MIN_COMPACTION_BYTES || deadBytes < size * compactionThreshold) {
+                return;
+            }
+            compact();
+        } catch (RuntimeException e) {
+            log.warn("Compaction of {} failed", path, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void compact() {
+        lock.writeLock().lock();
+        try {
+            long before = eventLog.size();
+            Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+            Files.deleteIfExists(compacted);
+            try (MappedEventLog target = new MappedEventLog(compacted)) {
+                target.recover((type, id, position, size) -> { });
+                for (UUID id : byDate.values()) {
+                    target.appendPut(eventLog.read(positions.get(id)));
+                }
+                target.force();
+            }
+            eventLog.close();
+            try {
+                replaceDataFile(compacted);
+            } finally {
+                // Com ou sem a troca, o arquivo em path está íntegro: o original, se o move falhou,
+                // ou a cópia compactada, já forçada para o disco
+                open();
+            }
+            log.info("Compacted {} from {} to {} bytes", path, before, eventLog.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void replaceDataFile(Path compacted) throws IOException {
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Força as páginas gravadas do mapeamento para o disco.
+     */
+    void force() {
+        lock.readLock().lock();
+        try {
+            eventLog.force();
+        } catch (RuntimeException e) {
+            // Uma exceção aqui cancelaria as próximas execuções do scheduleWithFixedDelay
+            log.warn("Failed to force {} to disk", path, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long deadBytes() {
+        return deadBytes;
+    }
+
+    long dataBytes() {
+        return eventLog.size();
+    }
+
+    @Override
+    public void close() {
+        compactor.shutdownNow();
+        lock.writeLock().lock();
+        try {
+            eventLog.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Event event) {
+        Integer previous = positions.get(event.id());
+        if (previous != null) {
+            byDate.remove(EventCursor.of(eventLog.read(previous)));
+            deadBytes += eventLog.recordSize(previous);
+        }
+        int position = eventLog.appendPut(event);
+        positions.put(event.id(), position);
+        byDate.put(EventCursor.of(event), event.id());
+        if (event.isRecurring()) {
+            series.add(event.id());
+        } else {
+            series.remove(event.id());
+        }
+    }
+
+    private void open() {
+        positions.clear();
+        byDate.clear();
+        series.clear();
+        deadBytes = 0;
+        eventLog = new MappedEventLog(path);
+        eventLog.recover((type, id, position, size) -> {
+            Integer previous = type == MappedEventLog.PUT ? positions.put(id, position) : positions.remove(id);
+            if (previous != null) {
+                deadBytes += eventLog.recordSize(previous);
+            }
+            if (type == MappedEventLog.DELETE) {
+                deadBytes += size;
+            }
+        });
+        for (Map.Entry<UUID, Integer> entry : positions.entrySet()) {
+            Event event = eventLog.read(entry.getValue());
+            byDate.put(new EventCursor(event.date(), entry.getKey()), entry.getKey());
+            if (event.isRecurring()) {
+                series.add(entry.getKey());
+            }
+        }
+    }
+}
@@ -1,20 +1,26 @@
 package com.nexttag.agendahexagonal.adapter.out.persistence;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = @Index(name = "idx_events_date_id", columnList = "date, id"))
 public class EventEntity {
     @Id
     private UUID id;
     private String title;
     private String description;
     private LocalDateTime date;
+    // Regra RRULE da série (nula para eventos avulsos) e seu UNTIL, para filtrar séries já encerradas
+    private String recurrence;
+    @Column(name = "recurrence_until")
+    private LocalDateTime recurrenceUntil;
 
     public EventEntity() {}
 
@@ -25,6 +31,13 @@ public class EventEntity {
         this.date = date;
     }
 
+    public EventEntity(UUID id, String title, String description, LocalDateTime date,
+                       String recurrence, LocalDateTime recurrenceUntil) {
+        this(id, title, description, date);
+        this.recurrence = recurrence;
+        this.recurrenceUntil = recurrenceUntil;
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -57,4 +70,20 @@ public class EventEntity {
     public void setDate(LocalDateTime date) {
         this.date = date;
     }
-}
\ No newline at end of file
+
+    public String getRecurrence() {
+        return recurrence;
+    }
+
+    public void setRecurrence(String recurrence) {
+        this.recurrence = recurrence;
+    }
+
+    public LocalDateTime getRecurrenceUntil() {
+        return recurrenceUntil;
+    }
+
+    public void setRecurrenceUntil(LocalDateTime recurrenceUntil) {
+        this.recurrenceUntil = recurrenceUntil;
+    }
+}
@@ -1,20 +1,51 @@
 package com.nexttag.agendahexagonal.adapter.out.persistence;
 
 import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventCursor;
+import com.nexttag.agendahexagonal.domain.entity.EventPage;
+import com.nexttag.agendahexagonal.domain.entity.EventPageCriteria;
+import com.nexttag.agendahexagonal.domain.entity.EventPatch;
+import com.nexttag.agendahexagonal.domain.entity.RecurrenceRule;
 import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
+@Profile("!reactive & !embedded")
 public class EventRepositoryAdapter implements EventRepositoryPort {
     private final EventJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final int exportFetchSize;
 
-    public EventRepositoryAdapter(EventJpaRepository jpaRepository) {
+    public EventRepositoryAdapter(EventJpaRepository jpaRepository, EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${agenda.export.fetch-size:1000}") int exportFetchSize) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+        this.transactionManager = transactionManager;
+        this.exportFetchSize = exportFetchSize;
     }
 
     @Override
@@ -42,11 +73,149 @@ public class EventRepositoryAdapter implements EventRepositoryPort {
         jpaRepository.deleteById(id);
     }
 
+    @Override
+    @Transactional
+    public int updatePartial(UUID id, EventPatch patch) {
+        // UPDATE dinâmico apenas com as colunas alteradas, sem SELECT prévio nem merge
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<EventEntity> update = cb.createCriteriaUpdate(EventEntity.class);
+        Root<EventEntity> root = update.from(EventEntity.class);
+        if (patch.title() != null) {
+            update.set(root.<String>get("title"), patch.title());
+        }
+        if (patch.description() != null) {
+            update.set(root.<String>get("description"), patch.description());
+        }
+        if (patch.date() != null) {
+            update.set(root.<LocalDateTime>get("date"), patch.date());
+        }
+        update.where(cb.equal(root.get("id"), id));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public EventPage findPage(EventPageCriteria criteria) {
+        boolean descending = criteria.direction() == EventPageCriteria.Direction.DESC;
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventEntity> query = cb.createQuery(EventEntity.class);
+        Root<EventEntity> root = query.from(EventEntity.class);
+        Path<LocalDateTime> date = root.get("date");
+        Path<UUID> id = root.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isNull(root.get("recurrence")));
+        if (criteria.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(date, criteria.from()));
+        }
+        if (criteria.to() != null) {
+            predicates.add(cb.lessThan(date, criteria.to()));
+        }
+        if (criteria.titlePrefix() != null && !criteria.titlePrefix().isEmpty()) {
+            predicates.add(cb.like(root.get("title"), escapeLike(criteria.titlePrefix()) + "%", '\\'));
+        }
+        EventCursor after = criteria.after();
+        if (after != null) {
+            // Keyset: continua estritamente depois de (date, id) da última linha entregue,
+            // percorrendo o índice idx_events_date_id em vez de descartar linhas com OFFSET
+            predicates.add(descending
+                    ? cb.or(cb.lessThan(date, after.date()),
+                            cb.and(cb.equal(date, after.date()), cb.lessThan(id, after.id())))
+                    : cb.or(cb.greaterThan(date, after.date()),
+                            cb.and(cb.equal(date, after.date()), cb.greaterThan(id, after.id()))));
+        }
+        query.select(root)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(descending
+                        ? List.of(cb.desc(date), cb.desc(id))
+                        : List.of(cb.asc(date), cb.asc(id)));
+
+        // Uma linha a mais indica se existe próxima página
+        List<Event> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(criteria.limit() + 1)
+                .getResultList()
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        if (rows.size() <= criteria.limit()) {
+            return new EventPage(rows, null);
+        }
+        List<Event> items = rows.subList(0, criteria.limit());
+        return new EventPage(List.copyOf(items), EventCursor.of(items.get(items.size() - 1)));
+    }
+
+    @Override
+    public List<Event> findSeries(LocalDateTime from, LocalDateTime to) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventEntity> query = cb.createQuery(EventEntity.class);
+        Root<EventEntity> root = query.from(EventEntity.class);
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isNotNull(root.get("recurrence")));
+        if (to != null) {
+            predicates.add(cb.lessThan(root.get("date"), to));
+        }
+        if (from != null) {
+            Path<LocalDateTime> until = root.get("recurrenceUntil");
+            predicates.add(cb.or(cb.isNull(until), cb.greaterThanOrEqualTo(until, from)));
+        }
+        query.select(root).where(predicates.toArray(Predicate[]::new));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList()
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public int saveAll(List<Event> events) {
+        // persist (e não merge): eventos novos não precisam de SELECT prévio, e os INSERTs
+        // são agrupados em lotes JDBC (hibernate.jdbc.batch_size) no flush
+        for (Event event : events) {
+            entityManager.persist(toEntity(event));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return events.size();
+    }
+
+    @Override
+    public Stream<Event> streamAll() {
+        // A transação precisa durar enquanto o stream é consumido, por isso é aberta aqui
+        // e confirmada quando o chamador fecha o stream
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        TransactionStatus status = transactionManager.getTransaction(definition);
+        try {
+            // Projeção escalar: linhas viram Event direto do ResultSet, sem entidades
+            // gerenciadas nem snapshots no contexto de persistência
+            return entityManager.createQuery(
+                            "select e.id, e.title, e.description, e.date, e.recurrence from EventEntity e", Object[].class)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream()
+                    .map(row -> new Event((UUID) row[0], (String) row[1], (String) row[2], (LocalDateTime) row[3],
+                            RecurrenceRule.parse((String) row[4])))
+                    .onClose(() -> transactionManager.commit(status));
+        } catch (RuntimeException e) {
+            transactionManager.rollback(status);
+            throw e;
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     private EventEntity toEntity(Event event) {
-        return new EventEntity(event.id(), event.title(), event.description(), event.date());
+        RecurrenceRule rule = event.recurrence();
+        return new EventEntity(event.id(), event.title(), event.description(), event.date(),
+                rule == null ? null : rule.toString(), rule == null ? null : rule.until());
     }
 
     private Event toDomain(EventEntity entity) {
-        return new Event(entity.getId(), entity.getTitle(), entity.getDescription(), entity.getDate());
+        return new Event(entity.getId(), entity.getTitle(), entity.getDescription(), entity.getDate(),
+                RecurrenceRule.parse(entity.getRecurrence()));
     }
 }
\ No newline at end of file
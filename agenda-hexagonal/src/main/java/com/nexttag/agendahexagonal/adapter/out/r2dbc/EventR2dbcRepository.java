@@ -0,0 +1,20 @@
+package com.nexttag.agendahexagonal.adapter.out.r2dbc;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface EventR2dbcRepository extends ReactiveCrudRepository<EventR2dbcEntity, UUID> {
+
+    // O id é gerado no domínio, então save() trataria todo evento como existente (UPDATE);
+    // o MERGE do H2 insere ou atualiza em um único comando.
+    @Modifying
+    @Query("MERGE INTO events (id, title, description, date) KEY (id) VALUES (:id, :title, :description, :date)")
+    Mono<Integer> upsert(UUID id, String title, String description, LocalDateTime date);
+}
@@ -0,0 +1,47 @@
+package com.nexttag.agendahexagonal.adapter.out.r2dbc;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.port.out.ReactiveEventRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Component
+@Profile("reactive")
+public class ReactiveEventRepositoryAdapter implements ReactiveEventRepositoryPort {
+    private final EventR2dbcRepository r2dbcRepository;
+
+    public ReactiveEventRepositoryAdapter(EventR2dbcRepository r2dbcRepository) {
+        this.r2dbcRepository = r2dbcRepository;
+    }
+
+    @Override
+    public Mono<Event> save(Event event) {
+        return r2dbcRepository.upsert(event.id(), event.title(), event.description(), event.date())
+                .thenReturn(event);
+    }
+
+    @Override
+    public Flux<Event> findAll() {
+        return r2dbcRepository.findAll()
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Mono<Event> findById(UUID id) {
+        return r2dbcRepository.findById(id)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return r2dbcRepository.deleteById(id);
+    }
+
+    private Event toDomain(EventR2dbcEntity entity) {
+        return new Event(entity.getId(), entity.getTitle(), entity.getDescription(), entity.getDate());
+    }
+}
@@ -1,26 +1,57 @@
 package com.nexttag.agendahexagonal.domain.entity;
 
+import com.nexttag.agendahexagonal.domain.id.IdGenerators;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-public record Event(UUID id, String title, String description, LocalDateTime date) {
+/**
+ * Evento da agenda. Com {@code recurrence} preenchida, representa uma série: {@code date} é a primeira
+ * ocorrência e as demais são calculadas pela regra ({@link #occurrenceAt(LocalDateTime)}), sem linhas extras.
+ */
+public record Event(UUID id, String title, String description, LocalDateTime date, RecurrenceRule recurrence) {
+    public Event {
+        if (recurrence != null && date == null) {
+            throw new IllegalArgumentException("date is required for recurring events");
+        }
+    }
+
+    public Event(UUID id, String title, String description, LocalDateTime date) {
+        this(id, title, description, date, null);
+    }
+
     public Event(String title, String description, LocalDateTime date) {
-        this(UUID.randomUUID(), title, description, date);
+        this(IdGenerators.next(), title, description, date, null);
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Ocorrência da série na data informada; mantém o id e a regra da série.
+     */
+    public Event occurrenceAt(LocalDateTime occurrence) {
+        return new Event(this.id, this.title, this.description, occurrence, this.recurrence);
     }
 
     public Event withId(UUID id) {
-        return new Event(id, this.title, this.description, this.date);
+        return new Event(id, this.title, this.description, this.date, this.recurrence);
     }
 
     public Event withTitle(String title) {
-        return new Event(this.id, title, this.description, this.date);
+        return new Event(this.id, title, this.description, this.date, this.recurrence);
     }
 
     public Event withDescription(String description) {
-        return new Event(this.id, this.title, description, this.date);
+        return new Event(this.id, this.title, description, this.date, this.recurrence);
     }
 
     public Event withDate(LocalDateTime date) {
-        return new Event(this.id, this.title, this.description, date);
+        return new Event(this.id, this.title, this.description, date, this.recurrence);
+    }
+
+    public Event withRecurrence(RecurrenceRule recurrence) {
+        return new Event(this.id, this.title, this.description, this.date, recurrence);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.nexttag.agendahexagonal.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Posição de uma página na ordenação (date, id), usada na paginação por chave (keyset).
+ */
+public record EventCursor(LocalDateTime date, UUID id) {
+
+    /**
+     * Ordem dos ids igual à do banco: o H2 compara colunas {@code uuid} como 128 bits sem sinal, enquanto
+     * {@link UUID#compareTo} compara cada metade com sinal e inverte a ordem dos ids com o bit alto ligado.
+     */
+    public static final Comparator<UUID> ID_ORDER = (a, b) -> {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
+    /**
+     * Menor id na ordem de {@link #ID_ORDER}.
+     */
+    public static final UUID MIN_ID = new UUID(0, 0);
+
+    public static EventCursor of(Event event) {
+        return new EventCursor(event.date(), event.id());
+    }
+}
@@ -0,0 +1,9 @@
+package com.nexttag.agendahexagonal.domain.entity;
+
+import java.util.List;
+
+/**
+ * Página de eventos; {@code next} é nulo quando não há mais resultados.
+ */
+public record EventPage(List<Event> items, EventCursor next) {
+}
@@ -0,0 +1,23 @@
+package com.nexttag.agendahexagonal.domain.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros e posição de uma consulta paginada de eventos.
+ *
+ * @param from        início do intervalo de datas (inclusivo), opcional
+ * @param to          fim do intervalo de datas (exclusivo), opcional
+ * @param titlePrefix prefixo do título, opcional
+ * @param direction   ordenação por data (e id, para desempate)
+ * @param after       cursor da última linha da página anterior, nulo na primeira página
+ * @param limit       tamanho máximo da página
+ */
+public record EventPageCriteria(LocalDateTime from, LocalDateTime to, String titlePrefix,
+                                Direction direction, EventCursor after, int limit) {
+
+    public enum Direction { ASC, DESC }
+
+    public EventPageCriteria withLimit(int limit) {
+        return new EventPageCriteria(from, to, titlePrefix, direction, after, limit);
+    }
+}
@@ -0,0 +1,27 @@
+package com.nexttag.agendahexagonal.domain.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Alteração parcial de um evento: campos nulos permanecem inalterados.
+ */
+public record EventPatch(String title, String description, LocalDateTime date) {
+
+    public boolean isEmpty() {
+        return title == null && description == null && date == null;
+    }
+
+    public Event applyTo(Event event) {
+        Event patched = event;
+        if (title != null) {
+            patched = patched.withTitle(title);
+        }
+        if (description != null) {
+            patched = patched.withDescription(description);
+        }
+        if (date != null) {
+            patched = patched.withDate(date);
+        }
+        return patched;
+    }
+}
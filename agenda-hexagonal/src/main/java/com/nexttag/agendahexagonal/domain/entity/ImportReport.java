@@ -0,0 +1,18 @@
+package com.nexttag.agendahexagonal.domain.entity;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação em lote.
+ *
+ * @param imported      linhas gravadas
+ * @param failed        linhas rejeitadas (erro de leitura ou de gravação do lote)
+ * @param elapsedMillis duração total da importação
+ * @param rowsPerSecond linhas gravadas por segundo
+ * @param errors        erros por linha, limitados aos primeiros reportados
+ */
+public record ImportReport(long imported, long failed, long elapsedMillis, double rowsPerSecond, List<RowError> errors) {
+
+    public record RowError(long line, String message) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.nexttag.agendahexagonal.domain.id;
+
+import java.util.UUID;
+
+/**
+ * Estratégia de geração de identificadores para novos eventos.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+    UUID next();
+}
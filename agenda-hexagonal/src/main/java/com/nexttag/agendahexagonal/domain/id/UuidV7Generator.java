@@ -0,0 +1,50 @@
+package com.nexttag.agendahexagonal.domain.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUID versão 7 (RFC 9562): 48 bits de timestamp em milissegundos, seguidos de um contador
+ * de 12 bits e 62 bits aleatórios.
+ * <p>
+ * Como os ids crescem com o tempo, as inserções caem no fim do índice da chave primária em vez
+ * de se espalharem pela árvore. O estado (último timestamp e contador) é por thread e a
+ * entropia vem de {@link ThreadLocalRandom}, então não há lock nem {@code SecureRandom} disputado.
+ * Os ids são estritamente crescentes dentro de cada thread; entre threads, ordenados por milissegundo.
+ */
+public final class UuidV7Generator implements IdGenerator {
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    @Override
+    public UUID next() {
+        return next(System.currentTimeMillis());
+    }
+
+    UUID next(long currentMillis) {
+        State current = state.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (currentMillis > current.millis) {
+            current.millis = currentMillis;
+            // Começa na metade inferior para deixar espaço para incrementos no mesmo milissegundo
+            current.counter = random.nextInt(MAX_COUNTER / 2);
+        } else if (current.counter < MAX_COUNTER) {
+            // Mesmo milissegundo (ou relógio voltou): incrementa para manter a ordem
+            current.counter++;
+        } else {
+            // Contador esgotado: avança o timestamp lógico em 1 ms
+            current.millis++;
+            current.counter = random.nextInt(MAX_COUNTER / 2);
+        }
+        long msb = (current.millis << 16) | 0x7000L | current.counter;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static final class State {
+        private long millis = -1;
+        private int counter;
+    }
+}
@@ -1,13 +1,17 @@
 package com.nexttag.agendahexagonal.domain.port.in;
 
 import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventPatch;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface EventUseCase {
     Event create(Event event);
     List<Event> listAll();
+    Stream<Event> exportAll();
     Event update(UUID id, Event event);
+    void patch(UUID id, EventPatch patch);
     void delete(UUID id);
 }
\ No newline at end of file
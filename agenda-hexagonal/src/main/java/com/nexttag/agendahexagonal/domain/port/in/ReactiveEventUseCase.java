@@ -0,0 +1,14 @@
+package com.nexttag.agendahexagonal.domain.port.in;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveEventUseCase {
+    Mono<Event> create(Event event);
+    Flux<Event> listAll();
+    Mono<Event> update(UUID id, Event event);
+    Mono<Void> delete(UUID id);
+}
@@ -1,14 +1,51 @@
 package com.nexttag.agendahexagonal.domain.port.out;
 
 import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventPage;
+import com.nexttag.agendahexagonal.domain.entity.EventPageCriteria;
+import com.nexttag.agendahexagonal.domain.entity.EventPatch;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface EventRepositoryPort {
     Event save(Event event);
     List<Event> findAll();
     Optional<Event> findById(UUID id);
     void deleteById(UUID id);
+
+    /**
+     * Atualiza apenas os campos informados em um único comando.
+     *
+     * @return quantidade de linhas afetadas (0 se o evento não existe)
+     */
+    int updatePartial(UUID id, EventPatch patch);
+
+    /**
+     * Busca uma página ordenada por (date, id) a partir do cursor, sem OFFSET.
+     * Considera apenas eventos avulsos; séries recorrentes são expandidas pelo caso de uso.
+     */
+    EventPage findPage(EventPageCriteria criteria);
+
+    /**
+     * Séries recorrentes que podem ter ocorrências em {@code [from, to)}: iniciadas antes de {@code to}
+     * e com {@code UNTIL} ausente ou posterior a {@code from}. Limites nulos não restringem.
+     */
+    List<Event> findSeries(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Grava um lote de eventos novos em uma única transação.
+     *
+     * @return quantidade de eventos gravados
+     */
+    int saveAll(List<Event> events);
+
+    /**
+     * Percorre todos os eventos sem carregá-los de uma vez em memória.
+     * O chamador deve fechar o stream (try-with-resources) para liberar cursor e transação.
+     */
+    Stream<Event> streamAll();
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.nexttag.agendahexagonal.domain.port.out;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveEventRepositoryPort {
+    Mono<Event> save(Event event);
+    Flux<Event> findAll();
+    Mono<Event> findById(UUID id);
+    Mono<Void> deleteById(UUID id);
+}
@@ -1,14 +1,18 @@
 package com.nexttag.agendahexagonal.domain.usecase;
 
 import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventPatch;
 import com.nexttag.agendahexagonal.domain.port.in.EventUseCase;
 import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
+@Profile("!reactive")
 public class EventUseCaseImpl implements EventUseCase {
     private final EventRepositoryPort repositoryPort;
 
@@ -26,18 +30,34 @@ public class EventUseCaseImpl implements EventUseCase {
         return repositoryPort.findAll();
     }
 
+    @Override
+    public Stream<Event> exportAll() {
+        return repositoryPort.streamAll();
+    }
+
     @Override
     public Event update(UUID id, Event event) {
         return repositoryPort.findById(id)
                 .map(existing -> {
                     Event updated = existing.withTitle(event.title())
                             .withDescription(event.description())
-                            .withDate(event.date());
+                            .withDate(event.date())
+                            .withRecurrence(event.recurrence());
                     return repositoryPort.save(updated);
                 })
                 .orElseThrow(() -> new RuntimeException("Event not found with id: " + id));
     }
 
+    @Override
+    public void patch(UUID id, EventPatch patch) {
+        if (patch.isEmpty()) {
+            throw new IllegalArgumentException("Patch must change at least one field");
+        }
+        if (repositoryPort.updatePartial(id, patch) == 0) {
+            throw new RuntimeException("Event not found with id: " + id);
+        }
+    }
+
     @Override
     public void delete(UUID id) {
         if (repositoryPort.findById(id).isEmpty()) {
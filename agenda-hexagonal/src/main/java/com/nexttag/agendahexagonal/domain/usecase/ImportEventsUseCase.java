@@ -0,0 +1,130 @@
+package com.nexttag.agendahexagonal.domain.usecase;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.ImportReport;
+import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Importação em lote: consome as linhas à medida que chegam, distribui blocos de tamanho fixo
+ * entre workers que fazem o parsing em paralelo e grava cada bloco com um único {@code saveAll}.
+ * <p>
+ * No máximo {@code 2 * workers} blocos ficam em memória ao mesmo tempo; a leitura do corpo
+ * espera quando os workers estão ocupados, então o arquivo nunca é carregado inteiro.
+ */
+@Service
+@Profile("!reactive")
+public class ImportEventsUseCase {
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final EventRepositoryPort repository;
+    private final int batchSize;
+    private final int workers;
+
+    public ImportEventsUseCase(EventRepositoryPort repository,
+                               @Value("${agenda.import.batch-size:500}") int batchSize,
+                               @Value("${agenda.import.workers:0}") int workers) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.workers = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @param lines  linhas do arquivo, lidas sob demanda
+     * @param parser converte uma linha em evento; retorna {@code null} para ignorar a linha (ex.: cabeçalho)
+     *               e lança exceção para rejeitá-la
+     */
+    public ImportReport execute(Iterator<String> lines, Function<String, Event> parser) {
+        long start = System.nanoTime();
+        LongAdder imported = new LongAdder();
+        LongAdder failed = new LongAdder();
+        AtomicInteger reportedErrors = new AtomicInteger();
+        Queue<ImportReport.RowError> errors = new ConcurrentLinkedQueue<>();
+        Semaphore inFlight = new Semaphore(workers * 2);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            long lineNumber = 0;
+            List<NumberedLine> chunk = new ArrayList<>(batchSize);
+            while (lines.hasNext()) {
+                String line = lines.next();
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(new NumberedLine(lineNumber, line));
+                if (chunk.size() == batchSize) {
+                    submit(executor, inFlight, chunk, parser, imported, failed, reportedErrors, errors);
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submit(executor, inFlight, chunk, parser, imported, failed, reportedErrors, errors);
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        double rowsPerSecond = imported.sum() / Math.max(elapsedNanos / 1_000_000_000.0, 1e-9);
+        List<ImportReport.RowError> sortedErrors = errors.stream()
+                .sorted(Comparator.comparingLong(ImportReport.RowError::line))
+                .toList();
+        return new ImportReport(imported.sum(), failed.sum(), elapsedNanos / 1_000_000, rowsPerSecond, sortedErrors);
+    }
+
+    private void submit(ExecutorService executor, Semaphore inFlight, List<NumberedLine> chunk,
+                        Function<String, Event> parser, LongAdder imported, LongAdder failed,
+                        AtomicInteger reportedErrors, Queue<ImportReport.RowError> errors) {
+        inFlight.acquireUninterruptibly();
+        executor.execute(() -> {
+            try {
+                List<Event> events = new ArrayList<>(chunk.size());
+                for (NumberedLine line : chunk) {
+                    try {
+                        Event event = parser.apply(line.text());
+                        if (event != null) {
+                            events.add(event);
+                        }
+                    } catch (RuntimeException e) {
+                        failed.increment();
+                        report(errors, reportedErrors, line.number(), e.getMessage());
+                    }
+                }
+                if (events.isEmpty()) {
+                    return;
+                }
+                try {
+                    imported.add(repository.saveAll(events));
+                } catch (RuntimeException e) {
+                    failed.add(events.size());
+                    report(errors, reportedErrors, chunk.get(0).number(),
+                            "Batch of " + events.size() + " rows starting at this line failed: " + e.getMessage());
+                }
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private static void report(Queue<ImportReport.RowError> errors, AtomicInteger reportedErrors, long line, String message) {
+        if (reportedErrors.incrementAndGet() <= MAX_REPORTED_ERRORS) {
+            errors.add(new ImportReport.RowError(line, message));
+        }
+    }
+
+    private record NumberedLine(long number, String text) {
+    }
+}
@@ -1,4 +1,164 @@
 package com.nexttag.agendahexagonal.domain.usecase;
 
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventCursor;
+import com.nexttag.agendahexagonal.domain.entity.EventPage;
+import com.nexttag.agendahexagonal.domain.entity.EventPageCriteria;
+import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+@Service
+@Profile("!reactive")
 public class ListEventsUseCase {
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+
+    private static final Comparator<Event> ASCENDING = Comparator
+            .comparing(Event::date, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Event::id, EventCursor.ID_ORDER);
+
+    private final EventRepositoryPort repository;
+
+    public ListEventsUseCase(EventRepositoryPort repository) {
+        this.repository = repository;
+    }
+
+    public EventPage execute(EventPageCriteria criteria) {
+        if (criteria.from() != null && criteria.to() != null && !criteria.from().isBefore(criteria.to())) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        int limit = criteria.limit() <= 0 ? DEFAULT_LIMIT : Math.min(criteria.limit(), MAX_LIMIT);
+        EventPageCriteria bounded = criteria.withLimit(limit);
+        EventPage oneOffs = repository.findPage(bounded);
+        Window window = Window.of(bounded);
+        String prefix = bounded.titlePrefix();
+        List<Event> series = repository.findSeries(window.from(), window.to()).stream()
+                .filter(event -> prefix == null || (event.title() != null && event.title().startsWith(prefix)))
+                .toList();
+        if (series.isEmpty()) {
+            return oneOffs;
+        }
+        return merge(bounded, window, oneOffs, series);
+    }
+
+    /**
+     * Intercala a página de eventos avulsos com as ocorrências das séries, em ordem (date, id).
+     * Cada série contribui com um iterador preguiçoso: só são calculadas as ocorrências que entram na página.
+     */
+    private EventPage merge(EventPageCriteria criteria, Window window, EventPage oneOffs, List<Event> series) {
+        boolean descending = criteria.direction() == EventPageCriteria.Direction.DESC;
+        Comparator<Event> order = descending ? ASCENDING.reversed() : ASCENDING;
+
+        PriorityQueue<Source> sources = new PriorityQueue<>(series.size() + 1, (a, b) -> order.compare(a.head, b.head));
+        Source.offer(sources, oneOffs.items().iterator(), true);
+        for (Event event : series) {
+            Source.offer(sources, occurrences(event, window, criteria.after(), descending, order), false);
+        }
+
+        List<Event> items = new ArrayList<>(criteria.limit());
+        int consumedOneOffs = 0;
+        while (items.size() < criteria.limit() && !sources.isEmpty()) {
+            Source source = sources.poll();
+            items.add(source.head);
+            consumedOneOffs += source.oneOff ? 1 : 0;
+            if (source.advance()) {
+                sources.add(source);
+            }
+        }
+        // Há próxima página se sobrou alguma ocorrência ou se o repositório tinha mais eventos avulsos
+        boolean more = !sources.isEmpty() || (oneOffs.next() != null && consumedOneOffs == oneOffs.items().size());
+        return new EventPage(items, more && !items.isEmpty() ? EventCursor.of(items.get(items.size() - 1)) : null);
+    }
+
+    private static Iterator<Event> occurrences(Event event, Window window, EventCursor after, boolean descending,
+                                               Comparator<Event> order) {
+        Iterator<LocalDateTime> dates = descending
+                ? event.recurrence().occurrencesDescending(event.date(), window.from(), window.to())
+                : event.recurrence().occurrences(event.date(), window.from(), window.to());
+        Event afterEvent = after == null ? null : new Event(after.id(), null, null, after.date());
+        return new Iterator<>() {
+            private Event next = advance();
+
+            private Event advance() {
+                while (dates.hasNext()) {
+                    Event occurrence = event.occurrenceAt(dates.next());
+                    // Mesma data do cursor: o id desempata, como na paginação por chave do repositório
+                    if (afterEvent == null || afterEvent.date() == null || order.compare(occurrence, afterEvent) > 0) {
+                        return occurrence;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Event next() {
+                Event current = next;
+                next = advance();
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Janela de datas das ocorrências. O cursor a estreita: só interessam ocorrências do lado de lá
+     * da última linha entregue (a data do cursor entra, e o id desempata).
+     */
+    private record Window(LocalDateTime from, LocalDateTime to) {
+        static Window of(EventPageCriteria criteria) {
+            EventCursor after = criteria.after();
+            if (after == null || after.date() == null) {
+                return new Window(criteria.from(), criteria.to());
+            }
+            return criteria.direction() == EventPageCriteria.Direction.DESC
+                    ? new Window(criteria.from(), min(criteria.to(), after.date().plusNanos(1)))
+                    : new Window(max(criteria.from(), after.date()), criteria.to());
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a == null ? b : b == null || a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a == null ? b : b == null || a.isBefore(b) ? a : b;
+    }
+
+    private static final class Source {
+        private final Iterator<Event> iterator;
+        private final boolean oneOff;
+        private Event head;
+
+        private Source(Iterator<Event> iterator, boolean oneOff) {
+            this.iterator = iterator;
+            this.oneOff = oneOff;
+            this.head = iterator.next();
+        }
+
+        static void offer(PriorityQueue<Source> sources, Iterator<Event> iterator, boolean oneOff) {
+            if (iterator.hasNext()) {
+                sources.add(new Source(iterator, oneOff));
+            }
+        }
+
+        boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            head = iterator.next();
+            return true;
+        }
+    }
 }
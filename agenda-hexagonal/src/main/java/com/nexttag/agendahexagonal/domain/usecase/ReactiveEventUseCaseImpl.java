@@ -0,0 +1,48 @@
+package com.nexttag.agendahexagonal.domain.usecase;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.port.in.ReactiveEventUseCase;
+import com.nexttag.agendahexagonal.domain.port.out.ReactiveEventRepositoryPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@Profile("reactive")
+public class ReactiveEventUseCaseImpl implements ReactiveEventUseCase {
+    private final ReactiveEventRepositoryPort repositoryPort;
+
+    public ReactiveEventUseCaseImpl(ReactiveEventRepositoryPort repositoryPort) {
+        this.repositoryPort = repositoryPort;
+    }
+
+    @Override
+    public Mono<Event> create(Event event) {
+        return repositoryPort.save(event);
+    }
+
+    @Override
+    public Flux<Event> listAll() {
+        return repositoryPort.findAll();
+    }
+
+    @Override
+    public Mono<Event> update(UUID id, Event event) {
+        return repositoryPort.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Event not found with id: " + id)))
+                .map(existing -> existing.withTitle(event.title())
+                        .withDescription(event.description())
+                        .withDate(event.date()))
+                .flatMap(repositoryPort::save);
+    }
+
+    @Override
+    public Mono<Void> delete(UUID id) {
+        return repositoryPort.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Event not found with id: " + id)))
+                .flatMap(existing -> repositoryPort.deleteById(id));
+    }
+}
@@ -0,0 +1,2 @@
+alter table events add column recurrence varchar(255);
+alter table events add column recurrence_until timestamp(6);
@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS events (
+    id UUID PRIMARY KEY,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    date TIMESTAMP
+);
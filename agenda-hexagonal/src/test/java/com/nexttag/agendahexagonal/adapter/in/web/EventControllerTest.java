@@ -1,4 +1,73 @@
 package com.nexttag.agendahexagonal.adapter.in.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.RecurrenceRule;
+import com.nexttag.agendahexagonal.domain.port.in.EventUseCase;
+import com.nexttag.agendahexagonal.domain.usecase.ListEventsUseCase;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
 public class EventControllerTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 6, 2, 9, 0);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    void exportedSeriesAreImportedBackWithTheirRecurrence() throws IOException {
+        Event series = new Event("Daily", "Standup", MONDAY)
+                .withRecurrence(RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10"));
+        Event single = new Event("Review", null, MONDAY.plusDays(1));
+        EventUseCase eventUseCase = mock(EventUseCase.class);
+        when(eventUseCase.exportAll()).thenReturn(Stream.of(series, single));
+        EventController controller = new EventController(eventUseCase, mock(ListEventsUseCase.class), objectMapper);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        controller.export().getBody().writeTo(out);
+        NdjsonEventParser parser = new NdjsonEventParser(objectMapper);
+        List<Event> imported = out.toString(StandardCharsets.UTF_8).lines().map(parser).toList();
+
+        assertEquals(2, imported.size());
+        assertEquals(series.title(), imported.get(0).title());
+        assertEquals(series.date(), imported.get(0).date());
+        assertEquals(series.recurrence(), imported.get(0).recurrence());
+        assertEquals(single.date(), imported.get(1).date());
+        assertNull(imported.get(1).recurrence());
+    }
+
+    @Test
+    void invalidRecurrenceRejectsTheImportedLine() {
+        NdjsonEventParser ndjson = new NdjsonEventParser(objectMapper);
+        CsvEventParser csv = new CsvEventParser();
+
+        assertThrows(IllegalArgumentException.class, () -> ndjson.apply(
+                "{\"title\":\"Daily\",\"date\":\"2025-06-02T09:00:00\",\"recurrence\":\"FREQ=HOURLY\"}"));
+        assertThrows(IllegalArgumentException.class, () -> csv.apply("Daily,,2025-06-02T09:00:00,FREQ=HOURLY"));
+    }
+
+    @Test
+    void csvRecurrenceColumnIsOptional() {
+        CsvEventParser csv = new CsvEventParser();
+
+        assertNull(csv.apply(CsvEventParser.HEADER));
+        assertNull(csv.apply("title,description,date"));
+        assertEquals(RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE"),
+                csv.apply("Daily,Standup,2025-06-02T09:00:00,\"FREQ=WEEKLY;BYDAY=MO,WE\"").recurrence());
+        assertNull(csv.apply("Review,,2025-06-03T09:00:00,").recurrence());
+        assertNull(csv.apply("Review,,2025-06-03T09:00:00").recurrence());
+    }
 }
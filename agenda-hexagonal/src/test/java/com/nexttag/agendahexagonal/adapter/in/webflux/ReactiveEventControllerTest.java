@@ -0,0 +1,80 @@
+package com.nexttag.agendahexagonal.adapter.in.webflux;
+
+import com.nexttag.agendahexagonal.adapter.in.web.EventController;
+import com.nexttag.agendahexagonal.adapter.in.web.dto.EventDto;
+import com.nexttag.agendahexagonal.adapter.out.r2dbc.ReactiveEventRepositoryAdapter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.r2dbc.url=r2dbc:h2:mem:///reactive-controller-test;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("reactive")
+class ReactiveEventControllerTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 8, 22, 10, 0);
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void bootsOnWebFluxWithR2dbcInsteadOfMvcAndJpa() {
+        assertInstanceOf(ReactiveWebServerApplicationContext.class, context);
+        assertEquals(1, context.getBeanNamesForType(ReactiveEventRepositoryAdapter.class).length);
+        assertEquals(0, context.getBeanNamesForType(EntityManagerFactory.class).length);
+        assertEquals(0, context.getBeanNamesForType(EventController.class).length);
+    }
+
+    @Test
+    void createsUpdatesListsAndDeletesEvents() {
+        EventDto created = client.post().uri("/events")
+                .bodyValue(new EventDto(null, "Reunião", "Sala 1", DATE))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(EventDto.class)
+                .returnResult().getResponseBody();
+        assertNotNull(created);
+        assertNotNull(created.id());
+
+        client.put().uri("/events/{id}", created.id())
+                .bodyValue(new EventDto(null, "Reunião remarcada", "Sala 2", DATE.plusDays(1)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Reunião remarcada");
+
+        List<EventDto> events = client.get().uri("/events")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(EventDto.class)
+                .returnResult().getResponseBody();
+        assertNotNull(events);
+        EventDto listed = events.stream().filter(event -> event.id().equals(created.id())).findFirst().orElseThrow();
+        assertEquals(DATE.plusDays(1), listed.date());
+        assertEquals("Sala 2", listed.description());
+
+        client.delete().uri("/events/{id}", created.id())
+                .exchange()
+                .expectStatus().isNoContent();
+        client.get().uri("/events")
+                .exchange()
+                .expectBodyList(EventDto.class)
+                .value(remaining -> assertTrue(remaining.stream().noneMatch(event -> event.id().equals(created.id()))));
+    }
+}
@@ -0,0 +1,95 @@
+package com.nexttag.agendahexagonal.adapter.out.cache;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventPatch;
+import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingEventRepositoryAdapterTest {
+
+    @Mock
+    private EventRepositoryPort delegate;
+
+    private CachingEventRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        adapter = new CachingEventRepositoryAdapter(delegate, 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void findByIdLoadsOnce() {
+        Event event = new Event("Title", "Desc", LocalDateTime.now());
+        when(delegate.findById(event.id())).thenReturn(Optional.of(event));
+
+        assertEquals(Optional.of(event), adapter.findById(event.id()));
+        assertEquals(Optional.of(event), adapter.findById(event.id()));
+
+        verify(delegate, times(1)).findById(event.id());
+        assertEquals(1, adapter.stats().hitCount());
+        assertEquals(1, adapter.stats().missCount());
+    }
+
+    @Test
+    void missingEventIsNotCached() {
+        UUID id = UUID.randomUUID();
+        when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        assertTrue(adapter.findById(id).isEmpty());
+        assertTrue(adapter.findById(id).isEmpty());
+
+        verify(delegate, times(2)).findById(id);
+    }
+
+    @Test
+    void saveWritesThrough() {
+        Event event = new Event("Title", "Desc", LocalDateTime.now());
+        when(delegate.save(event)).thenReturn(event);
+
+        adapter.save(event);
+
+        assertEquals(Optional.of(event), adapter.findById(event.id()));
+        verify(delegate, never()).findById(event.id());
+    }
+
+    @Test
+    void updatePartialPatchesCachedEntry() {
+        Event event = new Event("Title", "Desc", LocalDateTime.now());
+        LocalDateTime newDate = event.date().plusDays(1);
+        EventPatch patch = new EventPatch(null, null, newDate);
+        when(delegate.save(event)).thenReturn(event);
+        when(delegate.updatePartial(event.id(), patch)).thenReturn(1);
+
+        adapter.save(event);
+        adapter.updatePartial(event.id(), patch);
+
+        assertEquals(newDate, adapter.findById(event.id()).orElseThrow().date());
+        verify(delegate, never()).findById(event.id());
+    }
+
+    @Test
+    void deleteInvalidates() {
+        Event event = new Event("Title", "Desc", LocalDateTime.now());
+        when(delegate.save(event)).thenReturn(event);
+        when(delegate.findById(event.id())).thenReturn(Optional.empty());
+
+        adapter.save(event);
+        adapter.deleteById(event.id());
+
+        assertTrue(adapter.findById(event.id()).isEmpty());
+        verify(delegate).deleteById(event.id());
+    }
+}
@@ -0,0 +1,239 @@
+package com.nexttag.agendahexagonal.adapter.out.mmap;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventCursor;
+import com.nexttag.agendahexagonal.domain.entity.EventPage;
+import com.nexttag.agendahexagonal.domain.entity.EventPageCriteria;
+import com.nexttag.agendahexagonal.domain.entity.EventPatch;
+import com.nexttag.agendahexagonal.domain.entity.RecurrenceRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileEventRepositoryAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private MappedFileEventRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("events.dat");
+        adapter = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.close();
+    }
+
+    @Test
+    void saveFindAndDelete() {
+        Event event = new Event("Title", "Desc", LocalDateTime.of(2025, 8, 22, 10, 0, 0, 123));
+        adapter.save(event);
+
+        assertEquals(event, adapter.findById(event.id()).orElseThrow());
+        assertEquals(1, adapter.findAll().size());
+
+        adapter.deleteById(event.id());
+        assertTrue(adapter.findById(event.id()).isEmpty());
+        assertTrue(adapter.findAll().isEmpty());
+    }
+
+    @Test
+    void streamAllWalksEveryPageInDateOrder() {
+        int total = MappedFileEventRepositoryAdapter.EXPORT_PAGE_SIZE * 2 + 7;
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = total - 1; i >= 0; i--) {
+            adapter.save(new Event("Event " + i, null, base.plusMinutes(i)));
+        }
+
+        try (Stream<Event> events = adapter.streamAll()) {
+            List<Event> exported = events.toList();
+            assertEquals(total, exported.size());
+            assertEquals(base, exported.get(0).date());
+            assertEquals(base.plusMinutes(total - 1), exported.get(total - 1).date());
+        }
+    }
+
+    @Test
+    void nullFieldsRoundTrip() {
+        Event event = new Event("Title", null, null);
+        adapter.save(event);
+
+        assertEquals(event, adapter.findById(event.id()).orElseThrow());
+    }
+
+    @Test
+    void recoversAfterRestart() {
+        Event kept = adapter.save(new Event("Kept", "Desc", LocalDateTime.now()));
+        Event removed = adapter.save(new Event("Removed", "Desc", LocalDateTime.now()));
+        adapter.updatePartial(kept.id(), new EventPatch("Renamed", null, null));
+        adapter.deleteById(removed.id());
+
+        adapter.close();
+        adapter = open();
+
+        assertEquals("Renamed", adapter.findById(kept.id()).orElseThrow().title());
+        assertTrue(adapter.findById(removed.id()).isEmpty());
+        assertTrue(adapter.deadBytes() > 0);
+    }
+
+    @Test
+    void seriesAreKeptOutOfPagesButRecoveredAndExported() {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 3, 9, 0);
+        Event series = adapter.save(new Event("Daily", "Desc", start)
+                .withRecurrence(RecurrenceRule.parse("FREQ=DAILY;UNTIL=20250310")));
+        Event oneOff = adapter.save(new Event("Dentista", "Desc", start.plusDays(1)));
+
+        adapter.close();
+        adapter = open();
+
+        EventPage page = adapter.findPage(new EventPageCriteria(null, null, null, EventPageCriteria.Direction.ASC, null, 10));
+        assertEquals(List.of(oneOff), page.items());
+        assertEquals(List.of(series), adapter.findSeries(start.plusDays(2), start.plusDays(3)));
+        assertTrue(adapter.findSeries(start.plusDays(30), null).isEmpty());
+        try (Stream<Event> exported = adapter.streamAll()) {
+            assertEquals(2, exported.count());
+        }
+    }
+
+    @Test
+    void ignoresTornWriteAtTheEnd() throws Exception {
+        Event event = adapter.save(new Event("Title", "Desc", LocalDateTime.now()));
+        long end = adapter.dataBytes();
+        adapter.close();
+
+        // Simula um registro cujo cabeçalho foi gravado, mas o corpo não
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).putInt(0, 64).putInt(4, 42), end);
+        }
+        adapter = open();
+
+        assertEquals(1, adapter.findAll().size());
+        assertEquals(end, adapter.dataBytes());
+        Event next = adapter.save(new Event("Next", "Desc", LocalDateTime.now()));
+        assertEquals(next, adapter.findById(next.id()).orElseThrow());
+        assertEquals(event, adapter.findById(event.id()).orElseThrow());
+    }
+
+    @Test
+    void compactionDropsDeadRecords() {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            events.add(adapter.save(new Event("Title " + i, "Desc", LocalDateTime.now().plusMinutes(i))));
+        }
+        for (int i = 0; i < 900; i++) {
+            adapter.deleteById(events.get(i).id());
+        }
+        long before = adapter.dataBytes();
+
+        adapter.compact();
+
+        assertTrue(adapter.dataBytes() < before);
+        assertEquals(0, adapter.deadBytes());
+        assertEquals(100, adapter.findAll().size());
+        assertEquals(events.get(950), adapter.findById(events.get(950).id()).orElseThrow());
+    }
+
+    @Test
+    void findPageFollowsCursor() {
+        LocalDateTime base = LocalDateTime.of(2025, 8, 1, 9, 0);
+        for (int i = 0; i < 5; i++) {
+            adapter.save(new Event("Daily " + i, "Desc", base.plusDays(i)));
+        }
+        adapter.save(new Event("Other", "Desc", base.plusDays(1)));
+
+        EventPage first = adapter.findPage(new EventPageCriteria(null, null, "Daily", EventPageCriteria.Direction.ASC, null, 2));
+        EventPage second = adapter.findPage(new EventPageCriteria(null, null, "Daily", EventPageCriteria.Direction.ASC, first.next(), 2));
+        EventPage last = adapter.findPage(new EventPageCriteria(null, null, "Daily", EventPageCriteria.Direction.ASC, second.next(), 2));
+
+        assertEquals(List.of("Daily 0", "Daily 1"), first.items().stream().map(Event::title).toList());
+        assertEquals(List.of("Daily 2", "Daily 3"), second.items().stream().map(Event::title).toList());
+        assertEquals(List.of("Daily 4"), last.items().stream().map(Event::title).toList());
+        assertNull(last.next());
+    }
+
+    @Test
+    void findPageOrdersIdsUnsignedWithinTheSameDate() {
+        LocalDateTime date = LocalDateTime.of(2025, 8, 1, 9, 0);
+        adapter.save(new Event(new UUID(Long.MIN_VALUE, 0), "High bit", "Desc", date));
+        adapter.save(new Event(new UUID(1, 0), "Low bit", "Desc", date));
+
+        EventPage first = adapter.findPage(new EventPageCriteria(date, null, null, EventPageCriteria.Direction.ASC, null, 1));
+        EventPage second = adapter.findPage(new EventPageCriteria(date, null, null, EventPageCriteria.Direction.ASC, first.next(), 1));
+
+        assertEquals(List.of("Low bit"), titles(first));
+        assertEquals(List.of("High bit"), titles(second));
+    }
+
+    @Test
+    void findPageIgnoresCursorOutsideTheDateRange() {
+        LocalDateTime base = LocalDateTime.of(2025, 8, 1, 9, 0);
+        for (int i = 0; i < 5; i++) {
+            adapter.save(new Event("Event " + i, "Desc", base.plusDays(i)));
+        }
+        LocalDateTime from = base.plusDays(1);
+        LocalDateTime to = base.plusDays(4);
+        EventCursor beforeRange = new EventCursor(base.minusDays(1), UUID.randomUUID());
+        EventCursor afterRange = new EventCursor(base.plusDays(10), UUID.randomUUID());
+
+        assertEquals(List.of("Event 1", "Event 2", "Event 3"), titles(adapter.findPage(
+                new EventPageCriteria(from, to, null, EventPageCriteria.Direction.ASC, beforeRange, 10))));
+        assertTrue(adapter.findPage(
+                new EventPageCriteria(from, to, null, EventPageCriteria.Direction.ASC, afterRange, 10)).items().isEmpty());
+        assertEquals(List.of("Event 3", "Event 2", "Event 1"), titles(adapter.findPage(
+                new EventPageCriteria(from, to, null, EventPageCriteria.Direction.DESC, afterRange, 10))));
+        assertTrue(adapter.findPage(
+                new EventPageCriteria(from, to, null, EventPageCriteria.Direction.DESC, beforeRange, 10)).items().isEmpty());
+    }
+
+    @Test
+    void failedCompactionKeepsTheOriginalLogOpen() {
+        adapter.close();
+        adapter = new MappedFileEventRepositoryAdapter(file, 0.5, Duration.ofHours(1), Duration.ofHours(1)) {
+            @Override
+            void replaceDataFile(Path compacted) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        Event kept = adapter.save(new Event("Kept", "Desc", LocalDateTime.of(2025, 8, 1, 9, 0)));
+        adapter.deleteById(adapter.save(new Event("Deleted", "Desc", LocalDateTime.of(2025, 8, 2, 9, 0))).id());
+
+        assertThrows(UncheckedIOException.class, adapter::compact);
+
+        assertEquals(kept, adapter.findById(kept.id()).orElseThrow());
+        Event added = adapter.save(new Event("Added", "Desc", LocalDateTime.of(2025, 8, 3, 9, 0)));
+        adapter.close();
+        adapter = open();
+        assertEquals(List.of("Kept", "Added"), titles(adapter.findPage(
+                new EventPageCriteria(null, null, null, EventPageCriteria.Direction.ASC, null, 10))));
+        assertEquals(added, adapter.findById(added.id()).orElseThrow());
+    }
+
+    private static List<String> titles(EventPage page) {
+        return page.items().stream().map(Event::title).toList();
+    }
+
+    private MappedFileEventRepositoryAdapter open() {
+        return new MappedFileEventRepositoryAdapter(file, 0.5, Duration.ofHours(1), Duration.ofHours(1));
+    }
+}
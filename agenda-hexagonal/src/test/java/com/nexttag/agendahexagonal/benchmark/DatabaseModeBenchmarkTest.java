@@ -0,0 +1,141 @@
+package com.nexttag.agendahexagonal.benchmark;
+
+import com.nexttag.agendahexagonal.AgendaHexagonalApplication;
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventPageCriteria;
+import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compara o H2 em memória (padrão) com o H2 em arquivo do perfil {@code prod}: tempo de inicialização
+ * (vazio e com dados), vazão de gravação e latência de busca por id e de página por intervalo de datas.
+ * <p>
+ * As medições usam o adaptador JPA diretamente, sem o cache de eventos na frente.
+ * Não roda no build padrão: {@code mvn test -Dtest=DatabaseModeBenchmarkTest -Dbenchmark=true [-Dbenchmark.events=200000]}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DatabaseModeBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 100_000);
+    private static final int BATCH_SIZE = 1000;
+    private static final int LOOKUPS = 20_000;
+    private static final int PAGES = 5_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareInMemoryAndFileBackedH2() {
+        String fileUrl = "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("agenda").toAbsolutePath() + ";CACHE_SIZE=65536";
+
+        // Aquecimento: a primeira inicialização da JVM paga o carregamento de classes
+        start(new String[0], new String[0]).close();
+
+        Result memory = run("memory", new String[0], new String[0]);
+        Result file = run("file", new String[]{"prod"}, new String[]{fileUrl});
+
+        System.out.printf("%n%-8s %14s %17s %13s %16s %16s%n",
+                "mode", "startup (ms)", "restart (ms)", "insert (/s)", "findById (us)", "findPage (us)");
+        for (Result result : List.of(memory, file)) {
+            System.out.printf("%-8s %14d %17s %13.0f %16.1f %16.1f%n", result.mode, result.startupMillis,
+                    result.restartMillis < 0 ? "-" : String.valueOf(result.restartMillis),
+                    result.insertsPerSecond, result.lookupMicros, result.pageMicros);
+        }
+    }
+
+    private Result run(String mode, String[] profiles, String[] args) {
+        List<UUID> ids = new ArrayList<>(EVENTS);
+        long start = System.nanoTime();
+        long startupMillis;
+        double insertsPerSecond;
+        try (ConfigurableApplicationContext context = start(profiles, args)) {
+            startupMillis = (System.nanoTime() - start) / 1_000_000;
+            insertsPerSecond = insert(port(context), ids);
+        }
+
+        // Segunda inicialização: no modo arquivo os dados continuam lá; em memória é preciso gravar de novo
+        boolean durable = profiles.length > 0;
+        start = System.nanoTime();
+        try (ConfigurableApplicationContext context = start(profiles, args)) {
+            long restartMillis = durable ? (System.nanoTime() - start) / 1_000_000 : -1;
+            EventRepositoryPort port = port(context);
+            if (!durable) {
+                insert(port, ids);
+            }
+            lookups(port, ids, LOOKUPS / 10);
+            pages(port, PAGES / 10);
+            double lookupMicros = lookups(port, ids, LOOKUPS);
+            double pageMicros = pages(port, PAGES);
+            return new Result(mode, startupMillis, restartMillis, insertsPerSecond, lookupMicros, pageMicros);
+        }
+    }
+
+    private static double insert(EventRepositoryPort port, List<UUID> ids) {
+        ids.clear();
+        long start = System.nanoTime();
+        List<Event> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < EVENTS; i++) {
+            Event event = new Event("Event " + i, "Benchmark description " + i, BASE.plusMinutes(i));
+            ids.add(event.id());
+            batch.add(event);
+            if (batch.size() == BATCH_SIZE) {
+                port.saveAll(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            port.saveAll(batch);
+        }
+        return EVENTS / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private static double lookups(EventRepositoryPort port, List<UUID> ids, int count) {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            port.findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+        }
+        return (System.nanoTime() - start) / 1_000.0 / count;
+    }
+
+    // Uma página de 50 eventos em um intervalo de um dia escolhido ao acaso
+    private static double pages(EventRepositoryPort port, int count) {
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            LocalDateTime from = BASE.plusMinutes(ThreadLocalRandom.current().nextInt(EVENTS));
+            port.findPage(new EventPageCriteria(from, from.plusDays(1), null, EventPageCriteria.Direction.ASC, null, 50));
+        }
+        return (System.nanoTime() - start) / 1_000.0 / count;
+    }
+
+    private static EventRepositoryPort port(ConfigurableApplicationContext context) {
+        return context.getBean("eventRepositoryAdapter", EventRepositoryPort.class);
+    }
+
+    private static ConfigurableApplicationContext start(String[] profiles, String[] args) {
+        String[] allArgs = new String[args.length + 1];
+        System.arraycopy(args, 0, allArgs, 0, args.length);
+        allArgs[args.length] = "--spring.jpa.show-sql=false";
+        return new SpringApplicationBuilder(AgendaHexagonalApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profiles)
+                .logStartupInfo(false)
+                .run(allArgs);
+    }
+
+    private record Result(String mode, long startupMillis, long restartMillis, double insertsPerSecond,
+                          double lookupMicros, double pageMicros) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.nexttag.agendahexagonal.benchmark;
+
+import com.nexttag.agendahexagonal.AgendaHexagonalApplication;
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compara o adaptador JPA (H2 em memória) com o adaptador de arquivo mapeado (perfil embedded):
+ * tempo de inicialização, latência de busca por id e heap ocupado pelos eventos.
+ * <p>
+ * Não roda no build padrão: {@code mvn test -Dtest=EventStorageBenchmarkTest -Dbenchmark=true [-Dbenchmark.events=50000]}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EventStorageBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 20_000);
+    private static final int LOOKUPS = 200_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareJpaAndMappedFile() {
+        String file = "--agenda.storage.path=" + directory.resolve("events.dat");
+
+        Result jpa = run("jpa", "eventRepositoryAdapter", new String[0], new String[]{"--spring.jpa.show-sql=false"});
+        // O arquivo é preenchido em uma primeira execução para que a segunda meça a recuperação na inicialização
+        Result mapped = run("embedded", "mappedFileEventRepositoryAdapter", new String[]{"embedded"}, new String[]{file});
+
+        System.out.printf("%n%-10s %15s %18s %15s%n", "adapter", "startup (ms)", "lookup (ns/op)", "heap (MB)");
+        for (Result result : List.of(jpa, mapped)) {
+            System.out.printf("%-10s %15d %18d %15.1f%n", result.name, result.startupMillis, result.lookupNanos, result.heapBytes / 1024.0 / 1024.0);
+        }
+    }
+
+    private Result run(String name, String beanName, String[] profiles, String[] args) {
+        List<UUID> ids = new ArrayList<>(EVENTS);
+        long heapBytes;
+        try (ConfigurableApplicationContext context = start(profiles, args)) {
+            EventRepositoryPort port = context.getBean(beanName, EventRepositoryPort.class);
+            long baseline = usedHeap();
+            LocalDateTime date = LocalDateTime.now();
+            for (int i = 0; i < EVENTS; i++) {
+                Event event = port.save(new Event("Event " + i, "Benchmark description " + i, date.plusMinutes(i)));
+                ids.add(event.id());
+            }
+            heapBytes = usedHeap() - baseline;
+        }
+
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = start(profiles, args)) {
+            long startupMillis = (System.nanoTime() - start) / 1_000_000;
+            EventRepositoryPort port = context.getBean(beanName, EventRepositoryPort.class);
+            if (port.findAll().isEmpty()) {
+                // Sem persistência entre execuções (H2 em memória): recarrega para medir as buscas
+                LocalDateTime date = LocalDateTime.now();
+                for (UUID id : ids) {
+                    port.save(new Event(id, "Event", "Benchmark description", date));
+                }
+            }
+            for (int i = 0; i < LOOKUPS / 10; i++) {
+                port.findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+            }
+            long lookupStart = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                port.findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+            }
+            long lookupNanos = (System.nanoTime() - lookupStart) / LOOKUPS;
+            return new Result(name, startupMillis, lookupNanos, heapBytes);
+        }
+    }
+
+    private ConfigurableApplicationContext start(String[] profiles, String[] args) {
+        return new SpringApplicationBuilder(AgendaHexagonalApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(profiles)
+                .logStartupInfo(false)
+                .run(args);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private record Result(String name, long startupMillis, long lookupNanos, long heapBytes) {
+    }
+}
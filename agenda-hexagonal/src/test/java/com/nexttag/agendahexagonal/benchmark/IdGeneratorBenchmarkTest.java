@@ -0,0 +1,116 @@
+package com.nexttag.agendahexagonal.benchmark;
+
+import com.nexttag.agendahexagonal.domain.id.IdGenerator;
+import com.nexttag.agendahexagonal.domain.id.RandomUuidGenerator;
+import com.nexttag.agendahexagonal.domain.id.UuidV7Generator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compara ids UUID v4 (aleatórios) com UUID v7 (ordenados por tempo): custo de geração com várias
+ * threads, vazão de inserção em um H2 em arquivo e espaço ocupado pela tabela e pelo índice da chave primária.
+ * <p>
+ * Não roda no build padrão: {@code mvn test -Dtest=IdGeneratorBenchmarkTest -Dbenchmark=true [-Dbenchmark.events=500000]}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IdGeneratorBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 200_000);
+    private static final int BATCH_SIZE = 1000;
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int IDS_PER_THREAD = 1_000_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareRandomAndTimeOrderedIds() throws Exception {
+        List<Result> results = List.of(
+                run("uuid-v4", new RandomUuidGenerator()),
+                run("uuid-v7", new UuidV7Generator()));
+
+        System.out.printf("%n%-10s %18s %18s %15s%n", "generator", "generate (ns/id)", "insert (rows/s)", "disk (KB)");
+        for (Result result : results) {
+            System.out.printf("%-10s %18.1f %18.0f %15d%n", result.name, result.generateNanos, result.rowsPerSecond, result.diskBytes / 1024);
+        }
+    }
+
+    private Result run(String name, IdGenerator generator) throws Exception {
+        generate(generator);
+        double generateNanos = generate(generator);
+
+        String url = "jdbc:h2:file:" + directory.resolve(name).toAbsolutePath();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table events (id uuid primary key, title varchar(255), "
+                        + "description varchar(255), date timestamp(6))");
+            }
+            connection.setAutoCommit(false);
+            LocalDateTime date = LocalDateTime.now();
+            long start = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "insert into events (id, title, description, date) values (?, ?, ?, ?)")) {
+                for (int i = 0; i < EVENTS; i++) {
+                    insert.setObject(1, generator.next());
+                    insert.setString(2, "Event " + i);
+                    insert.setString(3, "Benchmark description " + i);
+                    insert.setTimestamp(4, Timestamp.valueOf(date.plusSeconds(i)));
+                    insert.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+                insert.executeBatch();
+                connection.commit();
+            }
+            double rowsPerSecond = EVENTS / ((System.nanoTime() - start) / 1_000_000_000.0);
+            return new Result(name, generateNanos, rowsPerSecond, diskSpaceUsed(connection));
+        }
+    }
+
+    // Tempo médio por id com todas as threads gerando ao mesmo tempo
+    private static double generate(IdGenerator generator) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            long start = System.nanoTime();
+            List<Future<Long>> futures = executor.invokeAll(Collections.nCopies(THREADS, () -> {
+                long sink = 0;
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    sink ^= generator.next().getLeastSignificantBits();
+                }
+                return sink;
+            }));
+            for (Future<Long> future : futures) {
+                future.get();
+            }
+            return (System.nanoTime() - start) / (double) IDS_PER_THREAD;
+        }
+    }
+
+    private static long diskSpaceUsed(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select disk_space_used('EVENTS')")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private record Result(String name, double generateNanos, double rowsPerSecond, long diskBytes) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.nexttag.agendahexagonal.benchmark;
+
+import com.nexttag.agendahexagonal.AgendaHexagonalApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Compara os adaptadores bloqueantes (Spring MVC + JPA, perfil padrão) com os reativos (WebFlux + R2DBC,
+ * perfil {@code reactive}) sob a mesma carga HTTP: mesmos endpoints, mesmos clientes concorrentes e
+ * mesma quantidade de requisições.
+ * <p>
+ * Cada modo sobe a aplicação inteira numa porta aleatória e recebe duas fases: listagem
+ * ({@code GET /events} com {@value #SEEDED} eventos gravados) e criação ({@code POST /events}). Os clientes
+ * são virtual threads com um {@link HttpClient} compartilhado; o pico de threads de plataforma da JVM
+ * mostra quantas threads o servidor precisou para atender a carga.
+ * </p>
+ * <p>
+ * Não roda no build padrão:
+ * {@code mvn test -Dtest=ReactiveLoadBenchmarkTest -Dbenchmark=true [-Dbenchmark.clients=256] [-Dbenchmark.requests=20000]}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReactiveLoadBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 256);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int SEEDED = 50;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @Test
+    void compareBlockingAndReactiveAdapters() throws Exception {
+        List<Result> results = new ArrayList<>();
+        results.addAll(run("blocking", new String[0],
+                "--spring.datasource.url=jdbc:h2:mem:load-blocking;DB_CLOSE_DELAY=-1"));
+        results.addAll(run("reactive", new String[]{"reactive"},
+                "--spring.r2dbc.url=r2dbc:h2:mem:///load-reactive;DB_CLOSE_DELAY=-1"));
+
+        System.out.printf("%n%d clients, %d requests per phase%n", CLIENTS, REQUESTS);
+        System.out.printf("%-9s %-6s %12s %10s %10s %8s %14s%n",
+                "mode", "phase", "req/s", "p50 (ms)", "p99 (ms)", "errors", "peak threads");
+        for (Result result : results) {
+            System.out.printf("%-9s %-6s %12.0f %10.2f %10.2f %8d %14d%n", result.mode, result.phase,
+                    result.throughput, result.p50Millis, result.p99Millis, result.errors, result.peakThreads);
+        }
+    }
+
+    private List<Result> run(String mode, String[] profiles, String dataSource) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AgendaHexagonalApplication.class)
+                .profiles(profiles)
+                .logStartupInfo(false)
+                .run("--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN", dataSource)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI events = URI.create("http://localhost:" + port + "/events");
+            IntFunction<HttpRequest> create = i -> HttpRequest.newBuilder(events)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("""
+                            {"title":"Evento %d","description":"Carga","date":"%s"}""".formatted(i, BASE.plusMinutes(i))))
+                    .build();
+            for (int i = 0; i < SEEDED; i++) {
+                http.send(create.apply(i), HttpResponse.BodyHandlers.discarding());
+            }
+            HttpRequest list = HttpRequest.newBuilder(events).GET().build();
+
+            // Aquecimento do JIT e dos pools de conexão dos dois lados
+            load(mode, "warmup", REQUESTS / 10, i -> list);
+            Result listing = load(mode, "list", REQUESTS, i -> list);
+            Result creation = load(mode, "create", REQUESTS, i -> create.apply(SEEDED + i));
+            return List.of(listing, creation);
+        }
+    }
+
+    private Result load(String mode, String phase, int requests, IntFunction<HttpRequest> request) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>(CLIENTS);
+            for (int c = 0; c < CLIENTS; c++) {
+                running.add(clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                        long sent = System.nanoTime();
+                        try {
+                            int status = http.send(request.apply(i), HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - sent;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> client : running) {
+                client.get();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        Arrays.sort(latencies);
+        return new Result(mode, phase, requests / seconds, latencies[requests / 2] / 1_000_000.0,
+                latencies[(int) (requests * 0.99)] / 1_000_000.0, errors.get(), threads.getPeakThreadCount());
+    }
+
+    private record Result(String mode, String phase, double throughput, double p50Millis, double p99Millis,
+                          int errors, int peakThreads) {
+    }
+}
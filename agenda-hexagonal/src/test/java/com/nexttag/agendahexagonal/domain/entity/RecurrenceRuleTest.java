@@ -0,0 +1,135 @@
+package com.nexttag.agendahexagonal.domain.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+    // Quarta-feira
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 30);
+
+    @Test
+    void parseAndFormatRoundTrip() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:freq=weekly;interval=2;byday=FR,MO;until=20251231");
+
+        assertEquals(RecurrenceRule.Frequency.WEEKLY, rule.frequency());
+        assertEquals(2, rule.interval());
+        assertEquals(Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), rule.byDay());
+        assertEquals(LocalDateTime.of(2025, 12, 31, 23, 59, 59), rule.until());
+        assertEquals("FREQ=WEEKLY;INTERVAL=2;UNTIL=20251231T235959;BYDAY=MO,FR", rule.toString());
+        assertEquals(rule, RecurrenceRule.parse(rule.toString()));
+        assertNull(RecurrenceRule.parse(" "));
+    }
+
+    @Test
+    void rejectsInvalidOrUnsupportedRules() {
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("INTERVAL=2"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=HOURLY"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20250101"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=MO"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;BYSETPOS=1"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;INTERVAL=0"));
+    }
+
+    @Test
+    void weeklyByDayStartsAtSeriesStart() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=4");
+
+        assertEquals(List.of(
+                LocalDateTime.of(2025, 1, 1, 9, 30),
+                LocalDateTime.of(2025, 1, 3, 9, 30),
+                LocalDateTime.of(2025, 1, 6, 9, 30),
+                LocalDateTime.of(2025, 1, 8, 9, 30)), collect(rule.occurrences(START, null, null)));
+    }
+
+    @Test
+    void monthlySkipsMonthsWithoutTheDay() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 31, 8, 0);
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;COUNT=3");
+
+        assertEquals(List.of(
+                LocalDateTime.of(2025, 1, 31, 8, 0),
+                LocalDateTime.of(2025, 3, 31, 8, 0),
+                LocalDateTime.of(2025, 5, 31, 8, 0)), collect(rule.occurrences(start, null, null)));
+    }
+
+    @Test
+    void windowedExpansionMatchesFullExpansion() {
+        List<String> rules = List.of(
+                "FREQ=DAILY;INTERVAL=3",
+                "FREQ=DAILY;INTERVAL=2;BYDAY=SA,SU;COUNT=40",
+                "FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,TH;COUNT=25",
+                "FREQ=WEEKLY;UNTIL=20260301T000000",
+                "FREQ=MONTHLY;COUNT=30",
+                "FREQ=YEARLY;INTERVAL=2");
+        LocalDateTime horizon = START.plusYears(8);
+        LocalDateTime from = START.plusMonths(5).plusHours(3);
+        LocalDateTime to = START.plusMonths(19);
+        for (String text : rules) {
+            RecurrenceRule rule = RecurrenceRule.parse(text);
+            List<LocalDateTime> all = collect(rule.occurrences(START, null, horizon));
+            List<LocalDateTime> expected = all.stream().filter(d -> !d.isBefore(from) && d.isBefore(to)).toList();
+
+            assertEquals(expected, collect(rule.occurrences(START, from, to)), text);
+            List<LocalDateTime> descending = collect(rule.occurrencesDescending(START, from, to));
+            Collections.reverse(descending);
+            assertEquals(expected, descending, text);
+        }
+    }
+
+    @Test
+    void countIsHonoredWhenJumpingPastEarlierOccurrences() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;COUNT=10");
+
+        assertEquals(List.of(START.plusDays(8), START.plusDays(9)), collect(rule.occurrences(START, START.plusDays(8), null)));
+        assertEquals(START.plusDays(9), rule.occurrencesDescending(START, null, null).next());
+    }
+
+    @Test
+    void openEndedSeriesNeedsUpperBoundBackwards() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY");
+
+        assertThrows(IllegalArgumentException.class, () -> rule.occurrencesDescending(START, null, null));
+        assertEquals(List.of(START.plusDays(2), START.plusDays(1)),
+                collect(rule.occurrencesDescending(START, START.plusDays(1), START.plusDays(3))));
+    }
+
+    @Test
+    void ruleThatNeverFallsOnItsWeekdaysStopsExpanding() {
+        // A cada 7 dias a partir de uma quarta-feira nunca cai numa terça
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=7;BYDAY=TU");
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertFalse(rule.hasOccurrences(START));
+            assertFalse(rule.occurrences(START, START.plusYears(3), null).hasNext());
+            assertFalse(rule.occurrencesDescending(START, null, START.plusYears(3)).hasNext());
+        });
+        assertTrue(rule.hasOccurrences(START.minusDays(1)));
+    }
+
+    @Test
+    void countedRuleThatNeverOccursHasNoLastPeriod() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=7;BYDAY=TU;COUNT=3");
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertFalse(rule.occurrencesDescending(START, null, null).hasNext());
+            assertFalse(rule.occurrences(START, null, null).hasNext());
+        });
+    }
+
+    private static List<LocalDateTime> collect(Iterator<LocalDateTime> iterator) {
+        List<LocalDateTime> result = new ArrayList<>();
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+}
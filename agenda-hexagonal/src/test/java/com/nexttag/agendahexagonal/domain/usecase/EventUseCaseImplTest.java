@@ -1,6 +1,7 @@
 package com.nexttag.agendahexagonal.domain.usecase;
 
 import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventPatch;
 import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,8 +10,10 @@ import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,6 +51,16 @@ class EventUseCaseImplTest {
         verify(repositoryPort).findAll();
     }
 
+    @Test
+    void exportAll() {
+        Event event = new Event("Title", "Desc", LocalDateTime.now());
+        when(repositoryPort.streamAll()).thenReturn(Stream.of(event));
+
+        try (Stream<Event> events = useCase.exportAll()) {
+            assertEquals(List.of(event), events.toList());
+        }
+    }
+
     @Test
     void update() {
         UUID id = UUID.randomUUID();
@@ -71,6 +84,35 @@ class EventUseCaseImplTest {
         assertThrows(RuntimeException.class, () -> useCase.update(id, new Event("Title", "Desc", LocalDateTime.now())));
     }
 
+    @Test
+    void patch() {
+        UUID id = UUID.randomUUID();
+        EventPatch patch = new EventPatch(null, null, LocalDateTime.now().plusDays(1));
+        when(repositoryPort.updatePartial(id, patch)).thenReturn(1);
+
+        useCase.patch(id, patch);
+        verify(repositoryPort).updatePartial(id, patch);
+        verify(repositoryPort, never()).findById(id);
+        verify(repositoryPort, never()).save(any(Event.class));
+    }
+
+    @Test
+    void patchNotFound() {
+        UUID id = UUID.randomUUID();
+        EventPatch patch = new EventPatch("Title", null, null);
+        when(repositoryPort.updatePartial(id, patch)).thenReturn(0);
+
+        assertThrows(RuntimeException.class, () -> useCase.patch(id, patch));
+    }
+
+    @Test
+    void patchEmpty() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.patch(id, new EventPatch(null, null, null)));
+        verifyNoInteractions(repositoryPort);
+    }
+
     @Test
     void delete() {
         UUID id = UUID.randomUUID();
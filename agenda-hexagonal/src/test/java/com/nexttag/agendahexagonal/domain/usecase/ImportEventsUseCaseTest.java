@@ -0,0 +1,82 @@
+package com.nexttag.agendahexagonal.domain.usecase;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.ImportReport;
+import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ImportEventsUseCaseTest {
+
+    private static final Function<String, Event> PARSER = line -> {
+        if (line.equals("header")) {
+            return null;
+        }
+        if (line.startsWith("bad")) {
+            throw new IllegalArgumentException("invalid row");
+        }
+        return new Event(line, null, LocalDateTime.of(2025, 1, 1, 10, 0));
+    };
+
+    @Mock
+    private EventRepositoryPort repositoryPort;
+
+    private ImportEventsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        useCase = new ImportEventsUseCase(repositoryPort, 10, 2);
+        when(repositoryPort.saveAll(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+    }
+
+    @Test
+    void executeWritesInFixedSizeBatches() {
+        List<String> lines = IntStream.range(0, 25).mapToObj(i -> "event-" + i).toList();
+
+        ImportReport report = useCase.execute(lines.iterator(), PARSER);
+
+        assertEquals(25, report.imported());
+        assertEquals(0, report.failed());
+        assertTrue(report.errors().isEmpty());
+        verify(repositoryPort, times(3)).saveAll(anyList());
+        verify(repositoryPort, times(2)).saveAll(argThat(batch -> batch.size() == 10));
+        verify(repositoryPort).saveAll(argThat(batch -> batch.size() == 5));
+    }
+
+    @Test
+    void executeReportsInvalidRowsWithLineNumbers() {
+        List<String> lines = List.of("header", "ok-1", "", "bad-1", "ok-2", "bad-2");
+
+        ImportReport report = useCase.execute(lines.iterator(), PARSER);
+
+        assertEquals(2, report.imported());
+        assertEquals(2, report.failed());
+        assertEquals(List.of(4L, 6L), report.errors().stream().map(ImportReport.RowError::line).toList());
+        assertEquals("invalid row", report.errors().get(0).message());
+    }
+
+    @Test
+    void executeCountsWholeBatchAsFailedWhenSaveFails() {
+        when(repositoryPort.saveAll(anyList())).thenThrow(new RuntimeException("duplicate key"));
+        List<String> lines = IntStream.range(0, 3).mapToObj(i -> "event-" + i).toList();
+
+        ImportReport report = useCase.execute(lines.iterator(), PARSER);
+
+        assertEquals(0, report.imported());
+        assertEquals(3, report.failed());
+        assertEquals(1, report.errors().size());
+        assertTrue(report.errors().get(0).message().contains("duplicate key"));
+    }
+}
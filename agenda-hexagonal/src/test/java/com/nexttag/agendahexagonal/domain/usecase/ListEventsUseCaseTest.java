@@ -0,0 +1,109 @@
+package com.nexttag.agendahexagonal.domain.usecase;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.entity.EventPage;
+import com.nexttag.agendahexagonal.domain.entity.EventPageCriteria;
+import com.nexttag.agendahexagonal.domain.entity.RecurrenceRule;
+import com.nexttag.agendahexagonal.domain.port.out.EventRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ListEventsUseCaseTest {
+
+    @Mock
+    private EventRepositoryPort repositoryPort;
+
+    private ListEventsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        useCase = new ListEventsUseCase(repositoryPort);
+    }
+
+    @Test
+    void execute() {
+        Event event = new Event("Title", "Desc", LocalDateTime.now());
+        EventPageCriteria criteria = new EventPageCriteria(null, null, "Ti", EventPageCriteria.Direction.ASC, null, 10);
+        when(repositoryPort.findPage(criteria)).thenReturn(new EventPage(List.of(event), null));
+
+        EventPage page = useCase.execute(criteria);
+        assertEquals(1, page.items().size());
+        assertNull(page.next());
+    }
+
+    @Test
+    void executeAppliesDefaultAndMaximumLimit() {
+        when(repositoryPort.findPage(any(EventPageCriteria.class))).thenReturn(new EventPage(List.of(), null));
+        ArgumentCaptor<EventPageCriteria> captor = ArgumentCaptor.forClass(EventPageCriteria.class);
+
+        useCase.execute(new EventPageCriteria(null, null, null, EventPageCriteria.Direction.ASC, null, 0));
+        useCase.execute(new EventPageCriteria(null, null, null, EventPageCriteria.Direction.ASC, null, 10_000));
+
+        verify(repositoryPort, times(2)).findPage(captor.capture());
+        assertEquals(ListEventsUseCase.DEFAULT_LIMIT, captor.getAllValues().get(0).limit());
+        assertEquals(ListEventsUseCase.MAX_LIMIT, captor.getAllValues().get(1).limit());
+    }
+
+    @Test
+    void executeInvalidRange() {
+        LocalDateTime now = LocalDateTime.now();
+        EventPageCriteria criteria = new EventPageCriteria(now, now.minusDays(1), null, EventPageCriteria.Direction.ASC, null, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> useCase.execute(criteria));
+        verifyNoInteractions(repositoryPort);
+    }
+
+    @Test
+    void executeInterleavesSeriesOccurrencesWithOneOffEvents() {
+        LocalDateTime monday = LocalDateTime.of(2025, 1, 6, 9, 0);
+        Event oneOff = new Event("Dentista", "", monday.plusDays(1));
+        Event weekly = new Event("Daily", "", monday).withRecurrence(RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE"));
+        EventPageCriteria criteria = new EventPageCriteria(monday, monday.plusWeeks(2), null, EventPageCriteria.Direction.ASC, null, 3);
+        when(repositoryPort.findPage(criteria)).thenReturn(new EventPage(List.of(oneOff), null));
+        when(repositoryPort.findSeries(monday, monday.plusWeeks(2))).thenReturn(List.of(weekly));
+
+        EventPage page = useCase.execute(criteria);
+
+        assertEquals(List.of(monday, monday.plusDays(1), monday.plusDays(2)),
+                page.items().stream().map(Event::date).toList());
+        assertEquals(weekly.id(), page.items().get(0).id());
+        assertNotNull(page.next());
+
+        EventPageCriteria next = new EventPageCriteria(monday, monday.plusWeeks(2), null, EventPageCriteria.Direction.ASC, page.next(), 3);
+        when(repositoryPort.findPage(next)).thenReturn(new EventPage(List.of(), null));
+        when(repositoryPort.findSeries(monday.plusDays(2), monday.plusWeeks(2))).thenReturn(List.of(weekly));
+
+        EventPage second = useCase.execute(next);
+
+        assertEquals(List.of(monday.plusWeeks(1), monday.plusWeeks(1).plusDays(2)),
+                second.items().stream().map(Event::date).toList());
+        assertNull(second.next());
+    }
+
+    @Test
+    void executeBreaksDateTiesWithUnsignedIdsLikeTheDatabase() {
+        LocalDateTime monday = LocalDateTime.of(2025, 1, 6, 9, 0);
+        // Com sinal, o id com o bit alto ligado viria primeiro; o H2 o coloca por último
+        Event oneOff = new Event(new UUID(Long.MIN_VALUE, 0), "Avulso", "", monday);
+        Event weekly = new Event(new UUID(1, 0), "Semanal", "", monday, RecurrenceRule.parse("FREQ=WEEKLY"));
+        EventPageCriteria criteria = new EventPageCriteria(monday, monday.plusDays(1), null, EventPageCriteria.Direction.ASC, null, 10);
+        when(repositoryPort.findPage(criteria)).thenReturn(new EventPage(List.of(oneOff), null));
+        when(repositoryPort.findSeries(monday, monday.plusDays(1))).thenReturn(List.of(weekly));
+
+        EventPage page = useCase.execute(criteria);
+
+        assertEquals(List.of("Semanal", "Avulso"), page.items().stream().map(Event::title).toList());
+    }
+}
@@ -0,0 +1,98 @@
+package com.nexttag.agendahexagonal.domain.usecase;
+
+import com.nexttag.agendahexagonal.domain.entity.Event;
+import com.nexttag.agendahexagonal.domain.port.out.ReactiveEventRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReactiveEventUseCaseImplTest {
+
+    @Mock
+    private ReactiveEventRepositoryPort repositoryPort;
+
+    private ReactiveEventUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        useCase = new ReactiveEventUseCaseImpl(repositoryPort);
+    }
+
+    @Test
+    void create() {
+        Event event = new Event("Title", "Desc", LocalDateTime.now());
+        when(repositoryPort.save(event)).thenReturn(Mono.just(event));
+
+        StepVerifier.create(useCase.create(event))
+                .expectNext(event)
+                .verifyComplete();
+    }
+
+    @Test
+    void listAll() {
+        Event event = new Event("Title", "Desc", LocalDateTime.now());
+        when(repositoryPort.findAll()).thenReturn(Flux.just(event));
+
+        StepVerifier.create(useCase.listAll())
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void update() {
+        UUID id = UUID.randomUUID();
+        Event existing = new Event(id, "Old", "Old Desc", LocalDateTime.now());
+        Event updateData = new Event("New", "New Desc", LocalDateTime.now().plusDays(1));
+
+        when(repositoryPort.findById(id)).thenReturn(Mono.just(existing));
+        when(repositoryPort.save(any(Event.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(useCase.update(id, updateData))
+                .expectNextMatches(updated -> updated.id().equals(id) && updated.title().equals("New"))
+                .verifyComplete();
+    }
+
+    @Test
+    void updateNotFound() {
+        UUID id = UUID.randomUUID();
+        when(repositoryPort.findById(id)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.update(id, new Event("Title", "Desc", LocalDateTime.now())))
+                .expectError(RuntimeException.class)
+                .verify();
+        verify(repositoryPort, never()).save(any(Event.class));
+    }
+
+    @Test
+    void delete() {
+        UUID id = UUID.randomUUID();
+        when(repositoryPort.findById(id)).thenReturn(Mono.just(new Event(id, "Title", "Desc", LocalDateTime.now())));
+        when(repositoryPort.deleteById(id)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.delete(id))
+                .verifyComplete();
+        verify(repositoryPort).deleteById(id);
+    }
+
+    @Test
+    void deleteNotFound() {
+        UUID id = UUID.randomUUID();
+        when(repositoryPort.findById(id)).thenReturn(Mono.empty());
+
+        StepVerifier.create(useCase.delete(id))
+                .expectError(RuntimeException.class)
+                .verify();
+        verify(repositoryPort, never()).deleteById(id);
+    }
+}
@@ -1,11 +1,19 @@
 package com.nexttag.agendalayered.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.nexttag.agendalayered.model.Event;
 import com.nexttag.agendalayered.service.EventService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,14 +31,17 @@ import java.util.UUID;
 @RequestMapping("/events")
 public class EventController {
     private final EventService service;
+    private final ObjectMapper objectMapper;
 
     /**
      * Construtor com injeção do serviço.
      *
      * @param service Serviço de negócio.
+     * @param objectMapper Serializador JSON usado na listagem em streaming.
      */
-    public EventController(EventService service) {
+    public EventController(EventService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -44,6 +55,17 @@ public class EventController {
         return ResponseEntity.status(HttpStatus.CREATED).body(service.create(event));
     }
 
+    /**
+     * Endpoint para criar vários eventos de uma vez.
+     *
+     * @param events Dados dos eventos.
+     * @return Response com os eventos criados.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<Event>> createAll(@RequestBody List<Event> events) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(service.createAll(events));
+    }
+
     /**
      * Endpoint para listar eventos.
      *
@@ -54,6 +76,35 @@ public class EventController {
         return ResponseEntity.ok(service.listAll());
     }
 
+    /**
+     * Endpoint para listar eventos em streaming (NDJSON, um evento por linha).
+     * <p>
+     * Cada evento é escrito na resposta assim que sai do cursor, então o heap usado
+     * não depende da quantidade de eventos.
+     *
+     * @return Response com o corpo transmitido em streaming.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream() {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                ObjectWriter writer = objectMapper.writerFor(Event.class)
+                        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+                service.streamAll(event -> {
+                    try {
+                        writer.writeValue(generator, event);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * Endpoint para atualizar evento.
      *
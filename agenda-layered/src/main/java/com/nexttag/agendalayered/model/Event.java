@@ -1,7 +1,15 @@
 package com.nexttag.agendalayered.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -14,19 +22,31 @@ import java.util.UUID;
  * Responsabilidades:
  * - Armazenar atributos do evento (id, título, descrição, data).
  * - Fornecer getters e setters para manipulação.
+ *
+ * Fica no cache de segundo nível (região {@code events}): buscas por id repetidas não vão ao banco.
+ *
+ * Como o id é atribuído na criação do objeto, implementa {@link Persistable} para que o Spring Data
+ * saiba se a instância é nova: sem isso, {@code save} faria um SELECT antes de cada INSERT.
  */
 @Entity
-public class Event {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
+public class Event implements Persistable<UUID> {
     @Id
-    private UUID id = UUID.randomUUID();
+    private UUID id;
     private String title;
     private String description;
     private LocalDateTime date;
 
+    @Transient
+    private boolean isNew = true;
+
     /**
-     * Construtor padrão.
+     * Construtor padrão: gera um novo id.
      */
-    public Event() {}
+    public Event() {
+        this.id = UUID.randomUUID();
+    }
 
     /**
      * Construtor completo.
@@ -36,12 +56,47 @@ public class Event {
      * @param date Data do evento.
      */
     public Event(String title, String description, LocalDateTime date) {
+        this();
         this.title = title;
         this.description = description;
         this.date = date;
     }
 
+    /**
+     * Construtor com id, usado pela expressão construtora da listagem em streaming:
+     * instâncias criadas assim não são gerenciadas pelo contexto de persistência.
+     *
+     * @param id ID do evento.
+     * @param title Título do evento.
+     * @param description Descrição do evento.
+     * @param date Data do evento.
+     */
+    public Event(UUID id, String title, String description, LocalDateTime date) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.date = date;
+    }
+
+    /**
+     * Indica se o evento ainda não foi gravado; decide entre persist (INSERT direto) e merge no {@code save}.
+     *
+     * @return true até o evento ser persistido ou carregado do banco.
+     */
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     // Getters e Setters
+    @Override
     public UUID getId() {
         return id;
     }
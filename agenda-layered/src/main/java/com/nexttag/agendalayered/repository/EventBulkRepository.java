@@ -0,0 +1,22 @@
+package com.nexttag.agendalayered.repository;
+
+import com.nexttag.agendalayered.model.Event;
+
+import java.util.List;
+
+/**
+ * Fragmento do repositório para cargas em lote.
+ * <p>
+ * Separado de {@link EventRepository} porque usa o EntityManager diretamente
+ * em vez dos métodos gerados pelo Spring Data.
+ */
+public interface EventBulkRepository {
+
+    /**
+     * Insere eventos novos em lotes JDBC, liberando o contexto de persistência a cada lote.
+     *
+     * @param events Eventos a inserir.
+     * @return Quantidade de eventos inseridos.
+     */
+    int insertAll(List<Event> events);
+}
@@ -0,0 +1,45 @@
+package com.nexttag.agendalayered.repository;
+
+import com.nexttag.agendalayered.model.Event;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementação do fragmento {@link EventBulkRepository}.
+ * <p>
+ * Cada evento é persistido sem SELECT prévio; a cada {@code batchSize} eventos o contexto é enviado
+ * ao banco (um INSERT em lote via {@code hibernate.jdbc.batch_size}) e limpo, mantendo o uso de
+ * memória constante. A carga não passa pelo cache de segundo nível.
+ */
+class EventBulkRepositoryImpl implements EventBulkRepository {
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    EventBulkRepositoryImpl(EntityManager entityManager,
+                            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public int insertAll(List<Event> events) {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        int count = 0;
+        for (Event event : events) {
+            entityManager.persist(event);
+            if (++count % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+}
@@ -1,10 +1,16 @@
 package com.nexttag.agendalayered.repository;
 
 import com.nexttag.agendalayered.model.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repositório para acesso a dados de Eventos.
@@ -14,7 +20,35 @@ import java.util.UUID;
  * <p>
  * Responsabilidades:
  * - Fornecer métodos para salvar, listar, buscar e deletar eventos.
+ * - Inserir eventos em lote ({@link EventBulkRepository}).
  */
 @Repository
-public interface EventRepository extends JpaRepository<Event, UUID> {
+public interface EventRepository extends JpaRepository<Event, UUID>, EventBulkRepository {
+
+    /**
+     * Lista todos os eventos usando o cache de consultas (região {@code events-queries}).
+     * <p>
+     * O cache guarda apenas os ids do resultado; as entidades vêm do cache de segundo nível.
+     * Qualquer escrita na tabela invalida o resultado.
+     *
+     * @return Lista de eventos.
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "events-queries")
+    })
+    List<Event> findAll();
+
+    /**
+     * Percorre todos os eventos com um cursor (fetch size fixo), sem carregar a tabela em memória.
+     * <p>
+     * A expressão construtora cria instâncias não gerenciadas: nada de snapshot para dirty-checking
+     * nem crescimento do contexto de persistência. Deve ser consumido dentro de uma transação e fechado.
+     *
+     * @return Stream de eventos.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.nexttag.agendalayered.model.Event(e.id, e.title, e.description, e.date) from Event e")
+    Stream<Event> streamAll();
 }
\ No newline at end of file
@@ -3,9 +3,12 @@ package com.nexttag.agendalayered.service;
 import com.nexttag.agendalayered.model.Event;
 import com.nexttag.agendalayered.repository.EventRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Serviço para lógica de negócio relacionada a Eventos.
@@ -39,15 +42,44 @@ public class EventService {
         return repository.save(event);
     }
 
+    /**
+     * Cria vários eventos de uma vez, em lotes JDBC dentro de uma única transação.
+     *
+     * @param events Eventos a criar.
+     * @return Eventos criados.
+     */
+    public List<Event> createAll(List<Event> events) {
+        repository.insertAll(events);
+        return events;
+    }
+
     /**
      * Lista todos os eventos.
+     * <p>
+     * A transação somente leitura faz o Hibernate carregar as entidades sem snapshot
+     * para dirty-checking e sem flush ao final.
      *
      * @return Lista de eventos.
      */
+    @Transactional(readOnly = true)
     public List<Event> listAll() {
         return repository.findAll();
     }
 
+    /**
+     * Entrega os eventos um a um ao consumidor, lidos de um cursor dentro de uma transação somente leitura.
+     * <p>
+     * O consumidor roda dentro da transação, então o resultado nunca é materializado em uma lista.
+     *
+     * @param consumer Ação aplicada a cada evento.
+     */
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Event> consumer) {
+        try (Stream<Event> events = repository.streamAll()) {
+            events.forEach(consumer);
+        }
+    }
+
     /**
      * Atualiza um evento existente.
      *
@@ -0,0 +1,10 @@
+create table event (
+    id          uuid not null,
+    title       varchar(255),
+    description varchar(255),
+    date        timestamp(6),
+    primary key (id)
+);
+
+create index idx_event_date on event (date);
+create index idx_event_date_id on event (date, id);
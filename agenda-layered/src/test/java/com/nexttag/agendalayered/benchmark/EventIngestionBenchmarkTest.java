@@ -0,0 +1,95 @@
+package com.nexttag.agendalayered.benchmark;
+
+import com.nexttag.agendalayered.AgendaLayeredApplication;
+import com.nexttag.agendalayered.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+
+/**
+ * Compara a carga de eventos via {@code POST /events} em laço (uma requisição e uma transação por evento)
+ * com {@code POST /events/bulk} (uma requisição, lotes JDBC).
+ * <p>
+ * Não roda no build padrão: {@code mvn test -Dtest=EventIngestionBenchmarkTest -Dbenchmark=true [-Dbenchmark.events=20000]}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EventIngestionBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 20_000);
+    private static final int BULK_REQUEST_SIZE = 5_000;
+
+    @Test
+    void compareSingleAndBulkInserts() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AgendaLayeredApplication.class)
+                .logStartupInfo(false)
+                .run("--server.port=0", "--spring.jpa.show-sql=false")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI events = URI.create("http://localhost:" + port + "/events");
+            URI bulk = URI.create("http://localhost:" + port + "/events/bulk");
+            EventRepository repository = context.getBean(EventRepository.class);
+            HttpClient client = HttpClient.newHttpClient();
+            LocalDateTime date = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+            // Aquecimento
+            for (int i = 0; i < 500; i++) {
+                post(client, events, json(i, date));
+            }
+            post(client, bulk, jsonArray(0, 500, date));
+            repository.deleteAllInBatch();
+
+            long start = System.nanoTime();
+            for (int i = 0; i < EVENTS; i++) {
+                post(client, events, json(i, date));
+            }
+            double singleSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            repository.deleteAllInBatch();
+
+            start = System.nanoTime();
+            for (int from = 0; from < EVENTS; from += BULK_REQUEST_SIZE) {
+                post(client, bulk, jsonArray(from, Math.min(from + BULK_REQUEST_SIZE, EVENTS), date));
+            }
+            double bulkSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            if (repository.count() != EVENTS) {
+                throw new IllegalStateException("Expected " + EVENTS + " events but found " + repository.count());
+            }
+            System.out.printf("%n%-14s %12s %15s%n", "endpoint", "time (ms)", "events/s");
+            System.out.printf("%-14s %12.0f %15.0f%n", "POST /events", singleSeconds * 1000, EVENTS / singleSeconds);
+            System.out.printf("%-14s %12.0f %15.0f%n", "POST /bulk", bulkSeconds * 1000, EVENTS / bulkSeconds);
+            System.out.printf("speedup: %.1fx%n", singleSeconds / bulkSeconds);
+        }
+    }
+
+    private static void post(HttpClient client, URI uri, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + " for " + uri);
+        }
+    }
+
+    private static String jsonArray(int from, int to, LocalDateTime date) {
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        for (int i = from; i < to; i++) {
+            joiner.add(json(i, date));
+        }
+        return joiner.toString();
+    }
+
+    private static String json(int i, LocalDateTime date) {
+        return "{\"title\":\"Event " + i + "\",\"description\":\"Benchmark description " + i
+                + "\",\"date\":\"" + date.plusMinutes(i) + ":00\"}";
+    }
+}
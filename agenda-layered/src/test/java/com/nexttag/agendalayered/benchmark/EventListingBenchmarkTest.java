@@ -0,0 +1,107 @@
+package com.nexttag.agendalayered.benchmark;
+
+import com.nexttag.agendalayered.AgendaLayeredApplication;
+import com.nexttag.agendalayered.model.Event;
+import com.nexttag.agendalayered.repository.EventRepository;
+import com.nexttag.agendalayered.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * Mede latência e pico de heap adicional de três formas de listar todos os eventos:
+ * <ul>
+ *     <li>{@code managed}: {@code findAll()} em transação de escrita (entidades gerenciadas com snapshot);</li>
+ *     <li>{@code read-only}: {@link EventService#listAll()} em transação somente leitura;</li>
+ *     <li>{@code stream}: {@link EventService#streamAll} consumindo um evento por vez.</li>
+ * </ul>
+ * Não roda no build padrão:
+ * {@code mvn test -Dtest=EventListingBenchmarkTest -Dbenchmark=true -DargLine=-Xmx3g [-Dbenchmark.rows=100000,1000000]}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EventListingBenchmarkTest {
+
+    private static final int[] ROWS = Arrays.stream(System.getProperty("benchmark.rows", "100000,1000000").split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    private static final int INSERT_BATCH = 10_000;
+
+    @Test
+    void compareListingStrategies() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AgendaLayeredApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.jpa.show-sql=false")) {
+            EventService service = context.getBean(EventService.class);
+            EventRepository repository = context.getBean(EventRepository.class);
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            TransactionTemplate writeTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+            System.out.printf("%n%10s %-10s %12s %15s%n", "rows", "strategy", "time (ms)", "peak heap (MB)");
+            int inserted = 0;
+            for (int rows : ROWS) {
+                insert(jdbc, inserted, rows);
+                inserted = rows;
+
+                measure("managed", rows, ignored -> writeTransaction.execute(status -> repository.findAll().size()));
+                measure("read-only", rows, ignored -> service.listAll().size());
+                measure("stream", rows, ignored -> {
+                    LongAdder count = new LongAdder();
+                    service.streamAll(event -> count.increment());
+                    return count.intValue();
+                });
+            }
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbc, int from, int to) {
+        LocalDateTime date = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int start = from; start < to; start += INSERT_BATCH) {
+            List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+            for (int i = start; i < Math.min(start + INSERT_BATCH, to); i++) {
+                batch.add(new Object[]{UUID.randomUUID(), "Event " + i, "Benchmark description " + i,
+                        Timestamp.valueOf(date.plusMinutes(i))});
+            }
+            jdbc.batchUpdate("insert into event (id, title, description, date) values (?, ?, ?, ?)", batch);
+        }
+    }
+
+    private static void measure(String strategy, int rows, ToIntFunction<Void> listing) {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        long baselineBytes = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long start = System.nanoTime();
+        int listed = listing.applyAsInt(null);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        // Desconta o que já estava ocupado antes (inclusive as linhas do H2 em memória)
+        long peakBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() - baselineBytes;
+
+        if (listed != rows) {
+            throw new IllegalStateException("Expected " + rows + " rows but listed " + listed);
+        }
+        System.out.printf("%10d %-10s %12d %15.1f%n", rows, strategy, millis, peakBytes / 1024.0 / 1024.0);
+    }
+}
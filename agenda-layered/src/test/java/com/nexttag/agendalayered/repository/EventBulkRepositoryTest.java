@@ -0,0 +1,77 @@
+package com.nexttag.agendalayered.repository;
+
+import com.nexttag.agendalayered.model.Event;
+import com.nexttag.agendalayered.service.EventService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração da ingestão: detecção de eventos novos e carga em lote.
+ */
+@SpringBootTest
+class EventBulkRepositoryTest {
+
+    @Autowired
+    private EventService service;
+
+    @Autowired
+    private EventRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void createInsertsWithoutSelectingFirst() {
+        Event event = service.create(new Event("Title", "Desc", LocalDateTime.now()));
+
+        assertFalse(event.isNew());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateMergesExistingEvent() {
+        Event event = service.create(new Event("Title", "Desc", LocalDateTime.now()));
+
+        Event updated = service.update(event.getId(), new Event("New title", "Desc", event.getDate()));
+
+        assertEquals("New title", updated.getTitle());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void insertAllWritesInJdbcBatches() {
+        List<Event> events = IntStream.range(0, 1200)
+                .mapToObj(i -> new Event("Event " + i, "Desc", LocalDateTime.now()))
+                .toList();
+
+        assertEquals(1200, repository.insertAll(events));
+
+        assertEquals(1200, repository.count());
+        assertEquals(1200, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        // Um INSERT preparado por lote de 500 (mais o count), em vez de um por evento
+        assertTrue(statistics.getPrepareStatementCount() <= 5, "statements: " + statistics.getPrepareStatementCount());
+    }
+}
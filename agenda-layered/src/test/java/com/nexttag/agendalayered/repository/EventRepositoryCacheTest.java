@@ -0,0 +1,77 @@
+package com.nexttag.agendalayered.repository;
+
+import com.nexttag.agendalayered.model.Event;
+import com.nexttag.agendalayered.service.EventService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração do cache de segundo nível e de consultas.
+ *
+ * Verifica, pelas estatísticas do Hibernate, que leituras repetidas não executam SQL
+ * e que escritas invalidam o resultado em cache.
+ */
+@SpringBootTest
+class EventRepositoryCacheTest {
+
+    @Autowired
+    private EventService service;
+
+    @Autowired
+    private EventRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void repeatedFindByIdIsServedFromSecondLevelCache() {
+        Event event = service.create(new Event("Title", "Desc", LocalDateTime.now()));
+        statistics.clear();
+
+        assertTrue(repository.findById(event.getId()).isPresent());
+        assertTrue(repository.findById(event.getId()).isPresent());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void repeatedListAllIsServedFromQueryCache() {
+        service.create(new Event("Title", "Desc", LocalDateTime.now()));
+        service.listAll();
+        statistics.clear();
+
+        assertEquals(1, service.listAll().size());
+        assertEquals(1, service.listAll().size());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void writeInvalidatesCachedQueryResult() {
+        service.create(new Event("First", "Desc", LocalDateTime.now()));
+        assertEquals(1, service.listAll().size());
+
+        service.create(new Event("Second", "Desc", LocalDateTime.now()));
+
+        assertEquals(2, service.listAll().size());
+    }
+}
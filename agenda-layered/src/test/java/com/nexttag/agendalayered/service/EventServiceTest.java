@@ -8,9 +8,12 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -57,6 +60,25 @@ class EventServiceTest {
         verify(repository).findAll();
     }
 
+    @Test
+    void createAll() {
+        List<Event> events = List.of(new Event("A", "Desc", LocalDateTime.now()), new Event("B", "Desc", LocalDateTime.now()));
+        when(repository.insertAll(events)).thenReturn(2);
+
+        assertEquals(events, service.createAll(events));
+        verify(repository).insertAll(events);
+    }
+
+    @Test
+    void streamAll() {
+        Event event = new Event("Title", "Desc", LocalDateTime.now());
+        when(repository.streamAll()).thenReturn(Stream.of(event));
+
+        List<Event> received = new ArrayList<>();
+        service.streamAll(received::add);
+        assertEquals(List.of(event), received);
+    }
+
     @Test
     void update() {
         UUID id = UUID.randomUUID();